@@ -30,6 +30,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 
 import org.apache.camel.Body;
 import org.apache.camel.CamelContext;
@@ -44,6 +45,7 @@ import org.apache.camel.Headers;
 import org.apache.camel.Message;
 import org.apache.camel.PropertyInject;
 import org.apache.camel.spi.Registry;
+import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.ObjectHelper;
 import org.apache.camel.support.builder.ExpressionBuilder;
 import org.apache.camel.support.language.AnnotationExpressionFactory;
@@ -77,6 +79,9 @@ public class BeanInfo {
     private Map<Method, MethodInfo> methodMap = new HashMap<>();
     private boolean publicConstructors;
     private boolean publicNoArgConstructors;
+    // shared caches of the methods resolved at runtime, as the bean info is created for each OGNL method call
+    private Map<String, List<MethodInfo>> getterOperations;
+    private Map<ChosenMethodKey, MethodInfo> chosenMethods;
 
     static {
         // exclude all java.lang.Object methods as we dont want to invoke them
@@ -127,6 +132,8 @@ public class BeanInfo {
             methodMap = beanInfo.methodMap;
             publicConstructors = beanInfo.publicConstructors;
             publicNoArgConstructors = beanInfo.publicNoArgConstructors;
+            getterOperations = beanInfo.getterOperations;
+            chosenMethods = beanInfo.chosenMethods;
             return;
         }
 
@@ -158,6 +165,8 @@ public class BeanInfo {
         operationsWithCustomAnnotation = Collections.unmodifiableList(operationsWithCustomAnnotation);
         operationsWithHandlerAnnotation = Collections.unmodifiableList(operationsWithHandlerAnnotation);
         methodMap = Collections.unmodifiableMap(methodMap);
+        getterOperations = LRUCacheFactory.newLRUCache(16, 1000);
+        chosenMethods = LRUCacheFactory.newLRUCache(16, 1000);
 
         // add new bean info to cache
         component.addBeanInfoToCache(key, this);
@@ -520,6 +529,27 @@ public class BeanInfo {
      * @throws AmbiguousMethodCallException is thrown if cannot choose method due to ambiguity
      */
     protected MethodInfo chooseMethod(Object pojo, Exchange exchange, String name) throws AmbiguousMethodCallException {
+        // the chosen method can only be cached when the name does not use simple language for the parameter values
+        if (chosenMethods == null || (name != null && name.indexOf('$') != -1)) {
+            return doChooseMethod(pojo, exchange, name);
+        }
+
+        // the chosen method depends on the name, the type of the body, the MEP and whether there is an exception
+        Object body = exchange.getIn().getBody();
+        ChosenMethodKey key = new ChosenMethodKey(name, body != null ? body.getClass() : null,
+            exchange.getPattern().isOutCapable(), ExpressionBuilder.exchangeExceptionExpression().evaluate(exchange, Exception.class) != null);
+        MethodInfo answer = chosenMethods.get(key);
+        if (answer == null) {
+            answer = doChooseMethod(pojo, exchange, name);
+            // do not cache if the body was converted to choose the method, as the conversion depends on the value of the body
+            if (answer != null && exchange.getIn().getBody() == body) {
+                chosenMethods.put(key, answer);
+            }
+        }
+        return answer;
+    }
+
+    private MethodInfo doChooseMethod(Object pojo, Exchange exchange, String name) throws AmbiguousMethodCallException {
         // @Handler should be select first
         // then any single method that has a custom @annotation
         // or any single method that has a match parameter type that matches the Exchange payload
@@ -1232,6 +1262,19 @@ public class BeanInfo {
             return answer;
         }
 
+        if (getterOperations != null) {
+            answer = getterOperations.get(methodName);
+            if (answer == null) {
+                answer = getGetterOperations(methodName);
+                // remember methods that are not found as an empty list
+                getterOperations.put(methodName, answer != null ? answer : Collections.emptyList());
+            }
+            return answer != null && !answer.isEmpty() ? answer : null;
+        }
+        return getGetterOperations(methodName);
+    }
+
+    private List<MethodInfo> getGetterOperations(String methodName) {
         // now try all getters to see if any of those matched the methodName
         for (Method method : methodMap.keySet()) {
             if (isGetter(method)) {
@@ -1296,4 +1339,43 @@ public class BeanInfo {
         return name;
     }
 
+
+    /**
+     * Key for the methods chosen by {@link #chooseMethod(Object, Exchange, String)}
+     */
+    private static final class ChosenMethodKey {
+        private final String name;
+        private final Class<?> bodyType;
+        private final boolean outCapable;
+        private final boolean exception;
+
+        ChosenMethodKey(String name, Class<?> bodyType, boolean outCapable, boolean exception) {
+            this.name = name;
+            this.bodyType = bodyType;
+            this.outCapable = outCapable;
+            this.exception = exception;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ChosenMethodKey that = (ChosenMethodKey) o;
+            return outCapable == that.outCapable && exception == that.exception
+                && Objects.equals(name, that.name) && bodyType == that.bodyType;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = name != null ? name.hashCode() : 0;
+            result = 31 * result + (bodyType != null ? bodyType.hashCode() : 0);
+            result = 31 * result + (outCapable ? 1 : 0);
+            result = 31 * result + (exception ? 1 : 0);
+            return result;
+        }
+    }
 }
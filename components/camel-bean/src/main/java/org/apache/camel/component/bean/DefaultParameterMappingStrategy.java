@@ -16,8 +16,9 @@
  */
 package org.apache.camel.component.bean;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
@@ -29,9 +30,13 @@ import org.apache.camel.support.builder.ExpressionBuilder;
 
 /**
  * Represents the strategy used to figure out how to map a message exchange to a POJO method invocation
+ * <p/>
+ * A strategy is created for every {@link BeanInfo}, and therefore the default mappings are shared by all
+ * the strategies, and the mappings are only copied when a mapping is added (copy on write).
  */
 public class DefaultParameterMappingStrategy implements ParameterMappingStrategy {
-    private final Map<Class<?>, Expression> parameterTypeToExpressionMap = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Expression> DEFAULT_MAPPINGS = createDefaultMappings();
+    private volatile Map<Class<?>, Expression> parameterTypeToExpressionMap = Collections.emptyMap();
 
     public DefaultParameterMappingStrategy() {
         loadDefaultRegistry();
@@ -45,16 +50,32 @@ public class DefaultParameterMappingStrategy implements ParameterMappingStrategy
     /**
      * Adds a default parameter type mapping to an expression
      */
-    public void addParameterMapping(Class<?> parameterType, Expression expression) {
-        parameterTypeToExpressionMap.put(parameterType, expression);
+    public synchronized void addParameterMapping(Class<?> parameterType, Expression expression) {
+        Map<Class<?>, Expression> copy = new HashMap<>(parameterTypeToExpressionMap);
+        copy.put(parameterType, expression);
+        parameterTypeToExpressionMap = copy;
     }
 
-    public void loadDefaultRegistry() {
-        addParameterMapping(Exchange.class, ExpressionBuilder.exchangeExpression());
-        addParameterMapping(Message.class, ExpressionBuilder.inMessageExpression());
-        addParameterMapping(Exception.class, ExpressionBuilder.exchangeExceptionExpression());
-        addParameterMapping(TypeConverter.class, ExpressionBuilder.typeConverterExpression());
-        addParameterMapping(Registry.class, ExpressionBuilder.registryExpression());
-        addParameterMapping(CamelContext.class, ExpressionBuilder.camelContextExpression());
+    public synchronized void loadDefaultRegistry() {
+        if (parameterTypeToExpressionMap.isEmpty()) {
+            // no mappings yet so we can use the shared default mappings as-is
+            parameterTypeToExpressionMap = DEFAULT_MAPPINGS;
+        } else {
+            Map<Class<?>, Expression> copy = new HashMap<>(parameterTypeToExpressionMap);
+            copy.putAll(DEFAULT_MAPPINGS);
+            parameterTypeToExpressionMap = copy;
+        }
+    }
+
+    private static Map<Class<?>, Expression> createDefaultMappings() {
+        // the default expressions are stateless and can therefore be shared
+        Map<Class<?>, Expression> answer = new HashMap<>();
+        answer.put(Exchange.class, ExpressionBuilder.exchangeExpression());
+        answer.put(Message.class, ExpressionBuilder.inMessageExpression());
+        answer.put(Exception.class, ExpressionBuilder.exchangeExceptionExpression());
+        answer.put(TypeConverter.class, ExpressionBuilder.typeConverterExpression());
+        answer.put(Registry.class, ExpressionBuilder.registryExpression());
+        answer.put(CamelContext.class, ExpressionBuilder.camelContextExpression());
+        return Collections.unmodifiableMap(answer);
     }
 }
@@ -17,6 +17,9 @@
 package org.apache.camel.component.bean;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.InvocationTargetException;
@@ -77,6 +80,9 @@ public class MethodInfo {
     private AsyncProcessor recipientList;
     private AsyncProcessor routingSlip;
     private AsyncProcessor dynamicRouter;
+    private volatile MethodHandle methodHandle;
+    private volatile Class<?>[] methodHandleParameterTypes;
+    private volatile boolean methodHandleResolved;
 
     /**
      * Adapter to invoke the method which has been annotated with the @DynamicRouter
@@ -417,6 +423,19 @@ public class MethodInfo {
     }
 
     protected Object invoke(Method mth, Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
+        if (mth == method) {
+            MethodHandle handle = getMethodHandle();
+            // the method handle is only used when the arguments are valid, so invalid arguments are reported
+            // in the same way as when using reflection
+            if (handle != null && isInvokableWith(pojo, arguments)) {
+                try {
+                    return (Object) handle.invokeExact(pojo, arguments);
+                } catch (Throwable e) {
+                    // wrap the exception thrown by the method as if it was invoked using reflection
+                    throw new InvocationTargetException(e);
+                }
+            }
+        }
         try {
             return ObjectHelper.invokeMethodSafe(mth, pojo, arguments);
         } catch (IllegalAccessException e) {
@@ -426,6 +445,63 @@ public class MethodInfo {
         }
     }
 
+    /**
+     * Gets the method handle used for invoking the method, which is faster than invoking the method using reflection.
+     *
+     * @return the method handle with the type <tt>(Object, Object[])Object</tt>, or <tt>null</tt> if the method
+     *         must be invoked using reflection
+     */
+    private MethodHandle getMethodHandle() {
+        if (!methodHandleResolved) {
+            methodHandleParameterTypes = method.getParameterTypes();
+            methodHandle = createMethodHandle();
+            methodHandleResolved = true;
+        }
+        return methodHandle;
+    }
+
+    private MethodHandle createMethodHandle() {
+        try {
+            if (!method.isAccessible()) {
+                method.setAccessible(true);
+            }
+            MethodHandle answer = MethodHandles.lookup().unreflect(method).asFixedArity();
+            if (Modifier.isStatic(method.getModifiers())) {
+                // static methods ignore the bean
+                answer = MethodHandles.dropArguments(answer, 0, Object.class);
+            }
+            return answer.asSpreader(Object[].class, method.getParameterCount())
+                .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+        } catch (Throwable e) {
+            LOG.debug("Cannot create method handle for method: {} due to: {}. The method is invoked using reflection instead.", method, e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean isInvokableWith(Object pojo, Object[] arguments) {
+        if (!Modifier.isStatic(method.getModifiers()) && !method.getDeclaringClass().isInstance(pojo)) {
+            return false;
+        }
+        Class<?>[] types = methodHandleParameterTypes;
+        int size = arguments != null ? arguments.length : 0;
+        if (size != types.length) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            Object argument = arguments[i];
+            Class<?> type = types[i];
+            if (argument == null) {
+                if (type.isPrimitive()) {
+                    return false;
+                }
+            } else if (!org.apache.camel.util.ObjectHelper.convertPrimitiveTypeToWrapperType(type).isInstance(argument)) {
+                // widening of primitive values is done by reflection
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected Expression[] createParameterExpressions() {
         final int size = parameters.size();
         LOG.trace("Creating parameters expression for {} parameters", size);
@@ -16,6 +16,9 @@
  */
 package org.apache.camel.dataformat.bindy;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -26,8 +29,10 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.dataformat.bindy.annotation.Link;
 import org.apache.camel.dataformat.bindy.annotation.OneToMany;
 import org.apache.camel.support.ObjectHelper;
@@ -49,6 +54,9 @@ public abstract class BindyAbstractFactory implements BindyFactory {
     
     private String locale;
     private Class<?> type;
+    // the method handles to get and set the values of the fields, which are created once per field
+    private final Map<Field, MethodHandle> getters = new ConcurrentHashMap<>();
+    private final Map<Field, MethodHandle> setters = new ConcurrentHashMap<>();
     
     public BindyAbstractFactory(Class<?> type) throws Exception {
         this.type = type;
@@ -142,16 +150,66 @@ public abstract class BindyAbstractFactory implements BindyFactory {
             // Iterate through Link fields list
             for (Field field : linkFields) {
 
-                // Change protection for private field
-                field.setAccessible(true);
-
                 // Retrieve linked object
                 String toClassName = field.getType().getName();
                 Object to = model.get(toClassName);
 
                 org.apache.camel.util.ObjectHelper.notNull(to, "No @link annotation has been defined for the object to link");
-                field.set(model.get(field.getDeclaringClass().getName()), to);
+                setFieldValue(field, model.get(field.getDeclaringClass().getName()), to);
+            }
+        }
+    }
+
+    /**
+     * Gets the value of the field of the model object.
+     */
+    protected Object getFieldValue(Field field, Object modelField) throws Exception {
+        MethodHandle getter = getters.computeIfAbsent(field, f -> {
+            try {
+                // Change protection for private field
+                f.setAccessible(true);
+                return MethodHandles.lookup().unreflectGetter(f).asType(MethodType.methodType(Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+        });
+        try {
+            return (Object) getter.invokeExact(modelField);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    /**
+     * Sets the value of the field of the model object.
+     * <p/>
+     * The values are set using method handles, which are created once per field, instead of using reflection
+     * for every record.
+     */
+    protected void setFieldValue(Field field, Object modelField, Object value) throws Exception {
+        if (value == null && field.getType().isPrimitive()) {
+            throw new IllegalArgumentException("Can not set " + field.getType().getName() + " field " + field + " to null value");
+        }
+        MethodHandle setter = setters.computeIfAbsent(field, f -> {
+            try {
+                // Change protection for private field
+                f.setAccessible(true);
+                return MethodHandles.lookup().unreflectSetter(f).asType(MethodType.methodType(void.class, Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
             }
+        });
+        try {
+            setter.invokeExact(modelField, value);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException("Can not set " + field.getType().getName() + " field " + field + " to "
+                + value.getClass().getName(), e);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
         }
     }
 
@@ -221,7 +221,6 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
 
         // Get Field to be setted
         Field field = annotatedFields.get(pos);
-        field.setAccessible(true);
 
         if (LOG.isDebugEnabled()) {
             LOG.debug("Pos: {}, Data: {}, Field type: {}", pos, data, field.getType());
@@ -289,7 +288,7 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
             }
         }
 
-        field.set(modelField, value);
+        setFieldValue(field, modelField, value);
         return counterMandatoryFields;
     }
 
@@ -689,17 +688,16 @@ public class BindyCsvFactory extends BindyAbstractFactory implements BindyFactor
         // Set the default values, if defined
         for (int i = 1; i <= dataFields.size(); i++) {
             Field field = annotatedFields.get(i);
-            field.setAccessible(true);
             DataField dataField = dataFields.get(i);
             Object modelField = model.get(field.getDeclaringClass().getName());
-            if (field.get(modelField) == null && !dataField.defaultValue().isEmpty()) {
+            if (getFieldValue(field, modelField) == null && !dataField.defaultValue().isEmpty()) {
                 FormattingOptions formattingOptions = ConverterUtils.convert(dataField,
                         field.getType(),
                         field.getAnnotation(BindyConverter.class),
                         getLocale());
                 Format<?> format = formatFactory.getFormat(formattingOptions);
                 Object value = format.parse(dataField.defaultValue());
-                field.set(modelField, value);
+                setFieldValue(field, modelField, value);
             }
         }
     }
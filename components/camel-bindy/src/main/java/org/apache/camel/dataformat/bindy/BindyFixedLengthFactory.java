@@ -186,9 +186,8 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
 
             if (length == 0 && dataField.lengthPos() != 0) {
                 Field lengthField = annotatedFields.get(dataField.lengthPos());
-                lengthField.setAccessible(true);
                 Object modelObj = model.get(lengthField.getDeclaringClass().getName());
-                Object lengthObj =  lengthField.get(modelObj);
+                Object lengthObj = getFieldValue(lengthField, modelObj);
                 length = ((Integer)lengthObj).intValue();
             }
             if (length < 1 && delimiter == null && dataField.lengthPos() == 0) {
@@ -247,7 +246,6 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
 
             // Get Field to be set
             field = annotatedFields.get(dataField.pos());
-            field.setAccessible(true);
 
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Pos/Offset: {}, Data: {}, Field type: {}", offset, token, field.getType());
@@ -306,7 +304,7 @@ public class BindyFixedLengthFactory extends BindyAbstractFactory implements Bin
                 }
             }
 
-            field.set(modelField, value);
+            setFieldValue(field, modelField, value);
 
             ++pos;
 
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * An {@link Iterator} which unmarshals the records one at a time, when Bindy is used in streaming mode.
+ * <p/>
+ * The iterator returns the objects of the class type of the data format, or the models when no class type
+ * has been configured. The input is closed when all the records have been read, or the iterator is closed.
+ */
+public abstract class BindyUnmarshalIterator implements Iterator<Object>, Closeable {
+    private final Class<?> classType;
+    private final Closeable input;
+    private final String noRecordsMessage;
+    private Object next;
+    private boolean done;
+    private int records;
+
+    /**
+     * Creates the iterator.
+     *
+     * @param classType        the class type of the objects to return, or <tt>null</tt> to return the models
+     * @param input            the input to close
+     * @param noRecordsMessage the message of the exception thrown if there are no records,
+     *                         or <tt>null</tt> if empty streams are allowed
+     */
+    protected BindyUnmarshalIterator(Class<?> classType, Closeable input, String noRecordsMessage) {
+        this.classType = classType;
+        this.input = input;
+        this.noRecordsMessage = noRecordsMessage;
+    }
+
+    /**
+     * Unmarshals the next record.
+     *
+     * @return the model of the record, or <tt>null</tt> if there are no more records
+     */
+    protected abstract Map<String, Object> nextModel() throws Exception;
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !done) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object answer = next;
+        next = null;
+        return answer;
+    }
+
+    private Object readNext() {
+        try {
+            Map<String, Object> model;
+            while ((model = nextModel()) != null) {
+                Object data = classType != null ? model.get(classType.getName()) : model;
+                if (data != null) {
+                    records++;
+                    return data;
+                }
+            }
+        } catch (Exception e) {
+            done = true;
+            close();
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+
+        done = true;
+        close();
+        if (records == 0 && noRecordsMessage != null) {
+            throw new IllegalArgumentException(noRecordsMessage);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() {
+        IOHelper.close(input);
+    }
+}
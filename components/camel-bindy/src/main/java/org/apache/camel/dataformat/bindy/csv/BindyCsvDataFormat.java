@@ -23,6 +23,7 @@ import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -37,6 +38,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.dataformat.bindy.BindyAbstractDataFormat;
 import org.apache.camel.dataformat.bindy.BindyAbstractFactory;
 import org.apache.camel.dataformat.bindy.BindyCsvFactory;
+import org.apache.camel.dataformat.bindy.BindyUnmarshalIterator;
 import org.apache.camel.dataformat.bindy.FormatFactory;
 import org.apache.camel.dataformat.bindy.WrappedException;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
@@ -149,7 +151,7 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
         InputStreamReader in = null;
         try {
             if (checkEmptyStream(factory, inputStream)) {
-                return models;
+                return isStreaming() ? Collections.emptyIterator() : models;
             }
 
             in = new InputStreamReader(inputStream, ExchangeHelper.getCharsetName(exchange));
@@ -159,8 +161,28 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
             String quote = factory.getQuote();
             org.apache.camel.util.ObjectHelper.notNull(separator, "The separator has not been defined in the annotation @CsvRecord or not instantiated during initModel.");
             Boolean removeQuotes = factory.getRemoveQuotes();
+            Pattern pattern = Pattern.compile(separator);
             AtomicInteger count = new AtomicInteger(0);
 
+            if (isStreaming()) {
+                BufferedReader reader = IOHelper.buffered(in);
+                // If the first line of the CSV file contains columns name, then we
+                // skip this line
+                if (factory.getSkipFirstLine()) {
+                    reader.readLine();
+                }
+                Iterator<Object> answer = new BindyUnmarshalIterator(getClassType(), reader, isAllowEmptyStream() ? null : "No records have been defined in the CSV") {
+                    @Override
+                    protected Map<String, Object> nextModel() throws Exception {
+                        String line = reader.readLine();
+                        return line != null ? createModel(factory, pattern, line, separator, removeQuotes, quote, count) : null;
+                    }
+                };
+                // the iterator closes the reader
+                in = null;
+                return answer;
+            }
+
             // Use a Stream to stream a file across.
             try (Stream<String> lines = new BufferedReader(in).lines()) {
                 int linesToSkip = 0;
@@ -175,7 +197,7 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
                 // If the internals of the consumer fail, we unrap the checked exception upstream.
                 try {
                     lines.skip(linesToSkip)
-                            .forEachOrdered(consumeFile(factory, models, separator, removeQuotes, quote, count));
+                            .forEachOrdered(consumeFile(factory, pattern, models, separator, removeQuotes, quote, count));
                 } catch (WrappedException e) {
                     throw e.getWrappedException();
                 }
@@ -196,75 +218,78 @@ public class BindyCsvDataFormat extends BindyAbstractDataFormat {
 
     }
 
-    private Consumer<String> consumeFile(BindyCsvFactory factory, List<Map<String, Object>> models,
+    private Consumer<String> consumeFile(BindyCsvFactory factory, Pattern pattern, List<Map<String, Object>> models,
                                          String separator, Boolean removeQuotes, String quote, AtomicInteger count) {
         return line -> {
             try {
-                // Trim the line coming in to remove any trailing whitespace
-                String trimmedLine;
+                // Add objects graph to the list
+                models.add(createModel(factory, pattern, line, separator, removeQuotes, quote, count));
+            } catch (Exception e) {
+                throw new WrappedException(e);
+            }
+        };
+    }
 
-                // if separator is a tab, don't trim any leading whitespaces (could be empty values separated by tabs)
-                if (separator.equals("\t")) {
-                    // trim only trailing whitespaces
-                    trimmedLine = line.replaceAll("\\s+$", "");
-                } else {
-                    trimmedLine = line.trim();
-                }
+    private Map<String, Object> createModel(BindyCsvFactory factory, Pattern pattern, String line,
+                                            String separator, Boolean removeQuotes, String quote, AtomicInteger count) throws Exception {
+        // Trim the line coming in to remove any trailing whitespace
+        String trimmedLine;
+
+        // if separator is a tab, don't trim any leading whitespaces (could be empty values separated by tabs)
+        if (separator.equals("\t")) {
+            // trim only trailing whitespaces
+            trimmedLine = line.replaceAll("\\s+$", "");
+        } else {
+            trimmedLine = line.trim();
+        }
 
-                // Increment counter
-                count.incrementAndGet();
-                Map<String, Object> model;
+        // Increment counter
+        count.incrementAndGet();
+        Map<String, Object> model;
 
-                // Create POJO where CSV data will be stored
-                model = factory.factory();
+        // Create POJO where CSV data will be stored
+        model = factory.factory();
 
-                // Split the CSV record according to the separator defined in
-                // annotated class @CSVRecord
-                Pattern pattern = Pattern.compile(separator);
-                Matcher matcher = pattern.matcher(trimmedLine);
-                List<String> separators = new ArrayList<>();
+        // Split the CSV record according to the separator defined in
+        // annotated class @CSVRecord
+        Matcher matcher = pattern.matcher(trimmedLine);
+        List<String> separators = new ArrayList<>();
 
-                // Retrieve separators for each match
-                while (matcher.find()) {
-                    separators.add(matcher.group());
-                }
-                // Add terminal separator
-                if (separators.size() > 0) {
-                    separators.add(separators.get(separators.size() - 1));
-                }
-
-                String[] tokens = pattern.split(trimmedLine, factory.getAutospanLine() ? factory.getMaxpos() : -1);
+        // Retrieve separators for each match
+        while (matcher.find()) {
+            separators.add(matcher.group());
+        }
+        // Add terminal separator
+        if (separators.size() > 0) {
+            separators.add(separators.get(separators.size() - 1));
+        }
 
-                List<String> result = Arrays.asList(tokens);
+        String[] tokens = pattern.split(trimmedLine, factory.getAutospanLine() ? factory.getMaxpos() : -1);
 
-                // must unquote tokens before use
-                if (removeQuotes) {
-                    result = unquoteTokens(result, separators, quote);
-                }
+        List<String> result = Arrays.asList(tokens);
 
-                if (result.isEmpty()) {
-                    throw new IllegalArgumentException("No records have been defined in the CSV");
-                } else {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Size of the record splitted : {}", result.size());
-                    }
+        // must unquote tokens before use
+        if (removeQuotes) {
+            result = unquoteTokens(result, separators, quote);
+        }
 
-                    // Bind data from CSV record with model classes
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException("No records have been defined in the CSV");
+        } else {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Size of the record splitted : {}", result.size());
+            }
 
-                    factory.bind(getCamelContext(), result, model, count.get());
+            // Bind data from CSV record with model classes
 
-                    // Link objects together
-                    factory.link(model);
+            factory.bind(getCamelContext(), result, model, count.get());
 
-                    // Add objects graph to the list
-                    models.add(model);
+            // Link objects together
+            factory.link(model);
 
-                    LOG.debug("Graph of objects created: {}", model);
-                }
-            } catch (Exception e) {
-                throw new WrappedException(e);
-            }
-        };
+            LOG.debug("Graph of objects created: {}", model);
+        }
+        return model;
     }
 
     /**
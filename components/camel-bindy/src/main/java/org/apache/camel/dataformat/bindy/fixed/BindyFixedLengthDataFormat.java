@@ -21,6 +21,7 @@ import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Scanner;
@@ -31,6 +32,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.dataformat.bindy.BindyAbstractDataFormat;
 import org.apache.camel.dataformat.bindy.BindyAbstractFactory;
 import org.apache.camel.dataformat.bindy.BindyFixedLengthFactory;
+import org.apache.camel.dataformat.bindy.BindyUnmarshalIterator;
 import org.apache.camel.dataformat.bindy.FormatFactory;
 import org.apache.camel.dataformat.bindy.util.ConverterUtils;
 import org.apache.camel.spi.DataFormat;
@@ -213,6 +215,13 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
                 }
             }
 
+            if (isStreaming()) {
+                Iterator<Object> answer = createIterator(exchange, factory, scanner, count, isEolSet);
+                // the iterator closes the scanner
+                scanner = null;
+                return answer;
+            }
+
             String thisLine = getNextNonEmptyLine(scanner, count, isEolSet);
 
             String nextLine = null;
@@ -255,12 +264,42 @@ public class BindyFixedLengthDataFormat extends BindyAbstractDataFormat {
             }
 
         } finally {
-            scanner.close();
-            IOHelper.close(in, "in", LOG);
+            if (scanner != null) {
+                scanner.close();
+                IOHelper.close(in, "in", LOG);
+            }
         }
 
     }
 
+    private Iterator<Object> createIterator(Exchange exchange, BindyFixedLengthFactory factory, Scanner scanner,
+                                            AtomicInteger count, boolean isEolSet) {
+        return new BindyUnmarshalIterator(getClassType(), scanner, isAllowEmptyStream() ? null : "No records have been defined in the file") {
+            // the next line is read ahead, as the last line may be the footer
+            private String thisLine = getNextNonEmptyLine(scanner, count, isEolSet);
+
+            @Override
+            protected Map<String, Object> nextModel() throws Exception {
+                if (thisLine == null) {
+                    return null;
+                }
+                String line = thisLine;
+                int lineCount = count.intValue();
+                thisLine = getNextNonEmptyLine(scanner, count, isEolSet);
+                if (thisLine == null && factory.hasFooter()) {
+                    // this line is the last non-empty line from the file, which is parsed as a footer
+                    if (!factory.skipFooter()) {
+                        Map<String, Object> footerObjMap = createModel(footerFactory, line, count.intValue());
+                        // the unmarshal processor has completed, so the footer is set on the current message
+                        exchange.getMessage().setHeader(CAMEL_BINDY_FIXED_LENGTH_FOOTER, footerObjMap);
+                    }
+                    return null;
+                }
+                return createModel(factory, line, lineCount);
+            }
+        };
+    }
+
     private String getNextNonEmptyLine(Scanner scanner, AtomicInteger count, boolean isEolSet) {
         String line = "";
         while (org.apache.camel.util.ObjectHelper.isEmpty(line) && ((isEolSet && scanner.hasNext()) || (!isEolSet && scanner.hasNextLine()))) {
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.csv;
+
+import java.util.Iterator;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.dataformat.bindy.model.simple.oneclass.Order;
+import org.apache.camel.model.dataformat.BindyDataFormat;
+import org.apache.camel.model.dataformat.BindyType;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class BindyCsvStreamingUnmarshallTest extends CamelTestSupport {
+
+    @Test
+    public void testUnmarshallStreaming() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:order");
+        mock.expectedMessageCount(10000);
+        mock.allMessages().body().isInstanceOf(Order.class);
+        getMockEndpoint("mock:done").expectedMessageCount(1);
+
+        assertMockEndpointsSatisfied();
+
+        Order order = mock.getReceivedExchanges().get(1).getIn().getBody(Order.class);
+        assertEquals(2, order.getOrderNr());
+        assertEquals("Michel", order.getFirstName());
+        assertEquals("Preud'Homme", order.getLastName());
+    }
+
+    @Test
+    public void testUnmarshallStreamingIterator() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:iterator");
+        mock.expectedMessageCount(1);
+
+        template.sendBody("direct:iterator", "01,A,Albert,Cartier,ISIN,LU123456789,BUY,Share,1500,EUR,08-01-2009\r\n"
+            + "02,B,Michel,Preud'Homme,ISIN,LU987654321,SELL,TrustedShare,2500,USD,08-01-2009\r\n");
+
+        assertMockEndpointsSatisfied();
+
+        Iterator<?> it = mock.getReceivedExchanges().get(0).getIn().getBody(Iterator.class);
+        assertEquals(1, ((Order) it.next()).getOrderNr());
+        assertEquals(2, ((Order) it.next()).getOrderNr());
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testUnmarshallStreamingNoRecords() throws Exception {
+        try {
+            template.sendBody("direct:empty", "");
+            fail("Should have thrown an exception");
+        } catch (Exception e) {
+            IllegalArgumentException cause = assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+            assertEquals("No records have been defined in the CSV", cause.getMessage());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                BindyDataFormat bindy = new BindyDataFormat();
+                bindy.setType(BindyType.Csv);
+                bindy.setClassType(Order.class);
+                bindy.setStreaming(true);
+
+                from("file://src/test/data/big?noop=true")
+                    .unmarshal(bindy)
+                    .split(body()).streaming()
+                        .to("mock:order")
+                    .end()
+                    .to("mock:done");
+
+                BindyCsvDataFormat csv = new BindyCsvDataFormat(Order.class);
+                csv.setStreaming(true);
+
+                from("direct:iterator")
+                    .unmarshal(csv)
+                    .to("mock:iterator");
+
+                from("direct:empty")
+                    .unmarshal(csv)
+                    .split(body()).streaming()
+                        .to("mock:empty");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.dataformat.bindy.fixed.headerfooter;
+
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.dataformat.bindy.fixed.BindyFixedLengthDataFormat;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+/**
+ * This test validates that the records are unmarshalled one at a time in streaming mode, while the header
+ * and footer records are still unmarshalled as headers.
+ */
+public class BindySimpleFixedLengthHeaderFooterStreamingTest extends CamelTestSupport {
+
+    private static final String TEST_HEADER = "101-08-2009\r\n";
+    private static final String TEST_RECORD = "10A9  PaulineM    ISINXD12345678BUYShare000002500.45USD01-08-2009\r\n";
+    private static final String TEST_RECORD2 = "11A9  PaulineM    ISINXD12345678BUYShare000002500.45USD01-08-2009\r\n";
+    private static final String TEST_FOOTER = "9000000002\r\n";
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testUnmarshallMessage() throws Exception {
+        MockEndpoint record = getMockEndpoint("mock:record");
+        record.expectedMessageCount(2);
+        record.allMessages().body().isInstanceOf(Order.class);
+        MockEndpoint done = getMockEndpoint("mock:done");
+        done.expectedMessageCount(1);
+
+        template.sendBody("direct:unmarshall", TEST_HEADER + TEST_RECORD + TEST_RECORD2 + TEST_FOOTER);
+
+        assertMockEndpointsSatisfied();
+
+        assertEquals(10, record.getReceivedExchanges().get(0).getIn().getBody(Order.class).getOrderNr());
+        assertEquals(11, record.getReceivedExchanges().get(1).getIn().getBody(Order.class).getOrderNr());
+
+        // the header is unmarshalled before the records, and the footer after the last record
+        Exchange exchange = done.getReceivedExchanges().get(0);
+        Map<String, Object> header = (Map<String, Object>) exchange.getIn().getHeader(BindyFixedLengthDataFormat.CAMEL_BINDY_FIXED_LENGTH_HEADER);
+        Map<String, Object> footer = (Map<String, Object>) exchange.getIn().getHeader(BindyFixedLengthDataFormat.CAMEL_BINDY_FIXED_LENGTH_FOOTER);
+        assertNotNull(header.get(OrderHeader.class.getName()));
+        assertNotNull(footer.get(OrderFooter.class.getName()));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                BindyFixedLengthDataFormat bindy = new BindyFixedLengthDataFormat(Order.class);
+                bindy.setLocale("en");
+                bindy.setStreaming(true);
+
+                from("direct:unmarshall")
+                    .unmarshal(bindy)
+                    .split(body()).streaming()
+                        .to("mock:record")
+                    .end()
+                    .to("mock:done");
+            }
+        };
+    }
+}
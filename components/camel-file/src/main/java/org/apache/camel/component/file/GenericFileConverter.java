@@ -29,6 +29,7 @@ import org.apache.camel.Converter;
 import org.apache.camel.Exchange;
 import org.apache.camel.NoTypeConversionAvailableException;
 import org.apache.camel.TypeConverter;
+import org.apache.camel.converter.stream.ByteBufferBody;
 import org.apache.camel.spi.TypeConverterRegistry;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.util.IOHelper;
@@ -132,6 +133,27 @@ public final class GenericFileConverter {
         }
     }
 
+    @Converter
+    public static ByteBufferBody genericFileToByteBufferBody(GenericFile<?> file, Exchange exchange) throws IOException {
+        if (file.getFile() instanceof File) {
+            // prefer to map the file if its a java.io.File, so the content is not read onto the heap
+            File f = (File) file.getFile();
+            // the file must exists
+            if (f.exists()) {
+                LOG.debug("Map file {}", f);
+                return ByteBufferBody.map(f);
+            }
+        }
+        if (exchange != null) {
+            // otherwise ensure the body is loaded as we want the content of the body
+            file.getBinding().loadContent(exchange, file);
+            return exchange.getContext().getTypeConverter().convertTo(ByteBufferBody.class, exchange, file.getBody());
+        } else {
+            // should revert to fallback converter if we don't have an exchange
+            return null;
+        }
+    }
+
     @Converter
     public static String genericFileToString(GenericFile<?> file, Exchange exchange) throws IOException, NoTypeConversionAvailableException {
         // use reader first as it supports the file charset
@@ -18,6 +18,7 @@ package org.apache.camel.component.jackson;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -29,15 +30,16 @@ import java.util.TimeZone;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.databind.type.CollectionType;
 import com.fasterxml.jackson.module.jaxb.JaxbAnnotationModule;
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
+import org.apache.camel.converter.stream.ByteBufferBody;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
 import org.apache.camel.spi.annotations.Dataformat;
@@ -190,12 +192,19 @@ public class JacksonDataFormat extends ServiceSupport implements DataFormat, Dat
         if (type != null) {
             clazz = exchange.getContext().getClassResolver().resolveMandatoryClass(type);
         }
+        JavaType javaType;
         if (collectionType != null) {
-            CollectionType collType = objectMapper.getTypeFactory().constructCollectionType(collectionType, clazz);
-            return this.objectMapper.readValue(stream, collType);
+            javaType = objectMapper.getTypeFactory().constructCollectionType(collectionType, clazz);
         } else {
-            return this.objectMapper.readValue(stream, clazz);
+            javaType = objectMapper.getTypeFactory().constructType(clazz);
         }
+
+        ByteBuffer buffer = ByteBufferBody.remaining(stream);
+        if (buffer != null && buffer.hasArray()) {
+            // parse the array of the buffer directly, instead of copying it through the stream
+            return this.objectMapper.readValue(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), javaType);
+        }
+        return this.objectMapper.readValue(stream, javaType);
     }
 
     // Properties
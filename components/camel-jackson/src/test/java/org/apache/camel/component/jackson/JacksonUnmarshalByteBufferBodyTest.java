@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.jackson;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.converter.stream.ByteBufferBody;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+public class JacksonUnmarshalByteBufferBodyTest extends CamelTestSupport {
+
+    @Test
+    public void testUnmarshalArray() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:pojo");
+        mock.expectedMessageCount(1);
+
+        // only part of the array holds the json
+        byte[] data = "xx{\"name\":\"Camel\"}yy".getBytes(StandardCharsets.UTF_8);
+        template.sendBody("direct:pojo", ByteBufferBody.wrap(data, 2, data.length - 4));
+
+        assertMockEndpointsSatisfied();
+
+        TestPojo pojo = mock.getReceivedExchanges().get(0).getIn().getBody(TestPojo.class);
+        assertEquals("Camel", pojo.getName());
+    }
+
+    @Test
+    public void testUnmarshalDirectBuffer() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:pojo");
+        mock.expectedMessageCount(1);
+
+        byte[] data = "{\"name\":\"Camel\"}".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(data.length);
+        buffer.put(data).flip();
+        template.sendBody("direct:pojo", ByteBufferBody.wrap(buffer));
+
+        assertMockEndpointsSatisfied();
+
+        TestPojo pojo = mock.getReceivedExchanges().get(0).getIn().getBody(TestPojo.class);
+        assertEquals("Camel", pojo.getName());
+    }
+
+    @Test
+    public void testUnmarshalList() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:list");
+        mock.expectedMessageCount(1);
+
+        byte[] data = "[{\"name\":\"Camel\"}, {\"name\":\"World\"}]".getBytes(StandardCharsets.UTF_8);
+        template.sendBody("direct:list", ByteBufferBody.wrap(data));
+
+        assertMockEndpointsSatisfied();
+
+        List<?> list = mock.getReceivedExchanges().get(0).getIn().getBody(List.class);
+        assertEquals(2, list.size());
+        assertEquals("World", ((TestPojo) list.get(1)).getName());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+
+            @Override
+            public void configure() throws Exception {
+                from("direct:pojo").unmarshal(new JacksonDataFormat(TestPojo.class)).to("mock:pojo");
+
+                JacksonDataFormat list = new JacksonDataFormat(TestPojo.class);
+                list.useList();
+                from("direct:list").unmarshal(list).to("mock:list");
+            }
+        };
+    }
+}
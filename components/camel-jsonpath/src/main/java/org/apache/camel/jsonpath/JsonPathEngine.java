@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -30,10 +31,15 @@ import java.util.regex.Pattern;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.Option;
+import com.jayway.jsonpath.spi.json.JsonProvider;
 import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
+import org.apache.camel.Message;
 import org.apache.camel.component.file.GenericFile;
+import org.apache.camel.support.LRUCacheFactory;
+import org.apache.camel.support.MessageSupport;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,10 +54,12 @@ public class JsonPathEngine {
     private static final String JACKSON_JSON_ADAPTER = "org.apache.camel.jsonpath.jackson.JacksonJsonAdapter";
 
     private static final Pattern SIMPLE_PATTERN = Pattern.compile("\\$\\{[^\\}]+\\}", Pattern.MULTILINE);
+    private static final int MAX_DYNAMIC_PATHS = 1000;
     private final String expression;
     private final boolean writeAsString;
     private final String headerName;
     private final JsonPath path;
+    private final Map<String, JsonPath> dynamicPaths;
     private final Configuration configuration;
     private JsonPathAdapter adapter;
     private volatile boolean initJsonAdapter;
@@ -86,8 +94,10 @@ public class JsonPathEngine {
         }
         if (hasSimple) {
             this.path = null;
+            this.dynamicPaths = LRUCacheFactory.newLRUCache(16, MAX_DYNAMIC_PATHS);
         } else {
             this.path = JsonPath.compile(expression);
+            this.dynamicPaths = null;
             LOG.debug("Compiled static JsonPath: {}", expression);
         }
     }
@@ -98,8 +108,13 @@ public class JsonPathEngine {
         if (path == null) {
             Expression exp = exchange.getContext().resolveLanguage("simple").createExpression(expression);
             String text = exp.evaluate(exchange, String.class);
-            JsonPath path = JsonPath.compile(text);
-            LOG.debug("Compiled dynamic JsonPath: {}", expression);
+            // the compiled paths are reused across the exchanges
+            JsonPath path = dynamicPaths.get(text);
+            if (path == null) {
+                path = JsonPath.compile(text);
+                dynamicPaths.put(text, path);
+                LOG.debug("Compiled dynamic JsonPath: {}", text);
+            }
             answer = doRead(path, exchange);
         } else {
             answer = doRead(path, exchange);
@@ -131,7 +146,8 @@ public class JsonPathEngine {
                 }
                 return list;
             } else if (answer instanceof Map) {
-                Map map = (Map) answer;
+                // copy the map as it can be a part of the parsed document which is reused
+                Map map = new LinkedHashMap((Map) answer);
                 for (Object key : map.keySet()) {
                     Object value = map.get(key);
                     if (adapter != null) {
@@ -154,21 +170,40 @@ public class JsonPathEngine {
     }
 
     private Object doRead(JsonPath path, Exchange exchange) throws IOException, CamelExchangeException {
-        Object json = headerName != null ? exchange.getIn().getHeader(headerName) : exchange.getIn().getBody();
+        Message message = exchange.getIn();
+        Object json = headerName != null ? message.getHeader(headerName) : message.getBody();
+
+        // reuse the document which has been parsed from the same json by this or another expression
+        ParsedDocument parsed = getParsedDocument(message);
+        if (parsed != null) {
+            if (parsed.isParsedFrom(json, configuration)) {
+                LOG.trace("JSonPath: {} is read from the document parsed before", path);
+                return copyOf(path.read(parsed.document, configuration));
+            }
+            // the json has changed, so do not keep the document
+            ((MessageSupport) message).setParsedBody(null);
+        }
 
+        Object document = null;
         if (json instanceof InputStream) {
-            return readWithInputStream(path, exchange);
+            document = parseWithInputStream(path, exchange, json);
         } else if (json instanceof GenericFile) {
             LOG.trace("JSonPath: {} is read as generic file: {}", path, json);
             GenericFile<?> genericFile = (GenericFile<?>) json;
             if (genericFile.getCharset() != null) {
                 // special treatment for generic file with charset
                 InputStream inputStream = new FileInputStream((File) genericFile.getFile());
-                return path.read(inputStream, genericFile.getCharset(), configuration);
+                document = parse(inputStream, genericFile.getCharset());
             }
         }
 
-        if (json instanceof String) {
+        if (document != null) {
+            return readDocument(path, message, json, document);
+        } else if (json instanceof String && !((String) json).isEmpty()) {
+            LOG.trace("JSonPath: {} is read as String: {}", path, json);
+            String str = (String) json;
+            return readDocument(path, message, json, configuration.jsonProvider().parse(str));
+        } else if (json instanceof String) {
             LOG.trace("JSonPath: {} is read as String: {}", path, json);
             String str = (String) json;
             return path.read(str, configuration);
@@ -182,13 +217,13 @@ public class JsonPathEngine {
             return path.read(list, configuration);
         } else {
             // can we find an adapter which can read the message body/header
-            Object answer = readWithAdapter(path, exchange);
-            if (answer == null) {
+            document = readWithAdapter(path, exchange, json);
+            if (document == null) {
                 // fallback and attempt input stream for any other types
-                answer = readWithInputStream(path, exchange);
+                document = parseWithInputStream(path, exchange, json);
             }
-            if (answer != null) {
-                return answer;
+            if (document != null) {
+                return readDocument(path, message, json, document);
             }
         }
 
@@ -209,8 +244,51 @@ public class JsonPathEngine {
         }
     }
 
-    private Object readWithInputStream(JsonPath path, Exchange exchange) throws IOException {
-        Object json = headerName != null ? exchange.getIn().getHeader(headerName) : exchange.getIn().getBody();
+    private Object readDocument(JsonPath path, Message message, Object json, Object document) {
+        if (message instanceof MessageSupport) {
+            // keep the parsed document on the message, so the other expressions can reuse it until the json changes
+            ((MessageSupport) message).setParsedBody(new ParsedDocument(json, configuration, document));
+            return copyOf(path.read(document, configuration));
+        }
+        return path.read(document, configuration);
+    }
+
+    /**
+     * Gets the document which has been parsed from the json of the given message, if any.
+     */
+    static ParsedDocument getParsedDocument(Message message) {
+        if (message instanceof MessageSupport) {
+            Object parsed = ((MessageSupport) message).getParsedBody();
+            if (parsed instanceof ParsedDocument) {
+                return (ParsedDocument) parsed;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Copies the maps and arrays of the result which is read from a kept document, so changes to the result
+     * do not change the document which is reused by the other expressions.
+     */
+    private Object copyOf(Object value) {
+        JsonProvider provider = configuration.jsonProvider();
+        if (provider.isMap(value)) {
+            Object answer = provider.createMap();
+            for (String key : provider.getPropertyKeys(value)) {
+                provider.setProperty(answer, key, copyOf(provider.getMapValue(value, key)));
+            }
+            return answer;
+        } else if (provider.isArray(value)) {
+            Object answer = provider.createArray();
+            for (int i = 0; i < provider.length(value); i++) {
+                provider.setArrayIndex(answer, i, copyOf(provider.getArrayIndex(value, i)));
+            }
+            return answer;
+        }
+        return value;
+    }
+
+    private Object parseWithInputStream(JsonPath path, Exchange exchange, Object json) throws IOException {
         LOG.trace("JSonPath: {} is read as InputStream: {}", path, json);
 
         InputStream is = exchange.getContext().getTypeConverter().tryConvertTo(InputStream.class, exchange, json);
@@ -218,20 +296,27 @@ public class JsonPathEngine {
             String jsonEncoding = exchange.getIn().getHeader(JsonPathConstants.HEADER_JSON_ENCODING, String.class);
             if (jsonEncoding != null) {
                 // json encoding specified in header
-                return path.read(is, jsonEncoding, configuration);
+                return parse(is, jsonEncoding);
             } else {
                 // No json encoding specified --> assume json encoding is unicode and determine the specific unicode encoding according to RFC-4627.
                 // This is a temporary solution, it can be removed as soon as jsonpath offers the encoding detection
                 JsonStream jsonStream = new JsonStream(is);
-                return path.read(jsonStream, jsonStream.getEncoding().name(), configuration);
+                return parse(jsonStream, jsonStream.getEncoding().name());
             }
         }
 
         return null;
     }
 
-    private Object readWithAdapter(JsonPath path, Exchange exchange) {
-        Object json = headerName != null ? exchange.getIn().getHeader(headerName) : exchange.getIn().getBody();
+    private Object parse(InputStream is, String charset) {
+        try {
+            return configuration.jsonProvider().parse(is, charset);
+        } finally {
+            IOHelper.close(is);
+        }
+    }
+
+    private Object readWithAdapter(JsonPath path, Exchange exchange, Object json) {
         LOG.trace("JSonPath: {} is read with adapter: {}", path, json);
 
         doInitAdapter(exchange);
@@ -243,7 +328,7 @@ public class JsonPathEngine {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("JacksonJsonAdapter converted object from: {} to: java.util.Map", ObjectHelper.classCanonicalName(json));
                 }
-                return path.read(map, configuration);
+                return map;
             }
         }
 
@@ -271,4 +356,27 @@ public class JsonPathEngine {
             initJsonAdapter = true;
         }
     }
+
+    /**
+     * The document which has been parsed from the json of an exchange.
+     */
+    static final class ParsedDocument {
+        private final Object json;
+        private final Class<?> jsonProvider;
+        private final Object document;
+
+        ParsedDocument(Object json, Configuration configuration, Object document) {
+            this.json = json;
+            this.jsonProvider = configuration.jsonProvider().getClass();
+            this.document = document;
+        }
+
+        boolean isParsedFrom(Object json, Configuration configuration) {
+            return this.json == json && jsonProvider == configuration.jsonProvider().getClass();
+        }
+
+        Object getDocument() {
+            return document;
+        }
+    }
 }
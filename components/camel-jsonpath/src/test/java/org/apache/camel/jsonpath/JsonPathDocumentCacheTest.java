@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.jsonpath;
+
+import java.io.File;
+import java.util.Map;
+
+import com.jayway.jsonpath.JsonPath;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JsonPathDocumentCacheTest extends CamelTestSupport {
+
+    // the mock endpoints receive copies of the messages, so keep the parsed document in a header
+    private final Processor document = exchange -> exchange.getIn().setHeader("document", JsonPathEngine.getParsedDocument(exchange.getIn()));
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .convertBodyTo(String.class)
+                    .choice()
+                        .when().jsonpath("$.store.book[?(@.price < 10)]")
+                            .to("mock:cheap")
+                        .when().jsonpath("$.store.book[?(@.price < 30)]")
+                            .to("mock:average")
+                        .otherwise()
+                            .setHeader("title").jsonpath("$.store.book[0].title")
+                            .process(document)
+                            .to("mock:expensive");
+
+                from("direct:change")
+                    .setHeader("before").jsonpath("$.store.bicycle.color")
+                    .setBody().constant("{\"store\": {\"bicycle\": {\"color\": \"blue\"}}}")
+                    .setHeader("after").jsonpath("$.store.bicycle.color")
+                    .process(document)
+                    .to("mock:after");
+
+                from("direct:mutate")
+                    .setHeader("bicycle").jsonpath("$.store.bicycle")
+                    .process(exchange -> exchange.getIn().getHeader("bicycle", Map.class).put("color", "green"))
+                    .setHeader("color").jsonpath("$.store.bicycle.color")
+                    .process(document)
+                    .to("mock:mutate");
+
+                from("direct:multicast")
+                    .setHeader("color").jsonpath("$.store.bicycle.color")
+                    .process(document)
+                    .to("mock:main")
+                    .multicast().to("direct:a", "direct:b");
+
+                from("direct:a")
+                    .setHeader("color").jsonpath("$.store.bicycle.color")
+                    .process(document)
+                    .to("mock:a");
+
+                from("direct:b")
+                    .setHeader("color").jsonpath("$.store.bicycle.color")
+                    .process(document)
+                    .to("mock:b");
+            }
+        };
+    }
+
+    @Test
+    public void testDocumentIsReused() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:expensive");
+        mock.expectedMessageCount(1);
+        mock.expectedHeaderReceived("title", "Camel in Action");
+        getMockEndpoint("mock:cheap").expectedMessageCount(0);
+        getMockEndpoint("mock:average").expectedMessageCount(0);
+
+        template.sendBody("direct:start", new File("src/test/resources/expensive.json"));
+
+        assertMockEndpointsSatisfied();
+
+        // the document is parsed once from the body and reused by the other expressions
+        Exchange exchange = mock.getReceivedExchanges().get(0);
+        JsonPathEngine.ParsedDocument parsed = exchange.getIn().getHeader("document", JsonPathEngine.ParsedDocument.class);
+        assertNotNull(parsed);
+        assertNotNull(parsed.getDocument());
+        // the document is not kept as an exchange property
+        assertTrue(exchange.getProperties().values().stream().noneMatch(JsonPathEngine.ParsedDocument.class::isInstance));
+    }
+
+    @Test
+    public void testDocumentIsParsedAgainWhenBodyChanges() throws Exception {
+        MockEndpoint after = getMockEndpoint("mock:after");
+        after.expectedHeaderReceived("before", "red");
+        after.expectedHeaderReceived("after", "blue");
+
+        template.sendBody("direct:change", context.getTypeConverter().convertTo(String.class, new File("src/test/resources/expensive.json")));
+
+        assertMockEndpointsSatisfied();
+
+        // the document parsed from the json before the body was changed is not kept
+        JsonPathEngine.ParsedDocument parsed = after.getReceivedExchanges().get(0).getIn().getHeader("document", JsonPathEngine.ParsedDocument.class);
+        assertNotNull(parsed);
+        assertEquals("blue", JsonPath.read(parsed.getDocument(), "$.store.bicycle.color"));
+    }
+
+    @Test
+    public void testDocumentIsNotReusedByAnotherExchange() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:expensive");
+        mock.expectedMessageCount(2);
+
+        String body = context.getTypeConverter().convertTo(String.class, new File("src/test/resources/expensive.json"));
+        template.sendBody("direct:start", body);
+        template.sendBody("direct:start", body);
+
+        assertMockEndpointsSatisfied();
+
+        Object first = mock.getReceivedExchanges().get(0).getIn().getHeader("document");
+        Object second = mock.getReceivedExchanges().get(1).getIn().getHeader("document");
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void testChangeResultDoesNotChangeDocument() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:mutate");
+        mock.expectedHeaderReceived("color", "red");
+
+        template.sendBody("direct:mutate", context.getTypeConverter().convertTo(String.class, new File("src/test/resources/expensive.json")));
+
+        assertMockEndpointsSatisfied();
+
+        // the document is reused, but the map read from it is a copy
+        Exchange exchange = mock.getReceivedExchanges().get(0);
+        assertEquals("green", exchange.getIn().getHeader("bicycle", Map.class).get("color"));
+        JsonPathEngine.ParsedDocument parsed = exchange.getIn().getHeader("document", JsonPathEngine.ParsedDocument.class);
+        assertNotNull(parsed);
+        assertEquals("red", JsonPath.read(parsed.getDocument(), "$.store.bicycle.color"));
+    }
+
+    @Test
+    public void testDocumentIsNotSharedByMulticast() throws Exception {
+        getMockEndpoint("mock:main").expectedHeaderReceived("color", "red");
+        getMockEndpoint("mock:a").expectedHeaderReceived("color", "red");
+        getMockEndpoint("mock:b").expectedHeaderReceived("color", "red");
+
+        template.sendBody("direct:multicast", context.getTypeConverter().convertTo(String.class, new File("src/test/resources/expensive.json")));
+
+        assertMockEndpointsSatisfied();
+
+        // each branch parses its own document, as the parsed document is not copied to the branches
+        Object main = getMockEndpoint("mock:main").getReceivedExchanges().get(0).getIn().getHeader("document");
+        Object a = getMockEndpoint("mock:a").getReceivedExchanges().get(0).getIn().getHeader("document");
+        Object b = getMockEndpoint("mock:b").getReceivedExchanges().get(0).getIn().getHeader("document");
+        assertNotNull(main);
+        assertNotNull(a);
+        assertNotNull(b);
+        assertNotSame(main, a);
+        assertNotSame(main, b);
+        assertNotSame(a, b);
+    }
+
+}
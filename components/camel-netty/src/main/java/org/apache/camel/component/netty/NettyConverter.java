@@ -34,6 +34,7 @@ import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufInputStream;
 import org.apache.camel.Converter;
 import org.apache.camel.Exchange;
+import org.apache.camel.converter.stream.ByteBufferBody;
 
 /**
  * A set of converter methods for working with Netty types
@@ -71,6 +72,17 @@ public final class NettyConverter {
         return new String(bytes, "UTF-8");
     }
 
+    /**
+     * Copies the readable content of the buffer, as the buffer is typically pooled and released
+     * by netty before the body is done being used.
+     */
+    @Converter
+    public static ByteBufferBody toByteBufferBody(ByteBuf buffer, Exchange exchange) {
+        byte[] bytes = new byte[buffer.readableBytes()];
+        buffer.getBytes(buffer.readerIndex(), bytes);
+        return ByteBufferBody.wrap(bytes);
+    }
+
     @Converter
     public static InputStream toInputStream(ByteBuf buffer, Exchange exchange) {
         return new ByteBufInputStream(buffer);
@@ -181,8 +181,10 @@ public abstract class TimeoutCorrelationManagerSupport extends ServiceSupport im
             workerPool = camelContext.getExecutorServiceManager().newDefaultThreadPool(this, "NettyTimeoutWorkerPool");
         }
 
-        map = new DefaultTimeoutMap<>(scheduledExecutorService, timeoutChecker);
-        map.addListener(this::onEviction);
+        DefaultTimeoutMap<String, NettyCamelState> timeoutMap = new DefaultTimeoutMap<>(scheduledExecutorService, timeoutChecker);
+        timeoutMap.setTimingWheel("true".equalsIgnoreCase(camelContext.getGlobalOption(DefaultTimeoutMap.TIMING_WHEEL_OPTION)));
+        timeoutMap.addListener(this::onEviction);
+        map = timeoutMap;
 
         ServiceHelper.startService(map);
     }
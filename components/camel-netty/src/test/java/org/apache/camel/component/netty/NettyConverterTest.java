@@ -18,6 +18,8 @@ package org.apache.camel.component.netty;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import org.apache.camel.converter.stream.ByteBufferBody;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.test.junit4.CamelTestSupport;
 import org.junit.After;
@@ -63,4 +65,25 @@ public class NettyConverterTest extends CamelTestSupport {
         assertEquals(PAYLOAD, result);
     }
 
+    @Test
+    public void testConversionToByteBufferBody() {
+        ByteBufferBody result = context.getTypeConverter().convertTo(ByteBufferBody.class, buf);
+        assertNotNull(result);
+        assertEquals(PAYLOAD.length(), result.length());
+        assertEquals(PAYLOAD, context.getTypeConverter().convertTo(String.class, result));
+
+        // the content is copied as the buffer is released and reused
+        buf.setByte(0, 'B');
+        assertEquals(PAYLOAD, context.getTypeConverter().convertTo(String.class, result));
+    }
+
+    @Test
+    public void testConversionToByteBufferBodyComposite() {
+        ByteBuf composite = Unpooled.wrappedBuffer(Unpooled.copiedBuffer("Test ".getBytes()), Unpooled.copiedBuffer("Message".getBytes()));
+        ByteBufferBody result = context.getTypeConverter().convertTo(ByteBufferBody.class, composite);
+        assertNotNull(result);
+        assertEquals(PAYLOAD, context.getTypeConverter().convertTo(String.class, result));
+        composite.release();
+    }
+
 }
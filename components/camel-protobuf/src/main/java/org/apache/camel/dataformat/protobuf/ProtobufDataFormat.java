@@ -20,8 +20,10 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.util.Map;
 
+import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.Message;
 import com.google.protobuf.Message.Builder;
 import com.google.protobuf.util.JsonFormat;
@@ -31,6 +33,7 @@ import org.apache.camel.CamelException;
 import org.apache.camel.Exchange;
 import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.NoTypeConversionAvailableException;
+import org.apache.camel.converter.stream.ByteBufferBody;
 import org.apache.camel.spi.DataFormat;
 import org.apache.camel.spi.DataFormatName;
 import org.apache.camel.spi.annotations.Dataformat;
@@ -168,7 +171,13 @@ public class ProtobufDataFormat extends ServiceSupport implements DataFormat, Da
         if (contentTypeFormat.equals(CONTENT_TYPE_FORMAT_JSON)) {
             JsonFormat.parser().ignoringUnknownFields().merge(new InputStreamReader(inputStream), builder);
         } else if (contentTypeFormat.equals(CONTENT_TYPE_FORMAT_NATIVE)) {
-            builder = defaultInstance.newBuilderForType().mergeFrom(inputStream);
+            ByteBuffer buffer = ByteBufferBody.remaining(inputStream);
+            if (buffer != null) {
+                // decode the buffer directly (from its array if it has one), instead of copying it through the stream
+                builder = defaultInstance.newBuilderForType().mergeFrom(CodedInputStream.newInstance(buffer));
+            } else {
+                builder = defaultInstance.newBuilderForType().mergeFrom(inputStream);
+            }
         } else {
             throw new CamelException("Invalid protobuf content type format: " + contentTypeFormat);
         }
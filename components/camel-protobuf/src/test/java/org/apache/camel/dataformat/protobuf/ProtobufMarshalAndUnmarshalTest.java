@@ -16,10 +16,13 @@
  */
 package org.apache.camel.dataformat.protobuf;
 
+import java.nio.ByteBuffer;
+
 import org.apache.camel.CamelException;
 import org.apache.camel.FailedToCreateRouteException;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.converter.stream.ByteBufferBody;
 import org.apache.camel.dataformat.protobuf.generated.AddressBookProtos;
 import org.apache.camel.dataformat.protobuf.generated.AddressBookProtos.Person;
 import org.apache.camel.test.junit4.CamelTestSupport;
@@ -58,6 +61,47 @@ public class ProtobufMarshalAndUnmarshalTest extends CamelTestSupport {
         }
     }
 
+    @Test
+    public void testUnmarshalHeapByteBufferBody() throws Exception {
+        byte[] data = marshalled();
+        // the content is in the middle of the array
+        byte[] array = new byte[data.length + 6];
+        System.arraycopy(data, 0, array, 3, data.length);
+
+        unmarshal(ByteBufferBody.wrap(array, 3, data.length));
+    }
+
+    @Test
+    public void testUnmarshalDirectByteBufferBody() throws Exception {
+        byte[] data = marshalled();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(data.length);
+        buffer.put(data);
+        buffer.flip();
+
+        ByteBufferBody body = ByteBufferBody.wrap(buffer);
+        assertTrue(body.isDirect());
+        unmarshal(body);
+    }
+
+    private byte[] marshalled() {
+        Person input = Person.newBuilder().setName("Martin").setId(1234).build();
+        return template.requestBody("direct:in", input, byte[].class);
+    }
+
+    private void unmarshal(ByteBufferBody body) throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:reverse");
+        mock.expectedMessageCount(1);
+        mock.message(0).body().isInstanceOf(Person.class);
+
+        template.sendBody("direct:back", body);
+
+        mock.assertIsSatisfied();
+
+        Person output = mock.getReceivedExchanges().get(0).getIn().getBody(Person.class);
+        assertEquals("Martin", output.getName());
+        assertEquals(1234, output.getId());
+    }
+
     private void marshalAndUnmarshal(String inURI, String outURI) throws Exception {
         AddressBookProtos.Person input = AddressBookProtos.Person.newBuilder().setName("Martin").setId(1234).build();
 
@@ -65,4 +65,23 @@ public final class StAXBuilder {
         return new StAXJAXBIteratorExpression<T>(clazzName, isNamespaceAware);
     }
 
+    /**
+     * Creates a {@link StAXXPathIteratorExpression} which returns the matched elements as XML strings.
+     *
+     * @param path the restricted XPath of the elements, such as <tt>/orders/order</tt> or <tt>//order[@type='gold']</tt>
+     */
+    public static StAXXPathIteratorExpression<String> staxXPath(String path) {
+        return new StAXXPathIteratorExpression<>(path);
+    }
+
+    /**
+     * Creates a {@link StAXXPathIteratorExpression}.
+     *
+     * @param path       the restricted XPath of the elements, such as <tt>/orders/order</tt> or <tt>//order[@type='gold']</tt>
+     * @param resultType the type of the elements, such as String, Source or a class which has JAXB annotations
+     */
+    public static <T> StAXXPathIteratorExpression<T> staxXPath(String path, Class<T> resultType) {
+        return new StAXXPathIteratorExpression<>(path, resultType);
+    }
+
 }
@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.stax;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.camel.ExpressionIllegalSyntaxException;
+
+/**
+ * A restricted XPath which can be matched against the elements of a StAX stream, while the stream is read.
+ * <p/>
+ * The path is a location path of child (<tt>/</tt>) and descendant (<tt>//</tt>) steps, starting from the root
+ * of the document, such as <tt>/orders/order</tt> or <tt>//ns:order[@type='gold']</tt>. A step is an element
+ * name, which may be prefixed by a namespace prefix or be a wildcard (<tt>*</tt> or <tt>ns:*</tt>), followed
+ * by any number of attribute predicates (<tt>[@name]</tt> or <tt>[@name='value']</tt>).
+ * As in XPath, an element name without a prefix only matches elements which are not in a namespace.
+ * <p/>
+ * The path is matched as a state, which is a bit set of the steps which have been matched by the ancestors
+ * of an element, so only the states of the ancestors must be kept while reading the stream.
+ */
+final class StAXXPath {
+
+    // the last bit is the state in which the path is matched
+    private static final int MAX_STEPS = 62;
+
+    private final String path;
+    private final Step[] steps;
+    private final long matched;
+
+    private StAXXPath(String path, Step[] steps) {
+        this.path = path;
+        this.steps = steps;
+        this.matched = 1L << steps.length;
+    }
+
+    /**
+     * Compiles the path.
+     *
+     * @param path       the path
+     * @param namespaces the namespaces of the prefixes used in the path
+     * @throws ExpressionIllegalSyntaxException if the path is not supported
+     */
+    static StAXXPath compile(String path, Map<String, String> namespaces) {
+        List<Step> steps = new ArrayList<>();
+        int pos = 0;
+        int len = path.length();
+        if (len == 0 || path.charAt(0) != '/') {
+            throw new ExpressionIllegalSyntaxException(path, new IllegalArgumentException("The path must start with / or //"));
+        }
+        while (pos < len) {
+            if (path.charAt(pos) != '/') {
+                throw new ExpressionIllegalSyntaxException(path, new IllegalArgumentException("Expected / at position " + pos));
+            }
+            pos++;
+            boolean descendant = pos < len && path.charAt(pos) == '/';
+            if (descendant) {
+                pos++;
+            }
+
+            // the name test
+            int end = pos;
+            while (end < len && path.charAt(end) != '/' && path.charAt(end) != '[') {
+                end++;
+            }
+            String name = path.substring(pos, end).trim();
+            if (name.isEmpty()) {
+                throw new ExpressionIllegalSyntaxException(path, new IllegalArgumentException("Expected an element name at position " + pos));
+            }
+            String[] qname = resolveName(path, name, namespaces, false);
+            pos = end;
+
+            // the attribute predicates
+            List<String[]> predicates = new ArrayList<>();
+            while (pos < len && path.charAt(pos) == '[') {
+                end = indexOfPredicateEnd(path, pos + 1);
+                if (end < 0) {
+                    throw new ExpressionIllegalSyntaxException(path, new IllegalArgumentException("Expected ] after position " + pos));
+                }
+                predicates.add(parsePredicate(path, path.substring(pos + 1, end).trim(), namespaces));
+                pos = end + 1;
+            }
+
+            steps.add(new Step(descendant, qname[0], qname[1], predicates.toArray(new String[0][])));
+        }
+        if (steps.size() > MAX_STEPS) {
+            throw new ExpressionIllegalSyntaxException(path, new IllegalArgumentException("The path must not have more than " + MAX_STEPS + " steps"));
+        }
+        return new StAXXPath(path, steps.toArray(new Step[0]));
+    }
+
+    private static int indexOfPredicateEnd(String path, int pos) {
+        char quote = 0;
+        for (int i = pos; i < path.length(); i++) {
+            char ch = path.charAt(i);
+            if (quote != 0) {
+                if (ch == quote) {
+                    quote = 0;
+                }
+            } else if (ch == '\'' || ch == '"') {
+                quote = ch;
+            } else if (ch == ']') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String[] parsePredicate(String path, String predicate, Map<String, String> namespaces) {
+        if (!predicate.startsWith("@")) {
+            throw new ExpressionIllegalSyntaxException(path, new IllegalArgumentException("Only attribute predicates are supported: [" + predicate + "]"));
+        }
+        int eq = predicate.indexOf('=');
+        String name = (eq < 0 ? predicate.substring(1) : predicate.substring(1, eq)).trim();
+        String value = null;
+        if (eq >= 0) {
+            value = predicate.substring(eq + 1).trim();
+            if (value.length() < 2 || (value.charAt(0) != '\'' && value.charAt(0) != '"') || value.charAt(value.length() - 1) != value.charAt(0)) {
+                throw new ExpressionIllegalSyntaxException(path, new IllegalArgumentException("Expected a quoted value: [" + predicate + "]"));
+            }
+            value = value.substring(1, value.length() - 1);
+        }
+        String[] qname = resolveName(path, name, namespaces, true);
+        return new String[]{qname[0], qname[1], value};
+    }
+
+    private static String[] resolveName(String path, String name, Map<String, String> namespaces, boolean attribute) {
+        String prefix = null;
+        String localName = name;
+        int colon = name.indexOf(':');
+        if (colon >= 0) {
+            prefix = name.substring(0, colon);
+            localName = name.substring(colon + 1);
+        }
+        if (localName.isEmpty() || (attribute && "*".equals(localName)) || (prefix == null && name.indexOf('*') > 0)) {
+            throw new ExpressionIllegalSyntaxException(path, new IllegalArgumentException("Invalid name: " + name));
+        }
+
+        String namespace = "";
+        if (prefix != null) {
+            namespace = namespaces != null ? namespaces.get(prefix) : null;
+            if (namespace == null) {
+                throw new ExpressionIllegalSyntaxException(path, new IllegalArgumentException("Unknown namespace prefix: " + prefix));
+            }
+        } else if ("*".equals(localName)) {
+            // any namespace
+            namespace = null;
+        }
+        return new String[]{namespace, "*".equals(localName) ? null : localName};
+    }
+
+    /**
+     * The state of the root of the document.
+     */
+    long initialState() {
+        return 1L;
+    }
+
+    /**
+     * The state of the current start element of the reader.
+     *
+     * @param reader      the reader, which is positioned at a start element
+     * @param parentState the state of the parent element
+     */
+    long nextState(XMLStreamReader reader, long parentState) {
+        long state = 0;
+        // the matched state is not continued, as the whole matched element is read
+        long active = parentState & ~matched;
+        while (active != 0) {
+            int i = Long.numberOfTrailingZeros(active);
+            active &= active - 1;
+            Step step = steps[i];
+            if (step.descendant) {
+                state |= 1L << i;
+            }
+            if (step.matches(reader)) {
+                state |= 1L << (i + 1);
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Whether the element with the state is matched by the path.
+     */
+    boolean isMatched(long state) {
+        return (state & matched) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    private static final class Step {
+        private final boolean descendant;
+        // null matches any namespace, and an empty string no namespace
+        private final String namespace;
+        // null matches any name
+        private final String localName;
+        // the namespace, local name and value (or null for any value) of the attributes
+        private final String[][] predicates;
+
+        Step(boolean descendant, String namespace, String localName, String[][] predicates) {
+            this.descendant = descendant;
+            this.namespace = namespace;
+            this.localName = localName;
+            this.predicates = predicates;
+        }
+
+        boolean matches(XMLStreamReader reader) {
+            if (localName != null && !localName.equals(reader.getLocalName())) {
+                return false;
+            }
+            if (namespace != null && !namespace.equals(nullToEmpty(reader.getNamespaceURI()))) {
+                return false;
+            }
+            for (String[] predicate : predicates) {
+                if (!hasAttribute(reader, predicate[0], predicate[1], predicate[2])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean hasAttribute(XMLStreamReader reader, String namespace, String localName, String value) {
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                if (localName.equals(reader.getAttributeLocalName(i)) && namespace.equals(nullToEmpty(reader.getAttributeNamespace(i)))) {
+                    return value == null || value.equals(reader.getAttributeValue(i));
+                }
+            }
+            return false;
+        }
+
+        private static String nullToEmpty(String s) {
+            return s != null ? s : "";
+        }
+    }
+
+}
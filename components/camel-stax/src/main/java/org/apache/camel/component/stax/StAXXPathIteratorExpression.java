@@ -0,0 +1,481 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.stax;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.InvalidPayloadException;
+import org.apache.camel.NoTypeConversionAvailableException;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.support.ExpressionAdapter;
+import org.apache.camel.support.LRUCacheFactory;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+
+/**
+ * {@link org.apache.camel.Expression} to walk a {@link org.apache.camel.Message} body
+ * using an {@link Iterator}, which uses StAX to walk in streaming mode, and returns the elements
+ * which are matched by a restricted XPath.
+ * <p/>
+ * The supported XPath is a location path of child and descendant steps with element names, wildcards
+ * and attribute predicates, such as <tt>/orders/order</tt> or <tt>//ns:order[@type='gold']</tt>.
+ * The elements which are matched are returned as XML strings, which declare the namespaces inherited
+ * from the ancestors of the element, or are converted to the given type. If the type has JAXB annotations
+ * then the elements are bound to the type using JAXB.
+ * <p/>
+ * Only the matched element and the names of its ancestors are kept in memory, so the memory used does not
+ * depend on the size of the document. An element inside a matched element is not returned by itself,
+ * as it is a part of the matched element.
+ */
+public class StAXXPathIteratorExpression<T> extends ExpressionAdapter {
+    private static final Map<Class<?>, JAXBContext> JAX_CONTEXTS = LRUCacheFactory.newLRUSoftCache(1000);
+
+    private final String path;
+    private final Class<T> resultType;
+    private final Map<String, String> namespaces = new HashMap<>();
+    private volatile StAXXPath xpath;
+
+    /**
+     * Creates this expression which returns the matched elements as XML strings.
+     *
+     * @param path the restricted XPath of the elements
+     */
+    @SuppressWarnings("unchecked")
+    public StAXXPathIteratorExpression(String path) {
+        this(path, (Class<T>) String.class);
+    }
+
+    /**
+     * Creates this expression.
+     *
+     * @param path       the restricted XPath of the elements
+     * @param resultType the type of the elements, such as String, Source or a class which has JAXB annotations
+     */
+    public StAXXPathIteratorExpression(String path, Class<T> resultType) {
+        ObjectHelper.notNull(path, "path");
+        ObjectHelper.notNull(resultType, "resultType");
+        this.path = path;
+        this.resultType = resultType;
+    }
+
+    /**
+     * Registers the namespace prefix which is used in the path.
+     *
+     * @param prefix the namespace prefix
+     * @param uri    the namespace URI
+     * @return the current expression
+     */
+    public StAXXPathIteratorExpression<T> namespace(String prefix, String uri) {
+        namespaces.put(prefix, uri);
+        xpath = null;
+        return this;
+    }
+
+    /**
+     * Registers the namespace prefixes which are used in the path.
+     *
+     * @param namespaces the namespace URIs keyed by the namespace prefixes
+     * @return the current expression
+     */
+    public StAXXPathIteratorExpression<T> namespaces(Map<String, String> namespaces) {
+        this.namespaces.putAll(namespaces);
+        xpath = null;
+        return this;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public Class<T> getResultType() {
+        return resultType;
+    }
+
+    public Map<String, String> getNamespaces() {
+        return namespaces;
+    }
+
+    private StAXXPath getXPath() {
+        StAXXPath answer = xpath;
+        if (answer == null) {
+            answer = StAXXPath.compile(path, namespaces);
+            xpath = answer;
+        }
+        return answer;
+    }
+
+    private static JAXBContext jaxbContext(Class<?> handled) throws JAXBException {
+        if (JAX_CONTEXTS.containsKey(handled)) {
+            return JAX_CONTEXTS.get(handled);
+        }
+
+        JAXBContext context;
+        synchronized (JAX_CONTEXTS) {
+            context = JAXBContext.newInstance(handled);
+            JAX_CONTEXTS.put(handled, context);
+        }
+        return context;
+    }
+
+    @Override
+    public Object evaluate(Exchange exchange) {
+        StAXXPath matcher = getXPath();
+        try {
+            InputStream inputStream = null;
+            XMLStreamReader reader = exchange.getContext().getTypeConverter().tryConvertTo(XMLStreamReader.class, exchange, exchange.getIn().getBody());
+            if (reader == null) {
+                inputStream = exchange.getIn().getMandatoryBody(InputStream.class);
+                XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+                xmlInputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+                xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+                xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+                reader = xmlInputFactory.createXMLStreamReader(inputStream);
+            }
+
+            Unmarshaller unmarshaller = null;
+            if (resultType.isAnnotationPresent(XmlRootElement.class) || resultType.isAnnotationPresent(XmlType.class)) {
+                // unmarshaller is not thread safe so we need to create a new instance per iterator
+                unmarshaller = jaxbContext(resultType).createUnmarshaller();
+            }
+            return new StAXXPathIterator<>(exchange, matcher, reader, inputStream, resultType, unmarshaller);
+        } catch (InvalidPayloadException e) {
+            exchange.setException(e);
+            return null;
+        } catch (JAXBException e) {
+            exchange.setException(e);
+            return null;
+        } catch (XMLStreamException e) {
+            exchange.setException(e);
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "staxXPath(" + path + ")";
+    }
+
+    /**
+     * Iterator to walk the XML reader
+     */
+    static class StAXXPathIterator<T> implements Iterator<T>, Closeable {
+
+        private final Exchange exchange;
+        private final StAXXPath xpath;
+        private final XMLStreamReader reader;
+        private final InputStream inputStream;
+        private final Class<T> resultType;
+        private final Unmarshaller unmarshaller;
+        // the states of the path and the number of namespace declarations of the current element and its ancestors
+        private long[] states = new long[16];
+        private int[] marks = new int[16];
+        private int depth;
+        // the namespace declarations of the current element and its ancestors
+        private final List<String> prefixes = new ArrayList<>();
+        private final List<String> uris = new ArrayList<>();
+        // whether the reader must be advanced to the next event, or is positioned after a matched element
+        private boolean advance = true;
+        private T element;
+
+        StAXXPathIterator(Exchange exchange, StAXXPath xpath, XMLStreamReader reader, InputStream inputStream,
+                          Class<T> resultType, Unmarshaller unmarshaller) {
+            this.exchange = exchange;
+            this.xpath = xpath;
+            this.reader = reader;
+            this.inputStream = inputStream;
+            this.resultType = resultType;
+            this.unmarshaller = unmarshaller;
+            this.states[0] = xpath.initialState();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (element == null) {
+                element = getNextElement();
+            }
+            return element != null;
+        }
+
+        @Override
+        public T next() {
+            if (element == null) {
+                element = getNextElement();
+            }
+            if (element == null) {
+                throw new NoSuchElementException();
+            }
+
+            T answer = element;
+            element = null;
+            return answer;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        T getNextElement() {
+            try {
+                while (true) {
+                    int event;
+                    if (advance) {
+                        if (!reader.hasNext()) {
+                            return null;
+                        }
+                        event = reader.next();
+                    } else {
+                        event = reader.getEventType();
+                        advance = true;
+                    }
+
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        long state = xpath.nextState(reader, states[depth]);
+                        if (xpath.isMatched(state)) {
+                            T answer = readElement();
+                            // the reader is positioned at the event after the end of the element
+                            advance = false;
+                            return answer;
+                        }
+                        pushElement(state);
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        popElement();
+                    } else if (event == XMLStreamConstants.END_DOCUMENT) {
+                        return null;
+                    }
+                }
+            } catch (XMLStreamException | JAXBException | NoTypeConversionAvailableException e) {
+                throw new RuntimeCamelException(e);
+            }
+        }
+
+        private void pushElement(long state) {
+            depth++;
+            if (depth == states.length) {
+                int size = states.length * 2;
+                long[] newStates = new long[size];
+                System.arraycopy(states, 0, newStates, 0, states.length);
+                states = newStates;
+                int[] newMarks = new int[size];
+                System.arraycopy(marks, 0, newMarks, 0, marks.length);
+                marks = newMarks;
+            }
+            states[depth] = state;
+            marks[depth] = prefixes.size();
+            for (int i = 0; i < reader.getNamespaceCount(); i++) {
+                prefixes.add(nullToEmpty(reader.getNamespacePrefix(i)));
+                uris.add(nullToEmpty(reader.getNamespaceURI(i)));
+            }
+        }
+
+        private void popElement() {
+            if (depth > 0) {
+                int mark = marks[depth];
+                prefixes.subList(mark, prefixes.size()).clear();
+                uris.subList(mark, uris.size()).clear();
+                depth--;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private T readElement() throws XMLStreamException, JAXBException, NoTypeConversionAvailableException {
+            if (unmarshaller != null) {
+                return unmarshaller.unmarshal(reader, resultType).getValue();
+            }
+
+            String xml = readElementAsString();
+            if (resultType == String.class) {
+                return (T) xml;
+            }
+            return exchange.getContext().getTypeConverter().mandatoryConvertTo(resultType, exchange, xml);
+        }
+
+        private String readElementAsString() throws XMLStreamException {
+            StringBuilder sb = new StringBuilder();
+            writeStartElement(sb, inheritedNamespaces());
+            int level = 1;
+            while (level > 0) {
+                int event = reader.next();
+                switch (event) {
+                case XMLStreamConstants.START_ELEMENT:
+                    writeStartElement(sb, null);
+                    level++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    sb.append("</");
+                    appendName(sb, reader.getPrefix(), reader.getLocalName());
+                    sb.append('>');
+                    level--;
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.SPACE:
+                    appendEscaped(sb, reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength(), false);
+                    break;
+                case XMLStreamConstants.CDATA:
+                    sb.append("<![CDATA[").append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength()).append("]]>");
+                    break;
+                case XMLStreamConstants.COMMENT:
+                    sb.append("<!--").append(reader.getText()).append("-->");
+                    break;
+                case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                    sb.append("<?").append(reader.getPITarget());
+                    String data = reader.getPIData();
+                    if (data != null && !data.isEmpty()) {
+                        sb.append(' ').append(data);
+                    }
+                    sb.append("?>");
+                    break;
+                case XMLStreamConstants.ENTITY_REFERENCE:
+                    sb.append('&').append(reader.getLocalName()).append(';');
+                    break;
+                default:
+                    break;
+                }
+            }
+            // position the reader after the end of the element, as when the element is unmarshalled by JAXB
+            if (reader.hasNext()) {
+                reader.next();
+            }
+            return sb.toString();
+        }
+
+        private Map<String, String> inheritedNamespaces() {
+            Map<String, String> answer = new LinkedHashMap<>();
+            // the inner declarations override the outer declarations of the same prefix
+            for (int i = 0; i < prefixes.size(); i++) {
+                answer.put(prefixes.get(i), uris.get(i));
+            }
+            // the element declares its own namespaces
+            for (int i = 0; i < reader.getNamespaceCount(); i++) {
+                answer.remove(nullToEmpty(reader.getNamespacePrefix(i)));
+            }
+            // no need to undeclare the default namespace
+            if ("".equals(answer.get(""))) {
+                answer.remove("");
+            }
+            return answer;
+        }
+
+        private void writeStartElement(StringBuilder sb, Map<String, String> inheritedNamespaces) {
+            sb.append('<');
+            appendName(sb, reader.getPrefix(), reader.getLocalName());
+            if (inheritedNamespaces != null) {
+                for (Map.Entry<String, String> entry : inheritedNamespaces.entrySet()) {
+                    appendNamespace(sb, entry.getKey(), entry.getValue());
+                }
+            }
+            for (int i = 0; i < reader.getNamespaceCount(); i++) {
+                appendNamespace(sb, nullToEmpty(reader.getNamespacePrefix(i)), nullToEmpty(reader.getNamespaceURI(i)));
+            }
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                sb.append(' ');
+                appendName(sb, reader.getAttributePrefix(i), reader.getAttributeLocalName(i));
+                sb.append("=\"");
+                String value = reader.getAttributeValue(i);
+                appendEscaped(sb, value.toCharArray(), 0, value.length(), true);
+                sb.append('"');
+            }
+            sb.append('>');
+        }
+
+        private static void appendNamespace(StringBuilder sb, String prefix, String uri) {
+            sb.append(" xmlns");
+            if (!prefix.isEmpty()) {
+                sb.append(':').append(prefix);
+            }
+            sb.append("=\"");
+            appendEscaped(sb, uri.toCharArray(), 0, uri.length(), true);
+            sb.append('"');
+        }
+
+        private static void appendName(StringBuilder sb, String prefix, String localName) {
+            if (prefix != null && !prefix.isEmpty()) {
+                sb.append(prefix).append(':');
+            }
+            sb.append(localName);
+        }
+
+        private static void appendEscaped(StringBuilder sb, char[] text, int start, int length, boolean attribute) {
+            for (int i = start; i < start + length; i++) {
+                char ch = text[i];
+                switch (ch) {
+                case '&':
+                    sb.append("&amp;");
+                    break;
+                case '<':
+                    sb.append("&lt;");
+                    break;
+                case '>':
+                    sb.append("&gt;");
+                    break;
+                case '"':
+                    sb.append(attribute ? "&quot;" : "\"");
+                    break;
+                case '\n':
+                    sb.append(attribute ? "&#10;" : "\n");
+                    break;
+                case '\r':
+                    sb.append("&#13;");
+                    break;
+                case '\t':
+                    sb.append(attribute ? "&#9;" : "\t");
+                    break;
+                default:
+                    sb.append(ch);
+                    break;
+                }
+            }
+        }
+
+        private static String nullToEmpty(String s) {
+            return s != null ? s : "";
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (inputStream != null) {
+                IOHelper.close(inputStream);
+            }
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.stax;
+
+import java.util.List;
+
+import javax.xml.transform.Source;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.ExpressionIllegalSyntaxException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.component.stax.model.Order;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.junit.Test;
+
+import static org.apache.camel.component.stax.StAXBuilder.staxXPath;
+
+public class StAXXPathIteratorExpressionTest extends CamelTestSupport {
+
+    private static final String ORDERS = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+        + "<o:orders xmlns:o=\"urn:orders\" xmlns=\"urn:default\">\n"
+        + "  <o:order type=\"gold\" id=\"1\"><item>A &amp; B</item><note><![CDATA[<b>x</b>]]></note></o:order>\n"
+        + "  <o:order type=\"silver\" id=\"2\"><item>C</item></o:order>\n"
+        + "  <group><o:order type=\"gold\" id=\"3\" xmlns:x=\"urn:x\"><x:item x:code=\"a&quot;b\"/></o:order></group>\n"
+        + "</o:orders>";
+
+    private static final String PLAIN_ORDERS = "<orders>"
+        + "<order><id>1</id><amount>3</amount><customerId>333</customerId><description>tiny</description></order>"
+        + "<order><id>2</id><amount>44</amount><customerId>444</customerId><description>small</description></order>"
+        + "</orders>";
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:gold")
+                    .split(staxXPath("//o:order[@type='gold']").namespace("o", "urn:orders")).streaming()
+                        .to("mock:result");
+
+                from("direct:items")
+                    .split(staxXPath("/*/o:order/*").namespace("o", "urn:orders")).streaming()
+                        .to("mock:result");
+
+                from("direct:jaxb")
+                    .split(staxXPath("/orders/order", Order.class)).streaming()
+                        .to("mock:result");
+
+                from("direct:source")
+                    .split(staxXPath("/orders/order", Source.class)).streaming()
+                        .to("mock:result");
+            }
+        };
+    }
+
+    @Test
+    public void testSplitWithNamespaces() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(2);
+
+        template.sendBody("direct:gold", ORDERS);
+
+        assertMockEndpointsSatisfied();
+
+        List<Exchange> exchanges = mock.getReceivedExchanges();
+        String first = exchanges.get(0).getIn().getBody(String.class);
+        assertTrue(first, first.startsWith("<o:order xmlns:o=\"urn:orders\" xmlns=\"urn:default\" type=\"gold\" id=\"1\"><item>A &amp; B</item><note>"));
+        // the CDATA section may be reported as text by the StAX implementation
+        assertTrue(first, first.endsWith("<note><![CDATA[<b>x</b>]]></note></o:order>") || first.endsWith("<note>&lt;b&gt;x&lt;/b&gt;</note></o:order>"));
+
+        assertEquals("<o:order xmlns:o=\"urn:orders\" xmlns=\"urn:default\" xmlns:x=\"urn:x\" type=\"gold\" id=\"3\">"
+            + "<x:item x:code=\"a&quot;b\"></x:item></o:order>", exchanges.get(1).getIn().getBody(String.class));
+    }
+
+    @Test
+    public void testSplitWildcard() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("<item xmlns:o=\"urn:orders\" xmlns=\"urn:default\">C</item>",
+            "<o:note xmlns:o=\"urn:orders\" xmlns=\"urn:default\">n</o:note>");
+
+        template.sendBody("direct:items", "<o:orders xmlns:o=\"urn:orders\" xmlns=\"urn:default\">"
+            + "<o:order id=\"2\"><item>C</item><o:note>n</o:note></o:order>"
+            + "<group><o:order><item>D</item></o:order></group></o:orders>");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testSplitJaxb() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(2);
+        mock.allMessages().body().isInstanceOf(Order.class);
+
+        template.sendBody("direct:jaxb", PLAIN_ORDERS);
+
+        assertMockEndpointsSatisfied();
+
+        Order order = mock.getReceivedExchanges().get(1).getIn().getBody(Order.class);
+        assertEquals("2", order.getId());
+        assertEquals(44, order.getAmount());
+    }
+
+    @Test
+    public void testSplitSource() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(2);
+        mock.allMessages().body().isInstanceOf(Source.class);
+
+        template.sendBody("direct:source", PLAIN_ORDERS);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testInvalidPath() throws Exception {
+        try {
+            StAXXPath.compile("orders/order", null);
+            fail("Should have thrown an exception");
+        } catch (ExpressionIllegalSyntaxException e) {
+            // expected
+        }
+        try {
+            StAXXPath.compile("/orders/order[1]", null);
+            fail("Should have thrown an exception");
+        } catch (ExpressionIllegalSyntaxException e) {
+            // expected
+        }
+        try {
+            StAXXPath.compile("/o:orders", null);
+            fail("Should have thrown an exception");
+        } catch (ExpressionIllegalSyntaxException e) {
+            // expected
+        }
+    }
+
+}
@@ -29,6 +29,7 @@ import org.apache.camel.Processor;
 import org.apache.camel.StartupListener;
 import org.apache.camel.Suspendable;
 import org.apache.camel.support.DefaultConsumer;
+import org.apache.camel.support.SynchronizationAdapter;
 
 /**
  * The timer consumer.
@@ -174,7 +175,7 @@ public class TimerConsumer extends DefaultConsumer implements StartupListener, S
     }
 
     protected void sendTimerExchange(long counter) {
-        final Exchange exchange = endpoint.createExchange();
+        final Exchange exchange = createExchange();
         exchange.setProperty(Exchange.TIMER_COUNTER, counter);
         exchange.setProperty(Exchange.TIMER_NAME, endpoint.getTimerName());
         exchange.setProperty(Exchange.TIMER_TIME, endpoint.getTime());
@@ -189,12 +190,23 @@ public class TimerConsumer extends DefaultConsumer implements StartupListener, S
             log.trace("Timer {} is firing #{} count", endpoint.getTimerName(), counter);
         }
 
+        // a pooled exchange is released when its unit of work is done, so any exception must be handled before that
+        final boolean pooled = getExchangeFactory() != null;
+        if (pooled) {
+            exchange.addOnCompletion(new SynchronizationAdapter() {
+                @Override
+                public void onFailure(Exchange exchange) {
+                    getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
+                }
+            });
+        }
+
         if (!endpoint.isSynchronous()) {
             getAsyncProcessor().process(exchange, new AsyncCallback() {
                 @Override
                 public void done(boolean doneSync) {
                     // handle any thrown exception
-                    if (exchange.getException() != null) {
+                    if (!pooled && exchange.getException() != null) {
                         getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
                     }
                 }
@@ -203,11 +215,15 @@ public class TimerConsumer extends DefaultConsumer implements StartupListener, S
             try {
                 getProcessor().process(exchange);
             } catch (Exception e) {
-                exchange.setException(e);
+                if (pooled) {
+                    getExceptionHandler().handleException("Error processing exchange", e);
+                } else {
+                    exchange.setException(e);
+                }
             }
 
             // handle any thrown exception
-            if (exchange.getException() != null) {
+            if (!pooled && exchange.getException() != null) {
                 getExceptionHandler().handleException("Error processing exchange", exchange, exchange.getException());
             }
         }
@@ -117,6 +117,16 @@ public class XsltSaxonEndpoint extends XsltEndpoint {
         this.allowStAX = allowStAX;
     }
 
+    @Override
+    protected String getTemplatesCacheKey(String resourceUri) {
+        if (saxonConfiguration != null || (saxonConfigurationProperties != null && !saxonConfigurationProperties.isEmpty())
+                || (saxonExtensionFunctions != null && !saxonExtensionFunctions.isEmpty())) {
+            // a custom configured saxon factory may compile the stylesheet differently
+            return null;
+        }
+        return super.getTemplatesCacheKey(resourceUri);
+    }
+
     @Override
     protected void doStart() throws Exception {
         // the processor is the xslt builder
@@ -23,8 +23,6 @@ import java.net.URL;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 
 import javax.xml.transform.ErrorListener;
 import javax.xml.transform.Result;
@@ -64,8 +62,9 @@ public class XsltBuilder implements Processor {
     protected static final Logger LOG = LoggerFactory.getLogger(XsltBuilder.class);
     private Map<String, Object> parameters = new HashMap<>();
     private XMLConverterHelper converter = new XMLConverterHelper();
-    private Templates template;
-    private volatile BlockingQueue<Transformer> transformers;
+    private volatile Templates template;
+    private volatile XsltTransformerPool transformerPool;
+    private int transformerCacheSize;
     private volatile SourceHandlerFactory sourceHandlerFactory;
     private ResultHandlerFactory resultHandlerFactory = new StringResultHandlerFactory();
     private boolean failOnNullBody = true;
@@ -98,7 +97,9 @@ public class XsltBuilder implements Processor {
             exchange.addOnCompletion(new XsltBuilderOnCompletion(fileName));
         }
 
-        Transformer transformer = getTransformer();
+        // the pool is set after the template, so the transformers of the pool are always created from the same template
+        XsltTransformerPool pool = transformerPool;
+        Transformer transformer = getTransformer(pool);
         configureTransformer(transformer, exchange);
 
         ResultHandler resultHandler = resultHandlerFactory.createResult(exchange);
@@ -123,7 +124,7 @@ public class XsltBuilder implements Processor {
             LOG.trace("Transform complete with result {}", result);
             resultHandler.setBody(out);
         } finally {
-            releaseTransformer(transformer);
+            releaseTransformer(pool, transformer);
             // IOHelper can handle if is is null
             IOHelper.close(is);
         }
@@ -244,10 +245,11 @@ public class XsltBuilder implements Processor {
      * @param numberToCache  the maximum number of transformers to cache
      */
     public XsltBuilder transformerCacheSize(int numberToCache) {
+        transformerCacheSize = numberToCache;
         if (numberToCache > 0) {
-            transformers = new ArrayBlockingQueue<>(numberToCache);
+            transformerPool = new XsltTransformerPool(numberToCache);
         } else {
-            transformers = null;
+            transformerPool = null;
         }
         return this;
     }
@@ -273,15 +275,29 @@ public class XsltBuilder implements Processor {
 
     public void setTemplate(Templates template) {
         this.template = template;
-        if (transformers != null) {
-            transformers.clear();
+        if (transformerCacheSize > 0) {
+            // the transformers of the previous template cannot be reused
+            transformerPool = new XsltTransformerPool(transformerCacheSize);
         }
     }
-    
+
+    /**
+     * Sets the template together with a pool of transformers created from the template, which can be shared with
+     * other builders using the same template.
+     */
+    public void setTemplate(Templates template, XsltTransformerPool transformerPool) {
+        this.template = template;
+        this.transformerPool = transformerPool;
+    }
+
     public Templates getTemplate() {
         return template;
     }
 
+    public int getTransformerCacheSize() {
+        return transformerCacheSize;
+    }
+
     public boolean isFailOnNullBody() {
         return failOnNullBody;
     }
@@ -327,6 +343,17 @@ public class XsltBuilder implements Processor {
      * @throws TransformerConfigurationException is thrown if creating a XSLT transformer failed.
      */
     public void setTransformerSource(Source source) throws TransformerConfigurationException {
+        setTemplate(createTemplates(source, getUriResolver()));
+    }
+
+    /**
+     * Compiles the XSLT template from a Source
+     *
+     * @param source  the source
+     * @param uriResolver  the resolver for the included and imported stylesheets, or <tt>null</tt> to use the default
+     * @throws TransformerConfigurationException is thrown if creating a XSLT template failed.
+     */
+    public Templates createTemplates(Source source, URIResolver uriResolver) throws TransformerConfigurationException {
         TransformerFactory factory = converter.getTransformerFactory();
         if (errorListener != null) {
             factory.setErrorListener(errorListener);
@@ -334,21 +361,28 @@ public class XsltBuilder implements Processor {
             // use a logger error listener so users can see from the logs what the error may be
             factory.setErrorListener(new XsltErrorListener());
         }
-        if (getUriResolver() != null) {
-            factory.setURIResolver(getUriResolver());
+        if (uriResolver != null) {
+            factory.setURIResolver(uriResolver);
         }
 
         // Check that the call to newTemplates() returns a valid template instance.
         // In case of an xslt parse error, it will return null and we should stop the
         // deployment and raise an exception as the route will not be setup properly.
-        Templates templates = factory.newTemplates(source);
-        if (templates != null) {
-            setTemplate(templates);
-        } else {
+        Templates templates;
+        try {
+            templates = factory.newTemplates(source);
+        } finally {
+            // do not keep a reference to a resolver used for this stylesheet only
+            if (uriResolver != getUriResolver() && getUriResolver() != null) {
+                factory.setURIResolver(getUriResolver());
+            }
+        }
+        if (templates == null) {
             throw new TransformerConfigurationException("Error creating XSLT template. "
                     + "This is most likely be caused by a XML parse error. "
                     + "Please verify your XSLT file configured.");
         }
+        return templates;
     }
 
     /**
@@ -408,17 +442,17 @@ public class XsltBuilder implements Processor {
         this.converter.setTransformerFactory(transformerFactory);
     }
 
-    private void releaseTransformer(Transformer transformer) {
-        if (transformers != null) {
+    private void releaseTransformer(XsltTransformerPool pool, Transformer transformer) {
+        if (pool != null) {
             transformer.reset();
-            transformers.offer(transformer);
+            pool.offer(transformer);
         }
     }
 
-    private Transformer getTransformer() throws Exception {
-        Transformer t = null; 
-        if (transformers != null) {
-            t = transformers.poll();
+    private Transformer getTransformer(XsltTransformerPool pool) throws Exception {
+        Transformer t = null;
+        if (pool != null) {
+            t = pool.poll();
         }
         if (t == null) {
             t = createTransformer();
@@ -25,6 +25,7 @@ import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.annotations.Component;
 import org.apache.camel.support.DefaultComponent;
 import org.apache.camel.support.ResourceHelper;
+import org.apache.camel.support.service.ServiceHelper;
 
 /**
  * The <a href="http://camel.apache.org/xslt.html">XSLT Component</a> is for performing XSLT transformations of messages
@@ -42,6 +43,9 @@ public class XsltComponent extends DefaultComponent {
     private TransformerFactoryConfigurationStrategy transformerFactoryConfigurationStrategy;
     @Metadata(label = "advanced")
     private String transformerFactoryClass;
+    @Metadata(label = "advanced", defaultValue = "100")
+    private int templatesCacheSize = 100;
+    private XsltTemplatesCache templatesCache;
 
     public XsltComponent() {
     }
@@ -104,6 +108,48 @@ public class XsltComponent extends DefaultComponent {
         this.transformerFactoryClass = transformerFactoryClass;
     }
 
+    public int getTemplatesCacheSize() {
+        return templatesCacheSize;
+    }
+
+    /**
+     * The maximum number of compiled stylesheets which are cached and shared by the endpoints of this component.
+     * A cached stylesheet is only compiled again when its content has changed, such as when the content cache
+     * is disabled and the stylesheet file is edited. Setting the value to 0 disables the cache.
+     */
+    public void setTemplatesCacheSize(int templatesCacheSize) {
+        this.templatesCacheSize = templatesCacheSize;
+    }
+
+    /**
+     * Gets the cache of compiled stylesheets, or <tt>null</tt> if the cache is disabled.
+     */
+    public XsltTemplatesCache getTemplatesCache() {
+        return templatesCache;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        if (templatesCacheSize > 0 && templatesCache == null) {
+            templatesCache = new XsltTemplatesCache(templatesCacheSize);
+            // add as service so the cache is managed and its statistics can be seen over JMX
+            getCamelContext().addService(templatesCache, true, true);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (templatesCache != null) {
+            getCamelContext().removeService(templatesCache);
+            ServiceHelper.stopService(templatesCache);
+            templatesCache = null;
+        }
+
+        super.doStop();
+    }
+
     @Override
     protected Endpoint createEndpoint(String uri, final String remaining, Map<String, Object> parameters) throws Exception {
         XsltEndpoint endpoint = createXsltEndpoint(uri);
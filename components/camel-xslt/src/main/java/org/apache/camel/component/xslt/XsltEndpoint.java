@@ -311,16 +311,47 @@ public class XsltEndpoint extends ProcessorEndpoint {
      */
     protected void loadResource(String resourceUri, XsltBuilder xslt) throws TransformerException, IOException {
         log.trace("{} loading schema resource: {}", this, resourceUri);
-        Source source = xslt.getUriResolver().resolve(resourceUri, null);
-        if (source == null) {
-            throw new IOException("Cannot load schema resource " + resourceUri);
+        XsltTemplatesCache cache = getComponent() instanceof XsltComponent ? ((XsltComponent) getComponent()).getTemplatesCache() : null;
+        String key = cache != null ? getTemplatesCacheKey(resourceUri) : null;
+        if (key != null) {
+            if (cacheCleared) {
+                cache.invalidate(key);
+            }
+            // the stylesheet is only compiled if its content has changed
+            cache.loadTemplates(key, resourceUri, xslt);
         } else {
-            xslt.setTransformerSource(source);
+            Source source = xslt.getUriResolver().resolve(resourceUri, null);
+            if (source == null) {
+                throw new IOException("Cannot load schema resource " + resourceUri);
+            } else {
+                xslt.setTransformerSource(source);
+            }
         }
         // now loaded so clear flag
         cacheCleared = false;
     }
 
+    /**
+     * Gets the key of the stylesheet in the templates cache of the component.
+     *
+     * @param resourceUri  the stylesheet
+     * @return the key, or <tt>null</tt> if the compiled stylesheet cannot be shared with other endpoints
+     */
+    protected String getTemplatesCacheKey(String resourceUri) {
+        XsltComponent component = (XsltComponent) getComponent();
+        if (transformerFactory != null || transformerFactoryConfigurationStrategy != null
+                || component.getTransformerFactoryConfigurationStrategy() != null) {
+            // a custom configured transformer factory may compile the stylesheet differently
+            return null;
+        }
+        if (uriResolver == null || uriResolver.getClass() != XsltUriResolver.class) {
+            // a custom uri resolver may resolve the stylesheet and its includes differently per instance
+            return null;
+        }
+        String factoryClass = transformerFactoryClass != null ? transformerFactoryClass : component.getTransformerFactoryClass();
+        return (factoryClass != null ? factoryClass : "") + ":" + resourceUri;
+    }
+
     @Override
     protected void doStart() throws Exception {
         super.doStart();
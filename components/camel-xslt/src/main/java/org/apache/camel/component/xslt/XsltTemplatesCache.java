@@ -0,0 +1,334 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.xslt;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.URIResolver;
+import javax.xml.transform.stream.StreamSource;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.support.LRUCacheFactory;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * A cache of compiled XSLT {@link Templates} which are shared by the endpoints of a XSLT component.
+ * <p/>
+ * The templates are keyed by the stylesheet resource, and the cache remembers a digest of the content of the
+ * stylesheet and of the stylesheets it includes or imports. When a stylesheet is loaded again, such as on each
+ * message when the content cache is disabled, then the stylesheet is only compiled again if its content has changed.
+ * Each cached template has a pool of transformers which is shared by the endpoints using the template.
+ */
+@ManagedResource(description = "Managed XSLT Templates Cache")
+public class XsltTemplatesCache extends ServiceSupport {
+
+    private final int maximumCacheSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder reloads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private Map<String, Entry> cache;
+
+    public XsltTemplatesCache(int maximumCacheSize) {
+        this.maximumCacheSize = maximumCacheSize;
+    }
+
+    /**
+     * Loads the compiled template of the stylesheet into the builder, compiling the stylesheet if it is not cached
+     * or its content has changed.
+     *
+     * @param key          the cache key of the stylesheet
+     * @param resourceUri  the stylesheet to load, which is resolved using the uri resolver of the builder
+     * @param xslt         the builder
+     * @throws TransformerException is thrown if error compiling the stylesheet
+     * @throws IOException is thrown if error loading the stylesheet
+     */
+    public void loadTemplates(String key, String resourceUri, XsltBuilder xslt) throws TransformerException, IOException {
+        Entry entry;
+        synchronized (this) {
+            entry = cache.get(key);
+            if (entry == null) {
+                entry = new Entry();
+                cache.put(key, entry);
+            }
+        }
+
+        synchronized (entry) {
+            try {
+                if (entry.templates == null) {
+                    misses.increment();
+                    compile(entry, resourceUri, resolve(xslt.getUriResolver(), resourceUri, null), xslt);
+                } else if (!entry.trackable) {
+                    // we cannot tell whether the content has changed so we must compile again
+                    reloads.increment();
+                    compile(entry, resourceUri, resolve(xslt.getUriResolver(), resourceUri, null), xslt);
+                } else {
+                    Source source = resolve(xslt.getUriResolver(), resourceUri, null);
+                    ContentDigest digest = new ContentDigest();
+                    source = digest.update(source);
+                    boolean changed = source == null;
+                    for (int i = 0; !changed && i < entry.dependencies.size(); i++) {
+                        String[] dependency = entry.dependencies.get(i);
+                        changed = digest.update(resolve(xslt.getUriResolver(), dependency[0], dependency[1])) == null;
+                    }
+                    if (changed || !Arrays.equals(digest.digest(), entry.digest)) {
+                        log.debug("Stylesheet {} has changed and is compiled again", resourceUri);
+                        reloads.increment();
+                        compile(entry, resourceUri, source != null ? source : resolve(xslt.getUriResolver(), resourceUri, null), xslt);
+                    } else {
+                        hits.increment();
+                    }
+                }
+            } catch (TransformerException | IOException | RuntimeException e) {
+                entry.templates = null;
+                synchronized (this) {
+                    cache.remove(key, entry);
+                }
+                throw e;
+            }
+
+            if (xslt.getTransformerCacheSize() > entry.transformers.getMaximumSize()) {
+                entry.transformers.setMaximumSize(xslt.getTransformerCacheSize());
+            }
+            xslt.setTemplate(entry.templates, xslt.getTransformerCacheSize() > 0 ? entry.transformers : null);
+        }
+    }
+
+    private void compile(Entry entry, String resourceUri, Source source, XsltBuilder xslt) throws TransformerException, IOException {
+        ContentDigest digest = new ContentDigest();
+        Source digested = digest.update(source);
+        RecordingUriResolver recorder = new RecordingUriResolver(xslt.getUriResolver(), digest);
+
+        Templates templates = xslt.createTemplates(digested != null ? digested : source, recorder);
+
+        entry.templates = templates;
+        entry.digest = digest.digest();
+        entry.dependencies = recorder.dependencies;
+        entry.trackable = digested != null && recorder.trackable;
+        // the transformers of the previous template cannot be reused
+        entry.transformers = new XsltTransformerPool(Math.max(entry.transformers.getMaximumSize(), xslt.getTransformerCacheSize()));
+    }
+
+    private static Source resolve(URIResolver resolver, String href, String base) throws TransformerException, IOException {
+        Source source = resolver.resolve(href, base);
+        if (source == null) {
+            throw new IOException("Cannot load schema resource " + href);
+        }
+        return source;
+    }
+
+    /**
+     * Removes the template of the stylesheet from the cache, so it is compiled again when it is loaded next time.
+     */
+    @ManagedOperation(description = "Removes the template of the given cache key from the cache")
+    public synchronized void invalidate(String key) {
+        cache.remove(key);
+    }
+
+    @ManagedOperation(description = "Clears the cache")
+    public synchronized void clear() {
+        cache.clear();
+    }
+
+    @ManagedOperation(description = "Resets the cache statistics")
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        reloads.reset();
+        evictions.reset();
+    }
+
+    @ManagedAttribute(description = "Number of cached templates")
+    public synchronized int getSize() {
+        return cache != null ? cache.size() : 0;
+    }
+
+    @ManagedAttribute(description = "Maximum number of cached templates")
+    public int getMaximumCacheSize() {
+        return maximumCacheSize;
+    }
+
+    @ManagedAttribute(description = "Number of pooled transformers of the cached templates")
+    public synchronized int getPooledTransformers() {
+        int answer = 0;
+        if (cache != null) {
+            for (Entry entry : cache.values()) {
+                answer += entry.transformers.size();
+            }
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of times a cached template was used as the stylesheet was unchanged")
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @ManagedAttribute(description = "Number of times a stylesheet was compiled as it was not cached")
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @ManagedAttribute(description = "Number of times a cached stylesheet was compiled again as its content has changed")
+    public long getReloads() {
+        return reloads.sum();
+    }
+
+    @ManagedAttribute(description = "Number of templates evicted from the cache")
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (cache == null) {
+            cache = LRUCacheFactory.newLRUCache(maximumCacheSize, this::onEvict);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        clear();
+    }
+
+    private void onEvict(Entry entry) {
+        evictions.increment();
+        entry.transformers.clear();
+    }
+
+    private static final class Entry {
+        private volatile Templates templates;
+        private byte[] digest;
+        private List<String[]> dependencies;
+        private boolean trackable;
+        private XsltTransformerPool transformers = new XsltTransformerPool(0);
+    }
+
+    /**
+     * Digests the content of the stylesheets, which are read into memory so they can be compiled afterwards.
+     */
+    private static final class ContentDigest {
+        private final MessageDigest digest;
+
+        private ContentDigest() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Digests the content of the source.
+         *
+         * @return a source with the same content, or <tt>null</tt> if the content of the source cannot be read
+         */
+        private Source update(Source source) throws IOException {
+            if (!(source instanceof StreamSource)) {
+                return null;
+            }
+            StreamSource stream = (StreamSource) source;
+            StreamSource answer;
+            if (stream.getInputStream() != null) {
+                InputStream is = stream.getInputStream();
+                ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                try {
+                    IOHelper.copy(is, bos);
+                } finally {
+                    IOHelper.close(is);
+                }
+                byte[] data = bos.toByteArray();
+                digest.update(data);
+                answer = new StreamSource(new ByteArrayInputStream(data), stream.getSystemId());
+            } else if (stream.getReader() != null) {
+                Reader reader = stream.getReader();
+                String data;
+                try {
+                    data = IOHelper.toString(reader);
+                } finally {
+                    IOHelper.close(reader);
+                }
+                digest.update(data.getBytes(StandardCharsets.UTF_8));
+                answer = new StreamSource(new StringReader(data), stream.getSystemId());
+            } else {
+                return null;
+            }
+            answer.setPublicId(stream.getPublicId());
+            return answer;
+        }
+
+        private byte[] digest() {
+            return digest.digest();
+        }
+    }
+
+    /**
+     * Records and digests the stylesheets which are included or imported while compiling a stylesheet.
+     */
+    private static final class RecordingUriResolver implements URIResolver {
+        private final URIResolver delegate;
+        private final ContentDigest digest;
+        private final List<String[]> dependencies = new ArrayList<>();
+        private boolean trackable = true;
+
+        private RecordingUriResolver(URIResolver delegate, ContentDigest digest) {
+            this.delegate = delegate;
+            this.digest = digest;
+        }
+
+        @Override
+        public Source resolve(String href, String base) throws TransformerException {
+            Source source = delegate != null ? delegate.resolve(href, base) : null;
+            if (source == null) {
+                // resolved by the transformer factory itself
+                trackable = false;
+                return null;
+            }
+            try {
+                Source digested = digest.update(source);
+                if (digested == null) {
+                    trackable = false;
+                    return source;
+                }
+                dependencies.add(new String[] {href, base});
+                return digested;
+            } catch (IOException e) {
+                throw new TransformerException(e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.xslt;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.transform.Transformer;
+
+/**
+ * A pool of {@link Transformer}s which are created from the same {@link javax.xml.transform.Templates}.
+ * <p/>
+ * The pool grows with the number of concurrent transformations, up to its maximum size. The most recently returned
+ * transformer is reused first, so when there are fewer concurrent transformations the surplus transformers stay idle,
+ * and they are discarded once they have been idle for longer than the idle timeout, when a transformer is taken from or
+ * returned to the pool.
+ */
+public class XsltTransformerPool {
+
+    public static final long DEFAULT_IDLE_TIMEOUT = 60000;
+
+    private final Deque<PooledTransformer> transformers = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final long idleTimeout;
+    private volatile int maximumSize;
+
+    public XsltTransformerPool(int maximumSize) {
+        this(maximumSize, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    public XsltTransformerPool(int maximumSize, long idleTimeout) {
+        this.maximumSize = maximumSize;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Takes the most recently returned transformer from the pool.
+     *
+     * @return the transformer, or <tt>null</tt> if the pool is empty
+     */
+    public Transformer poll() {
+        evictIdle(System.currentTimeMillis());
+
+        PooledTransformer pooled = transformers.pollFirst();
+        if (pooled == null) {
+            return null;
+        }
+        size.decrementAndGet();
+        return pooled.transformer;
+    }
+
+    /**
+     * Returns a transformer, which has been reset, to the pool.
+     *
+     * @return <tt>true</tt> if the transformer was pooled, or <tt>false</tt> if the pool is full
+     */
+    public boolean offer(Transformer transformer) {
+        long now = System.currentTimeMillis();
+        evictIdle(now);
+
+        if (size.incrementAndGet() > maximumSize) {
+            size.decrementAndGet();
+            return false;
+        }
+        transformers.offerFirst(new PooledTransformer(transformer, now));
+        return true;
+    }
+
+    private void evictIdle(long now) {
+        // the least recently returned transformers are last
+        PooledTransformer eldest;
+        while ((eldest = transformers.peekLast()) != null && now - eldest.returned > idleTimeout) {
+            if (transformers.removeLastOccurrence(eldest)) {
+                size.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Discards all the pooled transformers.
+     */
+    public void clear() {
+        while (poll() != null) {
+            // discard
+        }
+    }
+
+    /**
+     * Number of transformers in the pool.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Sets the maximum number of transformers in the pool.
+     */
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    private static final class PooledTransformer {
+        private final Transformer transformer;
+        private final long returned;
+
+        private PooledTransformer(Transformer transformer, long returned) {
+            this.transformer = transformer;
+            this.returned = returned;
+        }
+    }
+
+}
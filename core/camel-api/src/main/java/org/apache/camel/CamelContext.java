@@ -1129,6 +1129,24 @@ public interface CamelContext extends StatefulService, RuntimeConfiguration {
      */
     void setLoadTypeConverters(Boolean loadTypeConverters);
 
+    /**
+     * Whether to create and warm up the routes in parallel when starting.
+     * This can speedup starting CamelContext with many routes.
+     * The routes which have a startup order are still warmed up in that order,
+     * and the route consumers are started one by one as usual, when all the routes have been warmed up.
+     */
+    Boolean isParallelRouteStartup();
+
+    /**
+     * Whether to create and warm up the routes in parallel when starting.
+     * This can speedup starting CamelContext with many routes.
+     * The routes which have a startup order are still warmed up in that order,
+     * and the route consumers are started one by one as usual, when all the routes have been warmed up.
+     *
+     * @param parallelRouteStartup whether to create and warm up the routes in parallel.
+     */
+    void setParallelRouteStartup(Boolean parallelRouteStartup);
+
     /**
      * Whether or not type converter statistics is enabled.
      * <p/>
@@ -67,6 +67,21 @@ public interface Route extends EndpointAware {
      */
     long getUptimeMillis();
 
+    /**
+     * Gets the time it took to create the route from its model, when the route was added
+     *
+     * @return the time in milliseconds, or <tt>0</tt> if not known
+     */
+    long getCreationDuration();
+
+    /**
+     * Gets the time it took to warm up the route, which is to start its services except its consumer,
+     * when the route was started
+     *
+     * @return the time in milliseconds, or <tt>0</tt> if not known
+     */
+    long getWarmUpDuration();
+
     /**
      * Gets the inbound {@link Consumer}
      *
@@ -54,4 +54,14 @@ public interface CamelInternalProcessorAdvice<T> {
         return true;
     }
 
+    /**
+     * Whether this advice has any work to do in the {@link #after(org.apache.camel.Exchange, Object)} method.
+     * <p/>
+     * Advices which return <tt>false</tt> are not called after processing, which allows the routing engine
+     * to skip the callback entirely when none of the advices need to be called after processing.
+     */
+    default boolean hasAfter() {
+        return true;
+    }
+
 }
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+/**
+ * A {@link UuidGenerator} which can generate the unique ids in a compact form, which is only formatted
+ * as a String when the id is needed.
+ * <p/>
+ * This allows the exchange ids to be reserved when the exchanges are created, without the cost of
+ * formatting the ids of the exchanges whose ids are never read.
+ */
+public interface CompactUuidGenerator extends UuidGenerator {
+
+    /**
+     * Generates a unique id in the compact form.
+     *
+     * @return the unique id, which is a positive number
+     */
+    long generateCompactUuid();
+
+    /**
+     * Formats the unique id in the compact form as a UUID string representation.
+     *
+     * @param compactUuid the unique id in the compact form
+     * @return the unique id
+     */
+    String formatUuid(long compactUuid);
+
+    @Override
+    default String generateUuid() {
+        return formatUuid(generateCompactUuid());
+    }
+}
@@ -80,4 +80,68 @@ public interface EndpointRegistry<K> extends Map<K, Endpoint>, StaticService {
      */
     void cleanUp();
 
+    /**
+     * Gets the endpoint which has been resolved from the given uri, as the uri was given to
+     * {@link org.apache.camel.CamelContext#getEndpoint(String)} after resolving property placeholders,
+     * but before normalizing the uri.
+     *
+     * @param uri  the uri
+     * @return the endpoint, or <tt>null</tt> if the uri has not been resolved, or the endpoint is no longer in the registry
+     */
+    default Endpoint getResolvedEndpoint(String uri) {
+        return null;
+    }
+
+    /**
+     * Gets the key which the given uri has been resolved to, which is kept when the endpoint is no longer
+     * in the registry, so the uri does not have to be normalized again.
+     *
+     * @param uri  the uri
+     * @return the key, or <tt>null</tt> if the uri has not been resolved
+     */
+    default K getResolvedKey(String uri) {
+        return null;
+    }
+
+    /**
+     * Caches the key and endpoint which has been resolved from the given uri, so the uri does not have to be
+     * resolved again while the endpoint is in the registry.
+     *
+     * @param uri       the uri as given to {@link org.apache.camel.CamelContext#getEndpoint(String)} after resolving
+     *                  property placeholders
+     * @param key       the key of the endpoint in this registry
+     * @param endpoint  the endpoint, or <tt>null</tt> to only cache the key
+     */
+    default void putResolvedEndpoint(String uri, K key, Endpoint endpoint) {
+        // noop
+    }
+
+    /**
+     * Number of uris in the cache of resolved endpoints
+     */
+    default int resolvedSize() {
+        return 0;
+    }
+
+    /**
+     * Number of times an endpoint was found in the cache of resolved endpoints
+     */
+    default long getResolvedHits() {
+        return 0;
+    }
+
+    /**
+     * Number of times an endpoint was not found in the cache of resolved endpoints
+     */
+    default long getResolvedMisses() {
+        return 0;
+    }
+
+    /**
+     * Number of uris which has been evicted from the cache of resolved endpoints due its maximum size
+     */
+    default long getResolvedEvicted() {
+        return 0;
+    }
+
 }
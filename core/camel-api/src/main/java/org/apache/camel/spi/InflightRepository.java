@@ -134,6 +134,22 @@ public interface InflightRepository extends StaticService {
      */
     int size(String routeId);
 
+    /**
+     * Whether the inflight repository should allow browsing each inflight exchange.
+     * <p/>
+     * This is by default enabled as it would otherwise only be possible to get the size of the inflight exchanges.
+     * When disabled the inflight repository only counts the exchanges, and does not keep the exchanges.
+     */
+    boolean isInflightBrowseEnabled();
+
+    /**
+     * Whether the inflight repository should allow browsing each inflight exchange.
+     * <p/>
+     * This is by default enabled as it would otherwise only be possible to get the size of the inflight exchanges.
+     * When disabled the inflight repository only counts the exchanges, and does not keep the exchanges.
+     */
+    void setInflightBrowseEnabled(boolean inflightBrowseEnabled);
+
     /**
      * A <i>read-only</i> browser of the {@link InflightExchange}s that are currently inflight.
      */
@@ -107,6 +107,32 @@ public interface ProducerCache extends Service {
      */
     int getCapacity();
 
+    /**
+     * Gets the cache hits statistic (the producer was acquired from the cache)
+     *
+     * @return the hits
+     */
+    long getHits();
+
+    /**
+     * Gets the cache misses statistic (a new producer was created)
+     *
+     * @return the misses
+     */
+    long getMisses();
+
+    /**
+     * Gets the cache evicted statistic (producers evicted as the cache was full)
+     *
+     * @return the evicted
+     */
+    long getEvicted();
+
+    /**
+     * Resets the cache statistics
+     */
+    void resetCacheStatistics();
+
     /**
      * Purges this cache
      */
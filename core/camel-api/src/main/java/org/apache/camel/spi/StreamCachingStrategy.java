@@ -27,6 +27,8 @@ import org.apache.camel.StreamCache;
  */
 public interface StreamCachingStrategy extends StaticService {
 
+    long DEFAULT_SPOOL_OFF_HEAP_ARENA_SIZE = 64 * 1024 * 1024;
+
     /**
      * Utilization statistics of stream caching.
      */
@@ -62,6 +64,27 @@ public interface StreamCachingStrategy extends StaticService {
          */
         long getCacheSpoolAverageSize();
 
+        /**
+         * Gets the counter for number of spooled {@link StreamCache} which has overflowed the off-heap arena
+         * to a memory mapped file.
+         */
+        long getCacheMappedCounter();
+
+        /**
+         * Gets the total accumulated number of bytes which has overflowed the off-heap arena to memory mapped files.
+         */
+        long getCacheMappedSize();
+
+        /**
+         * Gets the number of bytes of the off-heap arena which is currently in use by spooled stream caches.
+         */
+        long getOffHeapArenaUsedSize();
+
+        /**
+         * Gets the highest number of bytes of the off-heap arena which has been in use by spooled stream caches.
+         */
+        long getOffHeapArenaMaxUsedSize();
+
         /**
          * Reset the counters
          */
@@ -173,6 +196,27 @@ public interface StreamCachingStrategy extends StaticService {
 
     String getSpoolCipher();
 
+    /**
+     * Sets whether to spool to a bounded off-heap arena of direct buffers instead of a temporary file.
+     * When the arena is full then the cache overflows to a memory mapped file in the spool directory.
+     * The spooled cache is shared (not copied) by the copies of the cache, such as in the multicast EIP.
+     * <p/>
+     * The off-heap arena is not in use when a spool cipher has been configured.
+     * This option is default <tt>false</tt>
+     */
+    void setSpoolOffHeap(boolean spoolOffHeap);
+
+    boolean isSpoolOffHeap();
+
+    /**
+     * Sets the size in bytes of the off-heap arena which is used when {@link #setSpoolOffHeap(boolean)} is enabled.
+     * <p/>
+     * The default size is {@link #DEFAULT_SPOOL_OFF_HEAP_ARENA_SIZE} bytes (eg 64mb).
+     */
+    void setSpoolOffHeapArenaSize(long size);
+
+    long getSpoolOffHeapArenaSize();
+
     /**
      * Whether to remove the temporary directory when stopping.
      * <p/>
@@ -187,6 +187,16 @@ public interface UnitOfWork extends Service {
      */
     RouteContext popRouteContext();
 
+    /**
+     * Whether the unit of work should call the before/after process methods or not.
+     * <p/>
+     * When <tt>false</tt> the routing engine can skip calling {@link #beforeProcess(Processor, Exchange, AsyncCallback)}
+     * and {@link #afterProcess(Processor, Exchange, AsyncCallback, boolean)} which avoids scheduling a task per step in the route.
+     */
+    default boolean isBeforeAfterProcess() {
+        return true;
+    }
+
     /**
      * Strategy for optional work to be execute before processing
      * <p/>
@@ -22,9 +22,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 
 import org.apache.camel.Converter;
 import org.apache.camel.Exchange;
+import org.apache.camel.converter.stream.ByteBufferBody;
+import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.util.IOHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -146,4 +149,45 @@ public final class NIOConverter {
         return IOConverter.toInputStream(toByteArray(bufferbuffer));
     }
 
+    @Converter
+    public static ByteBufferBody toByteBufferBody(ByteBuffer buffer) {
+        return ByteBufferBody.wrap(buffer);
+    }
+
+    @Converter
+    public static ByteBufferBody toByteBufferBody(byte[] data) {
+        return ByteBufferBody.wrap(data);
+    }
+
+    @Converter
+    public static ByteBufferBody toByteBufferBody(File file) throws IOException {
+        // map the file instead of reading it onto the heap
+        return ByteBufferBody.map(file);
+    }
+
+    @Converter
+    public static ByteBufferBody toByteBufferBody(InputStream stream) throws IOException {
+        return ByteBufferBody.wrap(IOConverter.toBytes(stream));
+    }
+
+    @Converter
+    public static ByteBuffer toByteBuffer(ByteBufferBody body) {
+        return body.getBuffer();
+    }
+
+    @Converter
+    public static byte[] toByteArray(ByteBufferBody body) {
+        return body.toByteArray();
+    }
+
+    @Converter
+    public static InputStream toInputStream(ByteBufferBody body) {
+        return body.newInputStream();
+    }
+
+    @Converter
+    public static String toString(ByteBufferBody body, Exchange exchange) {
+        return body.toString(Charset.forName(ExchangeHelper.getCharsetName(exchange)));
+    }
+
 }
@@ -28,10 +28,14 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
@@ -41,6 +45,7 @@ import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.NoFactoryAvailableException;
 import org.apache.camel.NoTypeConversionAvailableException;
+import org.apache.camel.Processor;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.TypeConversionException;
 import org.apache.camel.TypeConverter;
@@ -80,6 +85,10 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
     protected final DoubleMap<Class<?>, Class<?>, TypeConverter> typeMappings = new DoubleMap<>(200);
     protected final List<TypeConverterLoader> typeConverterLoaders = new ArrayList<>();
     protected final List<FallbackTypeConverter> fallbackConverters = new CopyOnWriteArrayList<>();
+    // the (to, from) types which has been looked up without finding a type converter
+    protected final DoubleMap<Class<?>, Class<?>, Boolean> lookupMisses = new DoubleMap<>(16);
+    // the fallback type converters which can convert from a given type (in the order they are tried)
+    protected final ConcurrentMap<Class<?>, FallbackTypeConverter[]> fallbackConvertersByType = new ConcurrentHashMap<>();
     protected CamelContext camelContext;
     protected PackageScanClassResolver resolver;
     protected Injector injector;
@@ -92,6 +101,11 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
     protected final LongAdder missCounter = new LongAdder();
     protected final LongAdder hitCounter = new LongAdder();
     protected final LongAdder failedCounter = new LongAdder();
+    // guards clearing the lookup misses and the fallback type converters by type, and storing entries into them,
+    // so an entry from a lookup which started before a type converter was added is not stored after being cleared
+    private final Object lookupLock = new Object();
+    // incremented when the lookup misses or the fallback type converters by type are cleared
+    private volatile long lookupVersion;
 
     public BaseTypeConverterRegistry(CamelContext camelContext, PackageScanClassResolver resolver, Injector injector, FactoryFinder factoryFinder) {
         this.camelContext = camelContext;
@@ -292,7 +306,7 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
         }
 
         // fallback converters
-        for (FallbackTypeConverter fallback : fallbackConverters) {
+        for (FallbackTypeConverter fallback : getFallbackTypeConverters(value.getClass())) {
             TypeConverter tc = fallback.getFallbackTypeConverter();
             Object rc;
             if (tryConvert) {
@@ -369,6 +383,8 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
 
             if (add) {
                 typeMappings.put(toType, fromType, typeConverter);
+                // the new converter may be found for types which could not be converted before
+                clearLookupMisses();
             }
         }
     }
@@ -388,7 +404,10 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
     @Override
     public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
         log.trace("Removing type converter from: {} to: {}", fromType, toType);
-        return typeMappings.remove(toType, fromType);
+        boolean answer = typeMappings.remove(toType, fromType);
+        // the converters of super types may have been cached for derived types
+        clearLookupMisses();
+        return answer;
     }
 
     @Override
@@ -397,7 +416,8 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
 
         // add in top of fallback as the toString() fallback will nearly always be able to convert
         // the last one which is add to the FallbackTypeConverter will be called at the first place
-        fallbackConverters.add(0, new FallbackTypeConverter(typeConverter, canPromote));
+        fallbackConverters.add(0, new FallbackTypeConverter(typeConverter, canPromote, null));
+        clearLookupMisses();
 
         if (typeConverter instanceof CamelContextAware) {
             CamelContextAware camelContextAware = (CamelContextAware) typeConverter;
@@ -407,12 +427,13 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
         }
     }
 
-    private void addCoreFallbackTypeConverterToList(TypeConverter typeConverter, boolean canPromote, List<FallbackTypeConverter> converters) {
+    private void addCoreFallbackTypeConverterToList(TypeConverter typeConverter, boolean canPromote, Predicate<Class<?>> fromTypes,
+                                                    List<FallbackTypeConverter> converters) {
         log.trace("Adding core fallback type converter: {} which can promote: {}", typeConverter, canPromote);
 
         // add in top of fallback as the toString() fallback will nearly always be able to convert
         // the last one which is add to the FallbackTypeConverter will be called at the first place
-        converters.add(0, new FallbackTypeConverter(typeConverter, canPromote));
+        converters.add(0, new FallbackTypeConverter(typeConverter, canPromote, fromTypes));
 
         if (typeConverter instanceof CamelContextAware) {
             CamelContextAware camelContextAware = (CamelContextAware) typeConverter;
@@ -426,6 +447,39 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
         return typeMappings.get(toType, fromType);
     }
 
+    /**
+     * Gets the fallback type converters which can convert from the given type, in the order they should be tried.
+     * The fallback type converters are indexed by the type, so they are only filtered the first time.
+     */
+    protected FallbackTypeConverter[] getFallbackTypeConverters(Class<?> fromType) {
+        FallbackTypeConverter[] answer = fallbackConvertersByType.get(fromType);
+        if (answer == null) {
+            long version = lookupVersion;
+            answer = fallbackConverters.stream()
+                    .filter(f -> f.canConvertFrom(fromType))
+                    .toArray(FallbackTypeConverter[]::new);
+            synchronized (lookupLock) {
+                // do not store the converters if a fallback type converter has been added in the meantime
+                if (version == lookupVersion) {
+                    fallbackConvertersByType.put(fromType, answer);
+                }
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Clears the lookup misses and the fallback type converters by type, which must be done when type converters
+     * are added or removed.
+     */
+    protected void clearLookupMisses() {
+        synchronized (lookupLock) {
+            lookupVersion++;
+            lookupMisses.clear();
+            fallbackConvertersByType.clear();
+        }
+    }
+
     @Override
     public Injector getInjector() {
         return injector;
@@ -442,11 +496,20 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
 
     protected <T> TypeConverter getOrFindTypeConverter(Class<?> toType, Class<?> fromType) {
         TypeConverter converter = typeMappings.get(toType, fromType);
-        if (converter == null) {
+        if (converter == null && lookupMisses.get(toType, fromType) == null) {
+            long version = lookupVersion;
             // converter not found, try to lookup then
             converter = lookup(toType, fromType);
             if (converter != null) {
                 typeMappings.put(toType, fromType, converter);
+            } else {
+                synchronized (lookupLock) {
+                    // remember the lookup found nothing, so the super types are not scanned again,
+                    // unless a type converter has been added or removed while looking up
+                    if (version == lookupVersion) {
+                        lookupMisses.put(toType, fromType, Boolean.TRUE);
+                    }
+                }
             }
         }
         return converter;
@@ -710,18 +773,20 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
         // add to string first as it will then be last in the last as to string can nearly
         // always convert something to a string so we want it only as the last resort
         // ToStringTypeConverter should NOT allow to be promoted
-        addCoreFallbackTypeConverterToList(new ToStringTypeConverter(), false, fallbacks);
+        addCoreFallbackTypeConverterToList(new ToStringTypeConverter(), false, null, fallbacks);
         // enum is okay to be promoted
-        addCoreFallbackTypeConverterToList(new EnumTypeConverter(), true, fallbacks);
-        // arrays is okay to be promoted
-        addCoreFallbackTypeConverterToList(new ArrayTypeConverter(), true, fallbacks);
+        addCoreFallbackTypeConverterToList(new EnumTypeConverter(), true, null, fallbacks);
+        // arrays is okay to be promoted (and can only convert from arrays and collections)
+        addCoreFallbackTypeConverterToList(new ArrayTypeConverter(), true,
+            type -> type.isArray() || Collection.class.isAssignableFrom(type), fallbacks);
         // and future should also not allowed to be promoted
-        addCoreFallbackTypeConverterToList(new FutureTypeConverter(this), false, fallbacks);
+        addCoreFallbackTypeConverterToList(new FutureTypeConverter(this), false, Future.class::isAssignableFrom, fallbacks);
         // add sync processor to async processor converter is to be promoted
-        addCoreFallbackTypeConverterToList(new AsyncProcessorTypeConverter(), true, fallbacks);
+        addCoreFallbackTypeConverterToList(new AsyncProcessorTypeConverter(), true, Processor.class::isAssignableFrom, fallbacks);
 
         // add all core fallback converters at once which is faster (profiler)
         fallbackConverters.addAll(fallbacks);
+        clearLookupMisses();
     }
 
     protected void initTypeConverterLoaders() {
@@ -751,6 +816,7 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
         }
 
         typeMappings.clear();
+        clearLookupMisses();
         statistics.reset();
     }
 
@@ -818,10 +884,20 @@ public abstract class BaseTypeConverterRegistry extends ServiceSupport implement
     protected static class FallbackTypeConverter {
         private final boolean canPromote;
         private final TypeConverter fallbackTypeConverter;
+        private final Predicate<Class<?>> fromTypes;
 
-        FallbackTypeConverter(TypeConverter fallbackTypeConverter, boolean canPromote) {
+        FallbackTypeConverter(TypeConverter fallbackTypeConverter, boolean canPromote, Predicate<Class<?>> fromTypes) {
             this.canPromote = canPromote;
             this.fallbackTypeConverter = fallbackTypeConverter;
+            this.fromTypes = fromTypes;
+        }
+
+        /**
+         * Whether the fallback type converter can convert from the given type (fallback type converters which
+         * does not declare the types they can convert from are always tried)
+         */
+        public boolean canConvertFrom(Class<?> fromType) {
+            return fromTypes == null || fromTypes.test(fromType);
         }
 
         public boolean isCanPromote() {
@@ -34,8 +34,12 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -203,6 +207,7 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
     private Boolean streamCache = Boolean.FALSE;
     private Boolean disableJMX = Boolean.FALSE;
     private Boolean loadTypeConverters = Boolean.TRUE;
+    private Boolean parallelRouteStartup = Boolean.FALSE;
     private Boolean typeConverterStatisticsEnabled = Boolean.FALSE;
     private Boolean useMDCLogging = Boolean.FALSE;
     private String mdcLoggingKeysPattern;
@@ -263,6 +268,14 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
     private volatile TransformerRegistry<TransformerKey> transformerRegistry;
     private volatile ValidatorRegistry<ValidatorKey> validatorRegistry;
     private EndpointRegistry<EndpointKey> endpoints;
+    // the endpoints which are being added, so threads creating the same endpoint use the endpoint added first
+    private final Map<EndpointKey, CompletableFuture<Endpoint>> addingEndpoints = new ConcurrentHashMap<>();
+    private final ThreadLocal<Set<EndpointKey>> endpointsInCreation = new ThreadLocal<Set<EndpointKey>>() {
+        @Override
+        public Set<EndpointKey> initialValue() {
+            return new HashSet<>();
+        }
+    };
     private RuntimeEndpointRegistry runtimeEndpointRegistry;
 
     private final List<RouteStartupOrder> routeStartupOrder = new ArrayList<>();
@@ -712,11 +725,17 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
             throw new ResolveEndpointFailedException(uri, e);
         }
 
+        // use the endpoint which has been resolved from the same uri before, if its still in the registry
+        Endpoint resolved = endpoints.getResolvedEndpoint(uri);
+        if (resolved != null) {
+            return resolved;
+        }
+
         final String rawUri = uri;
 
         // normalize uri so we can do endpoint hits with minor mistakes and
         // parameters is not in the same order
-        uri = normalizeEndpointUri(uri);
+        uri = getNormalizedEndpointUri(uri);
 
         log.trace("Getting endpoint with raw uri: {}, normalized uri: {}", rawUri, uri);
 
@@ -786,8 +805,7 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
                 }
 
                 if (answer != null) {
-                    addService(answer);
-                    answer = addEndpointToRegistry(uri, answer);
+                    answer = addCreatedEndpoint(key, uri, answer);
                 }
             } catch (Exception e) {
                 throw new ResolveEndpointFailedException(uri, e);
@@ -799,6 +817,11 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
             throw new ResolveEndpointFailedException(uri, "No component found with scheme: " + scheme);
         }
 
+        // a non singleton endpoint is a new instance each time
+        if (answer != null && answer.isSingleton()) {
+            endpoints.putResolvedEndpoint(rawUri, key, answer);
+        }
+
         return answer;
     }
 
@@ -822,7 +845,7 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
 
         // normalize uri so we can do endpoint hits with minor mistakes and
         // parameters is not in the same order
-        uri = normalizeEndpointUri(uri);
+        uri = getNormalizedEndpointUri(uri);
 
         log.trace("Getting endpoint with raw uri: {}, normalized uri: {}", rawUri, uri);
 
@@ -892,8 +915,7 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
                 }
 
                 if (answer != null) {
-                    addService(answer);
-                    answer = addEndpointToRegistry(uri, answer);
+                    answer = addCreatedEndpoint(key, uri, answer);
                 }
             } catch (Exception e) {
                 throw new ResolveEndpointFailedException(uri, e);
@@ -960,6 +982,52 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
         return endpoint;
     }
 
+    /**
+     * Adds the endpoint which has just been created, unless the same endpoint has been created and
+     * added by another thread meanwhile, such as when the routes are created in parallel, in which
+     * case that endpoint is used instead.
+     */
+    private Endpoint addCreatedEndpoint(EndpointKey key, String uri, Endpoint endpoint) throws Exception {
+        Set<EndpointKey> inCreation = endpointsInCreation.get();
+        if (!endpoint.isSingleton() || inCreation.contains(key)) {
+            // this thread is already adding the same endpoint (such as when the endpoint gets itself while starting)
+            // so it cannot wait for itself
+            addService(endpoint);
+            return addEndpointToRegistry(uri, endpoint);
+        }
+
+        CompletableFuture<Endpoint> adding = new CompletableFuture<>();
+        CompletableFuture<Endpoint> existing = addingEndpoints.putIfAbsent(key, adding);
+        if (existing != null) {
+            // another thread is adding the same endpoint, so wait for it to be started
+            try {
+                return existing.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof Exception) {
+                    throw (Exception) e.getCause();
+                }
+                throw RuntimeCamelException.wrapRuntimeCamelException(e.getCause());
+            }
+        }
+        inCreation.add(key);
+        try {
+            Endpoint answer = endpoints.get(key);
+            if (answer == null) {
+                // only the thread adding this endpoint starts it, so other endpoints can be started meanwhile
+                addService(endpoint);
+                answer = addEndpointToRegistry(uri, endpoint);
+            }
+            adding.complete(answer);
+            return answer;
+        } catch (Exception e) {
+            adding.completeExceptionally(e);
+            throw e;
+        } finally {
+            inCreation.remove(key);
+            addingEndpoints.remove(key, adding);
+        }
+    }
+
     /**
      * Normalize uri so we can do endpoint hits with minor mistakes and
      * parameters is not in the same order.
@@ -977,6 +1045,27 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
         return uri;
     }
 
+    /**
+     * Normalize uri using the keys of the recently resolved uris in the endpoint
+     * registry, as dynamic endpoints (such as toD or recipient list) normalizes
+     * the same uris over and over again.
+     *
+     * @param uri the uri
+     * @return normalized uri
+     * @throws ResolveEndpointFailedException if uri cannot be normalized
+     */
+    protected String getNormalizedEndpointUri(String uri) {
+        if (uri == null) {
+            return normalizeEndpointUri(uri);
+        }
+        EndpointKey key = endpoints.getResolvedKey(uri);
+        if (key == null) {
+            key = new EndpointKey(normalizeEndpointUri(uri), true);
+            endpoints.putResolvedEndpoint(uri, key, null);
+        }
+        return key.get();
+    }
+
     /**
      * Gets the endpoint key to use for lookup or whe adding endpoints to the
      * {@link DefaultEndpointRegistry}
@@ -985,7 +1074,7 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
      * @return the key
      */
     protected EndpointKey getEndpointKey(String uri) {
-        return new EndpointKey(uri);
+        return new EndpointKey(getNormalizedEndpointUri(uri), true);
     }
 
     /**
@@ -1012,7 +1101,7 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
             int counter = endpointKeyCounter.incrementAndGet();
             return new EndpointKey(uri + ":" + counter);
         } else {
-            return new EndpointKey(uri);
+            return new EndpointKey(getNormalizedEndpointUri(uri), true);
         }
     }
 
@@ -3103,26 +3192,104 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
         return true;
     }
 
-    private void doWarmUpRoutes(Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup) throws FailedToStartRouteException {
+    private void doWarmUpRoutes(Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup) throws Exception {
         // now prepare the routes by starting its services before we start the
         // input
+        // the routes which have a startup order are warmed up one by one in that order,
+        // and the routes in between which have no startup order are independent of each
+        // other, so they can be warmed up together
+        List<ThrowingRunnable<Exception>> tasks = new ArrayList<>();
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
-            // defer starting inputs till later as we want to prepare the routes
-            // by starting
-            // all their processors and child services etc.
-            // then later we open the floods to Camel by starting the inputs
-            // what this does is to ensure Camel is more robust on starting
-            // routes as all routes
-            // will then be prepared in time before we start inputs which will
-            // consume messages to be routed
             BaseRouteService routeService = entry.getValue().getRouteService();
-            try {
-                log.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
-                setupRoute.set(routeService.getRoute());
-                routeService.warmUp();
-            } finally {
-                setupRoute.remove();
+            ThrowingRunnable<Exception> task = () -> doWarmUpRoute(routeService, autoStartup);
+            if (routeService.getStartupOrder() != null) {
+                runRouteStartupTasks(tasks);
+                tasks.clear();
+                task.run();
+            } else {
+                tasks.add(task);
+            }
+        }
+        runRouteStartupTasks(tasks);
+    }
+
+    private void doWarmUpRoute(BaseRouteService routeService, boolean autoStartup) throws FailedToStartRouteException {
+        // defer starting inputs till later as we want to prepare the routes
+        // by starting
+        // all their processors and child services etc.
+        // then later we open the floods to Camel by starting the inputs
+        // what this does is to ensure Camel is more robust on starting
+        // routes as all routes
+        // will then be prepared in time before we start inputs which will
+        // consume messages to be routed
+        try {
+            log.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
+            setupRoute.set(routeService.getRoute());
+            routeService.warmUp();
+        } finally {
+            setupRoute.remove();
+        }
+    }
+
+    /**
+     * Runs the given tasks, which each prepare a route to be started, and waits for all of them to complete.
+     * <p/>
+     * When parallel route startup is enabled, the tasks are run in parallel by a thread pool, with the same
+     * setup and starting routes state as the calling thread, and the first failure is thrown when all the
+     * tasks are complete. Otherwise the tasks are run one by one by the calling thread.
+     *
+     * @param tasks the tasks
+     * @throws Exception is thrown if a task failed
+     * @see #isParallelRouteStartup()
+     */
+    public void runRouteStartupTasks(List<ThrowingRunnable<Exception>> tasks) throws Exception {
+        if (!isParallelRouteStartup() || tasks.size() < 2) {
+            for (ThrowingRunnable<Exception> task : tasks) {
+                task.run();
+            }
+            return;
+        }
+
+        final boolean setup = isSetupRoutes();
+        final boolean starting = isStartingRoutes();
+        int poolSize = Math.min(tasks.size(), Math.max(2, Runtime.getRuntime().availableProcessors()));
+        ExecutorService executor = getExecutorServiceManager().newFixedThreadPool(this, "RouteStartup", poolSize);
+        try {
+            List<Future<Void>> futures = new ArrayList<>(tasks.size());
+            for (ThrowingRunnable<Exception> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    if (setup) {
+                        setupRoutes(false);
+                    }
+                    setStartingRoutes(starting);
+                    try {
+                        task.run();
+                    } finally {
+                        setupRoutes(true);
+                        setStartingRoutes(false);
+                    }
+                    return null;
+                }));
+            }
+
+            // wait for all the tasks, so no route is still being prepared if we fail
+            Throwable cause = null;
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (cause == null) {
+                        cause = e.getCause();
+                    }
+                }
             }
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            } else if (cause != null) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(cause);
+            }
+        } finally {
+            getExecutorServiceManager().shutdown(executor);
         }
     }
 
@@ -3662,6 +3829,16 @@ public abstract class AbstractCamelContext extends ServiceSupport implements Ext
         this.loadTypeConverters = loadTypeConverters;
     }
 
+    @Override
+    public Boolean isParallelRouteStartup() {
+        return parallelRouteStartup != null && parallelRouteStartup;
+    }
+
+    @Override
+    public void setParallelRouteStartup(Boolean parallelRouteStartup) {
+        this.parallelRouteStartup = parallelRouteStartup;
+    }
+
     @Override
     public Boolean isTypeConverterStatisticsEnabled() {
         return typeConverterStatisticsEnabled != null && typeConverterStatisticsEnabled;
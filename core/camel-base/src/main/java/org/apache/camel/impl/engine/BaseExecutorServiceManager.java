@@ -45,6 +45,7 @@ import org.apache.camel.util.StringHelper;
 import org.apache.camel.util.TimeUtils;
 import org.apache.camel.util.URISupport;
 import org.apache.camel.util.concurrent.CamelThreadFactory;
+import org.apache.camel.util.concurrent.CamelVirtualThreadFactory;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
 import org.apache.camel.util.concurrent.ThreadHelper;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
@@ -55,6 +56,12 @@ import org.slf4j.LoggerFactory;
  * Base {@link org.apache.camel.spi.ExecutorServiceManager} which can be used for implementations
  */
 public abstract class BaseExecutorServiceManager extends ServiceSupport implements ExecutorServiceManager {
+
+    /**
+     * Id of the thread pool profile using virtual threads, which is registered when the JDK supports virtual threads.
+     */
+    public static final String VIRTUAL_THREAD_POOL_PROFILE = "virtualThreadPoolProfile";
+
     private static final Logger LOG = LoggerFactory.getLogger(BaseExecutorServiceManager.class);
 
     private final CamelContext camelContext;
@@ -65,6 +72,7 @@ public abstract class BaseExecutorServiceManager extends ServiceSupport implemen
     private String defaultThreadPoolProfileId = "defaultThreadPoolProfile";
     private final Map<String, ThreadPoolProfile> threadPoolProfiles = new ConcurrentHashMap<>();
     private ThreadPoolProfile defaultProfile;
+    private volatile boolean virtualThreadsUnsupportedLogged;
 
     public BaseExecutorServiceManager(CamelContext camelContext) {
         this.camelContext = camelContext;
@@ -80,6 +88,19 @@ public abstract class BaseExecutorServiceManager extends ServiceSupport implemen
         defaultProfile.setRejectedPolicy(ThreadPoolRejectedPolicy.CallerRuns);
 
         registerThreadPoolProfile(defaultProfile);
+
+        if (CamelVirtualThreadFactory.isSupported()) {
+            ThreadPoolProfile virtualProfile = new ThreadPoolProfile(VIRTUAL_THREAD_POOL_PROFILE);
+            virtualProfile.setVirtualThreads(true);
+            virtualProfile.setPoolSize(0);
+            virtualProfile.setMaxPoolSize(Integer.MAX_VALUE);
+            virtualProfile.setKeepAliveTime(0L);
+            virtualProfile.setTimeUnit(TimeUnit.SECONDS);
+            virtualProfile.setMaxQueueSize(0);
+            virtualProfile.setAllowCoreThreadTimeOut(true);
+            virtualProfile.setRejectedPolicy(ThreadPoolRejectedPolicy.CallerRuns);
+            registerThreadPoolProfile(virtualProfile);
+        }
     }
 
     public CamelContext getCamelContext() {
@@ -186,7 +207,18 @@ public abstract class BaseExecutorServiceManager extends ServiceSupport implemen
         ThreadPoolProfile defaultProfile = getDefaultThreadPoolProfile();
         profile.addDefaults(defaultProfile);
 
-        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true);
+        ThreadFactory threadFactory;
+        if (isVirtualThreads(profile)) {
+            threadFactory = createVirtualThreadFactory(sanitizedName);
+        } else {
+            threadFactory = createThreadFactory(sanitizedName, true);
+            if (Boolean.TRUE.equals(profile.getVirtualThreads())) {
+                // virtual threads are not supported so let the thread pool factory create a regular pool,
+                // using a copy as the profile may be shared
+                profile = profile.clone();
+                profile.setVirtualThreads(false);
+            }
+        }
         ExecutorService executorService = threadPoolFactory.newThreadPool(profile, threadFactory);
         onThreadPoolCreated(executorService, source, profile.getId());
         if (LOG.isDebugEnabled()) {
@@ -212,7 +244,13 @@ public abstract class BaseExecutorServiceManager extends ServiceSupport implemen
     @Override
     public ExecutorService newCachedThreadPool(Object source, String name) {
         String sanitizedName = URISupport.sanitizeUri(name);
-        ExecutorService answer = threadPoolFactory.newCachedThreadPool(createThreadFactory(sanitizedName, true));
+        ThreadFactory threadFactory;
+        if (isVirtualThreads(getDefaultThreadPoolProfile())) {
+            threadFactory = createVirtualThreadFactory(sanitizedName);
+        } else {
+            threadFactory = createThreadFactory(sanitizedName, true);
+        }
+        ExecutorService answer = threadPoolFactory.newCachedThreadPool(threadFactory);
         onThreadPoolCreated(answer, source, null);
 
         if (LOG.isDebugEnabled()) {
@@ -547,4 +585,29 @@ public abstract class BaseExecutorServiceManager extends ServiceSupport implemen
         return new CamelThreadFactory(threadNamePattern, name, isDaemon);
     }
 
+    /**
+     * Create a thread factory using virtual threads (requires the JDK to support virtual threads).
+     *
+     * @param name name
+     * @return the thread factory
+     */
+    protected ThreadFactory createVirtualThreadFactory(String name) {
+        return new CamelVirtualThreadFactory(threadNamePattern, name);
+    }
+
+    private boolean isVirtualThreads(ThreadPoolProfile profile) {
+        if (profile == null || profile.getVirtualThreads() == null || !profile.getVirtualThreads()) {
+            return false;
+        }
+        if (!CamelVirtualThreadFactory.isSupported()) {
+            if (!virtualThreadsUnsupportedLogged) {
+                virtualThreadsUnsupportedLogged = true;
+                LOG.warn("ThreadPoolProfile: {} is configured to use virtual threads, which is not supported on this JDK: {}. Using platform threads instead.",
+                    profile.getId(), System.getProperty("java.version"));
+            }
+            return false;
+        }
+        return true;
+    }
+
 }
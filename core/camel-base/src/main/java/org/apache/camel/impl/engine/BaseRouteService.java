@@ -45,6 +45,7 @@ import org.apache.camel.spi.RoutePolicy;
 import org.apache.camel.support.ChildServiceSupport;
 import org.apache.camel.support.EventHelper;
 import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.util.StopWatch;
 import org.slf4j.MDC;
 
 import static org.apache.camel.spi.UnitOfWork.MDC_CAMEL_CONTEXT_ID;
@@ -147,6 +148,7 @@ public abstract class BaseRouteService extends ChildServiceSupport {
 
         if (warmUpDone.compareAndSet(false, true)) {
 
+            StopWatch watch = new StopWatch();
             try (MDCHelper mdcHelper = new MDCHelper(route.getId())) {
                 // warm up the route first
                 route.warmUp();
@@ -184,6 +186,12 @@ public abstract class BaseRouteService extends ChildServiceSupport {
                 }
                 startChildService(route, childServices);
 
+                long taken = watch.taken();
+                if (route instanceof DefaultRoute) {
+                    ((DefaultRoute) route).setWarmUpDuration(taken);
+                }
+                log.debug("Warmed up route: {} in {} millis", route.getId(), taken);
+
                 // fire event
                 EventHelper.notifyRouteAdded(camelContext, route);
             }
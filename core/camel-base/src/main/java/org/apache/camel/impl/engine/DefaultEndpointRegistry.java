@@ -17,19 +17,43 @@
 package org.apache.camel.impl.engine;
 
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Endpoint;
 import org.apache.camel.spi.EndpointRegistry;
 import org.apache.camel.support.CamelContextHelper;
+import org.apache.camel.support.LRUCacheFactory;
 
 /**
  * Default implementation of {@link org.apache.camel.spi.EndpointRegistry}
+ * <p/>
+ * The keys and endpoints resolved from the uris given to {@link CamelContext#getEndpoint(String)} are kept in a LRU cache,
+ * so dynamic endpoints (such as toD) do not have to normalize the same uris over and over again.
+ * An endpoint is only found in this cache while its still in the registry with the same key, so removed, replaced and
+ * evicted endpoints are never returned from this cache.
  */
 public class DefaultEndpointRegistry extends AbstractDynamicRegistry<EndpointKey, Endpoint> implements EndpointRegistry<EndpointKey> {
 
+    private final Map<String, Resolved> resolved;
+    private final LongAdder resolvedHits = new LongAdder();
+    private final LongAdder resolvedMisses = new LongAdder();
+    private final LongAdder resolvedEvicted = new LongAdder();
+
+    private static final class Resolved {
+        private final EndpointKey key;
+        // null if only the key has been resolved
+        private final Endpoint endpoint;
+
+        Resolved(EndpointKey key, Endpoint endpoint) {
+            this.key = key;
+            this.endpoint = endpoint;
+        }
+    }
+
     public DefaultEndpointRegistry(CamelContext context) {
         super(context, CamelContextHelper.getMaximumEndpointCacheSize(context));
+        this.resolved = LRUCacheFactory.newLRUCache(maxCacheSize, r -> resolvedEvicted.increment());
     }
 
     public DefaultEndpointRegistry(CamelContext context, Map<EndpointKey, Endpoint> endpoints) {
@@ -37,6 +61,26 @@ public class DefaultEndpointRegistry extends AbstractDynamicRegistry<EndpointKey
         putAll(endpoints);
     }
 
+    @Override
+    public void start() {
+        super.start();
+        resolvedHits.reset();
+        resolvedMisses.reset();
+        resolvedEvicted.reset();
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        resolved.clear();
+    }
+
+    @Override
+    public void purge() {
+        super.purge();
+        resolved.clear();
+    }
+
     @Override
     public boolean isStatic(String key) {
         return isStatic(new EndpointKey(key));
@@ -47,6 +91,49 @@ public class DefaultEndpointRegistry extends AbstractDynamicRegistry<EndpointKey
         return isDynamic(new EndpointKey(key));
     }
 
+    @Override
+    public Endpoint getResolvedEndpoint(String uri) {
+        Resolved answer = resolved.get(uri);
+        // the endpoint may have been removed, replaced, or evicted from the dynamic part of the registry
+        if (answer != null && answer.endpoint != null && get(answer.key) == answer.endpoint) {
+            resolvedHits.increment();
+            return answer.endpoint;
+        }
+        resolvedMisses.increment();
+        return null;
+    }
+
+    @Override
+    public EndpointKey getResolvedKey(String uri) {
+        Resolved answer = resolved.get(uri);
+        return answer != null ? answer.key : null;
+    }
+
+    @Override
+    public void putResolvedEndpoint(String uri, EndpointKey key, Endpoint endpoint) {
+        resolved.put(uri, new Resolved(key, endpoint));
+    }
+
+    @Override
+    public int resolvedSize() {
+        return resolved.size();
+    }
+
+    @Override
+    public long getResolvedHits() {
+        return resolvedHits.sum();
+    }
+
+    @Override
+    public long getResolvedMisses() {
+        return resolvedMisses.sum();
+    }
+
+    @Override
+    public long getResolvedEvicted() {
+        return resolvedEvicted.sum();
+    }
+
     @Override
     public String toString() {
         return "EndpointRegistry for " + context.getName() + ", capacity: " + maxCacheSize;
@@ -16,15 +16,17 @@
  */
 package org.apache.camel.impl.engine;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -33,50 +35,121 @@ import org.apache.camel.MessageHistory;
 import org.apache.camel.spi.InflightRepository;
 import org.apache.camel.spi.RouteContext;
 import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.service.ServiceSupport;
 
 /**
  * Default {@link org.apache.camel.spi.InflightRepository}.
+ * <p/>
+ * The inflight exchanges are counted using {@link LongAdder}s, which scales well when many threads
+ * are adding and removing exchanges concurrently. The exchanges themselves are only kept when browsing is enabled
+ * (which is the default), so when browsing is disabled adding and removing an exchange only updates the counters.
+ * The inflight state is kept on the {@link DefaultExchange}, so removing an exchange which has already been removed
+ * does not change the counts.
  */
 public class DefaultInflightRepository extends ServiceSupport implements InflightRepository {
 
-    private final ConcurrentMap<String, Exchange> inflight = new ConcurrentHashMap<>();
-    private final ConcurrentMap<String, AtomicInteger> routeCount = new ConcurrentHashMap<>();
+    // the state of an exchange which has not been added
+    private static final InflightState NOT_INFLIGHT = new InflightState(null);
+
+    private final LongAdder size = new LongAdder();
+    private final ConcurrentMap<String, LongAdder> routeCount = new ConcurrentHashMap<>();
+    // the inflight exchanges which can be browsed (exchanges do not override equals so this is by identity)
+    private final Set<Exchange> inflight = ConcurrentHashMap.newKeySet();
+    private volatile boolean inflightBrowseEnabled = true;
 
     @Override
     public void add(Exchange exchange) {
-        inflight.put(exchange.getExchangeId(), exchange);
+        InflightState state = getState(exchange, true);
+        if (state != null) {
+            if (state.counted) {
+                return;
+            }
+            state.counted = true;
+        }
+        size.increment();
+        if (inflightBrowseEnabled) {
+            if (state != null) {
+                state.browsable = true;
+            }
+            inflight.add(exchange);
+        }
     }
 
     @Override
     public void remove(Exchange exchange) {
-        inflight.remove(exchange.getExchangeId());
+        InflightState state = getState(exchange, false);
+        if (state != null) {
+            if (!state.counted) {
+                return;
+            }
+            state.counted = false;
+            size.decrement();
+            if (state.browsable) {
+                state.browsable = false;
+                inflight.remove(exchange);
+            }
+        } else if (inflight.remove(exchange) || !inflightBrowseEnabled) {
+            size.decrement();
+        }
     }
 
     @Override
     public void add(Exchange exchange, String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
+        LongAdder existing = routeCount.get(routeId);
         if (existing != null) {
-            existing.incrementAndGet();
+            InflightState state = getState(exchange, true);
+            if (state != null) {
+                state.addRoute(routeId);
+            }
+            existing.increment();
         }
     }
 
     @Override
     public void remove(Exchange exchange, String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
+        LongAdder existing = routeCount.get(routeId);
         if (existing != null) {
-            existing.decrementAndGet();
+            InflightState state = getState(exchange, false);
+            if (state == null || state.removeRoute(routeId)) {
+                existing.decrement();
+            }
         }
     }
 
+    /**
+     * Gets the inflight state of the exchange in this repository.
+     *
+     * @return the state, or <tt>null</tt> if the state cannot be kept on the exchange
+     */
+    private InflightState getState(Exchange exchange, boolean create) {
+        if (!(exchange instanceof DefaultExchange)) {
+            return null;
+        }
+        DefaultExchange de = (DefaultExchange) exchange;
+        Object state = de.getInflightState();
+        if (state == null) {
+            if (!create) {
+                return NOT_INFLIGHT;
+            }
+            InflightState answer = new InflightState(this);
+            de.setInflightState(answer);
+            return answer;
+        } else if (state instanceof InflightState && ((InflightState) state).repository == this) {
+            return (InflightState) state;
+        }
+        // the exchange is inflight in another repository (of another camel context)
+        return null;
+    }
+
     @Override
     public int size() {
-        return inflight.size();
+        return (int) Math.max(0, size.sum());
     }
 
     @Override
     public void addRoute(String routeId) {
-        routeCount.putIfAbsent(routeId, new AtomicInteger());
+        routeCount.putIfAbsent(routeId, new LongAdder());
     }
 
     @Override
@@ -86,8 +159,26 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
 
     @Override
     public int size(String routeId) {
-        AtomicInteger existing = routeCount.get(routeId);
-        return existing != null ? existing.get() : 0;
+        LongAdder existing = routeCount.get(routeId);
+        return existing != null ? (int) Math.max(0, existing.sum()) : 0;
+    }
+
+    @Override
+    public boolean isInflightBrowseEnabled() {
+        return inflightBrowseEnabled;
+    }
+
+    @Override
+    public void setInflightBrowseEnabled(boolean inflightBrowseEnabled) {
+        this.inflightBrowseEnabled = inflightBrowseEnabled;
+    }
+
+    private Stream<Exchange> inflightExchanges() {
+        if (!inflightBrowseEnabled) {
+            return Stream.empty();
+        }
+        // the exchanges which are added while browsing is disabled cannot be browsed
+        return inflight.stream();
     }
 
     @Override
@@ -110,10 +201,10 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         Stream<Exchange> values;
         if (fromRouteId == null) {
             // all values
-            values = inflight.values().stream();
+            values = inflightExchanges();
         } else {
             // only if route match
-            values = inflight.values().stream()
+            values = inflightExchanges()
                 .filter(e -> fromRouteId.equals(e.getFromRouteId()));
         }
 
@@ -144,10 +235,10 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
 
         if (fromRouteId == null) {
             // all values
-            values = inflight.values().stream();
+            values = inflightExchanges();
         } else {
             // only if route match
-            values = inflight.values().stream()
+            values = inflightExchanges()
                 .filter(e -> fromRouteId.equals(e.getFromRouteId()));
         }
 
@@ -190,6 +281,44 @@ public class DefaultInflightRepository extends ServiceSupport implements Infligh
         return duration;
     }
 
+    /**
+     * The inflight state of an exchange, which is only accessed by the thread which is processing the exchange.
+     */
+    private static final class InflightState {
+
+        private final DefaultInflightRepository repository;
+        private boolean counted;
+        private boolean browsable;
+        // the routes the exchange is inflight in, which are usually only a few
+        private String route;
+        private List<String> moreRoutes;
+
+        private InflightState(DefaultInflightRepository repository) {
+            this.repository = repository;
+        }
+
+        private void addRoute(String routeId) {
+            if (route == null) {
+                route = routeId;
+            } else {
+                if (moreRoutes == null) {
+                    moreRoutes = new ArrayList<>(2);
+                }
+                moreRoutes.add(routeId);
+            }
+        }
+
+        private boolean removeRoute(String routeId) {
+            if (moreRoutes != null && moreRoutes.remove(routeId)) {
+                return true;
+            } else if (routeId.equals(route)) {
+                route = null;
+                return true;
+            }
+            return false;
+        }
+    }
+
     private static final class InflightExchangeEntry implements InflightExchange {
 
         private final Exchange exchange;
@@ -380,6 +380,26 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
         return maxCacheSize;
     }
 
+    @Override
+    public long getHits() {
+        return producers.getHits();
+    }
+
+    @Override
+    public long getMisses() {
+        return producers.getMisses();
+    }
+
+    @Override
+    public long getEvicted() {
+        return producers.getEvicted();
+    }
+
+    @Override
+    public void resetCacheStatistics() {
+        producers.resetStatistics();
+    }
+
     @Override
     public synchronized void purge() {
         try {
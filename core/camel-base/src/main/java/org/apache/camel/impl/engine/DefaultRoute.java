@@ -44,6 +44,8 @@ public abstract class DefaultRoute extends ServiceSupport implements Route {
     private final List<Service> services = new ArrayList<>();
     private final RouteContext routeContext;
     private Date startDate;
+    private volatile long creationDuration;
+    private volatile long warmUpDuration;
 
     public DefaultRoute(RouteContext routeContext, Endpoint endpoint) {
         this.routeContext = routeContext;
@@ -89,6 +91,24 @@ public abstract class DefaultRoute extends ServiceSupport implements Route {
         return new Date().getTime() - startDate.getTime();
     }
 
+    @Override
+    public long getCreationDuration() {
+        return creationDuration;
+    }
+
+    public void setCreationDuration(long creationDuration) {
+        this.creationDuration = creationDuration;
+    }
+
+    @Override
+    public long getWarmUpDuration() {
+        return warmUpDuration;
+    }
+
+    public void setWarmUpDuration(long warmUpDuration) {
+        this.warmUpDuration = warmUpDuration;
+    }
+
     @Override
     public Endpoint getEndpoint() {
         return endpoint;
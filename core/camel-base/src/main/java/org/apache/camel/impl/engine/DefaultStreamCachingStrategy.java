@@ -29,6 +29,7 @@ import org.apache.camel.CamelContextAware;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.StreamCache;
+import org.apache.camel.converter.stream.OffHeapSpoolArena;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.FilePathResolver;
@@ -38,7 +39,7 @@ import org.apache.camel.util.IOHelper;
 /**
  * Default implementation of {@link StreamCachingStrategy}
  */
-public class DefaultStreamCachingStrategy extends ServiceSupport implements CamelContextAware, StreamCachingStrategy {
+public class DefaultStreamCachingStrategy extends ServiceSupport implements CamelContextAware, StreamCachingStrategy, OffHeapSpoolArena.Provider {
 
     private CamelContext camelContext;
     private boolean enabled;
@@ -50,6 +51,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private String spoolCipher;
     private int bufferSize = IOHelper.DEFAULT_BUFFER_SIZE;
     private boolean removeSpoolDirectoryWhenStopping = true;
+    private boolean spoolOffHeap;
+    private long spoolOffHeapArenaSize = DEFAULT_SPOOL_OFF_HEAP_ARENA_SIZE;
+    private volatile OffHeapSpoolArena offHeapSpoolArena;
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
     private boolean anySpoolRules;
@@ -149,6 +153,31 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.removeSpoolDirectoryWhenStopping = removeSpoolDirectoryWhenStopping;
     }
 
+    @Override
+    public boolean isSpoolOffHeap() {
+        return spoolOffHeap;
+    }
+
+    @Override
+    public void setSpoolOffHeap(boolean spoolOffHeap) {
+        this.spoolOffHeap = spoolOffHeap;
+    }
+
+    @Override
+    public long getSpoolOffHeapArenaSize() {
+        return spoolOffHeapArenaSize;
+    }
+
+    @Override
+    public void setSpoolOffHeapArenaSize(long spoolOffHeapArenaSize) {
+        this.spoolOffHeapArenaSize = spoolOffHeapArenaSize;
+    }
+
+    @Override
+    public OffHeapSpoolArena getOffHeapSpoolArena() {
+        return offHeapSpoolArena;
+    }
+
     @Override
     public boolean isAnySpoolRules() {
         return anySpoolRules;
@@ -313,6 +342,14 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                 }
                 spoolRules.add(new UsedHeapMemorySpoolRule(spoolUsedHeapMemoryLimit));
             }
+
+            if (spoolOffHeap) {
+                if (spoolOffHeapArenaSize <= 0) {
+                    throw new IllegalArgumentException("SpoolOffHeapArenaSize must be positive, was: " + spoolOffHeapArenaSize);
+                }
+                offHeapSpoolArena = new OffHeapSpoolArena(spoolOffHeapArenaSize);
+                log.debug("Using off-heap arena: {}", offHeapSpoolArena);
+            }
         }
 
         log.debug("StreamCaching configuration {}", this);
@@ -336,6 +373,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
 
         statistics.reset();
+
+        if (offHeapSpoolArena != null) {
+            // the buffers in use are released when their exchanges are done
+            offHeapSpoolArena.clear();
+            offHeapSpoolArena = null;
+        }
     }
 
     @Override
@@ -346,6 +389,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             + ", spoolThreshold=" + spoolThreshold
             + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
             + ", bufferSize=" + bufferSize
+            + ", spoolOffHeap=" + spoolOffHeap
+            + ", spoolOffHeapArenaSize=" + spoolOffHeapArenaSize
             + ", anySpoolRules=" + anySpoolRules + "]";
     }
 
@@ -414,7 +459,7 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     /**
      * Represents utilization statistics.
      */
-    private static final class UtilizationStatistics implements Statistics {
+    private final class UtilizationStatistics implements Statistics {
 
         private boolean statisticsEnabled;
         private volatile long memoryCounter;
@@ -466,6 +511,30 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             return spoolAverageSize;
         }
 
+        @Override
+        public long getCacheMappedCounter() {
+            OffHeapSpoolArena arena = offHeapSpoolArena;
+            return arena != null ? arena.getMappedCounter() : 0;
+        }
+
+        @Override
+        public long getCacheMappedSize() {
+            OffHeapSpoolArena arena = offHeapSpoolArena;
+            return arena != null ? arena.getMappedSize() : 0;
+        }
+
+        @Override
+        public long getOffHeapArenaUsedSize() {
+            OffHeapSpoolArena arena = offHeapSpoolArena;
+            return arena != null ? arena.getUsedSize() : 0;
+        }
+
+        @Override
+        public long getOffHeapArenaMaxUsedSize() {
+            OffHeapSpoolArena arena = offHeapSpoolArena;
+            return arena != null ? arena.getMaxUsedSize() : 0;
+        }
+
         @Override
         public synchronized void reset() {
             memoryCounter = 0;
@@ -474,6 +543,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             spoolCounter = 0;
             spoolSize = 0;
             spoolAverageSize = 0;
+            OffHeapSpoolArena arena = offHeapSpoolArena;
+            if (arena != null) {
+                arena.resetStatistics();
+            }
         }
 
         @Override
@@ -488,8 +561,10 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
 
         @Override
         public String toString() {
-            return String.format("[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s]",
-                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize);
+            return String.format("[memoryCounter=%s, memorySize=%s, memoryAverageSize=%s, spoolCounter=%s, spoolSize=%s, spoolAverageSize=%s,"
+                    + " mappedCounter=%s, mappedSize=%s, offHeapArenaUsedSize=%s, offHeapArenaMaxUsedSize=%s]",
+                    memoryCounter, memorySize, memoryAverageSize, spoolCounter, spoolSize, spoolAverageSize,
+                    getCacheMappedCounter(), getCacheMappedSize(), getOffHeapArenaUsedSize(), getOffHeapArenaMaxUsedSize());
         }
     }
 
@@ -307,6 +307,12 @@ public class DefaultUnitOfWork implements UnitOfWork, Service {
         return routeContextStack.pollFirst();
     }
 
+    @Override
+    public boolean isBeforeAfterProcess() {
+        // this implementation does no work before and after processing, but sub classes may do (such as the MDCUnitOfWork)
+        return getClass() != DefaultUnitOfWork.class;
+    }
+
     @Override
     public AsyncCallback beforeProcess(Processor processor, Exchange exchange, AsyncCallback callback) {
         // no wrapping needed
@@ -100,6 +100,13 @@ public class DefaultUuidGenerator implements UuidGenerator {
         return hostName;
     }
 
+    /**
+     * Gets the seed which the generated ids starts with
+     */
+    protected String getSeed() {
+        return seed;
+    }
+
     public static String sanitizeHostName(String hostName) {
         boolean changed = false;
 
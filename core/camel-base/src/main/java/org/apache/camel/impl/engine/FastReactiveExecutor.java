@@ -0,0 +1,350 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} which is optimized for many cores.
+ * <p/>
+ * Each worker thread keeps its tasks in reusable array based ring deques (one per nested level of main work),
+ * so scheduling does not allocate a node per task. The statistics are kept per worker and only summed up
+ * when they are read (such as from JMX), so the hot path does not contend on any shared counters.
+ * <p/>
+ * This executor can be enabled by setting the global option {@link #MODE_OPTION} to <tt>fast</tt>, or by
+ * configuring it directly on the {@link org.apache.camel.CamelContext}.
+ */
+@ManagedResource(description = "Managed ReactiveExecutor")
+public class FastReactiveExecutor extends ServiceSupport implements ReactiveExecutor, StaticService {
+
+    /**
+     * Global option to select the reactive executor mode, use <tt>fast</tt> to select this executor.
+     */
+    public static final String MODE_OPTION = "CamelReactiveExecutorMode";
+
+    private static final Logger LOG = LoggerFactory.getLogger(FastReactiveExecutor.class);
+
+    // prune the workers of terminated threads after this many workers have been created, so the workers
+    // do not pile up when threads come and go (such as cached thread pools or virtual threads)
+    private static final int PRUNE_INTERVAL = 64;
+
+    private final ThreadLocal<Worker> workers = ThreadLocal.withInitial(this::createWorker);
+
+    // all the workers which are used for statistics (workers from terminated threads are pruned)
+    private final Queue<Worker> allWorkers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger createdWorkers = new AtomicInteger();
+    // tasks which were scheduled and executed by workers that have since been pruned
+    private final AtomicLong retiredScheduled = new AtomicLong();
+    private final AtomicLong retiredExecuted = new AtomicLong();
+
+    @Override
+    public void schedule(Runnable runnable) {
+        workers.get().schedule(runnable, true, false, false);
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        workers.get().schedule(runnable, true, true, false);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable) {
+        workers.get().schedule(runnable, false, true, true);
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable, String description) {
+        if (description != null) {
+            runnable = describe(runnable, description);
+        }
+        scheduleMain(runnable);
+    }
+
+    @Override
+    public void schedule(Runnable runnable, String description) {
+        if (description != null) {
+            runnable = describe(runnable, description);
+        }
+        schedule(runnable);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable, String description) {
+        if (description != null) {
+            runnable = describe(runnable, description);
+        }
+        scheduleSync(runnable);
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        return workers.get().executeFromQueue();
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        return createdWorkers.get();
+    }
+
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        pruneWorkers();
+        int answer = 0;
+        for (Worker worker : allWorkers) {
+            if (worker.running) {
+                answer++;
+            }
+        }
+        return answer;
+    }
+
+    @ManagedAttribute(description = "Number of pending tasks")
+    public long getPendingTasks() {
+        pruneWorkers();
+        long scheduled = retiredScheduled.get();
+        long executed = retiredExecuted.get();
+        for (Worker worker : allWorkers) {
+            // read executed before scheduled so we do not report a negative number
+            executed += worker.executed.get();
+            scheduled += worker.scheduled.get();
+        }
+        return Math.max(0, scheduled - executed);
+    }
+
+    private Worker createWorker() {
+        if (createdWorkers.incrementAndGet() % PRUNE_INTERVAL == 0) {
+            pruneWorkers();
+        }
+        Worker worker = new Worker(Thread.currentThread());
+        allWorkers.add(worker);
+        return worker;
+    }
+
+    int getWorkersSize() {
+        return allWorkers.size();
+    }
+
+    private synchronized void pruneWorkers() {
+        // synchronized so a pruned worker is only retired once
+        for (Iterator<Worker> it = allWorkers.iterator(); it.hasNext();) {
+            Worker worker = it.next();
+            Thread thread = worker.thread.get();
+            if (thread == null || !thread.isAlive()) {
+                it.remove();
+                retiredScheduled.addAndGet(worker.scheduled.get());
+                retiredExecuted.addAndGet(worker.executed.get());
+            }
+        }
+    }
+
+    private static Runnable describe(Runnable runnable, String description) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                runnable.run();
+            }
+            @Override
+            public String toString() {
+                return description;
+            }
+        };
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        // noop
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // noop
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        allWorkers.clear();
+    }
+
+    /**
+     * A worker bound to a single thread, which means the queues and counters are only updated by that thread.
+     */
+    private static final class Worker {
+
+        private final WeakReference<Thread> thread;
+        // counters are only written by the owning thread, so lazySet is sufficient to publish them for statistics
+        private final AtomicLong scheduled = new AtomicLong();
+        private final AtomicLong executed = new AtomicLong();
+        // stack of queues, where level 0 is the bottom; queues are reused as the stack grows and shrinks
+        private RunnableDeque[] levels = new RunnableDeque[]{new RunnableDeque()};
+        private int level;
+        private volatile boolean running;
+
+        Worker(Thread thread) {
+            this.thread = new WeakReference<>(thread);
+        }
+
+        void schedule(Runnable runnable, boolean first, boolean main, boolean sync) {
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Schedule [first={}, main={}, sync={}]: {}", first, main, sync, runnable);
+            }
+            RunnableDeque queue = levels[level];
+            if (main && !queue.isEmpty()) {
+                queue = pushLevel();
+            }
+            if (first) {
+                queue.addFirst(runnable);
+            } else {
+                queue.addLast(runnable);
+            }
+            scheduled.lazySet(scheduled.get() + 1);
+
+            if (!running || sync) {
+                running = true;
+                try {
+                    for (;;) {
+                        final Runnable polled = levels[level].poll();
+                        if (polled == null) {
+                            if (level > 0) {
+                                level--;
+                                continue;
+                            } else {
+                                break;
+                            }
+                        }
+                        try {
+                            executed.lazySet(executed.get() + 1);
+                            if (LOG.isTraceEnabled()) {
+                                LOG.trace("Running: {}", polled);
+                            }
+                            polled.run();
+                        } catch (Throwable t) {
+                            LOG.warn("Error executing reactive work due to " + t.getMessage() + ". This exception is ignored.", t);
+                        }
+                    }
+                } finally {
+                    running = false;
+                }
+            } else {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Queuing reactive work: {}", runnable);
+                }
+            }
+        }
+
+        boolean executeFromQueue() {
+            final Runnable polled = levels[level].poll();
+            if (polled == null) {
+                return false;
+            }
+            try {
+                executed.lazySet(executed.get() + 1);
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Running: {}", polled);
+                }
+                polled.run();
+            } catch (Throwable t) {
+                // should not happen
+                LOG.warn("Error executing reactive work due to " + t.getMessage() + ". This exception is ignored.", t);
+            }
+            return true;
+        }
+
+        private RunnableDeque pushLevel() {
+            level++;
+            if (level == levels.length) {
+                RunnableDeque[] grown = new RunnableDeque[levels.length * 2];
+                System.arraycopy(levels, 0, grown, 0, levels.length);
+                levels = grown;
+            }
+            RunnableDeque answer = levels[level];
+            if (answer == null) {
+                answer = new RunnableDeque();
+                levels[level] = answer;
+            }
+            return answer;
+        }
+    }
+
+    /**
+     * A simple array based ring deque which is reused and never shrinks, so it does not allocate
+     * when tasks are added or removed once it has grown to the working size.
+     */
+    static final class RunnableDeque {
+
+        private Runnable[] elements = new Runnable[16];
+        private int head;
+        private int tail;
+
+        boolean isEmpty() {
+            return head == tail;
+        }
+
+        int size() {
+            return (tail - head) & (elements.length - 1);
+        }
+
+        void addFirst(Runnable runnable) {
+            head = (head - 1) & (elements.length - 1);
+            elements[head] = runnable;
+            if (head == tail) {
+                doubleCapacity();
+            }
+        }
+
+        void addLast(Runnable runnable) {
+            elements[tail] = runnable;
+            tail = (tail + 1) & (elements.length - 1);
+            if (tail == head) {
+                doubleCapacity();
+            }
+        }
+
+        Runnable poll() {
+            Runnable answer = elements[head];
+            if (answer != null) {
+                elements[head] = null;
+                head = (head + 1) & (elements.length - 1);
+            }
+            return answer;
+        }
+
+        private void doubleCapacity() {
+            int n = elements.length;
+            int r = n - head;
+            Runnable[] grown = new Runnable[n << 1];
+            System.arraycopy(elements, head, grown, 0, r);
+            System.arraycopy(elements, 0, grown, r, head);
+            elements = grown;
+            head = 0;
+            tail = n;
+        }
+    }
+
+}
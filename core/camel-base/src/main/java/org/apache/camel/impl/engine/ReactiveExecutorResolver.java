@@ -27,6 +27,9 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Factory resolver to create the {@link org.apache.camel.spi.ReactiveExecutor} to be used.
+ * <p/>
+ * A custom implementation is discovered via the factory finder, otherwise the global option
+ * {@link FastReactiveExecutor#MODE_OPTION} can be used to select between the <tt>default</tt> and <tt>fast</tt> executor.
  */
 public class ReactiveExecutorResolver {
 
@@ -58,6 +61,15 @@ public class ReactiveExecutorResolver {
             }
         }
 
+        // the fast executor is built-in and can be selected by a global option
+        String mode = context.getGlobalOption(FastReactiveExecutor.MODE_OPTION);
+        if ("fast".equalsIgnoreCase(mode)) {
+            LOG.debug("Creating FastReactiveExecutor");
+            return new FastReactiveExecutor();
+        } else if (mode != null && !"default".equalsIgnoreCase(mode)) {
+            throw new IllegalArgumentException("Unknown ReactiveExecutor mode: " + mode + ". Supported modes are: default, fast");
+        }
+
         // fallback to default
         LOG.debug("Creating default ReactiveExecutor");
         return new DefaultReactiveExecutor();
@@ -17,19 +17,21 @@
 package org.apache.camel.impl.engine;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 import org.apache.camel.Endpoint;
 import org.apache.camel.NonManagedService;
 import org.apache.camel.Service;
-import org.apache.camel.support.LRUCache;
-import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.function.ThrowingFunction;
 import org.slf4j.Logger;
@@ -38,6 +40,11 @@ import org.slf4j.LoggerFactory;
 /**
  * A base class for a pool for either producers or consumers used by
  * {@link org.apache.camel.spi.ProducerCache} and {@link org.apache.camel.spi.ConsumerCache}.
+ * <p/>
+ * The producers/consumers are acquired and released without locking, so concurrent senders to the same
+ * endpoint are not serialized. The pool marks the producers/consumers when they are acquired, and when there
+ * are more than the capacity, evicts one which has not been acquired since the eviction last passed it
+ * (the clock algorithm, which approximates least recently used).
  */
 abstract class ServicePool<S extends Service> extends ServiceSupport implements NonManagedService {
 
@@ -46,10 +53,21 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
     private final ThrowingFunction<Endpoint, S, Exception> creator;
     private final Function<S, Endpoint> getEndpoint;
     private final ConcurrentMap<Endpoint, Pool<S>> pool = new ConcurrentHashMap<>();
-    private int capacity;
-    private Map<S, S> cache;
+    private final int capacity;
+    // whether the producers/consumers were acquired recently, which is only tracked if capacity is more than one
+    private final Map<S, Usage> usages;
+    // the position of the eviction in the usages, guarded by the usages
+    private Iterator<Map.Entry<S, Usage>> clockHand;
+    // the non-singleton producers/consumers which were evicted and stopped while in use
+    private final Set<S> stoppedInUse = ConcurrentHashMap.newKeySet();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
 
     private interface Pool<S> {
+        /**
+         * Acquires the producer/consumer, or returns null if the pool has been removed due evictions
+         */
         S acquire() throws Exception;
         void release(S s);
         int size();
@@ -58,22 +76,26 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         void cleanUp();
     }
 
+    private static final class Usage {
+        private volatile boolean referenced = true;
+    }
+
     public ServicePool(ThrowingFunction<Endpoint, S, Exception> creator, Function<S, Endpoint> getEndpoint, int capacity) {
         this.creator = creator;
         this.getEndpoint = getEndpoint;
         this.capacity = capacity;
-        // only use a LRU cache if capacity is more than one
-        // the LRU cache is a facade that handles the logic to know which producers/consumers to evict/remove
+        // only track usages if capacity is more than one
+        // the usages are used to know which producers/consumers to evict/remove
         // when we hit max capacity. Then we remove them in the associated pool ConcurrentMap instance.
-        this.cache = capacity > 1 ? LRUCacheFactory.newLRUCache(capacity, this::onEvict) : null;
+        this.usages = capacity > 1 ? new ConcurrentHashMap<>() : null;
     }
 
     /**
-     * This callback is invoked by LRUCache from a separate background cleanup thread.
+     * This callback is invoked when the producer/consumer is evicted, which may be while its in use by another thread.
      * Therefore we mark the entries to be evicted from this thread only,
-     * and then let SinglePool and MultiPool handle the evictions (stop the producer/consumer safely)
-     * when they are acquiring/releases producers/consumers. If we sop the producer/consumer from the
-     * LRUCache background thread we can have a race condition with a pooled producer may have been
+     * and then let SinglePool and MultiplePool handle the evictions (stop the producer/consumer safely)
+     * when they are acquiring/releases producers/consumers. If we stop the producer/consumer from the
+     * evicting thread we can have a race condition with a pooled producer may have been
      * acquired at the same time its being evicted.
      */
     protected void onEvict(S s) {
@@ -102,9 +124,10 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         if (!isStarted()) {
             return null;
         }
-        S s = getOrCreatePool(endpoint).acquire();
-        if (s != null && cache != null) {
-            cache.putIfAbsent(s, s);
+        S s = null;
+        while (s == null) {
+            // the pool returns null if it has been removed meanwhile, so try again with a new pool
+            s = getOrCreatePool(endpoint).acquire();
         }
         return s;
     }
@@ -117,8 +140,15 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
      */
     public void release(Endpoint endpoint, S s) {
         Pool<S> p = pool.get(endpoint);
+        if (p == null && isStarted()) {
+            // the pool has been removed due evictions while the producer/consumer was in use
+            p = getOrCreatePool(endpoint);
+        }
         if (p != null) {
             p.release(s);
+        } else {
+            // the pool has been stopped while the producer/consumer was in use
+            doStop(endpoint, s);
         }
     }
 
@@ -142,19 +172,46 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         return pool.values().stream().mapToInt(Pool::size).sum();
     }
 
+    /**
+     * Number of times a producer/consumer was acquired from the pool
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of times a producer/consumer was created as there was none in the pool
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Number of producers/consumers which has been evicted due the capacity of the pool
+     */
+    public long getEvicted() {
+        return evicted.sum();
+    }
+
+    /**
+     * Resets the hits, misses and evicted statistics
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evicted.reset();
+    }
+
     /**
      * Cleanup the pool (removing stale instances that should be evicted)
      */
     public void cleanUp() {
-        if (cache instanceof LRUCache) {
-            ((LRUCache) cache).cleanUp();
-        }
         pool.values().forEach(Pool::cleanUp);
     }
 
     @Override
     protected void doStart() throws Exception {
-        // noop
+        resetStatistics();
     }
 
     @Override
@@ -163,14 +220,66 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
 
         pool.values().forEach(Pool::stop);
         pool.clear();
-        if (cache != null) {
-            cache.values().forEach(ServicePool::stop);
-            cache.clear();
+        if (usages != null) {
+            // stop the producers/consumers which are in use
+            usages.keySet().forEach(ServicePool::stop);
+            usages.clear();
+        }
+        stoppedInUse.clear();
+    }
+
+    private void onHit(S s) {
+        hits.increment();
+        if (usages != null) {
+            Usage usage = usages.get(s);
+            // only write when not already marked, so threads using the same producer/consumer do not contend
+            if (usage != null && !usage.referenced) {
+                usage.referenced = true;
+            }
+        }
+    }
+
+    private void onMiss(S s) {
+        misses.increment();
+        if (usages != null) {
+            usages.put(s, new Usage());
+            if (usages.size() > capacity) {
+                evict(s);
+            }
+        }
+    }
+
+    private void evict(S created) {
+        List<S> evicts = new ArrayList<>(1);
+        synchronized (usages) {
+            // the recently acquired gets a second chance, so after passing them all once, the next is evicted anyway
+            int secondChances = usages.size();
+            while (usages.size() > capacity) {
+                if (clockHand == null || !clockHand.hasNext()) {
+                    clockHand = usages.entrySet().iterator();
+                    if (!clockHand.hasNext()) {
+                        break;
+                    }
+                }
+                Map.Entry<S, Usage> entry = clockHand.next();
+                Usage usage = entry.getValue();
+                if (entry.getKey() == created || usage.referenced && secondChances-- > 0) {
+                    usage.referenced = false;
+                } else if (usages.remove(entry.getKey(), usage)) {
+                    evicts.add(entry.getKey());
+                }
+            }
+        }
+        // evict outside the lock as the producer/consumer may be stopped
+        for (S eldest : evicts) {
+            LOG.trace("Evicting service: {}", eldest);
+            evicted.increment();
+            onEvict(eldest);
         }
     }
 
     /**
-     * Stosp the service safely
+     * Stops the service safely
      */
     private static <S extends Service> void stop(S s) {
         try {
@@ -180,6 +289,20 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         }
     }
 
+    private void doStop(Endpoint endpoint, S s) {
+        if (s != null) {
+            if (usages != null) {
+                usages.remove(s);
+            }
+            ServicePool.stop(s);
+            try {
+                endpoint.getCamelContext().removeService(s);
+            } catch (Exception e) {
+                LOG.debug("Error removing service: {}", s, e);
+            }
+        }
+    }
+
     /**
      * Pool used for singleton producers or consumers which are thread-safe
      * and can be shared by multiple worker threads at any given time.
@@ -188,6 +311,7 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         private final Endpoint endpoint;
         private volatile S s;
         private volatile S toBeEvicted;
+        private boolean removed;
 
         SinglePool(Endpoint endpoint) {
             this.endpoint = endpoint;
@@ -197,18 +321,28 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         public S acquire() throws Exception {
             cleanupEvicts();
 
-            if (s == null) {
+            S answer = s;
+            if (answer != null) {
+                onHit(answer);
+            } else {
                 synchronized (this) {
-                    if (s == null) {
+                    if (removed) {
+                        return null;
+                    }
+                    answer = s;
+                    if (answer == null) {
                         LOG.trace("Creating service from endpoint: {}", endpoint);
-                        S tempS = creator.apply(endpoint);
-                        endpoint.getCamelContext().addService(tempS, true, true);
-                        s = tempS;
+                        answer = creator.apply(endpoint);
+                        endpoint.getCamelContext().addService(answer, true, true);
+                        s = answer;
+                        onMiss(answer);
+                    } else {
+                        onHit(answer);
                     }
                 }
             }
-            LOG.trace("Acquired service: {}", s);
-            return s;
+            LOG.trace("Acquired service: {}", answer);
+            return answer;
         }
 
         @Override
@@ -230,9 +364,10 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
             synchronized (this) {
                 toStop = s;
                 s = null;
+                removed = true;
             }
-            doStop(toStop);
-            pool.remove(endpoint);
+            doStop(endpoint, toStop);
+            pool.remove(endpoint, this);
         }
 
         @Override
@@ -248,24 +383,20 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
 
         private void cleanupEvicts() {
             if (toBeEvicted != null) {
+                S toStop = null;
                 synchronized (this) {
                     if (toBeEvicted != null) {
-                        doStop(toBeEvicted);
-                        pool.remove(endpoint);
+                        toStop = toBeEvicted;
                         toBeEvicted = null;
+                        if (s == toStop) {
+                            s = null;
+                            // remove the pool so it does not linger for evicted endpoints
+                            removed = true;
+                            pool.remove(endpoint, this);
+                        }
                     }
                 }
-            }
-        }
-
-        void doStop(S s) {
-            if (s != null) {
-                ServicePool.stop(s);
-                try {
-                    endpoint.getCamelContext().removeService(s);
-                } catch (Exception e) {
-                    LOG.debug("Error removing service: {}", s, e);
-                }
+                doStop(endpoint, toStop);
             }
         }
     }
@@ -276,26 +407,38 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
      */
     private class MultiplePool implements Pool<S> {
         private final Endpoint endpoint;
-        private final BlockingQueue<S> queue;
-        private final List<S> evicts;
+        private final Queue<S> queue = new ConcurrentLinkedQueue<>();
+        // the size of the queue, which is not constant time to compute for a concurrent queue
+        private final AtomicInteger idle = new AtomicInteger();
+        private final Queue<S> evicts = new ConcurrentLinkedQueue<>();
+        private volatile boolean removed;
 
         MultiplePool(Endpoint endpoint) {
             this.endpoint = endpoint;
-            this.queue = new ArrayBlockingQueue<>(capacity);
-            this.evicts = new ArrayList<>();
         }
 
         private void cleanupEvicts() {
-            if (!evicts.isEmpty()) {
-                synchronized (this) {
-                    if (!evicts.isEmpty()) {
-                        evicts.forEach(this::doStop);
-                        evicts.forEach(queue::remove);
-                        evicts.clear();
-                        if (queue.isEmpty()) {
-                            pool.remove(endpoint);
-                        }
-                    }
+            if (evicts.isEmpty()) {
+                return;
+            }
+            S s;
+            while ((s = evicts.poll()) != null) {
+                if (queue.remove(s)) {
+                    idle.decrementAndGet();
+                } else {
+                    // so its not added back to the pool when released
+                    stoppedInUse.add(s);
+                }
+                doStop(endpoint, s);
+            }
+            if (idle.get() == 0) {
+                // remove the pool so it does not linger for evicted endpoints
+                removed = true;
+                pool.remove(endpoint, this);
+                // those released meanwhile are not acquired from a removed pool, so release them to its replacement
+                while ((s = queue.poll()) != null) {
+                    idle.decrementAndGet();
+                    ServicePool.this.release(endpoint, s);
                 }
             }
         }
@@ -303,11 +446,18 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         @Override
         public S acquire() throws Exception {
             cleanupEvicts();
+            if (removed) {
+                return null;
+            }
 
             S s = queue.poll();
-            if (s == null) {
+            if (s != null) {
+                idle.decrementAndGet();
+                onHit(s);
+            } else {
                 s = creator.apply(endpoint);
                 s.start();
+                onMiss(s);
             }
             return s;
         }
@@ -316,45 +466,56 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         public void release(S s) {
             cleanupEvicts();
 
-            if (!queue.offer(s)) {
+            if (!stoppedInUse.isEmpty() && stoppedInUse.remove(s)) {
+                // it has been evicted while it was in use
+                return;
+            }
+            if (removed) {
+                // release it to the pool which has replaced this pool
+                ServicePool.this.release(endpoint, s);
+                return;
+            }
+            if (idle.incrementAndGet() <= capacity) {
+                queue.offer(s);
+                // the pool may have been removed meanwhile, then release it to the replacement
+                // unless the removal has taken it already
+                if (removed && queue.remove(s)) {
+                    idle.decrementAndGet();
+                    ServicePool.this.release(endpoint, s);
+                }
+            } else {
                 // there is no room so lets just stop and discard this
-                doStop(s);
+                idle.decrementAndGet();
+                doStop(endpoint, s);
             }
         }
 
         @Override
         public int size() {
-            return queue.size();
+            return idle.get();
         }
 
         @Override
         public void stop() {
-            queue.forEach(this::doStop);
-            queue.clear();
-            pool.remove(endpoint);
+            removed = true;
+            pool.remove(endpoint, this);
+            S s;
+            while ((s = queue.poll()) != null) {
+                idle.decrementAndGet();
+                doStop(endpoint, s);
+            }
         }
 
         @Override
         public void evict(S s) {
             // to be evicted
-            evicts.add(s);
+            evicts.offer(s);
         }
 
         @Override
         public void cleanUp() {
             cleanupEvicts();
         }
-
-        void doStop(S s) {
-            if (s != null) {
-                ServicePool.stop(s);
-                try {
-                    endpoint.getCamelContext().removeService(s);
-                } catch (Exception e) {
-                    LOG.debug("Error removing service: {}", s, e);
-                }
-            }
-        }
     }
 
 }
@@ -0,0 +1,585 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.language.simple.ast.BinaryExpression;
+import org.apache.camel.language.simple.ast.CompositeNodes;
+import org.apache.camel.language.simple.ast.DoubleQuoteStart;
+import org.apache.camel.language.simple.ast.LiteralNode;
+import org.apache.camel.language.simple.ast.LogicalExpression;
+import org.apache.camel.language.simple.ast.NullExpression;
+import org.apache.camel.language.simple.ast.SimpleFunctionStart;
+import org.apache.camel.language.simple.ast.SimpleNode;
+import org.apache.camel.language.simple.ast.SingleQuoteStart;
+import org.apache.camel.language.simple.types.BinaryOperatorType;
+import org.apache.camel.language.simple.types.LogicalOperatorType;
+import org.apache.camel.support.ExpressionAdapter;
+import org.apache.camel.support.ExpressionToPredicateAdapter;
+import org.apache.camel.support.ObjectHelper;
+
+/**
+ * Compiles the AST nodes of a parsed simple expression or predicate into specialized expressions, which are used
+ * when the simple language is in compiled mode.
+ * <p/>
+ * The compiled expressions access the body, headers and exchange properties directly, invoke OGNL getter chains
+ * such as <tt>${body.address.city}</tt> using method handles which are resolved once per type and cached
+ * (instead of parsing the OGNL string and looking up the methods on every evaluation), and compare against
+ * numeric literals using primitive comparisons.
+ * <p/>
+ * Only a subset of the simple language is compiled. Any node which cannot be compiled is created as the regular
+ * interpreted expression, and a compiled expression falls back to the interpreted expression at runtime when the
+ * values are not as expected (such as a getter which cannot be resolved, or calling a method on a <tt>null</tt>
+ * value), so the result is always the same as in interpreted mode.
+ */
+final class SimpleCompiler {
+
+    private static final Pattern HEADER = Pattern.compile("^(?:in\\.)?headers?[.:]([\\w\\-]+)$");
+    private static final Pattern PROPERTY = Pattern.compile("^exchangeProperty\\.([\\w\\-]+)$");
+    private static final Pattern BODY_OGNL = Pattern.compile("^(?:in\\.)?body((?:\\??\\.[a-zA-Z_$][\\w$]*)+)$");
+    private static final Pattern OGNL_METHOD = Pattern.compile("(\\?)?\\.([a-zA-Z_$][\\w$]*)");
+    private static final Pattern INTEGRAL = Pattern.compile("^-?\\d{1,18}$");
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private SimpleCompiler() {
+    }
+
+    /**
+     * Compiles the node as an expression, or creates the interpreted expression if the node cannot be compiled.
+     */
+    static Expression compileExpression(SimpleNode node, String expression) {
+        return compile(node, expression);
+    }
+
+    /**
+     * Compiles the node as a predicate, or creates the interpreted predicate if the node cannot be compiled.
+     */
+    static Predicate compilePredicate(SimpleNode node, String expression) {
+        Expression answer = compile(node, expression);
+        if (answer instanceof CompiledPredicate) {
+            return (CompiledPredicate) answer;
+        }
+        return answer != null ? ExpressionToPredicateAdapter.toPredicate(answer) : null;
+    }
+
+    /**
+     * Concatenates the compiled expressions, as evaluating an expression with multiple nodes is like a template language.
+     */
+    static Expression compileConcat(List<Expression> expressions, String expression) {
+        return new ConcatValue(expressions.toArray(new Expression[0]), expression);
+    }
+
+    private static Expression compile(SimpleNode node, String expression) {
+        Expression answer = null;
+        if (node instanceof LiteralNode) {
+            answer = new ConstantValue(((LiteralNode) node).getText());
+        } else if (node instanceof NullExpression) {
+            answer = new ConstantValue(null);
+        } else if (node instanceof SingleQuoteStart) {
+            answer = compileBlock(((SingleQuoteStart) node).getBlock(), expression);
+        } else if (node instanceof DoubleQuoteStart) {
+            answer = compileBlock(((DoubleQuoteStart) node).getBlock(), expression);
+        } else if (node instanceof SimpleFunctionStart) {
+            answer = compileFunction((SimpleFunctionStart) node, expression);
+        } else if (node instanceof BinaryExpression) {
+            answer = compileBinary((BinaryExpression) node, expression);
+        } else if (node instanceof LogicalExpression) {
+            answer = compileLogical((LogicalExpression) node, expression);
+        }
+        if (answer == null) {
+            // not supported so use the interpreted expression
+            answer = node.createExpression(expression);
+        }
+        return answer;
+    }
+
+    private static Expression compileBlock(CompositeNodes block, String expression) {
+        List<SimpleNode> children = block.getChildren();
+        if (children.isEmpty()) {
+            // the quoted literal is empty
+            return new ConstantValue("");
+        } else if (children.size() == 1) {
+            return compile(children.get(0), expression);
+        }
+        // quoted literals with embedded functions is only compiled when its a literal text with functions
+        for (SimpleNode child : children) {
+            if (!(child instanceof LiteralNode) && !(child instanceof SimpleFunctionStart)) {
+                return null;
+            }
+        }
+        List<Expression> expressions = new ArrayList<>(children.size());
+        for (SimpleNode child : children) {
+            expressions.add(compile(child, expression));
+        }
+        return new ConcatValue(expressions.toArray(new Expression[0]), block.toString());
+    }
+
+    private static Expression compileFunction(SimpleFunctionStart node, String expression) {
+        List<SimpleNode> children = node.getBlock().getChildren();
+        if (children.size() != 1 || !(children.get(0) instanceof LiteralNode)) {
+            // nested functions are evaluated dynamically
+            return null;
+        }
+        String function = ((LiteralNode) children.get(0)).getText();
+        String text = node.toString();
+
+        if ("body".equals(function) || "in.body".equals(function)) {
+            return new BodyValue(text);
+        } else if ("exchangeId".equals(function)) {
+            return new ExchangeIdValue(text);
+        }
+        Matcher matcher = HEADER.matcher(function);
+        if (matcher.matches()) {
+            return new HeaderValue(matcher.group(1), text);
+        }
+        matcher = PROPERTY.matcher(function);
+        if (matcher.matches()) {
+            return new PropertyValue(matcher.group(1), text);
+        }
+        matcher = BODY_OGNL.matcher(function);
+        if (matcher.matches()) {
+            List<GetterSite> sites = new ArrayList<>();
+            Matcher method = OGNL_METHOD.matcher(matcher.group(1));
+            while (method.find()) {
+                sites.add(new GetterSite(method.group(2), method.group(1) != null));
+            }
+            Expression interpreted = node.createExpression(expression);
+            return new BodyOgnlValue(sites.toArray(new GetterSite[0]), interpreted, text);
+        }
+        return null;
+    }
+
+    private static Expression compileBinary(BinaryExpression node, String expression) {
+        BinaryOperatorType operator = node.getOperator();
+        switch (operator) {
+        case EQ:
+        case NOT_EQ:
+        case GT:
+        case GTE:
+        case LT:
+        case LTE:
+            break;
+        default:
+            return null;
+        }
+        if (node.getLeft() == null || node.getRight() == null) {
+            // let the interpreted expression report the error
+            return null;
+        }
+        Expression left = compile(node.getLeft(), expression);
+        Expression right = compile(node.getRight(), expression);
+        if (left == null || right == null) {
+            return null;
+        }
+        return new BinaryPredicate(operator, left, right, node.toString());
+    }
+
+    private static Expression compileLogical(LogicalExpression node, String expression) {
+        if (node.getLeft() == null || node.getRight() == null) {
+            // let the interpreted expression report the error
+            return null;
+        }
+        Predicate left = compilePredicate(node.getLeft(), expression);
+        Predicate right = compilePredicate(node.getRight(), expression);
+        if (left == null || right == null) {
+            return null;
+        }
+        return new LogicalPredicate(node.getOperator() == LogicalOperatorType.AND, left, right, node.toString());
+    }
+
+    /**
+     * Resolves the getter to invoke for the OGNL method name on the given type, using the same rules as the bean
+     * component, where the method name can also be the shorthand name of a getter.
+     *
+     * @return the getter, or <tt>null</tt> if there is no unique public getter to invoke
+     */
+    static MethodHandle resolveGetter(Class<?> type, String name) {
+        Method found = null;
+        boolean exact = false;
+        for (Method method : type.getMethods()) {
+            if (method.getDeclaringClass() == Object.class || Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            if (method.getName().equals(name)) {
+                if (!exact && method.getParameterCount() == 0) {
+                    found = method;
+                    exact = true;
+                } else {
+                    // the method is overloaded or has parameters so let the bean component choose
+                    return null;
+                }
+            } else if (!exact && isGetter(method, name)) {
+                if (found != null && !found.getName().equals(method.getName())) {
+                    // both a getXXX and isXXX method
+                    return null;
+                }
+                found = method;
+            }
+        }
+        if (found == null) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().unreflect(found).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            // such as a public method declared on a non public class
+            return null;
+        }
+    }
+
+    private static boolean isGetter(Method method, String name) {
+        String methodName = method.getName();
+        int len = name.length();
+        if (method.getParameterCount() != 0 || len == 0) {
+            return false;
+        }
+        if (methodName.length() == len + 3 && methodName.startsWith("get") && method.getReturnType() != Void.TYPE) {
+            return Character.isUpperCase(methodName.charAt(3)) && isShorthandName(methodName, 3, name);
+        }
+        if (methodName.length() == len + 2 && methodName.startsWith("is")
+                && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class)) {
+            return Character.isUpperCase(methodName.charAt(2)) && isShorthandName(methodName, 2, name);
+        }
+        return false;
+    }
+
+    private static boolean isShorthandName(String methodName, int offset, String name) {
+        return Character.toLowerCase(methodName.charAt(offset)) == name.charAt(0)
+                && methodName.regionMatches(offset + 1, name, 1, name.length() - 1);
+    }
+
+    /**
+     * Base class for compiled expressions.
+     */
+    abstract static class CompiledExpression extends ExpressionAdapter {
+
+        private final String text;
+
+        CompiledExpression(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+
+    /**
+     * Base class for compiled predicates, which can also be used as an expression returning a boolean.
+     */
+    abstract static class CompiledPredicate extends CompiledExpression {
+
+        CompiledPredicate(String text) {
+            super(text);
+        }
+
+        @Override
+        public abstract boolean matches(Exchange exchange);
+
+        @Override
+        public Object evaluate(Exchange exchange) {
+            return matches(exchange);
+        }
+    }
+
+    static final class ConstantValue extends CompiledExpression {
+
+        private final String value;
+        private final boolean integral;
+        private final long number;
+
+        ConstantValue(String value) {
+            super(String.valueOf(value));
+            this.value = value;
+            this.integral = value != null && INTEGRAL.matcher(value).matches();
+            this.number = integral ? Long.parseLong(value) : 0;
+        }
+
+        @Override
+        public Object evaluate(Exchange exchange) {
+            return value;
+        }
+    }
+
+    static final class ConcatValue extends CompiledExpression {
+
+        private final Expression[] expressions;
+
+        ConcatValue(Expression[] expressions, String text) {
+            super(text);
+            this.expressions = expressions;
+        }
+
+        @Override
+        public Object evaluate(Exchange exchange) {
+            StringBuilder sb = new StringBuilder();
+            for (Expression expression : expressions) {
+                String text = expression.evaluate(exchange, String.class);
+                if (text != null) {
+                    sb.append(text);
+                }
+            }
+            return sb.toString();
+        }
+    }
+
+    static final class BodyValue extends CompiledExpression {
+
+        BodyValue(String text) {
+            super(text);
+        }
+
+        @Override
+        public Object evaluate(Exchange exchange) {
+            return exchange.getIn().getBody();
+        }
+    }
+
+    static final class ExchangeIdValue extends CompiledExpression {
+
+        ExchangeIdValue(String text) {
+            super(text);
+        }
+
+        @Override
+        public Object evaluate(Exchange exchange) {
+            return exchange.getExchangeId();
+        }
+    }
+
+    static final class HeaderValue extends CompiledExpression {
+
+        private final String name;
+
+        HeaderValue(String name, String text) {
+            super(text);
+            this.name = name;
+        }
+
+        @Override
+        public Object evaluate(Exchange exchange) {
+            Object header = exchange.getIn().getHeader(name);
+            if (header == null) {
+                // fall back on a property
+                header = exchange.getProperty(name);
+            }
+            return header;
+        }
+    }
+
+    static final class PropertyValue extends CompiledExpression {
+
+        private final String name;
+
+        PropertyValue(String name, String text) {
+            super(text);
+            this.name = name;
+        }
+
+        @Override
+        public Object evaluate(Exchange exchange) {
+            return exchange.getProperty(name);
+        }
+    }
+
+    /**
+     * An OGNL getter chain on the message body, such as <tt>${body.address.city}</tt>.
+     */
+    static final class BodyOgnlValue extends CompiledExpression {
+
+        private final GetterSite[] sites;
+        private final Expression interpreted;
+
+        BodyOgnlValue(GetterSite[] sites, Expression interpreted, String text) {
+            super(text);
+            this.sites = sites;
+            this.interpreted = interpreted;
+        }
+
+        @Override
+        public Object evaluate(Exchange exchange) {
+            Object value = exchange.getIn().getBody();
+            if (value == null) {
+                return null;
+            }
+            for (int i = 0; i < sites.length; i++) {
+                GetterSite site = sites[i];
+                MethodHandle getter = site.getGetter(value.getClass());
+                if (getter == null) {
+                    return interpreted.evaluate(exchange, Object.class);
+                }
+                try {
+                    value = (Object) getter.invokeExact(value);
+                } catch (Throwable e) {
+                    // let the interpreted expression deal with the exception
+                    return interpreted.evaluate(exchange, Object.class);
+                }
+                if (value == null) {
+                    if (site.nullSafe || i == sites.length - 1) {
+                        return null;
+                    }
+                    // let the interpreted expression report calling a method on null
+                    return interpreted.evaluate(exchange, Object.class);
+                }
+            }
+            return value;
+        }
+    }
+
+    /**
+     * A monomorphic inline cache for the getter of an OGNL method name, which is resolved again if the type changes.
+     */
+    static final class GetterSite {
+
+        private final String name;
+        private final boolean nullSafe;
+        private volatile ResolvedGetter resolved;
+
+        GetterSite(String name, boolean nullSafe) {
+            this.name = name;
+            this.nullSafe = nullSafe;
+        }
+
+        MethodHandle getGetter(Class<?> type) {
+            ResolvedGetter answer = resolved;
+            if (answer == null || answer.type != type) {
+                answer = new ResolvedGetter(type, resolveGetter(type, name));
+                resolved = answer;
+            }
+            return answer.getter;
+        }
+    }
+
+    private static final class ResolvedGetter {
+
+        private final Class<?> type;
+        private final MethodHandle getter;
+
+        ResolvedGetter(Class<?> type, MethodHandle getter) {
+            this.type = type;
+            this.getter = getter;
+        }
+    }
+
+    static final class BinaryPredicate extends CompiledPredicate {
+
+        private final BinaryOperatorType operator;
+        private final Expression left;
+        private final Expression right;
+        private final ConstantValue constant;
+
+        BinaryPredicate(BinaryOperatorType operator, Expression left, Expression right, String text) {
+            super(text);
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+            this.constant = right instanceof ConstantValue ? (ConstantValue) right : null;
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            Object leftValue = left.evaluate(exchange, Object.class);
+            if (constant != null && leftValue != null && constant.value != null) {
+                if (constant.integral && isIntegral(leftValue)) {
+                    // compare the numbers as primitives
+                    return matches(Long.compare(((Number) leftValue).longValue(), constant.number));
+                } else if (leftValue instanceof String && (operator == BinaryOperatorType.EQ || operator == BinaryOperatorType.NOT_EQ)) {
+                    // strings which are not equal cannot be coerced to be equal
+                    return leftValue.equals(constant.value) == (operator == BinaryOperatorType.EQ);
+                }
+            }
+            Object rightValue = constant != null ? constant.value : right.evaluate(exchange, Object.class);
+            return matches(exchange.getContext().getTypeConverter(), leftValue, rightValue);
+        }
+
+        private boolean matches(int compare) {
+            switch (operator) {
+            case EQ:
+                return compare == 0;
+            case NOT_EQ:
+                return compare != 0;
+            case GT:
+                return compare > 0;
+            case GTE:
+                return compare >= 0;
+            case LT:
+                return compare < 0;
+            default:
+                return compare <= 0;
+            }
+        }
+
+        private boolean matches(TypeConverter converter, Object leftValue, Object rightValue) {
+            // same null handling as the predicates from the predicate builder
+            if (leftValue == null && rightValue == null) {
+                return operator != BinaryOperatorType.NOT_EQ && operator != BinaryOperatorType.GT;
+            } else if (leftValue == null || rightValue == null) {
+                return operator == BinaryOperatorType.NOT_EQ;
+            }
+            switch (operator) {
+            case EQ:
+                return ObjectHelper.typeCoerceEquals(converter, leftValue, rightValue);
+            case NOT_EQ:
+                return ObjectHelper.typeCoerceNotEquals(converter, leftValue, rightValue);
+            default:
+                return matches(ObjectHelper.typeCoerceCompare(converter, leftValue, rightValue));
+            }
+        }
+
+        private static boolean isIntegral(Object value) {
+            return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+        }
+    }
+
+    static final class LogicalPredicate extends CompiledPredicate {
+
+        private final boolean and;
+        private final Predicate left;
+        private final Predicate right;
+
+        LogicalPredicate(boolean and, Predicate left, Predicate right, String text) {
+            super(text);
+            this.and = and;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public boolean matches(Exchange exchange) {
+            if (and) {
+                return left.matches(exchange) && right.matches(exchange);
+            } else {
+                return left.matches(exchange) || right.matches(exchange);
+            }
+        }
+    }
+
+}
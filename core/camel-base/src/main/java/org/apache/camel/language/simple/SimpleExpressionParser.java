@@ -41,6 +41,7 @@ public class SimpleExpressionParser extends BaseSimpleParser {
 
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
+    private boolean compiled;
 
     public SimpleExpressionParser(String expression, boolean allowEscape,
                                   Map<String, Expression> cacheExpression) {
@@ -48,6 +49,15 @@ public class SimpleExpressionParser extends BaseSimpleParser {
         this.cacheExpression = cacheExpression;
     }
 
+    /**
+     * @param compiled whether to compile the expression, see {@link SimpleLanguage#isCompiled()}
+     */
+    public SimpleExpressionParser(String expression, boolean allowEscape,
+                                  Map<String, Expression> cacheExpression, boolean compiled) {
+        this(expression, allowEscape, cacheExpression);
+        this.compiled = compiled;
+    }
+
     public Expression parseExpression() {
         clear();
         try {
@@ -92,6 +102,9 @@ public class SimpleExpressionParser extends BaseSimpleParser {
             return expressions.get(0);
         } else {
             // concat expressions as evaluating an expression is like a template language
+            if (compiled) {
+                return SimpleCompiler.compileConcat(expressions, expression);
+            }
             return ExpressionBuilder.concatExpression(expressions, expression);
         }
     }
@@ -161,7 +174,7 @@ public class SimpleExpressionParser extends BaseSimpleParser {
     private List<Expression> createExpressions() {
         List<Expression> answer = new ArrayList<>();
         for (SimpleNode token : nodes) {
-            Expression exp = token.createExpression(expression);
+            Expression exp = compiled ? SimpleCompiler.compileExpression(token, expression) : token.createExpression(expression);
             if (exp != null) {
                 answer.add(exp);
             }
@@ -96,16 +96,27 @@ import org.slf4j.LoggerFactory;
  * return the full path including the starting directory.
  * <br/>
  * The <b>only</b> file is the filename only with all paths clipped.
+ * <p/>
+ * The simple language can be set in compiled mode (see {@link #COMPILED_OPTION}), where the parsed expressions and
+ * predicates are compiled into specialized expressions when they are created, which avoids parsing OGNL method names
+ * and looking up methods on every evaluation, and compare numbers as primitives. Any part which cannot be compiled
+ * is evaluated by the interpreter as usual.
  */
 @Language("simple")
 public class SimpleLanguage extends LanguageSupport implements StaticService {
 
+    /**
+     * Global option to enable compiled mode for the simple language (default false).
+     */
+    public static final String COMPILED_OPTION = "CamelSimpleCompiled";
+
     private static final Logger LOG = LoggerFactory.getLogger(SimpleLanguage.class);
 
     // singleton for expressions without a result type
     private static final SimpleLanguage SIMPLE = new SimpleLanguage();
 
     boolean allowEscape = true;
+    boolean compiled;
 
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
@@ -134,7 +145,10 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
 
     @Override
     public void start() {
-        // noop
+        if (getCamelContext() != null && "true".equalsIgnoreCase(getCamelContext().getGlobalOption(COMPILED_OPTION))) {
+            compiled = true;
+            LOG.debug("Simple language is in compiled mode");
+        }
     }
 
     @Override
@@ -155,6 +169,18 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
         }
     }
 
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    /**
+     * Whether to compile the expressions and predicates, instead of interpreting them when they are evaluated.
+     * This must be set before the expressions and predicates are created.
+     */
+    public void setCompiled(boolean compiled) {
+        this.compiled = compiled;
+    }
+
     @Override
     public Predicate createPredicate(String expression) {
         ObjectHelper.notNull(expression, "expression");
@@ -164,7 +190,7 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
 
             expression = loadResource(expression);
 
-            SimplePredicateParser parser = new SimplePredicateParser(expression, allowEscape, cacheExpression);
+            SimplePredicateParser parser = new SimplePredicateParser(expression, allowEscape, cacheExpression, compiled);
             answer = parser.parsePredicate();
 
             if (cachePredicate != null && answer != null) {
@@ -184,7 +210,7 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
 
             expression = loadResource(expression);
 
-            SimpleExpressionParser parser = new SimpleExpressionParser(expression, allowEscape, cacheExpression);
+            SimpleExpressionParser parser = new SimpleExpressionParser(expression, allowEscape, cacheExpression, compiled);
             answer = parser.parseExpression();
 
             if (cacheExpression != null && answer != null) {
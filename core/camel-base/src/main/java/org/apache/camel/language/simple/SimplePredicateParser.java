@@ -56,12 +56,22 @@ public class SimplePredicateParser extends BaseSimpleParser {
 
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
+    private boolean compiled;
 
     public SimplePredicateParser(String expression, boolean allowEscape, Map<String, Expression> cacheExpression) {
         super(expression, allowEscape);
         this.cacheExpression = cacheExpression;
     }
 
+    /**
+     * @param compiled whether to compile the predicate, see {@link SimpleLanguage#isCompiled()}
+     */
+    public SimplePredicateParser(String expression, boolean allowEscape, Map<String, Expression> cacheExpression,
+                                 boolean compiled) {
+        this(expression, allowEscape, cacheExpression);
+        this.compiled = compiled;
+    }
+
     public Predicate parsePredicate() {
         clear();
         try {
@@ -441,6 +451,13 @@ public class SimplePredicateParser extends BaseSimpleParser {
     private List<Predicate> createPredicates() {
         List<Predicate> answer = new ArrayList<>();
         for (SimpleNode node : nodes) {
+            if (compiled) {
+                Predicate predicate = SimpleCompiler.compilePredicate(node, expression);
+                if (predicate != null) {
+                    answer.add(predicate);
+                }
+                continue;
+            }
             Expression exp = node.createExpression(expression);
             if (exp != null) {
                 Predicate predicate = ExpressionToPredicateAdapter.toPredicate(exp);
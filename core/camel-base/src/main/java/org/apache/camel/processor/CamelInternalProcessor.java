@@ -91,10 +91,18 @@ import org.slf4j.LoggerFactory;
  */
 public class CamelInternalProcessor extends DelegateAsyncProcessor {
 
-    private static final Object[] EMPTY_STATES = new Object[0];
+    private static final CamelInternalProcessorAdvice[] EMPTY_ADVICES = new CamelInternalProcessorAdvice[0];
+    private static final int[] EMPTY_SLOTS = new int[0];
 
     private final List<CamelInternalProcessorAdvice<?>> advices = new ArrayList<>();
-    private byte statefulAdvices;
+    // the advices compiled into arrays when added, so routing does not need to check each advice per exchange
+    private CamelInternalProcessorAdvice[] beforeAdvices = EMPTY_ADVICES;
+    // the slot to keep the state returned from the before advice in, or -1 if the state is not needed
+    private int[] beforeSlots = EMPTY_SLOTS;
+    // the advices to execute after processing, which is in reverse order and only the advices which need to be called
+    private CamelInternalProcessorAdvice[] afterAdvices = EMPTY_ADVICES;
+    private int[] afterSlots = EMPTY_SLOTS;
+    private int stateSlots;
 
     public CamelInternalProcessor() {
     }
@@ -113,9 +121,41 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         // ensure advices are sorted so they are in the order we want
         advices.sort(OrderedComparator.get());
 
-        if (advice.hasState()) {
-            statefulAdvices++;
+        compileAdvices();
+    }
+
+    /**
+     * Compiles the sorted advices into the arrays used during routing.
+     * <p/>
+     * Only the state of the advices that have state and need to be called after processing are kept, and the
+     * advices which do not need to be called after processing are left out of the after advices.
+     */
+    private void compileAdvices() {
+        int size = advices.size();
+        CamelInternalProcessorAdvice[] before = new CamelInternalProcessorAdvice[size];
+        int[] slots = new int[size];
+        List<CamelInternalProcessorAdvice> after = new ArrayList<>(size);
+        List<Integer> afterSlotList = new ArrayList<>(size);
+        int slot = 0;
+        for (int i = 0; i < size; i++) {
+            CamelInternalProcessorAdvice<?> advice = advices.get(i);
+            before[i] = advice;
+            slots[i] = -1;
+            if (advice.hasAfter()) {
+                if (advice.hasState()) {
+                    slots[i] = slot++;
+                }
+                // after advices are executed in reverse order
+                after.add(0, advice);
+                afterSlotList.add(0, slots[i]);
+            }
         }
+
+        this.beforeAdvices = before;
+        this.beforeSlots = slots;
+        this.afterAdvices = after.toArray(new CamelInternalProcessorAdvice[0]);
+        this.afterSlots = afterSlotList.stream().mapToInt(Integer::intValue).toArray();
+        this.stateSlots = slot;
     }
 
     /**
@@ -156,15 +196,15 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             return true;
         }
 
-        // optimise to use object array for states, and only for the number of advices that keep state
-        final Object[] states = statefulAdvices > 0 ? new Object[statefulAdvices] : EMPTY_STATES;
-        // optimise for loop using index access to avoid creating iterator object
-        for (int i = 0, j = 0; i < advices.size(); i++) {
-            CamelInternalProcessorAdvice task = advices.get(i);
+        // create internal callback which keeps the states and will execute the advices in reverse order when done
+        final AfterAdvicesCallback callback = stateSlots > 0
+                ? new StatefulAfterAdvicesCallback(exchange, originalCallback, stateSlots) : new AfterAdvicesCallback(exchange, originalCallback);
+        for (int i = 0; i < beforeAdvices.length; i++) {
             try {
-                Object state = task.before(exchange);
-                if (task.hasState()) {
-                    states[j++] = state;
+                Object state = beforeAdvices[i].before(exchange);
+                int slot = beforeSlots[i];
+                if (slot >= 0) {
+                    callback.setState(slot, state);
                 }
             } catch (Throwable e) {
                 exchange.setException(e);
@@ -173,34 +213,6 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             }
         }
 
-        // create internal callback which will execute the advices in reverse order when done
-        AsyncCallback callback = doneSync -> {
-            try {
-                for (int i = advices.size() - 1, j = states.length - 1; i >= 0; i--) {
-                    CamelInternalProcessorAdvice task = advices.get(i);
-                    Object state = null;
-                    if (task.hasState()) {
-                        state = states[j--];
-                    }
-                    try {
-                        task.after(exchange, state);
-                    } catch (Throwable e) {
-                        exchange.setException(e);
-                        // allow all advices to complete even if there was an exception
-                    }
-                }
-            } finally {
-                // ----------------------------------------------------------
-                // CAMEL END USER - DEBUG ME HERE +++ START +++
-                // ----------------------------------------------------------
-                // callback must be called
-                exchange.getContext().getReactiveExecutor().schedule(originalCallback);
-                // ----------------------------------------------------------
-                // CAMEL END USER - DEBUG ME HERE +++ END +++
-                // ----------------------------------------------------------
-            }
-        };
-
         if (exchange.isTransacted()) {
             // must be synchronized for transacted exchanges
             if (log.isTraceEnabled()) {
@@ -224,7 +236,9 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             callback.done(true);
             return true;
         } else {
-            final UnitOfWork uow = exchange.getUnitOfWork();
+            // only use the unit of work if it needs to do some work before and after processing
+            UnitOfWork work = exchange.getUnitOfWork();
+            final UnitOfWork uow = work != null && work.isBeforeAfterProcess() ? work : null;
 
             // allow unit of work to wrap callback in case it need to do some special work
             // for example the MDCUnitOfWork
@@ -244,17 +258,20 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             // CAMEL END USER - DEBUG ME HERE +++ END +++
             // ----------------------------------------------------------
 
-            exchange.getContext().getReactiveExecutor().schedule(() -> {
-                // execute any after processor work (in current thread, not in the callback)
-                if (uow != null) {
+            if (uow != null) {
+                exchange.getContext().getReactiveExecutor().schedule(() -> {
+                    // execute any after processor work (in current thread, not in the callback)
                     uow.afterProcess(processor, exchange, callback, false);
-                }
 
-                if (log.isTraceEnabled()) {
-                    log.trace("Exchange processed and is continued routed asynchronously for exchangeId: {} -> {}",
-                             exchange.getExchangeId(), exchange);
-                }
-            });
+                    if (log.isTraceEnabled()) {
+                        log.trace("Exchange processed and is continued routed asynchronously for exchangeId: {} -> {}",
+                                 exchange.getExchangeId(), exchange);
+                    }
+                });
+            } else if (log.isTraceEnabled()) {
+                log.trace("Exchange processed and is continued routed asynchronously for exchangeId: {} -> {}",
+                         exchange.getExchangeId(), exchange);
+            }
             return false;
         }
     }
@@ -264,6 +281,96 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         return processor != null ? processor.toString() : super.toString();
     }
 
+    /**
+     * Callback which executes the after advices in reverse order when the exchange is done, and then continues routing
+     * by calling the original callback.
+     * <p/>
+     * This callback is used when none of the after advices have state, so no states are kept.
+     */
+    private class AfterAdvicesCallback implements AsyncCallback {
+
+        private final Exchange exchange;
+        private final AsyncCallback originalCallback;
+
+        AfterAdvicesCallback(Exchange exchange, AsyncCallback originalCallback) {
+            this.exchange = exchange;
+            this.originalCallback = originalCallback;
+        }
+
+        void setState(int slot, Object state) {
+            throw new IllegalStateException("No state slots");
+        }
+
+        Object getState(int slot) {
+            return null;
+        }
+
+        @Override
+        public void done(boolean doneSync) {
+            try {
+                for (int i = 0; i < afterAdvices.length; i++) {
+                    try {
+                        afterAdvices[i].after(exchange, getState(afterSlots[i]));
+                    } catch (Throwable e) {
+                        exchange.setException(e);
+                        // allow all advices to complete even if there was an exception
+                    }
+                }
+            } finally {
+                // ----------------------------------------------------------
+                // CAMEL END USER - DEBUG ME HERE +++ START +++
+                // ----------------------------------------------------------
+                // callback must be called
+                exchange.getContext().getReactiveExecutor().schedule(originalCallback);
+                // ----------------------------------------------------------
+                // CAMEL END USER - DEBUG ME HERE +++ END +++
+                // ----------------------------------------------------------
+            }
+        }
+    }
+
+    /**
+     * Callback which keeps the states of the advices, where the states of the first two advices are kept in fields,
+     * so the states array is only needed when there are many advices with state.
+     */
+    private final class StatefulAfterAdvicesCallback extends AfterAdvicesCallback {
+
+        private Object state0;
+        private Object state1;
+        private Object[] states;
+
+        StatefulAfterAdvicesCallback(Exchange exchange, AsyncCallback originalCallback, int stateSlots) {
+            super(exchange, originalCallback);
+            if (stateSlots > 2) {
+                this.states = new Object[stateSlots - 2];
+            }
+        }
+
+        @Override
+        void setState(int slot, Object state) {
+            if (slot == 0) {
+                state0 = state;
+            } else if (slot == 1) {
+                state1 = state;
+            } else {
+                states[slot - 2] = state;
+            }
+        }
+
+        @Override
+        Object getState(int slot) {
+            if (slot < 0) {
+                return null;
+            } else if (slot == 0) {
+                return state0;
+            } else if (slot == 1) {
+                return state1;
+            } else {
+                return states[slot - 2];
+            }
+        }
+    }
+
     /**
      * Strategy to determine if we should continue processing the {@link Exchange}.
      */
@@ -487,6 +594,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
             return false;
         }
 
+        @Override
+        public boolean hasAfter() {
+            return false;
+        }
+
         @Override
         public int getOrder() {
             // we want tracer just before calling the processor
@@ -827,6 +939,11 @@ public class CamelInternalProcessor extends DelegateAsyncProcessor {
         public boolean hasState() {
             return false;
         }
+
+        @Override
+        public boolean hasAfter() {
+            return false;
+        }
     }
 
     /**
@@ -17,10 +17,9 @@
 package org.apache.camel.processor;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
@@ -41,17 +40,20 @@ import static org.apache.camel.processor.PipelineHelper.continueProcessing;
 /**
  * Creates a Pipeline pattern where the output of the previous step is sent as
  * input to the next step, reusing the same message exchanges
+ * <p/>
+ * The processors are kept in an array, and each exchange is routed by a single {@link PipelineTask}
+ * which keeps track of the current step, so routing to the next step does not allocate any objects.
  */
 public class Pipeline extends AsyncProcessorSupport implements Navigate<Processor>, Traceable, IdAware, RouteIdAware {
 
     private final CamelContext camelContext;
-    private List<AsyncProcessor> processors;
+    private final AsyncProcessor[] processors;
     private String id;
     private String routeId;
 
     public Pipeline(CamelContext camelContext, Collection<Processor> processors) {
         this.camelContext = camelContext;
-        this.processors = processors.stream().map(AsyncProcessorConverterHelper::convert).collect(Collectors.toList());
+        this.processors = processors.stream().map(AsyncProcessorConverterHelper::convert).toArray(AsyncProcessor[]::new);
     }
 
     public static Processor newInstance(CamelContext camelContext, List<Processor> processors) {
@@ -82,39 +84,16 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
 
     @Override
     public boolean process(Exchange exchange, AsyncCallback callback) {
+        PipelineTask task = new PipelineTask(exchange, callback);
         if (exchange.isTransacted()) {
-            camelContext.getReactiveExecutor().scheduleSync(() -> Pipeline.this.doProcess(exchange, callback, processors.iterator(), true));
+            camelContext.getReactiveExecutor().scheduleSync(task);
         } else {
-            camelContext.getReactiveExecutor().scheduleMain(() -> Pipeline.this.doProcess(exchange, callback, processors.iterator(), true));
+            camelContext.getReactiveExecutor().scheduleMain(task);
         }
         return false;
     }
 
-    protected void doProcess(Exchange exchange, AsyncCallback callback, Iterator<AsyncProcessor> processors, boolean first) {
-        if (continueRouting(processors, exchange)
-                && (first || continueProcessing(exchange, "so breaking out of pipeline", log))) {
-
-            // prepare for next run
-            ExchangeHelper.prepareOutToIn(exchange);
-
-            // get the next processor
-            AsyncProcessor processor = processors.next();
-
-            processor.process(exchange, doneSync ->
-                    camelContext.getReactiveExecutor().schedule(() -> doProcess(exchange, callback, processors, false)));
-        } else {
-            ExchangeHelper.copyResults(exchange, exchange);
-
-            // logging nextExchange as it contains the exchange that might have altered the payload and since
-            // we are logging the completion if will be confusing if we log the original instead
-            // we could also consider logging the original and the nextExchange then we have *before* and *after* snapshots
-            log.trace("Processing complete for exchangeId: {} >>> {}", exchange.getExchangeId(), exchange);
-
-            camelContext.getReactiveExecutor().schedule(callback);
-        }
-    }
-
-    protected boolean continueRouting(Iterator<AsyncProcessor> it, Exchange exchange) {
+    protected boolean continueRouting(Exchange exchange) {
         Object stop = exchange.getProperty(Exchange.ROUTE_STOP);
         if (stop != null) {
             boolean doStop = exchange.getContext().getTypeConverter().convertTo(Boolean.class, stop);
@@ -123,20 +102,65 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
                 return false;
             }
         }
-        // continue if there are more processors to route
-        boolean answer = it.hasNext();
-        log.trace("ExchangeId: {} should continue routing: {}", exchange.getExchangeId(), answer);
-        return answer;
+        return true;
+    }
+
+    /**
+     * Routes the exchange through the processors of the pipeline. The task is its own callback,
+     * so the same instance is scheduled again when a processor is done to continue with the next step.
+     */
+    private final class PipelineTask implements Runnable, AsyncCallback {
+
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private int index;
+
+        PipelineTask(Exchange exchange, AsyncCallback callback) {
+            this.exchange = exchange;
+            this.callback = callback;
+        }
+
+        @Override
+        public void done(boolean doneSync) {
+            camelContext.getReactiveExecutor().schedule(this);
+        }
+
+        @Override
+        public void run() {
+            // only check for stop before the first step, as the exchange is checked for failures after each step
+            boolean more = index < processors.length;
+            log.trace("ExchangeId: {} should continue routing: {}", exchange.getExchangeId(), more);
+            if (more && (index == 0 ? continueRouting(exchange) : continueProcessing(exchange, "so breaking out of pipeline", log))) {
+
+                // prepare for next run
+                ExchangeHelper.prepareOutToIn(exchange);
+
+                // get the next processor
+                AsyncProcessor processor = processors[index++];
+
+                // the exchange may continue on another thread when the processor is done, so do not touch the task afterwards
+                processor.process(exchange, this);
+            } else {
+                ExchangeHelper.copyResults(exchange, exchange);
+
+                // logging nextExchange as it contains the exchange that might have altered the payload and since
+                // we are logging the completion if will be confusing if we log the original instead
+                // we could also consider logging the original and the nextExchange then we have *before* and *after* snapshots
+                log.trace("Processing complete for exchangeId: {} >>> {}", exchange.getExchangeId(), exchange);
+
+                camelContext.getReactiveExecutor().schedule(callback);
+            }
+        }
     }
 
     @Override
     protected void doStart() throws Exception {
-        ServiceHelper.startService(processors);
+        ServiceHelper.startService((Object[]) processors);
     }
 
     @Override
     protected void doStop() throws Exception {
-        ServiceHelper.stopService(processors);
+        ServiceHelper.stopService((Object[]) processors);
     }
 
     @Override
@@ -145,7 +169,7 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
     }
 
     public List<Processor> getProcessors() {
-        return (List) processors;
+        return Arrays.<Processor>asList(processors);
     }
 
     @Override
@@ -178,11 +202,11 @@ public class Pipeline extends AsyncProcessorSupport implements Navigate<Processo
         if (!hasNext()) {
             return null;
         }
-        return new ArrayList<>(processors);
+        return new ArrayList<>(Arrays.<Processor>asList(processors));
     }
 
     @Override
     public boolean hasNext() {
-        return processors != null && !processors.isEmpty();
+        return processors.length > 0;
     }
 }
@@ -19,6 +19,7 @@ package org.apache.camel.processor;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -31,6 +32,7 @@ import org.apache.camel.Expression;
 import org.apache.camel.Navigate;
 import org.apache.camel.Processor;
 import org.apache.camel.Traceable;
+import org.apache.camel.processor.resequencer.ConcurrentResequencerEngine;
 import org.apache.camel.processor.resequencer.ResequencerEngine;
 import org.apache.camel.processor.resequencer.SequenceElementComparator;
 import org.apache.camel.processor.resequencer.SequenceSender;
@@ -69,13 +71,16 @@ public class StreamResequencer extends AsyncProcessorSupport implements Sequence
     private String routeId;
     private final CamelContext camelContext;
     private final ExceptionHandler exceptionHandler;
-    private final ResequencerEngine<Exchange> engine;
+    private final SequenceElementComparator<Exchange> comparator;
+    private volatile ResequencerEngine<Exchange> engine;
+    private boolean concurrent;
     private final Processor processor;
     private final Expression expression;
     private Delivery delivery;
     private int capacity;
     private boolean ignoreInvalidExchanges;
     private long deliveryAttemptInterval = 1000L;
+    private final LongAdder capacityReachedCount = new LongAdder();
 
     /**
      * Creates a new {@link StreamResequencer} instance.
@@ -86,6 +91,7 @@ public class StreamResequencer extends AsyncProcessorSupport implements Sequence
     public StreamResequencer(CamelContext camelContext, Processor processor, SequenceElementComparator<Exchange> comparator, Expression expression) {
         ObjectHelper.notNull(camelContext, "CamelContext");
         this.camelContext = camelContext;
+        this.comparator = comparator;
         this.engine = new ResequencerEngine<>(comparator);
         this.engine.setSequenceSender(this);
         this.processor = processor;
@@ -160,6 +166,60 @@ public class StreamResequencer extends AsyncProcessorSupport implements Sequence
         return engine.getRejectOld() != null && engine.getRejectOld();
     }
 
+    /**
+     * Sets whether to use the {@link ConcurrentResequencerEngine} which allows
+     * exchanges to be inserted concurrently, and delivers the exchanges which
+     * are in sequence in a single run.
+     * <p/>
+     * Default is <tt>false</tt>. The engine is chosen when the resequencer is started.
+     */
+    public void setConcurrent(boolean concurrent) {
+        this.concurrent = concurrent;
+    }
+
+    public boolean isConcurrent() {
+        return concurrent;
+    }
+
+    /**
+     * Gets the number of exchanges currently waiting in the resequencer.
+     */
+    public int getSize() {
+        return engine.size();
+    }
+
+    /**
+     * Gets the number of exchanges which arrived without their immediate
+     * predecessor, i.e. the number of gaps detected in the stream.
+     */
+    public long getGapCount() {
+        return engine.getGapCount();
+    }
+
+    /**
+     * Gets the number of exchanges which were delivered because the timeout
+     * elapsed before the gap in front of them was closed.
+     */
+    public long getTimeoutCount() {
+        return engine.getTimeoutCount();
+    }
+
+    /**
+     * Gets the number of exchanges which had to wait because the capacity of
+     * the resequencer was reached.
+     */
+    public long getCapacityReachedCount() {
+        return capacityReachedCount.sum();
+    }
+
+    /**
+     * Reset the statistics counters.
+     */
+    public void reset() {
+        engine.resetStatistics();
+        capacityReachedCount.reset();
+    }
+
     /**
      * Sets whether to ignore invalid exchanges which cannot be used by this stream resequencer.
      * <p/>
@@ -202,6 +262,14 @@ public class StreamResequencer extends AsyncProcessorSupport implements Sequence
 
     @Override
     protected void doStart() throws Exception {
+        if (concurrent != engine instanceof ConcurrentResequencerEngine) {
+            // the engine is only changed while stopped, as the exchanges are inserted into it
+            ResequencerEngine<Exchange> answer = concurrent ? new ConcurrentResequencerEngine<>(comparator) : new ResequencerEngine<>(comparator);
+            answer.setSequenceSender(this);
+            answer.setTimeout(engine.getTimeout());
+            answer.setRejectOld(engine.getRejectOld());
+            engine = answer;
+        }
         ServiceHelper.startService(processor);
         delivery = new Delivery();
         engine.start();
@@ -228,6 +296,9 @@ public class StreamResequencer extends AsyncProcessorSupport implements Sequence
 
     @Override
     public boolean process(Exchange exchange, AsyncCallback callback) {
+        if (engine.size() >= capacity) {
+            capacityReachedCount.increment();
+        }
         while (engine.size() >= capacity) {
             try {
                 Thread.sleep(getTimeout());
@@ -273,6 +344,7 @@ public class StreamResequencer extends AsyncProcessorSupport implements Sequence
 
         private Lock deliveryRequestLock = new ReentrantLock();
         private Condition deliveryRequestCondition = deliveryRequestLock.newCondition();
+        private boolean deliveryRequested;
         
         Delivery() {
             super(camelContext.getExecutorServiceManager().resolveThreadName("Resequencer Delivery"));
@@ -284,7 +356,10 @@ public class StreamResequencer extends AsyncProcessorSupport implements Sequence
                 try {
                     deliveryRequestLock.lock();
                     try {
-                        deliveryRequestCondition.await(deliveryAttemptInterval, TimeUnit.MILLISECONDS);
+                        if (!deliveryRequested) {
+                            deliveryRequestCondition.awaitNanos(deliveryDelay());
+                        }
+                        deliveryRequested = false;
                     } finally {
                         deliveryRequestLock.unlock();
                     }
@@ -307,11 +382,25 @@ public class StreamResequencer extends AsyncProcessorSupport implements Sequence
         public void request() {
             deliveryRequestLock.lock();
             try {
+                deliveryRequested = true;
                 deliveryRequestCondition.signal();
             } finally {
                 deliveryRequestLock.unlock();
             }
         }
+
+        private long deliveryDelay() {
+            long delay = TimeUnit.MILLISECONDS.toNanos(deliveryAttemptInterval);
+            ResequencerEngine<Exchange> current = engine;
+            if (current instanceof ConcurrentResequencerEngine) {
+                // wake up when the first exchange times out, as there is no timer
+                long timeout = ((ConcurrentResequencerEngine<Exchange>) current).getDeliveryDelay(TimeUnit.NANOSECONDS);
+                if (timeout >= 0 && timeout < delay) {
+                    delay = timeout;
+                }
+            }
+            return delay;
+        }
         
     }
     
@@ -24,6 +24,7 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.camel.AsyncCallback;
@@ -56,6 +57,15 @@ import org.apache.camel.util.ObjectHelper;
  * block if necessary. The end result is a rolling window of time. Where from the
  * callers point of view in the last timePeriodMillis no more than
  * maxRequestsPerPeriod have been allowed to be acquired.
+ * <p/>
+ * Alternatively the throttler can use a token bucket (see {@link #setTokenBucket(boolean)}),
+ * which is implemented using the generic cell rate algorithm (GCRA). The token bucket
+ * allows up to maxRequestsPerPeriod requests at once, and then one request every
+ * timePeriodMillis / maxRequestsPerPeriod. The state of the token bucket is a single
+ * timestamp which is updated using compare and set, so there is no locking and no
+ * permits to keep. A caller which has to wait reserves its time slot up front, and
+ * with asyncDelayed enabled the exchange is resumed by the reactive executor from
+ * a task on the scheduler of the throttler, which never blocks.
  */
 public class Throttler extends AsyncProcessorSupport implements Traceable, IdAware, RouteIdAware {
 
@@ -64,6 +74,9 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
     private static final String PROPERTY_EXCHANGE_QUEUED_TIMESTAMP = "CamelThrottlerExchangeQueuedTimestamp";
     private static final String PROPERTY_EXCHANGE_STATE = "CamelThrottlerExchangeState";
 
+    // returned by the token bucket when the throttle rate is 0 and there are no requests allowed
+    private static final long NO_THROTTLE_RATE = -1;
+
     private enum State { SYNC, ASYNC, ASYNC_REJECTED }
 
     private final CamelContext camelContext;
@@ -78,8 +91,11 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
     private boolean rejectExecution;
     private boolean asyncDelayed;
     private boolean callerRunsWhenRejected = true;
+    private boolean tokenBucket;
     private Expression correlationExpression;
     private Map<String, ThrottlingState> states = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private volatile ScheduledFuture<?> cleanTask;
 
     public Throttler(final CamelContext camelContext, final Expression maxRequestsPerPeriodExpression, final long timePeriodMillis,
                      final ScheduledExecutorService asyncExecutor, final boolean shutdownAsyncExecutor, final boolean rejectExecution, Expression correlation) {
@@ -101,6 +117,10 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
 
     @Override
     public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        if (tokenBucket) {
+            return processTokenBucket(exchange, callback);
+        }
+
         long queuedStart = 0;
         if (log.isTraceEnabled()) {
             queuedStart = exchange.getProperty(PROPERTY_EXCHANGE_QUEUED_TIMESTAMP, 0L, Long.class);
@@ -173,15 +193,7 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
             return doneSync;
 
         } catch (final InterruptedException e) {
-            // determine if we can still run, or the camel context is forcing a shutdown
-            boolean forceShutdown = exchange.getContext().getShutdownStrategy().forceShutdown(this);
-            if (forceShutdown) {
-                String msg = "Run not allowed as ShutdownStrategy is forcing shutting down, will reject executing exchange: " + exchange;
-                log.debug(msg);
-                exchange.setException(new RejectedExecutionException(msg, e));
-            } else {
-                exchange.setException(e);
-            }
+            onInterrupted(exchange, e);
             callback.done(doneSync);
             return doneSync;
         } catch (final Throwable t) {
@@ -191,6 +203,106 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         }
     }
 
+    /**
+     * Throttles using the token bucket, which does not block when a request is allowed, and
+     * reserves the time slot of the exchange when it has to wait.
+     */
+    protected boolean processTokenBucket(final Exchange exchange, final AsyncCallback callback) {
+        try {
+            if (!isRunAllowed()) {
+                throw new RejectedExecutionException("Run is not allowed");
+            }
+
+            String key = DEFAULT_KEY;
+            if (correlationExpression != null) {
+                key = correlationExpression.evaluate(exchange, String.class);
+            }
+            TokenBucket bucket = buckets.computeIfAbsent(key, k -> new TokenBucket());
+            bucket.calculateAndSetMaxRequestsPerPeriod(exchange);
+
+            long delay = bucket.acquire(!isRejectExecution());
+            if (delay == 0) {
+                log.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+                callback.done(true);
+                return true;
+            }
+            if (isRejectExecution()) {
+                throw new ThrottlerRejectedExecutionException("Exceeded the max throttle rate of "
+                        + bucket.getThrottleRate() + " within " + timePeriodMillis + "ms");
+            }
+
+            if (isAsyncDelayed() && !exchange.isTransacted()) {
+                try {
+                    log.debug("Throttle rate exceeded but AsyncDelayed enabled, so scheduling for async processing, exchangeId: {}", exchange.getExchangeId());
+                    scheduleTokenBucketResume(exchange, callback, bucket, delay);
+                    return false;
+                } catch (RejectedExecutionException e) {
+                    if (!isCallerRunsWhenRejected()) {
+                        throw e;
+                    }
+                    log.debug("AsyncExecutor is full, rejected exchange will run in the current thread, exchangeId: {}", exchange.getExchangeId());
+                }
+            }
+
+            // block until the reserved time slot
+            long start = System.nanoTime();
+            while (delay == NO_THROTTLE_RATE) {
+                // there are no requests allowed so check again after a time period
+                TimeUnit.MILLISECONDS.sleep(timePeriodMillis);
+                delay = bucket.acquire(true);
+            }
+            if (delay > 0) {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            }
+            if (log.isTraceEnabled()) {
+                log.trace("Throttled for {}ms, exchangeId: {}", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), exchange.getExchangeId());
+            }
+            callback.done(true);
+            return true;
+
+        } catch (final InterruptedException e) {
+            onInterrupted(exchange, e);
+            callback.done(true);
+            return true;
+        } catch (final Throwable t) {
+            exchange.setException(t);
+            callback.done(true);
+            return true;
+        }
+    }
+
+    private void scheduleTokenBucketResume(final Exchange exchange, final AsyncCallback callback, final TokenBucket bucket, final long delay) {
+        long nanos = delay == NO_THROTTLE_RATE ? TimeUnit.MILLISECONDS.toNanos(timePeriodMillis) : delay;
+        asyncExecutor.schedule(() -> {
+            // when there were no requests allowed then check again, otherwise the time slot has been reserved
+            long next = delay == NO_THROTTLE_RATE ? bucket.acquire(true) : 0;
+            if (next != 0) {
+                try {
+                    scheduleTokenBucketResume(exchange, callback, bucket, next);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    exchange.setException(e);
+                }
+            } else if (!isRunAllowed()) {
+                exchange.setException(new RejectedExecutionException("Run is not allowed"));
+            }
+            log.trace("Throttled exchange resumed, exchangeId: {}", exchange.getExchangeId());
+            exchange.getContext().getReactiveExecutor().schedule(() -> callback.done(false));
+        }, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void onInterrupted(final Exchange exchange, final InterruptedException e) {
+        // determine if we can still run, or the camel context is forcing a shutdown
+        boolean forceShutdown = exchange.getContext().getShutdownStrategy().forceShutdown(this);
+        if (forceShutdown) {
+            String msg = "Run not allowed as ShutdownStrategy is forcing shutting down, will reject executing exchange: " + exchange;
+            log.debug(msg);
+            exchange.setException(new RejectedExecutionException(msg, e));
+        } else {
+            exchange.setException(e);
+        }
+    }
+
     /**
      * Delegate blocking on the DelayQueue to an asyncExecutor. Except if the executor rejects the submission
      * and isCallerRunsWhenRejected() is enabled, then this method will delegate back to process(), but not
@@ -220,10 +332,18 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         if (isAsyncDelayed()) {
             ObjectHelper.notNull(asyncExecutor, "executorService", this);
         }
+        if (tokenBucket && correlationExpression != null && asyncExecutor != null) {
+            // a single task removes the token buckets of the correlation keys which are no longer in use
+            cleanTask = asyncExecutor.scheduleWithFixedDelay(this::cleanTokenBuckets, cleanPeriodMillis, cleanPeriodMillis, TimeUnit.MILLISECONDS);
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
+        if (cleanTask != null) {
+            cleanTask.cancel(false);
+            cleanTask = null;
+        }
     }
 
     @Override
@@ -232,9 +352,16 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
             camelContext.getExecutorServiceManager().shutdownNow(asyncExecutor);
         }
         states.clear();
+        buckets.clear();
         super.doShutdown();
     }
 
+    private void cleanTokenBuckets() {
+        long now = System.nanoTime();
+        long cleanPeriod = TimeUnit.MILLISECONDS.toNanos(cleanPeriodMillis);
+        buckets.values().removeIf(bucket -> bucket.isIdle(now, cleanPeriod));
+    }
+
     private class ThrottlingState {
         private final String key;
         private final DelayQueue<ThrottlePermit> delayQueue = new DelayQueue<>();
@@ -332,6 +459,99 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         }
     }
 
+    /**
+     * Token bucket implemented using the generic cell rate algorithm (GCRA), where the state is the theoretical
+     * arrival time (TAT) of the next request. A request is allowed when the TAT is no more than a time period ahead
+     * of now, and each allowed request moves the TAT one emission interval (timePeriodMillis / throttleRate) ahead.
+     */
+    private class TokenBucket {
+        private final AtomicLong theoreticalArrivalTime = new AtomicLong(System.nanoTime());
+        private volatile int throttleRate;
+
+        public int getThrottleRate() {
+            return throttleRate;
+        }
+
+        /**
+         * Acquires a request.
+         *
+         * @param reserve whether to reserve the time slot if the request is not allowed now
+         * @return 0 if the request is allowed now, the nanos until the (reserved) time slot, or {@link #NO_THROTTLE_RATE}
+         *         if no requests are allowed
+         */
+        public long acquire(boolean reserve) {
+            int rate = throttleRate;
+            if (rate <= 0) {
+                return NO_THROTTLE_RATE;
+            }
+            long period = TimeUnit.MILLISECONDS.toNanos(timePeriodMillis);
+            long interval = Math.max(1, period / rate);
+            while (true) {
+                long now = System.nanoTime();
+                long tat = theoreticalArrivalTime.get();
+                long next = Math.max(tat, now) + interval;
+                long delay = next - period - now;
+                if (delay > 0 && !reserve) {
+                    return delay;
+                }
+                if (theoreticalArrivalTime.compareAndSet(tat, next)) {
+                    return Math.max(0, delay);
+                }
+            }
+        }
+
+        /**
+         * Rescales the requests which are used within the current time period to the new emission interval,
+         * so increasing the rate allows more requests right away, and decreasing the rate allows fewer.
+         */
+        private void rescale(int oldRate, int newRate) {
+            while (true) {
+                long now = System.nanoTime();
+                long tat = theoreticalArrivalTime.get();
+                long used = tat - now;
+                if (used <= 0) {
+                    return;
+                }
+                long next = now + (long) ((double) used * oldRate / newRate);
+                if (theoreticalArrivalTime.compareAndSet(tat, next)) {
+                    return;
+                }
+            }
+        }
+
+        public boolean isIdle(long now, long cleanPeriod) {
+            return now - theoreticalArrivalTime.get() > cleanPeriod;
+        }
+
+        /**
+         * Evaluates the maxRequestsPerPeriodExpression and adjusts the throttle rate up or down.
+         */
+        public void calculateAndSetMaxRequestsPerPeriod(final Exchange exchange) throws Exception {
+            Integer newThrottle = maxRequestsPerPeriodExpression.evaluate(exchange, Integer.class);
+
+            if (newThrottle != null && newThrottle < 0) {
+                throw new IllegalStateException("The maximumRequestsPerPeriod must be a positive number, was: " + newThrottle);
+            }
+
+            int rate = throttleRate;
+            if (newThrottle == null && rate == 0) {
+                throw new RuntimeExchangeException("The maxRequestsPerPeriodExpression was evaluated as null: " + maxRequestsPerPeriodExpression, exchange);
+            }
+
+            if (newThrottle != null && newThrottle != rate) {
+                if (rate > 0 && newThrottle > 0) {
+                    rescale(rate, newThrottle);
+                }
+                throttleRate = newThrottle;
+                if (rate == 0) {
+                    log.debug("Initial throttle rate set to {}, triggered by ExchangeId: {}", newThrottle, exchange.getExchangeId());
+                } else {
+                    log.debug("Throttle rate changed from {} to {}, triggered by ExchangeId: {}", rate, newThrottle, exchange.getExchangeId());
+                }
+            }
+        }
+    }
+
     /**
      * Permit that implements the Delayed interface needed by DelayQueue.
      */
@@ -373,6 +593,17 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
         this.asyncDelayed = asyncDelayed;
     }
 
+    public boolean isTokenBucket() {
+        return tokenBucket;
+    }
+
+    /**
+     * Whether to use a token bucket instead of the DelayQueue with permits.
+     */
+    public void setTokenBucket(boolean tokenBucket) {
+        this.tokenBucket = tokenBucket;
+    }
+
     public boolean isCallerRunsWhenRejected() {
         return callerRunsWhenRejected;
     }
@@ -418,6 +649,9 @@ public class Throttler extends AsyncProcessorSupport implements Traceable, IdAwa
      * than the max per period within the group will return
      */
     public int getCurrentMaximumRequestsPerPeriod() {
+        if (tokenBucket) {
+            return buckets.values().stream().mapToInt(TokenBucket::getThrottleRate).max().orElse(0);
+        }
         return states.values().stream().mapToInt(ThrottlingState::getThrottleRate).max().orElse(0);
     }
 
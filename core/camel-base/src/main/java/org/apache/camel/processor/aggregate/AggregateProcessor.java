@@ -99,6 +99,8 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
     public static final String COMPLETED_BY_FORCE = "force";
 
     private volatile Lock lock;
+    // lock stripes, which are only in use when lockStripes is enabled
+    private volatile Lock[] stripedLocks;
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final AsyncProcessor processor;
@@ -136,6 +138,8 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
     private final AtomicLong completedByBatchConsumer = new AtomicLong();
     private final AtomicLong completedByForce = new AtomicLong();
     private final AtomicLong discarded = new AtomicLong();
+    private final AtomicLong lockContended = new AtomicLong();
+    private final AtomicLong lockWaitTime = new AtomicLong();
 
     // keep booking about redelivery
     private class RedeliveryData {
@@ -196,6 +200,16 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
             return discarded.get();
         }
 
+        @Override
+        public long getLockContended() {
+            return lockContended.get();
+        }
+
+        @Override
+        public long getLockWaitTime() {
+            return TimeUnit.NANOSECONDS.toMillis(lockWaitTime.get());
+        }
+
         @Override
         public void reset() {
             totalIn.set(0);
@@ -207,6 +221,8 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
             completedByBatchConsumer.set(0);
             completedByForce.set(0);
             discarded.set(0);
+            lockContended.set(0);
+            lockWaitTime.set(0);
         }
 
         @Override
@@ -225,6 +241,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private int lockStripes;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -392,13 +409,16 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         copy.getIn().removeHeader(Exchange.AGGREGATION_COMPLETE_ALL_GROUPS_INCLUSIVE);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        // when using lock stripes then we cannot complete all groups while holding the lock for this key
+        AtomicBoolean completeAllGroups = stripedLocks != null ? new AtomicBoolean() : null;
+        Lock keyLock = getLock(key);
+        acquireLock(keyLock);
         try {
-            aggregated = doAggregation(key, copy);
+            aggregated = doAggregation(key, copy, completeAllGroups);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
 
         // we are completed so do that work outside the lock
@@ -407,6 +427,10 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
             aggregated.forEach(agg -> onSubmitCompletion(key, agg));
         }
 
+        if (completeAllGroups != null && completeAllGroups.get()) {
+            forceCompletionOfAllGroups();
+        }
+
         // check for the special header to force completion of all groups (inclusive of the message)
         if (getAndRemoveBooleanHeader(exchange, Exchange.AGGREGATION_COMPLETE_ALL_GROUPS_INCLUSIVE)) {
             forceCompletionOfAllGroups();
@@ -438,10 +462,12 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
      *
      * @param key      the correlation key
      * @param newExchange the exchange
+     * @param completeAllGroups if not <tt>null</tt> then completion of all groups is signalled by this flag,
+     *                          instead of completing the groups while holding the lock (used by lock stripes)
      * @return the aggregated exchange(s) which is complete, or <tt>null</tt> if not yet complete
      * @throws org.apache.camel.CamelExchangeException is thrown if error aggregating
      */
-    private List<Exchange> doAggregation(String key, Exchange newExchange) throws CamelExchangeException {
+    private List<Exchange> doAggregation(String key, Exchange newExchange, AtomicBoolean completeAllGroups) throws CamelExchangeException {
         log.trace("onAggregation +++ start +++ with correlation key: {}", key);
 
         List<Exchange> list = new ArrayList<>();
@@ -533,7 +559,11 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
 
         // check for the special exchange property to force completion of all groups
         if (getAndRemoveBooleanProperty(answer, Exchange.AGGREGATION_COMPLETE_ALL_GROUPS)) {
-            forceCompletionOfAllGroups();
+            if (completeAllGroups != null) {
+                completeAllGroups.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
             forceCompletionOfAllGroups();
@@ -1034,6 +1064,38 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         this.optimisticLocking = optimisticLocking;
     }
 
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    /**
+     * Sets the number of lock stripes to use, which allows exchanges with different correlation keys to be aggregated
+     * in parallel. The correlation keys are hashed to the stripes, which means the aggregation repository must be
+     * thread safe for different correlation keys (the default in-memory repository is). The aggregation strategy
+     * is then called concurrently for different correlation keys, and must be thread safe as well.
+     * <p/>
+     * The number is rounded up to a power of two. Use <tt>0</tt> or <tt>1</tt> to use a single shared lock (default).
+     * Lock stripes is not in use with optimistic locking, completionFromBatchConsumer or completionOnNewCorrelationGroup.
+     */
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
+    /**
+     * Whether lock stripes is in use
+     */
+    public boolean isLockStriped() {
+        return stripedLocks != null;
+    }
+
+    /**
+     * Number of lock stripes in use, which is 1 when a single shared lock is used.
+     */
+    public int getLockStripesInUse() {
+        Lock[] locks = stripedLocks;
+        return locks != null ? locks.length : 1;
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1176,9 +1238,9 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
      */
     private final class AggregationTimeoutMap extends DefaultTimeoutMap<String, String> {
 
-        private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
-            // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
-            super(executor, requestMapPollTimeMillis, optimisticLocking);
+        private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, boolean useLock) {
+            // do NOT use locking on the timeout map (unless needed) as this aggregator has its own shared lock we will use instead
+            super(executor, requestMapPollTimeMillis, useLock);
             addListener(this::onEviction);
         }
 
@@ -1187,11 +1249,11 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
             // wait for lock to be created
             if (lock != null) {
                 // must acquire the shared aggregation lock to be able to purge
-                lock.lock();
+                lockAll();
                 try {
                     super.purge();
                 } finally {
-                    lock.unlock();
+                    unlockAll();
                 }
             }
         }
@@ -1253,7 +1315,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
 
             if (keys != null && !keys.isEmpty()) {
                 // must acquire the shared aggregation lock to be able to trigger interval completion
-                lock.lock();
+                lockAll();
                 try {
                     for (String key : keys) {
                         boolean stolenInterval = false;
@@ -1278,7 +1340,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                         }
                     }
                 } finally {
-                    lock.unlock();
+                    unlockAll();
                 }
             }
 
@@ -1317,7 +1379,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                     log.info("We are shutting down so stop recovering");
                     return;
                 }
-                lock.lock();
+                lockAll();
                 try {
                     // consider in progress if it was in progress before we did the scan, or currently after we did the scan
                     // its safer to consider it in progress than risk duplicates due both in progress + recovered
@@ -1381,7 +1443,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                         }
                     }
                 } finally {
-                    lock.unlock();
+                    unlockAll();
                 }
             }
 
@@ -1488,7 +1550,13 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                 shutdownTimeoutCheckerExecutorService = true;
             }
             // check for timed out aggregated messages once every second
-            timeoutMap = new AggregationTimeoutMap(getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval());
+            boolean timingWheel = "true".equalsIgnoreCase(camelContext.getGlobalOption(DefaultTimeoutMap.TIMING_WHEEL_OPTION));
+            // the timing wheel is not thread safe, so the timeout map must use its own lock, as exchanges with
+            // different correlation keys can be added to the timeout map at the same time when using lock stripes
+            AggregationTimeoutMap map = new AggregationTimeoutMap(getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval(),
+                    optimisticLocking || timingWheel);
+            map.setTimingWheel(timingWheel);
+            timeoutMap = map;
             // fill in existing timeout values from the aggregation repository, for example if a restart occurred, then we
             // need to re-establish the timeout map so timeout can trigger
             restoreTimeoutMapFromAggregationRepository();
@@ -1507,10 +1575,77 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                 shutdownOptimisticLockingExecutorService = true;
             }
         } else {
+            if (lockStripes > 1) {
+                if (isCompletionFromBatchConsumer() || isCompletionOnNewCorrelationGroup()) {
+                    // these completions work across all the correlation groups and therefore requires a single lock
+                    log.warn("Lock stripes cannot be used together with completionFromBatchConsumer or completionOnNewCorrelationGroup. Aggregator {} is using a single lock.", getId());
+                } else {
+                    // use a power of two so the stripe can be selected by a bit mask
+                    int size = Integer.highestOneBit(lockStripes - 1) << 1;
+                    Lock[] locks = new Lock[size];
+                    for (int i = 0; i < size; i++) {
+                        locks[i] = new ReentrantLock();
+                    }
+                    stripedLocks = locks;
+                    log.info("Using {} lock stripes. Aggregator {} can aggregate different correlation keys in parallel.", size, getId());
+                }
+            }
             lock = new ReentrantLock();
         }
     }
 
+    /**
+     * Gets the lock to use for aggregating the given correlation key.
+     */
+    protected Lock getLock(String key) {
+        Lock[] locks = stripedLocks;
+        if (locks == null) {
+            return lock;
+        }
+        int hash = key.hashCode();
+        // spread the higher bits as the mask only uses the lower bits
+        hash ^= hash >>> 16;
+        return locks[hash & (locks.length - 1)];
+    }
+
+    private void acquireLock(Lock stripe) {
+        if (!stripe.tryLock()) {
+            if (getStatistics().isStatisticsEnabled()) {
+                lockContended.incrementAndGet();
+                long start = System.nanoTime();
+                stripe.lock();
+                lockWaitTime.addAndGet(System.nanoTime() - start);
+            } else {
+                stripe.lock();
+            }
+        }
+    }
+
+    /**
+     * Acquires the lock for all the correlation keys (all the lock stripes are acquired in order).
+     */
+    private void lockAll() {
+        Lock[] locks = stripedLocks;
+        if (locks == null) {
+            acquireLock(lock);
+        } else {
+            for (Lock stripe : locks) {
+                acquireLock(stripe);
+            }
+        }
+    }
+
+    private void unlockAll() {
+        Lock[] locks = stripedLocks;
+        if (locks == null) {
+            lock.unlock();
+        } else {
+            for (int i = locks.length - 1; i >= 0; i--) {
+                locks[i].unlock();
+            }
+        }
+    }
+
     @Override
     protected void doStop() throws Exception {
         // note: we cannot do doForceCompletionOnStop from this doStop method
@@ -1617,7 +1752,8 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = getLock(key);
+        acquireLock(keyLock);
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1631,7 +1767,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                 }
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         log.trace("Completed force completion of group {}", key);
 
@@ -1658,7 +1794,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
             // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
+            lockAll();
             total = keys.size();
             try {
                 for (String key : keys) {
@@ -1674,7 +1810,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                     }
                 }
             } finally {
-                lock.unlock();
+                unlockAll();
             }
         }
         log.trace("Completed force completion of all groups task");
@@ -1689,7 +1825,8 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = getLock(key);
+        acquireLock(keyLock);
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1699,7 +1836,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                 onCompletion(key, exchange, exchange, false, true);
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         log.trace("Completed force discarded of group {}", key);
 
@@ -1726,7 +1863,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
         int total = 0;
         if (keys != null && !keys.isEmpty()) {
             // must acquire the shared aggregation lock to be able to trigger force completion
-            lock.lock();
+            lockAll();
             total = keys.size();
             try {
                 for (String key : keys) {
@@ -1738,7 +1875,7 @@ public class AggregateProcessor extends AsyncProcessorSupport implements Navigat
                     }
                 }
             } finally {
-                lock.unlock();
+                unlockAll();
             }
         }
         log.trace("Completed force discarding of all groups task");
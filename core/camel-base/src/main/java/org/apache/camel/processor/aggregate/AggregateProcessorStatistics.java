@@ -71,6 +71,16 @@ public interface AggregateProcessorStatistics {
      */
     long getDiscarded();
 
+    /**
+     * Total number of times an exchange had to wait for the aggregation lock, because it was held by another thread
+     */
+    long getLockContended();
+
+    /**
+     * Total time in millis spent waiting for the aggregation lock
+     */
+    long getLockWaitTime();
+
     /**
      * Reset the counters
      */
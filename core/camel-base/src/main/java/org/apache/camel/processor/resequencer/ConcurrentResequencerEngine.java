@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.resequencer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A {@link ResequencerEngine} which allows elements to be inserted concurrently.
+ * The resequencing behaviour is the same as the {@link ResequencerEngine}, but
+ * elements are kept in a {@link ConcurrentSkipListSet} so inserting an element
+ * and looking up its immediate predecessor and successor requires no lock.
+ * <p>
+ * Instead of scheduling a timer task for every element which waits for its
+ * predecessor, a waiting element holds the time it times out at, and it becomes
+ * <i>ready-for-delivery</i> once this time has passed. The thread which
+ * delivers the elements therefore acts as the single timer of this
+ * resequencer, and can use {@link #getDeliveryDelay(TimeUnit)} to find out how
+ * long to wait until the first element becomes ready.
+ * <p>
+ * Elements are delivered by one thread at a time. All the elements which are
+ * ready for delivery are delivered together as a single run via
+ * {@link SequenceSender#sendElements(List)}.
+ */
+public class ConcurrentResequencerEngine<E> extends ResequencerEngine<E> {
+
+    private final SequenceElementComparator<E> comparator;
+    private final ConcurrentSkipListSet<TimedElement<E>> sequence;
+    private final AtomicInteger size = new AtomicInteger();
+    private final Lock deliveryLock = new ReentrantLock();
+    private volatile TimedElement<E> lastDelivered;
+
+    /**
+     * Creates a new resequencer instance with a default timeout of 2000
+     * milliseconds.
+     *
+     * @param comparator a sequence element comparator.
+     */
+    public ConcurrentResequencerEngine(SequenceElementComparator<E> comparator) {
+        super(comparator);
+        this.comparator = comparator;
+        this.sequence = new ConcurrentSkipListSet<>((o1, o2) -> comparator.compare(o1.object, o2.object));
+    }
+
+    @Override
+    public void start() {
+        // elements time out when they are delivered so there is no timer to start
+    }
+
+    @Override
+    public void stop() {
+        // noop
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    E getLastDelivered() {
+        TimedElement<E> element = lastDelivered;
+        return element != null ? element.object : null;
+    }
+
+    @Override
+    void setLastDelivered(E o) {
+        lastDelivered = new TimedElement<>(o, 0, false);
+    }
+
+    /**
+     * Inserts the given element into this resequencer. If the element is not
+     * ready for immediate delivery and has no immediate predecessor then it
+     * waits until it times out. This method can be called concurrently.
+     *
+     * @param o an element.
+     * @throws IllegalArgumentException if the element cannot be used with this resequencer engine
+     */
+    @Override
+    public void insert(E o) {
+        // validate the exchange has no problem
+        if (!comparator.isValid(o)) {
+            throw new IllegalArgumentException("Element cannot be used in comparator: " + comparator);
+        }
+
+        // validate the exchange shouldn't be 'rejected' (if applicable)
+        Boolean rejectOld = getRejectOld();
+        TimedElement<E> last = lastDelivered;
+        if (rejectOld != null && rejectOld && last != null && comparator.compare(o, last.object) < 0) {
+            throw new MessageRejectedException("rejecting message [" + o
+                    + "], it should have been sent before the last delivered message [" + last.object + "]");
+        }
+
+        // the element waits for its timeout until it is known to be in sequence,
+        // so it cannot be delivered too early by a concurrent delivery
+        TimedElement<E> element = new TimedElement<>(o, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(getTimeout()), true);
+        if (!sequence.add(element)) {
+            // an equal element is waiting already
+            return;
+        }
+        size.incrementAndGet();
+
+        // an element and its immediate predecessor both look for each other after
+        // they have been added to the sequence, so at least one of them finds the
+        // other (the last delivered element is set before it is removed)
+        TimedElement<E> predecessor = sequence.lower(element);
+        if (predecessor != null && comparator.predecessor(predecessor.object, o)) {
+            element.cancel();
+        } else if (successorOfLastDelivered(o)) {
+            element.cancel();
+        } else {
+            onGap();
+        }
+
+        // no need for the immediate successor to wait any more
+        TimedElement<E> successor = sequence.higher(element);
+        if (successor != null && comparator.successor(successor.object, o)) {
+            successor.cancel();
+        }
+    }
+
+    /**
+     * Delivers all elements which are currently ready to deliver as a single
+     * run via {@link SequenceSender#sendElements(List)}.
+     *
+     * @throws Exception thrown by {@link SequenceSender#sendElements(List)}.
+     */
+    @Override
+    public void deliver() throws Exception {
+        deliveryLock.lock();
+        try {
+            long now = System.nanoTime();
+            List<E> run = null;
+            TimedElement<E> element;
+            while ((element = pollReady(now)) != null) {
+                if (run == null) {
+                    run = new ArrayList<>();
+                }
+                run.add(element.object);
+            }
+            if (run != null) {
+                getSequenceSender().sendElements(run);
+            }
+        } finally {
+            deliveryLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean deliverNext() throws Exception {
+        deliveryLock.lock();
+        try {
+            TimedElement<E> element = pollReady(System.nanoTime());
+            if (element == null) {
+                return false;
+            }
+            getSequenceSender().sendElement(element.object);
+            return true;
+        } finally {
+            deliveryLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the time until the element with the lowest sequence value becomes
+     * ready for delivery.
+     *
+     * @param unit the time unit of the delay.
+     * @return the delay, <code>0</code> if the element is ready already or
+     *         <code>-1</code> if there are no elements.
+     */
+    public long getDeliveryDelay(TimeUnit unit) {
+        deliveryLock.lock();
+        try {
+            if (sequence.isEmpty()) {
+                return -1;
+            }
+            TimedElement<E> element = sequence.first();
+            if (!element.waiting) {
+                return 0;
+            }
+            return unit.convert(Math.max(0, element.timeout - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } finally {
+            deliveryLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the element with the lowest sequence value if it is ready for
+     * delivery. Elements are only removed while holding the delivery lock.
+     */
+    private TimedElement<E> pollReady(long now) {
+        if (sequence.isEmpty()) {
+            return null;
+        }
+        TimedElement<E> element = sequence.first();
+        if (element.waiting) {
+            if (now - element.timeout < 0) {
+                return null;
+            }
+            onTimeout();
+        }
+        // set the last delivered element before it is removed, so an inserted
+        // successor either finds it in the sequence or as the last delivered
+        lastDelivered = element;
+        sequence.remove(element);
+        size.decrementAndGet();
+        return element;
+    }
+
+    private boolean successorOfLastDelivered(E o) {
+        TimedElement<E> last = lastDelivered;
+        return last != null && comparator.successor(o, last.object);
+    }
+
+    private static final class TimedElement<E> {
+
+        private final E object;
+        private final long timeout;
+        private volatile boolean waiting;
+
+        TimedElement(E object, long timeout, boolean waiting) {
+            this.object = object;
+            this.timeout = timeout;
+            this.waiting = waiting;
+        }
+
+        void cancel() {
+            waiting = false;
+        }
+    }
+
+}
@@ -33,6 +33,12 @@ class Element<E> implements TimeoutHandler {
      * timing out.
      */
     private Timeout timeout;
+
+    /**
+     * <code>true</code> if this element has timed-out (rather than being
+     * cancelled).
+     */
+    private boolean timedOut;
     
     /**
      * Creates a new container instance.
@@ -63,6 +69,16 @@ class Element<E> implements TimeoutHandler {
         return timeout != null;
     }
     
+    /**
+     * Returns <code>true</code> if this element has timed-out, i.e. it became
+     * ready for delivery because its timeout elapsed.
+     *
+     * @return <code>true</code> if timed-out.
+     */
+    public synchronized boolean timedOut() {
+        return timedOut;
+    }
+
     /**
      * Schedules the given timeout task. Before this methods calls the
      * {@link Timeout#schedule()} method it sets this element as timeout
@@ -94,6 +110,9 @@ class Element<E> implements TimeoutHandler {
      */
     @Override
     public synchronized void timeout(Timeout t) {
+        if (t != null && this.timeout != null) {
+            this.timedOut = true;
+        }
         this.timeout = null;
     }
     
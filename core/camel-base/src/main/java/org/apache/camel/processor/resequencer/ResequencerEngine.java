@@ -17,6 +17,7 @@
 package org.apache.camel.processor.resequencer;
 
 import java.util.Timer;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.util.concurrent.ThreadHelper;
 
@@ -89,6 +90,16 @@ public class ResequencerEngine<E> {
      */
     private Boolean rejectOld;
 
+    /**
+     * Number of elements which have arrived without their immediate predecessor.
+     */
+    private final LongAdder gapCount = new LongAdder();
+
+    /**
+     * Number of elements which have been delivered because their timeout elapsed.
+     */
+    private final LongAdder timeoutCount = new LongAdder();
+
     /**
      * Creates a new resequencer instance with a default timeout of 2000
      * milliseconds.
@@ -147,6 +158,34 @@ public class ResequencerEngine<E> {
         this.rejectOld = rejectOld;
     }
 
+    /**
+     * Returns the number of elements which have arrived without their immediate
+     * predecessor, i.e. the number of gaps detected in the stream.
+     *
+     * @return the number of gaps.
+     */
+    public long getGapCount() {
+        return gapCount.sum();
+    }
+
+    /**
+     * Returns the number of elements which have been delivered because their
+     * timeout elapsed before the gap in front of them was closed.
+     *
+     * @return the number of timeouts.
+     */
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+
+    /**
+     * Resets the gap and timeout statistics.
+     */
+    public void resetStatistics() {
+        gapCount.reset();
+        timeoutCount.reset();
+    }
+
     /**
      * Returns the sequence sender.
      *
@@ -227,6 +266,7 @@ public class ResequencerEngine<E> {
         } else if (sequence.predecessor(element) != null) {
             // nothing to schedule
         } else {
+            onGap();
             element.schedule(defineTimeout());
         }
     }
@@ -270,6 +310,9 @@ public class ResequencerEngine<E> {
 
         // remove deliverable element from sequence
         sequence.remove(element);
+        if (element.timedOut()) {
+            onTimeout();
+        }
 
         // set the delivered element to last delivered element
         lastDelivered = element;
@@ -281,6 +324,14 @@ public class ResequencerEngine<E> {
         return true;
     }
 
+    void onGap() {
+        gapCount.increment();
+    }
+
+    void onTimeout() {
+        timeoutCount.increment();
+    }
+
     /**
      * Returns <code>true</code> if the given element is the immediate
      * successor of the last delivered element.
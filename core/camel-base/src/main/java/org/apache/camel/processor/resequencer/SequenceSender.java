@@ -16,6 +16,8 @@
  */
 package org.apache.camel.processor.resequencer;
 
+import java.util.List;
+
 /**
   * An interface used by the {@link ResequencerEngine#deliver()} and
   * {@link ResequencerEngine#deliverNext()} methods to send out re-ordered
@@ -32,4 +34,18 @@ public interface SequenceSender<E> {
      */
     void sendElement(E o) throws Exception;
 
+    /**
+     * Sends the given elements, which is a run of re-ordered elements that
+     * became ready for delivery at the same time. The default implementation
+     * sends the elements one by one using {@link #sendElement(Object)}.
+     *
+     * @param elements re-ordered elements.
+     * @throws Exception if delivery fails.
+     */
+    default void sendElements(List<E> elements) throws Exception {
+        for (E o : elements) {
+            sendElement(o);
+        }
+    }
+
 }
\ No newline at end of file
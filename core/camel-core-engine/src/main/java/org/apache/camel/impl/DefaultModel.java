@@ -20,9 +20,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
@@ -31,6 +34,7 @@ import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.FailedToStartRouteException;
 import org.apache.camel.Route;
 import org.apache.camel.impl.engine.AbstractCamelContext;
+import org.apache.camel.impl.engine.DefaultRoute;
 import org.apache.camel.impl.engine.DefaultRouteContext;
 import org.apache.camel.model.DataFormatDefinition;
 import org.apache.camel.model.HystrixConfigurationDefinition;
@@ -46,7 +50,10 @@ import org.apache.camel.model.rest.RestDefinition;
 import org.apache.camel.model.transformer.TransformerDefinition;
 import org.apache.camel.model.validator.ValidatorDefinition;
 import org.apache.camel.reifier.RouteReifier;
+import org.apache.camel.spi.NodeIdFactory;
 import org.apache.camel.spi.RouteContext;
+import org.apache.camel.util.StopWatch;
+import org.apache.camel.util.function.ThrowingRunnable;
 
 public class DefaultModel implements Model {
 
@@ -319,8 +326,12 @@ public class DefaultModel implements Model {
 
     protected void startRouteDefinitions(Collection<RouteDefinition> list) throws Exception {
         if (list != null) {
-            for (RouteDefinition route : list) {
-                startRoute(route);
+            if (camelContext.isParallelRouteStartup() && list.size() > 1) {
+                startRoutesInParallel(list);
+            } else {
+                for (RouteDefinition route : list) {
+                    startRoute(route);
+                }
             }
         }
     }
@@ -330,6 +341,46 @@ public class DefaultModel implements Model {
         start(routeDefinition);
     }
 
+    /**
+     * Starts the routes where the routes are created from their model in parallel, and then
+     * started one by one in the same order as they would otherwise be started.
+     */
+    protected void startRoutesInParallel(Collection<RouteDefinition> list) throws Exception {
+        List<RouteDefinition> routes = new ArrayList<>(list);
+
+        // assign ids and validate them for all the routes at once
+        RouteDefinitionHelper.forceAssignIds(camelContext, routeDefinitions);
+        validateUniqueIds(routes);
+        NodeIdFactory nodeIdFactory = camelContext.adapt(ExtendedCamelContext.class).getNodeIdFactory();
+        for (RouteDefinition route : routes) {
+            if (!route.isPrepared()) {
+                RouteDefinitionHelper.prepareRoute(camelContext, route);
+                route.markPrepared();
+            }
+            // assign the node ids up front, so they do not depend on the order the routes are created
+            assignNodeIds(nodeIdFactory, route.getOutputs());
+        }
+
+        AbstractCamelContext mcc = camelContext.adapt(AbstractCamelContext.class);
+        mcc.setStartingRoutes(true);
+        try {
+            RouteService[] routeServices = new RouteService[routes.size()];
+            List<ThrowingRunnable<Exception>> tasks = new ArrayList<>(routes.size());
+            for (int i = 0; i < routes.size(); i++) {
+                final int index = i;
+                tasks.add(() -> routeServices[index] = createRouteService(routes.get(index)));
+            }
+            mcc.runRouteStartupTasks(tasks);
+
+            for (RouteService routeService : routeServices) {
+                mcc.startRouteService(routeService, true);
+            }
+        } finally {
+            // we are done staring routes
+            mcc.setStartingRoutes(false);
+        }
+    }
+
     protected void prepare(RouteDefinition routeDefinition) throws Exception {
         // assign ids to the routes and validate that the id's is all unique
         RouteDefinitionHelper.forceAssignIds(camelContext, routeDefinitions);
@@ -351,10 +402,7 @@ public class DefaultModel implements Model {
         AbstractCamelContext mcc = camelContext.adapt(AbstractCamelContext.class);
         mcc.setStartingRoutes(true);
         try {
-            String id = routeDefinition.idOrCreate(camelContext.adapt(ExtendedCamelContext.class).getNodeIdFactory());
-            RouteContext routeContext = new DefaultRouteContext(camelContext, routeDefinition, id);
-            Route route = new RouteReifier(routeDefinition).createRoute(camelContext, routeContext);
-            RouteService routeService = new RouteService(route);
+            RouteService routeService = createRouteService(routeDefinition);
             mcc.startRouteService(routeService, true);
         } finally {
             // we are done staring routes
@@ -362,6 +410,48 @@ public class DefaultModel implements Model {
         }
     }
 
+    protected RouteService createRouteService(RouteDefinition routeDefinition) throws Exception {
+        StopWatch watch = new StopWatch();
+        String id = routeDefinition.idOrCreate(camelContext.adapt(ExtendedCamelContext.class).getNodeIdFactory());
+        RouteContext routeContext = new DefaultRouteContext(camelContext, routeDefinition, id);
+        Route route = new RouteReifier(routeDefinition).createRoute(camelContext, routeContext);
+        if (route instanceof DefaultRoute) {
+            ((DefaultRoute) route).setCreationDuration(watch.taken());
+        }
+        return new RouteService(route);
+    }
+
+    /**
+     * Validates that the ids of the given routes are unique among all the routes, which is the same as
+     * validating each of the routes, but only gathers the ids of each route once.
+     */
+    private void validateUniqueIds(List<RouteDefinition> routes) throws FailedToStartRouteException {
+        Set<RouteDefinition> targets = Collections.newSetFromMap(new IdentityHashMap<>());
+        targets.addAll(routes);
+        Map<String, RouteDefinition> owners = new HashMap<>();
+        for (RouteDefinition route : routeDefinitions) {
+            // only include custom ids, and no abstract ids
+            Set<String> ids = new LinkedHashSet<>();
+            ProcessorDefinitionHelper.gatherAllNodeIds(route, ids, true, false);
+            for (String id : ids) {
+                RouteDefinition owner = owners.putIfAbsent(id, route);
+                if (owner != null && (targets.contains(route) || targets.contains(owner))) {
+                    RouteDefinition target = targets.contains(owner) ? owner : route;
+                    throw new FailedToStartRouteException(target.getId(), "duplicate id detected: " + id + ". Please correct ids to be unique among all your routes.");
+                }
+            }
+        }
+    }
+
+    private static void assignNodeIds(NodeIdFactory nodeIdFactory, List<ProcessorDefinition<?>> outputs) {
+        if (outputs != null) {
+            for (ProcessorDefinition<?> output : outputs) {
+                output.idOrCreate(nodeIdFactory);
+                assignNodeIds(nodeIdFactory, output.getOutputs());
+            }
+        }
+    }
+
     /**
      * Should we start newly added routes?
      */
@@ -81,6 +81,9 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition> i
     @Metadata(javaType = "java.lang.Boolean")
     private String optimisticLocking;
     @XmlAttribute
+    @Metadata(javaType = "java.lang.Integer")
+    private String lockStripes;
+    @XmlAttribute
     private String executorServiceRef;
     @XmlAttribute
     private String timeoutCheckerExecutorServiceRef;
@@ -446,6 +449,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition> i
         this.optimisticLocking = optimisticLocking;
     }
 
+    public String getLockStripes() {
+        return lockStripes;
+    }
+
+    public void setLockStripes(String lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
     public String getParallelProcessing() {
         return parallelProcessing;
     }
@@ -1028,6 +1039,23 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition> i
         return this;
     }
 
+    /**
+     * Turns on using lock stripes, which allows exchanges with different
+     * correlation keys to be aggregated in parallel. The correlation keys are
+     * hashed to the given number of locks (rounded up to a power of two). The
+     * aggregationRepository being used must be thread safe for different
+     * correlation keys, which the default in-memory repository is. The
+     * AggregationStrategy is then called concurrently for different
+     * correlation keys, and must be thread safe as well.
+     * <p/>
+     * Lock stripes is not in use together with optimistic locking,
+     * completionFromBatchConsumer or completionOnNewCorrelationGroup.
+     */
+    public AggregateDefinition lockStripes(int lockStripes) {
+        setLockStripes(Integer.toString(lockStripes));
+        return this;
+    }
+
     /**
      * Allows to configure retry settings when using optimistic locking.
      */
@@ -169,6 +169,20 @@ public class ResequenceDefinition extends OutputDefinition<ResequenceDefinition>
         return this;
     }
 
+    /**
+     * Uses a stream resequencer engine which allows messages to be inserted
+     * concurrently, and delivers the messages which are in sequence together.
+     *
+     * @return the builder
+     */
+    public ResequenceDefinition concurrent() {
+        if (streamConfig == null) {
+            throw new IllegalStateException("concurrent() only supported for stream resequencer");
+        }
+        streamConfig.setConcurrent(Boolean.toString(true));
+        return this;
+    }
+
     /**
      * Sets the in batch size for number of exchanges received
      * 
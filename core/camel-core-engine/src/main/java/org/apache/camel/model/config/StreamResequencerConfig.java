@@ -51,6 +51,9 @@ public class StreamResequencerConfig extends ResequencerConfig {
     @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String rejectOld;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean")
+    private String concurrent;
 
     /**
      * Creates a new {@link StreamResequencerConfig} instance using default
@@ -214,4 +217,18 @@ public class StreamResequencerConfig extends ResequencerConfig {
         return rejectOld;
     }
 
+    /**
+     * Whether to use a resequencer engine which allows messages to be inserted
+     * concurrently, and delivers the messages which are in sequence together.
+     * The engine has no timer thread, instead the delivery thread waits until
+     * the first message times out.
+     */
+    public void setConcurrent(String concurrent) {
+        this.concurrent = concurrent;
+    }
+
+    public String getConcurrent() {
+        return concurrent;
+    }
+
 }
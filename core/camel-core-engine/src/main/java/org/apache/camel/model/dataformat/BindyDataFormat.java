@@ -45,6 +45,9 @@ public class BindyDataFormat extends DataFormatDefinition {
     @XmlAttribute
     @Metadata(defaultValue = "false")
     private Boolean allowEmptyStream;
+    @XmlAttribute
+    @Metadata(defaultValue = "false")
+    private Boolean streaming;
     @XmlTransient
     private Class<?> clazz;
 
@@ -130,4 +133,18 @@ public class BindyDataFormat extends DataFormatDefinition {
         this.allowEmptyStream = allowEmptyStream;
     }
 
+    public Boolean getStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Whether to unmarshal the records one at a time, by returning an
+     * <tt>java.util.Iterator</tt> which can be used by the splitter in
+     * streaming mode, instead of a <tt>java.util.List</tt> of all the records.
+     * This is supported by Csv and Fixed.
+     */
+    public void setStreaming(Boolean streaming) {
+        this.streaming = streaming;
+    }
+
 }
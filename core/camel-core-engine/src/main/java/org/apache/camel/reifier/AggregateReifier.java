@@ -112,6 +112,9 @@ public class AggregateReifier extends ProcessorReifier<AggregateDefinition> {
         if (definition.getOptimisticLocking() != null) {
             answer.setOptimisticLocking(parseBoolean(routeContext, definition.getOptimisticLocking()));
         }
+        if (definition.getLockStripes() != null) {
+            answer.setLockStripes(parseInt(routeContext, definition.getLockStripes()));
+        }
         if (definition.getCompletionPredicate() != null) {
             Predicate predicate = definition.getCompletionPredicate().createPredicate(routeContext);
             answer.setCompletionPredicate(predicate);
@@ -135,6 +135,9 @@ public class ResequenceReifier extends ProcessorReifier<ResequenceDefinition> {
         if (config.getIgnoreInvalidExchanges() != null) {
             resequencer.setIgnoreInvalidExchanges(parseBoolean(routeContext, config.getIgnoreInvalidExchanges()));
         }
+        if (config.getConcurrent() != null) {
+            resequencer.setConcurrent(parseBoolean(routeContext, config.getConcurrent()));
+        }
         return resequencer;
     }
 
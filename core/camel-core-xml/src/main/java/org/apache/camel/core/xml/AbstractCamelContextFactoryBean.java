@@ -637,6 +637,14 @@ public abstract class AbstractCamelContextFactoryBean<T extends ModelCamelContex
         if (spoolCipher != null) {
             getContext().getStreamCachingStrategy().setSpoolCipher(spoolCipher);
         }
+        Boolean spoolOffHeap = CamelContextHelper.parseBoolean(getContext(), streamCaching.getSpoolOffHeap());
+        if (spoolOffHeap != null) {
+            getContext().getStreamCachingStrategy().setSpoolOffHeap(spoolOffHeap);
+        }
+        Long spoolOffHeapArenaSize = CamelContextHelper.parseLong(getContext(), streamCaching.getSpoolOffHeapArenaSize());
+        if (spoolOffHeapArenaSize != null) {
+            getContext().getStreamCachingStrategy().setSpoolOffHeapArenaSize(spoolOffHeapArenaSize);
+        }
         Boolean remove = CamelContextHelper.parseBoolean(getContext(), streamCaching.getRemoveSpoolDirectoryWhenStopping());
         if (remove != null) {
             getContext().getStreamCachingStrategy().setRemoveSpoolDirectoryWhenStopping(remove);
@@ -48,6 +48,10 @@ public class CamelStreamCachingStrategyDefinition extends IdentifiedType {
     private String spoolRules;
     @XmlAttribute
     private String bufferSize;
+    @XmlAttribute @Metadata(defaultValue = "false")
+    private String spoolOffHeap;
+    @XmlAttribute
+    private String spoolOffHeapArenaSize;
     @XmlAttribute @Metadata(defaultValue = "true")
     private String removeSpoolDirectoryWhenStopping;
     @XmlAttribute
@@ -157,6 +161,33 @@ public class CamelStreamCachingStrategyDefinition extends IdentifiedType {
         this.bufferSize = bufferSize;
     }
 
+    public String getSpoolOffHeap() {
+        return spoolOffHeap;
+    }
+
+    /**
+     * Sets whether to spool to a bounded off-heap arena of direct buffers instead of a temporary file.
+     * When the arena is full then the cache overflows to a memory mapped file in the spool directory.
+     * <p/>
+     * The off-heap arena is not in use when a spool cipher has been configured.
+     */
+    public void setSpoolOffHeap(String spoolOffHeap) {
+        this.spoolOffHeap = spoolOffHeap;
+    }
+
+    public String getSpoolOffHeapArenaSize() {
+        return spoolOffHeapArenaSize;
+    }
+
+    /**
+     * Sets the size in bytes of the off-heap arena.
+     * <p/>
+     * The default size is 64mb.
+     */
+    public void setSpoolOffHeapArenaSize(String spoolOffHeapArenaSize) {
+        this.spoolOffHeapArenaSize = spoolOffHeapArenaSize;
+    }
+
     public String getRemoveSpoolDirectoryWhenStopping() {
         return removeSpoolDirectoryWhenStopping;
     }
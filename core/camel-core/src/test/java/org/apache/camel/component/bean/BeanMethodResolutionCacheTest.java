@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.language.bean.RuntimeBeanExpressionException;
+import org.junit.Test;
+
+/**
+ * Tests that the methods resolved and invoked are correct when the same bean is called many times
+ * with different messages, as the chosen methods are cached.
+ */
+public class BeanMethodResolutionCacheTest extends ContextTestSupport {
+
+    @Test
+    public void testOverloadedMethodChosenByBodyType() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("String:Camel", template.requestBody("direct:overloaded", "Camel"));
+            assertEquals("Integer:123", template.requestBody("direct:overloaded", 123));
+            assertEquals("Order:Camel in Action", template.requestBody("direct:overloaded", new Order("Camel in Action")));
+        }
+    }
+
+    @Test
+    public void testOverloadedMethodChosenWithConvertedBody() throws Exception {
+        // a StringBuilder has no matching method, so the body is converted
+        for (int i = 0; i < 3; i++) {
+            assertEquals("String:Camel", template.requestBody("direct:overloaded", new StringBuilder("Camel")));
+        }
+    }
+
+    @Test
+    public void testOverloadedMethodChosenByName() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("String:123", template.requestBodyAndHeader("direct:name", "123", Exchange.BEAN_METHOD_NAME, "describe(String)"));
+            assertEquals("Integer:123", template.requestBodyAndHeader("direct:name", "123", Exchange.BEAN_METHOD_NAME, "describe(Integer)"));
+        }
+    }
+
+    @Test
+    public void testInvokeStaticVoidAndThrowingMethods() throws Exception {
+        assertEquals("Static:Camel", template.requestBody("direct:static", "Camel"));
+        assertEquals(Long.valueOf(5), template.requestBody("direct:primitive", 5));
+
+        MyBean.lastInOnly = null;
+        template.sendBody("direct:void", "Bye");
+        assertEquals("Bye", MyBean.lastInOnly);
+
+        try {
+            template.requestBody("direct:kaboom", "Camel");
+            fail("Should have thrown an exception");
+        } catch (CamelExecutionException e) {
+            IllegalArgumentException cause = assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+            assertEquals("Forced Camel", cause.getMessage());
+        }
+    }
+
+    @Test
+    public void testGetterShorthand() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Camel in Action", template.requestBody("direct:ognl", new Order("Camel in Action")));
+        }
+
+        // a getter which does not exist is reported every time
+        for (int i = 0; i < 2; i++) {
+            try {
+                template.requestBody("direct:ognl", "Camel");
+                fail("Should have thrown an exception");
+            } catch (CamelExecutionException e) {
+                assertIsInstanceOf(RuntimeBeanExpressionException.class, e.getCause());
+            }
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:overloaded").bean(MyBean.class, "describe");
+                from("direct:name").bean(MyBean.class);
+                from("direct:static").bean(MyBean.class, "staticDescribe");
+                from("direct:primitive").bean(MyBean.class, "toLong(${body})");
+                from("direct:void").bean(MyBean.class, "consume");
+                from("direct:kaboom").bean(MyBean.class, "kaboom");
+                from("direct:ognl").transform().simple("${body.title}");
+            }
+        };
+    }
+
+    public static final class Order {
+        private final String title;
+
+        public Order(String title) {
+            this.title = title;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+    }
+
+    public static final class MyBean {
+        static volatile String lastInOnly;
+
+        public String describe(String body) {
+            return "String:" + body;
+        }
+
+        public String describe(Integer body) {
+            return "Integer:" + body;
+        }
+
+        public String describe(Order body) {
+            return "Order:" + body.getTitle();
+        }
+
+        public static String staticDescribe(String body) {
+            return "Static:" + body;
+        }
+
+        public long toLong(int value) {
+            return value;
+        }
+
+        public void consume(String body) {
+            lastInOnly = body;
+        }
+
+        public String kaboom(String body) {
+            throw new IllegalArgumentException("Forced " + body);
+        }
+    }
+}
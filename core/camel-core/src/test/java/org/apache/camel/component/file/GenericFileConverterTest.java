@@ -26,6 +26,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.converter.stream.ByteBufferBody;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -82,6 +83,29 @@ public class GenericFileConverterTest extends ContextTestSupport {
         assertMockEndpointsSatisfied();
     }
 
+    @Test
+    public void testToByteBufferBody() throws Exception {
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("file://target/data/gf?initialDelay=0&delay=10").convertBodyTo(ByteBufferBody.class).to("mock:result");
+            }
+        });
+        context.start();
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+        mock.message(0).body().isInstanceOf(ByteBufferBody.class);
+        mock.message(0).body(String.class).isEqualTo("Hello World");
+
+        template.sendBodyAndHeader("file://target/data/gf", "Hello World", Exchange.FILE_NAME, "hello.txt");
+
+        assertMockEndpointsSatisfied();
+
+        ByteBufferBody body = mock.getReceivedExchanges().get(0).getIn().getBody(ByteBufferBody.class);
+        assertTrue(body.isMapped());
+    }
+
     @Test
     public void testToBytes() throws Exception {
         context.addRoutes(new RouteBuilder() {
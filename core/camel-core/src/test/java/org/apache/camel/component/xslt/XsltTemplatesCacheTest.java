@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.xslt;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import javax.xml.transform.Source;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.URIResolver;
+import javax.xml.transform.stream.StreamSource;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.JndiRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+public class XsltTemplatesCacheTest extends ContextTestSupport {
+
+    private static final String STYLESHEET = "<xsl:stylesheet xmlns:xsl='http://www.w3.org/1999/XSL/Transform' version='1.0'>"
+            + "<xsl:include href='greeting.xsl'/>"
+            + "<xsl:output method='text'/>"
+            + "<xsl:template match='/'>%s <xsl:call-template name='greeting'/><xsl:text> </xsl:text><xsl:value-of select='/name'/></xsl:template>"
+            + "</xsl:stylesheet>";
+
+    private static final String GREETING = "<xsl:stylesheet xmlns:xsl='http://www.w3.org/1999/XSL/Transform' version='1.0'>"
+            + "<xsl:template name='greeting'>%s</xsl:template>"
+            + "</xsl:stylesheet>";
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        deleteDirectory("target/data/xslt-cache");
+        writeStylesheet("hello.xsl", String.format(STYLESHEET, "Hello"));
+        writeStylesheet("greeting.xsl", String.format(GREETING, "dear"));
+        super.setUp();
+    }
+
+    @Test
+    public void testSharedTemplates() throws Exception {
+        XsltTemplatesCache cache = context.getComponent("xslt", XsltComponent.class).getTemplatesCache();
+
+        XsltEndpoint foo = context.getEndpoint("xslt:org/apache/camel/component/xslt/transform.xsl", XsltEndpoint.class);
+        XsltEndpoint bar = context.getEndpoint("xslt:org/apache/camel/component/xslt/transform.xsl?transformerCacheSize=2", XsltEndpoint.class);
+        assertNotSame(foo, bar);
+        assertSame(foo.getXslt().getTemplate(), bar.getXslt().getTemplate());
+
+        // the file stylesheet and the classpath stylesheet
+        assertEquals(2, cache.getSize());
+        assertEquals(2, cache.getMisses());
+        assertEquals(1, cache.getHits());
+        assertEquals(0, cache.getReloads());
+
+        String out = template.requestBody("direct:bar", "<mail><subject>Hey</subject></mail>", String.class);
+        assertTrue(out, out.contains("<transformed subject=\"Hey\">"));
+        assertEquals(1, cache.getPooledTransformers());
+    }
+
+    @Test
+    public void testReloadWhenChanged() throws Exception {
+        XsltTemplatesCache cache = context.getComponent("xslt", XsltComponent.class).getTemplatesCache();
+        cache.resetStatistics();
+
+        assertEquals("Hello dear Camel", template.requestBody("direct:file", "<name>Camel</name>", String.class));
+        assertEquals("Hello dear World", template.requestBody("direct:file", "<name>World</name>", String.class));
+        // unchanged so the stylesheet is not compiled again
+        assertEquals(2, cache.getHits());
+        assertEquals(0, cache.getReloads());
+
+        writeStylesheet("hello.xsl", String.format(STYLESHEET, "Bye"));
+        assertEquals("Bye dear Camel", template.requestBody("direct:file", "<name>Camel</name>", String.class));
+        assertEquals(1, cache.getReloads());
+
+        // a change to an included stylesheet is detected as well
+        writeStylesheet("greeting.xsl", String.format(GREETING, "old"));
+        assertEquals("Bye old Camel", template.requestBody("direct:file", "<name>Camel</name>", String.class));
+        assertEquals(2, cache.getReloads());
+        assertEquals(2, cache.getHits());
+    }
+
+    @Test
+    public void testClearCachedStylesheet() throws Exception {
+        XsltTemplatesCache cache = context.getComponent("xslt", XsltComponent.class).getTemplatesCache();
+        cache.resetStatistics();
+
+        XsltEndpoint foo = context.getEndpoint("xslt:org/apache/camel/component/xslt/transform.xsl", XsltEndpoint.class);
+        foo.clearCachedStylesheet();
+
+        template.requestBody("direct:foo", "<mail><subject>Hey</subject></mail>", String.class);
+        assertEquals(1, cache.getMisses());
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    public void testCustomUriResolverNotShared() throws Exception {
+        XsltTemplatesCache cache = context.getComponent("xslt", XsltComponent.class).getTemplatesCache();
+        cache.resetStatistics();
+
+        // the resolvers are of the same class but resolve the included stylesheet differently
+        assertEquals("Hello kind Camel", template.requestBody("direct:kind", "<name>Camel</name>", String.class));
+        assertEquals("Hello old Camel", template.requestBody("direct:old", "<name>Camel</name>", String.class));
+
+        XsltEndpoint kind = context.getEndpoint("xslt:file:target/data/xslt-cache/hello.xsl?uriResolver=#kindResolver", XsltEndpoint.class);
+        XsltEndpoint old = context.getEndpoint("xslt:file:target/data/xslt-cache/hello.xsl?uriResolver=#oldResolver", XsltEndpoint.class);
+        assertNotSame(kind.getXslt().getTemplate(), old.getXslt().getTemplate());
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    private static void writeStylesheet(String name, String content) throws Exception {
+        Path dir = Paths.get("target/data/xslt-cache");
+        Files.createDirectories(dir);
+        Files.write(dir.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:file").to("xslt:file:target/data/xslt-cache/hello.xsl?contentCache=false");
+                from("direct:foo").to("xslt:org/apache/camel/component/xslt/transform.xsl");
+                from("direct:bar").to("xslt:org/apache/camel/component/xslt/transform.xsl?transformerCacheSize=2");
+                from("direct:kind").to("xslt:file:target/data/xslt-cache/hello.xsl?uriResolver=#kindResolver");
+                from("direct:old").to("xslt:file:target/data/xslt-cache/hello.xsl?uriResolver=#oldResolver");
+            }
+        };
+    }
+
+    @Override
+    protected JndiRegistry createRegistry() throws Exception {
+        JndiRegistry registry = super.createRegistry();
+        registry.bind("kindResolver", new GreetingUriResolver("kind"));
+        registry.bind("oldResolver", new GreetingUriResolver("old"));
+        return registry;
+    }
+
+    private final class GreetingUriResolver implements URIResolver {
+
+        private final String greeting;
+
+        private GreetingUriResolver(String greeting) {
+            this.greeting = greeting;
+        }
+
+        @Override
+        public Source resolve(String href, String base) throws TransformerException {
+            if (href.equals("greeting.xsl")) {
+                return new StreamSource(new StringReader(String.format(GREETING, greeting)));
+            }
+            return new XsltUriResolver(context, href).resolve(href, base);
+        }
+    }
+}
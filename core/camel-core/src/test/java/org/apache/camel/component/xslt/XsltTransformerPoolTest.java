@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.xslt;
+
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class XsltTransformerPoolTest extends Assert {
+
+    private final TransformerFactory factory = TransformerFactory.newInstance();
+
+    @Test
+    public void testReuseMostRecentlyReturned() throws Exception {
+        XsltTransformerPool pool = new XsltTransformerPool(5);
+        assertNull(pool.poll());
+
+        Transformer first = factory.newTransformer();
+        Transformer second = factory.newTransformer();
+        assertTrue(pool.offer(first));
+        assertTrue(pool.offer(second));
+        assertEquals(2, pool.size());
+
+        assertSame(second, pool.poll());
+        assertSame(first, pool.poll());
+        assertNull(pool.poll());
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void testMaximumSize() throws Exception {
+        XsltTransformerPool pool = new XsltTransformerPool(2);
+        assertTrue(pool.offer(factory.newTransformer()));
+        assertTrue(pool.offer(factory.newTransformer()));
+        assertFalse(pool.offer(factory.newTransformer()));
+        assertEquals(2, pool.size());
+
+        pool.setMaximumSize(3);
+        assertTrue(pool.offer(factory.newTransformer()));
+        assertEquals(3, pool.size());
+
+        pool.clear();
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void testShrinkWhenIdle() throws Exception {
+        XsltTransformerPool pool = new XsltTransformerPool(5, 100);
+        pool.offer(factory.newTransformer());
+        pool.offer(factory.newTransformer());
+        pool.offer(factory.newTransformer());
+        assertEquals(3, pool.size());
+
+        Thread.sleep(200);
+
+        // the idle transformers are discarded when a transformer is returned
+        Transformer recent = factory.newTransformer();
+        assertTrue(pool.offer(recent));
+        assertEquals(1, pool.size());
+        assertSame(recent, pool.poll());
+    }
+
+    @Test
+    public void testShrinkWhenIdleOnPoll() throws Exception {
+        XsltTransformerPool pool = new XsltTransformerPool(5, 100);
+        pool.offer(factory.newTransformer());
+        pool.offer(factory.newTransformer());
+        assertEquals(2, pool.size());
+
+        Thread.sleep(200);
+
+        // the idle transformers are discarded when a transformer is taken as well
+        assertNull(pool.poll());
+        assertEquals(0, pool.size());
+    }
+
+}
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.util.IOHelper;
+import org.junit.Test;
+
+public class ByteBufferBodyTest extends ContextTestSupport {
+
+    private static final byte[] HELLO = "Hello World".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void testWrapArray() throws Exception {
+        ByteBufferBody body = ByteBufferBody.wrap(HELLO);
+
+        assertTrue(body.hasArray());
+        assertFalse(body.isDirect());
+        assertFalse(body.isMapped());
+        assertTrue(body.inMemory());
+        assertEquals(11, body.length());
+        // the array is shared, but copied when converted to an array
+        assertSame(HELLO, body.array());
+        assertNotSame(HELLO, body.toByteArray());
+        assertArrayEquals(HELLO, body.toByteArray());
+        assertEquals("Hello World", body.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testWrapPartOfArray() throws Exception {
+        ByteBufferBody body = ByteBufferBody.wrap(HELLO, 6, 5);
+
+        assertSame(HELLO, body.array());
+        assertEquals(6, body.arrayOffset());
+        assertEquals(5, body.length());
+        assertEquals("World", new String(body.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals("World", body.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testWrapDirectBuffer() throws Exception {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+        buffer.put(HELLO).flip();
+
+        ByteBufferBody body = ByteBufferBody.wrap(buffer);
+        // the position of the wrapped buffer is not changed
+        assertEquals(0, buffer.position());
+
+        assertFalse(body.hasArray());
+        assertTrue(body.isDirect());
+        assertEquals(11, body.length());
+        assertEquals("Hello World", body.toString(StandardCharsets.UTF_8));
+        assertEquals("Hello World", new String(body.toByteArray(), StandardCharsets.UTF_8));
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        body.writeTo(bos);
+        assertEquals("Hello World", bos.toString("UTF-8"));
+    }
+
+    @Test
+    public void testBufferIsReadOnly() throws Exception {
+        ByteBufferBody body = ByteBufferBody.wrap(HELLO);
+
+        ByteBuffer buffer = body.getBuffer();
+        assertTrue(buffer.isReadOnly());
+        assertEquals(11, buffer.remaining());
+
+        // each view has its own position
+        buffer.get(new byte[6]);
+        assertEquals(11, body.getBuffer().remaining());
+    }
+
+    @Test
+    public void testReadStreamMoreThanOnce() throws Exception {
+        ByteBufferBody body = ByteBufferBody.wrap(HELLO);
+
+        InputStream is = body.newInputStream();
+        assertEquals(11, is.available());
+        assertEquals(6, is.skip(6));
+        assertEquals("World", IOHelper.loadText(is).trim());
+        assertEquals(-1, is.read());
+
+        body.reset();
+        assertEquals("Hello World", IOHelper.loadText(body.newInputStream()).trim());
+
+        StreamCache copy = body.copy(null);
+        assertSame(body, copy);
+    }
+
+    @Test
+    public void testRemainingOfStream() throws Exception {
+        ByteBufferBody body = ByteBufferBody.wrap(HELLO);
+
+        InputStream is = body.newInputStream();
+        assertEquals(6, is.skip(6));
+        ByteBuffer remaining = ByteBufferBody.remaining(is);
+        assertEquals(5, remaining.remaining());
+        assertEquals('W', remaining.get(remaining.position()));
+        // the stream is not read
+        assertEquals(5, is.available());
+
+        assertNull(ByteBufferBody.remaining(new ByteArrayInputStream(HELLO)));
+    }
+
+    @Test
+    public void testMapFile() throws Exception {
+        template.sendBodyAndHeader("file://target/data/bytebuffer", "Hello World", Exchange.FILE_NAME, "hello.txt");
+
+        ByteBufferBody body = ByteBufferBody.map(new File("target/data/bytebuffer/hello.txt"));
+
+        assertTrue(body.isMapped());
+        assertTrue(body.isDirect());
+        assertFalse(body.inMemory());
+        assertEquals(11, body.length());
+        assertEquals("Hello World", body.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testConvert() throws Exception {
+        ByteBufferBody body = context.getTypeConverter().convertTo(ByteBufferBody.class, HELLO);
+        assertSame(HELLO, body.array());
+
+        // the array is a copy which can be changed without changing the body
+        byte[] data = context.getTypeConverter().convertTo(byte[].class, body);
+        assertNotSame(HELLO, data);
+        assertArrayEquals(HELLO, data);
+        data[0] = 'J';
+        assertEquals("Hello World", body.toString(StandardCharsets.UTF_8));
+
+        assertEquals("Hello World", context.getTypeConverter().convertTo(String.class, body));
+        assertEquals("Hello World", IOHelper.loadText(context.getTypeConverter().convertTo(InputStream.class, body)).trim());
+
+        ByteBuffer buffer = context.getTypeConverter().convertTo(ByteBuffer.class, body);
+        assertEquals(11, buffer.remaining());
+        assertTrue(buffer.isReadOnly());
+
+        ByteBufferBody wrapped = context.getTypeConverter().convertTo(ByteBufferBody.class, ByteBuffer.wrap(HELLO));
+        assertSame(HELLO, wrapped.array());
+    }
+
+    @Test
+    public void testConvertFile() throws Exception {
+        template.sendBodyAndHeader("file://target/data/bytebuffer", "Hello World", Exchange.FILE_NAME, "hello.txt");
+
+        ByteBufferBody body = context.getTypeConverter().convertTo(ByteBufferBody.class, new File("target/data/bytebuffer/hello.txt"));
+        assertTrue(body.isMapped());
+        assertEquals("Hello World", context.getTypeConverter().convertTo(String.class, body));
+    }
+
+    @Test
+    public void testMulticastBody() throws Exception {
+        getMockEndpoint("mock:a").expectedBodiesReceived("Hello World");
+        getMockEndpoint("mock:b").expectedBodiesReceived("Hello World");
+
+        template.sendBody("direct:start", ByteBufferBody.wrap(HELLO));
+
+        assertMockEndpointsSatisfied();
+
+        // the body is a stream cache so it is passed on as is
+        MockEndpoint mock = getMockEndpoint("mock:a");
+        assertIsInstanceOf(ByteBufferBody.class, mock.getReceivedExchanges().get(0).getIn().getBody());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").streamCaching()
+                    .multicast().to("mock:a", "mock:b");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.StreamCache;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.IOHelper;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OffHeapInputStreamCacheTest extends ContextTestSupport {
+
+    private static final String TEST_STRING = "This is a test string and it has enough aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa";
+
+    private Exchange exchange;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory("target/data/offheap");
+        context.getStreamCachingStrategy().setSpoolThreshold(16);
+        context.getStreamCachingStrategy().setSpoolOffHeap(true);
+        // room for two buffers of the arena
+        context.getStreamCachingStrategy().setSpoolOffHeapArenaSize(2 * OffHeapSpoolArena.DEFAULT_CHUNK_SIZE);
+        context.getStreamCachingStrategy().getStatistics().setStatisticsEnabled(true);
+        return context;
+    }
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        deleteDirectory("target/data/offheap");
+        super.setUp();
+        context.start();
+
+        exchange = new DefaultExchange(context);
+        exchange.setUnitOfWork(new DefaultUnitOfWork(exchange));
+    }
+
+    @Test
+    public void testSpoolOffHeap() throws Exception {
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+
+        StreamCache cache = cos.newStreamCache();
+        assertIsInstanceOf(OffHeapInputStreamCache.class, cache);
+        assertFalse(cache.inMemory());
+        assertEquals(TEST_STRING.length(), cache.length());
+        assertEquals(0, spoolFiles());
+        assertEquals(OffHeapSpoolArena.DEFAULT_CHUNK_SIZE, statistics.getOffHeapArenaUsedSize());
+
+        assertEquals(TEST_STRING, context.getTypeConverter().convertTo(String.class, cache));
+        // reading again after a reset
+        cache.reset();
+        assertEquals(TEST_STRING, context.getTypeConverter().convertTo(String.class, cache));
+
+        // the copy shares the content but has its own position
+        Exchange other = new DefaultExchange(context);
+        other.setUnitOfWork(new DefaultUnitOfWork(other));
+        cache.reset();
+        InputStream copy = (InputStream) cache.copy(other);
+        assertEquals('T', ((InputStream) cache).read());
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ((StreamCache) copy).writeTo(bos);
+        assertEquals(TEST_STRING, new String(bos.toByteArray(), StandardCharsets.UTF_8));
+
+        // the buffer is released when both exchanges are done
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(OffHeapSpoolArena.DEFAULT_CHUNK_SIZE, statistics.getOffHeapArenaUsedSize());
+        other.getUnitOfWork().done(other);
+        assertEquals(0, statistics.getOffHeapArenaUsedSize());
+        assertEquals(OffHeapSpoolArena.DEFAULT_CHUNK_SIZE, statistics.getOffHeapArenaMaxUsedSize());
+        assertEquals(0, statistics.getCacheMappedCounter());
+
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testReadRetainedCacheAfterReleased() throws Exception {
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        StreamCache cache = cos.newStreamCache();
+        exchange.getUnitOfWork().done(exchange);
+        IOHelper.close(cos);
+
+        // another exchange spools to the released buffer
+        Exchange other = new DefaultExchange(context);
+        other.setUnitOfWork(new DefaultUnitOfWork(other));
+        CachedOutputStream otherCos = new CachedOutputStream(other);
+        otherCos.write("Bye World and it has enough bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb".getBytes(StandardCharsets.UTF_8));
+        StreamCache otherCache = otherCos.newStreamCache();
+        assertEquals(OffHeapSpoolArena.DEFAULT_CHUNK_SIZE, context.getStreamCachingStrategy().getStatistics().getOffHeapArenaUsedSize());
+
+        // the retained cache must not read the content of the other exchange
+        try {
+            ((InputStream) cache).read(new byte[TEST_STRING.length()]);
+            fail("Should have thrown an exception");
+        } catch (IOException e) {
+            // expected
+        }
+        try {
+            cache.reset();
+            fail("Should have thrown an exception");
+        } catch (RuntimeCamelException e) {
+            // expected
+        }
+
+        other.getUnitOfWork().done(other);
+        IOHelper.close(otherCos);
+    }
+
+    @Test
+    public void testOverflowToMemoryMappedFile() throws Exception {
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+
+        byte[] data = new byte[5 * OffHeapSpoolArena.DEFAULT_CHUNK_SIZE + 123];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        // write some of the data byte by byte
+        for (int i = 0; i < 100; i++) {
+            cos.write(data[i]);
+        }
+        cos.write(data, 100, data.length - 100);
+
+        StreamCache cache = cos.newStreamCache();
+        assertIsInstanceOf(OffHeapInputStreamCache.class, cache);
+        assertEquals(data.length, cache.length());
+        assertEquals(1, spoolFiles());
+        assertEquals(2 * OffHeapSpoolArena.DEFAULT_CHUNK_SIZE, statistics.getOffHeapArenaUsedSize());
+        assertEquals(1, statistics.getCacheMappedCounter());
+        assertEquals(data.length - 2 * OffHeapSpoolArena.DEFAULT_CHUNK_SIZE, statistics.getCacheMappedSize());
+
+        for (int i = 0; i < 2; i++) {
+            byte[] read = context.getTypeConverter().convertTo(byte[].class, cache);
+            assertArrayEquals(data, read);
+            cache.reset();
+        }
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, spoolFiles());
+        assertEquals(0, statistics.getOffHeapArenaUsedSize());
+
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testSpoolCipherUsesFile() throws Exception {
+        context.getStreamCachingStrategy().setSpoolCipher("RC4");
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+
+        StreamCache cache = cos.newStreamCache();
+        assertIsInstanceOf(FileInputStreamCache.class, cache);
+        assertEquals(TEST_STRING, context.getTypeConverter().convertTo(String.class, cache));
+
+        exchange.getUnitOfWork().done(exchange);
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testMulticast() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            sb.append("Hello World ").append(i).append('\n');
+        }
+        String body = sb.toString();
+
+        context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").multicast().to("direct:a", "direct:b", "direct:c");
+
+                from("direct:a").convertBodyTo(String.class).to("mock:a");
+                from("direct:b").convertBodyTo(String.class).to("mock:b");
+                from("direct:c").convertBodyTo(String.class).to("mock:c");
+            }
+        });
+
+        getMockEndpoint("mock:a").expectedBodiesReceived(body);
+        getMockEndpoint("mock:b").expectedBodiesReceived(body);
+        getMockEndpoint("mock:c").expectedBodiesReceived(body);
+
+        // a byte array input stream is cached in-memory, so wrap it
+        template.sendBody("direct:start", new BufferedInputStream(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))));
+
+        assertMockEndpointsSatisfied();
+
+        StreamCachingStrategy.Statistics statistics = context.getStreamCachingStrategy().getStatistics();
+        assertEquals(1, statistics.getCacheSpoolCounter());
+        assertEquals(1, statistics.getCacheMappedCounter());
+        assertEquals(0, statistics.getOffHeapArenaUsedSize());
+        assertEquals(0, spoolFiles());
+    }
+
+    private int spoolFiles() {
+        String[] files = new File("target/data/offheap").list();
+        return files != null ? files.length : 0;
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+}
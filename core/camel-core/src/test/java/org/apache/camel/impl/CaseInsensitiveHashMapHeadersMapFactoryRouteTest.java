@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.CaseInsensitiveHashMapHeadersMapFactory;
+import org.apache.camel.support.CaseInsensitiveHashMap;
+import org.junit.Test;
+
+public class CaseInsensitiveHashMapHeadersMapFactoryRouteTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setHeadersMapFactory(new CaseInsensitiveHashMapHeadersMapFactory());
+        return context;
+    }
+
+    @Test
+    public void testCopiedHeadersAreNotShared() throws Exception {
+        getMockEndpoint("mock:a").expectedHeaderReceived("step", "a");
+        getMockEndpoint("mock:a").expectedHeaderReceived("foo", 123);
+        getMockEndpoint("mock:b").expectedHeaderReceived("step", "b");
+        getMockEndpoint("mock:b").expectedHeaderReceived("foo", 123);
+        getMockEndpoint("mock:tap").expectedHeaderReceived("step", "tap");
+        // the multicast uses the latest reply
+        getMockEndpoint("mock:result").expectedHeaderReceived("step", "b");
+        getMockEndpoint("mock:result").expectedHeaderReceived("FOO", 123);
+        getMockEndpoint("mock:result").expectedHeaderReceived(Exchange.FILE_NAME, "hello.txt");
+
+        template.sendBodyAndHeader("direct:start", "Hello World", "Foo", 123);
+
+        assertMockEndpointsSatisfied();
+
+        Exchange out = getMockEndpoint("mock:result").getReceivedExchanges().get(0);
+        assertIsInstanceOf(CaseInsensitiveHashMap.class, out.getIn().getHeaders());
+        assertEquals("hello.txt", out.getIn().getHeader("camelfilename"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .setHeader("step", constant("start"))
+                    .setHeader(Exchange.FILE_NAME, constant("hello.txt"))
+                    .wireTap("direct:tap")
+                    .multicast().to("direct:a", "direct:b").end()
+                    .to("mock:result");
+
+                from("direct:tap").setHeader("STEP", constant("tap")).to("mock:tap");
+                from("direct:a").setHeader("Step", constant("a")).to("mock:a");
+                from("direct:b").setHeader("step", constant("b")).to("mock:b");
+            }
+        };
+    }
+}
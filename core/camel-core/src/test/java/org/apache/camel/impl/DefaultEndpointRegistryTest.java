@@ -16,9 +16,17 @@
  */
 package org.apache.camel.impl;
 
+import java.util.Properties;
+
+import org.apache.camel.Endpoint;
 import org.apache.camel.impl.engine.DefaultEndpointRegistry;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class DefaultEndpointRegistryTest {
@@ -37,4 +45,43 @@ public class DefaultEndpointRegistryTest {
         assertTrue(reg.isStatic("direct:error"));
     }
 
+    @Test
+    public void testResolvedEndpoint() throws Exception {
+        DefaultCamelContext ctx = new DefaultCamelContext();
+        Properties prop = new Properties();
+        prop.put("level", "WARN");
+        ctx.getPropertiesComponent().setInitialProperties(prop);
+        ctx.start();
+        DefaultEndpointRegistry reg = (DefaultEndpointRegistry)ctx.getEndpointRegistry();
+
+        Endpoint log = ctx.getEndpoint("log:foo?showAll=true&level={{level}}");
+        assertEquals(0, reg.getResolvedHits());
+        assertEquals(1, reg.getResolvedMisses());
+        assertNotNull(reg.getResolvedKey("log:foo?showAll=true&level=WARN"));
+
+        // the uri is not normalized again
+        assertSame(log, ctx.getEndpoint("log:foo?showAll=true&level={{level}}"));
+        assertEquals(1, reg.getResolvedHits());
+        // the uri is cached after resolving the property placeholders
+        assertSame(log, ctx.getEndpoint("log:foo?showAll=true&level=WARN"));
+        assertEquals(2, reg.getResolvedHits());
+        // the same endpoint from another uri
+        assertSame(log, ctx.getEndpoint("log://foo?level=WARN&showAll=true"));
+        assertSame(log, reg.getResolvedEndpoint("log://foo?level=WARN&showAll=true"));
+
+        // the endpoint is not resolved from the cache when removed, but the key is kept
+        ctx.removeEndpoint(log);
+        assertNull(reg.getResolvedEndpoint("log:foo?showAll=true&level=WARN"));
+        assertNotNull(reg.getResolvedKey("log:foo?showAll=true&level=WARN"));
+        Endpoint log2 = ctx.getEndpoint("log:foo?showAll=true&level={{level}}");
+        assertNotSame(log, log2);
+        assertSame(log2, ctx.getEndpoint("log:foo?showAll=true&level={{level}}"));
+
+        // or when the dynamic endpoints are purged
+        reg.purge();
+        assertNotSame(log2, ctx.getEndpoint("log:foo?showAll=true&level={{level}}"));
+
+        ctx.stop();
+    }
+
 }
@@ -22,7 +22,9 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.ContextTestSupport;
+import org.apache.camel.impl.engine.BaseExecutorServiceManager;
 import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.util.concurrent.CamelVirtualThreadFactory;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
 import org.junit.Ignore;
@@ -354,6 +356,46 @@ public class DefaultExecutorServiceManagerTest extends ContextTestSupport {
         assertTrue(tp.isShutdown());
     }
 
+    @Test
+    public void testNewThreadPoolProfileVirtualThreads() throws Exception {
+        ThreadPoolProfile foo = new ThreadPoolProfile("foo");
+        foo.setPoolSize(5);
+        foo.setMaxPoolSize(10);
+        foo.setVirtualThreads(true);
+        foo.setRejectedPolicy(ThreadPoolRejectedPolicy.Abort);
+
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Cool", foo);
+        assertNotNull(pool);
+
+        // virtual threads are a thread pool executor so we have the same statistics
+        ThreadPoolExecutor tp = assertIsInstanceOf(ThreadPoolExecutor.class, pool);
+        if (CamelVirtualThreadFactory.isSupported()) {
+            assertIsInstanceOf(CamelVirtualThreadFactory.class, tp.getThreadFactory());
+            assertEquals(0, tp.getCorePoolSize());
+            assertEquals(Integer.MAX_VALUE, tp.getMaximumPoolSize());
+            // a thread per task which is not kept alive
+            assertEquals(0, tp.getKeepAliveTime(TimeUnit.NANOSECONDS));
+            assertNotNull(context.getExecutorServiceManager().getThreadPoolProfile(BaseExecutorServiceManager.VIRTUAL_THREAD_POOL_PROFILE));
+        } else {
+            // fallback to platform threads without changing the profile
+            assertTrue(foo.getVirtualThreads());
+            assertEquals(5, tp.getCorePoolSize());
+            assertEquals(10, tp.getMaximumPoolSize());
+            assertNull(context.getExecutorServiceManager().getThreadPoolProfile(BaseExecutorServiceManager.VIRTUAL_THREAD_POOL_PROFILE));
+        }
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        pool.execute(latch::countDown);
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+        // the rejected policy of the profile is in use
+        assertEquals("Abort", tp.getRejectedExecutionHandler().toString());
+
+        context.stop();
+
+        assertTrue(tp.isShutdown());
+    }
+
     @Test
     public void testNewThreadPoolProfileById() throws Exception {
         assertNull(context.getExecutorServiceManager().getThreadPoolProfile("foo"));
@@ -19,6 +19,7 @@ package org.apache.camel.impl;
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.Exchange;
 import org.apache.camel.impl.engine.DefaultInflightRepository;
+import org.apache.camel.impl.engine.FastUuidGenerator;
 import org.apache.camel.spi.InflightRepository;
 import org.apache.camel.support.DefaultExchange;
 import org.junit.Test;
@@ -45,4 +46,118 @@ public class DefaultInflightRepositoryTest extends ContextTestSupport {
         repo.remove(e1);
         assertEquals(0, repo.size());
     }
+
+    @Test
+    public void testDefaultInflightRepositoryBrowseDisabled() throws Exception {
+        InflightRepository repo = new DefaultInflightRepository();
+        repo.setInflightBrowseEnabled(false);
+        repo.addRoute("foo");
+
+        Exchange e1 = new DefaultExchange(context);
+        repo.add(e1);
+        repo.add(e1, "foo");
+        assertEquals(1, repo.size());
+        assertEquals(1, repo.size("foo"));
+
+        Exchange e2 = new DefaultExchange(context);
+        repo.add(e2);
+        assertEquals(2, repo.size());
+        assertEquals(1, repo.size("foo"));
+
+        // the exchanges are not kept so they cannot be browsed
+        assertEquals(0, repo.browse().size());
+        assertNull(repo.oldest(null));
+
+        repo.remove(e1, "foo");
+        repo.remove(e1);
+        assertEquals(1, repo.size());
+        assertEquals(0, repo.size("foo"));
+
+        // removing the same exchange again does not change the size
+        repo.remove(e1);
+        assertEquals(1, repo.size());
+
+        repo.remove(e2);
+        assertEquals(0, repo.size());
+        repo.remove(e2);
+        assertEquals(0, repo.size());
+    }
+
+    @Test
+    public void testDefaultInflightRepositoryToggleBrowse() throws Exception {
+        InflightRepository repo = new DefaultInflightRepository();
+
+        Exchange e1 = new DefaultExchange(context);
+        repo.add(e1);
+        repo.setInflightBrowseEnabled(false);
+        assertEquals(1, repo.size());
+
+        Exchange e2 = new DefaultExchange(context);
+        repo.add(e2);
+        assertEquals(2, repo.size());
+
+        repo.remove(e1);
+        assertEquals(1, repo.size());
+
+        repo.setInflightBrowseEnabled(true);
+        assertEquals(1, repo.size());
+        // added while browsing was disabled
+        assertEquals(0, repo.browse().size());
+        repo.remove(e2);
+        assertEquals(0, repo.size());
+
+        // removing again should not make the size negative
+        repo.remove(e2);
+        repo.add(e1);
+        assertEquals(1, repo.size());
+        repo.remove(e1);
+        assertEquals(0, repo.size());
+    }
+
+    @Test
+    public void testDefaultInflightRepositoryRemoveRouteTwice() throws Exception {
+        InflightRepository repo = new DefaultInflightRepository();
+        repo.addRoute("foo");
+        repo.addRoute("bar");
+
+        Exchange e1 = new DefaultExchange(context);
+        repo.add(e1, "foo");
+        repo.add(e1, "bar");
+        assertEquals(1, repo.size("foo"));
+        assertEquals(1, repo.size("bar"));
+
+        repo.remove(e1, "bar");
+        repo.remove(e1, "bar");
+        assertEquals(1, repo.size("foo"));
+        assertEquals(0, repo.size("bar"));
+
+        Exchange e2 = new DefaultExchange(context);
+        repo.add(e2, "bar");
+        repo.remove(e1, "foo");
+        repo.remove(e1, "foo");
+        repo.remove(e1, "bar");
+        assertEquals(0, repo.size("foo"));
+        assertEquals(1, repo.size("bar"));
+
+        repo.remove(e2, "bar");
+        assertEquals(0, repo.size("bar"));
+    }
+
+    @Test
+    public void testDefaultInflightRepositoryBrowseDisabledKeepsExchangeIdLazy() throws Exception {
+        context.setUuidGenerator(new FastUuidGenerator());
+        InflightRepository repo = new DefaultInflightRepository();
+        repo.setInflightBrowseEnabled(false);
+        repo.addRoute("foo");
+
+        Exchange e1 = new DefaultExchange(context);
+        repo.add(e1);
+        repo.add(e1, "foo");
+        repo.remove(e1, "foo");
+        repo.remove(e1);
+        assertEquals(0, repo.size());
+
+        // the exchange id has not been formatted
+        assertEquals("Exchange[]", e1.toString());
+    }
 }
@@ -17,6 +17,9 @@
 package org.apache.camel.impl;
 
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
@@ -208,6 +211,100 @@ public class DefaultProducerCacheTest extends ContextTestSupport {
         await().atMost(3, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(3, stopCounter.get()));
     }
 
+    @Test
+    public void testReleaseAfterPoolRemoved() throws Exception {
+        MyProducerCache cache = new MyProducerCache(this, context, 2);
+        cache.start();
+
+        Endpoint e = newEndpoint(false, 1);
+        e.setCamelContext(context);
+
+        AsyncProducer p1 = cache.acquireProducer(e);
+        AsyncProducer p2 = cache.acquireProducer(e);
+        cache.releaseProducer(e, p2);
+        assertEquals("Size should be 1", 1, cache.size());
+
+        // evict the idle producer, which removes the pool as it has no idle producers left
+        cache.forceEvict(p2);
+        cache.cleanUp();
+        assertEquals(1, stopCounter.get());
+        assertEquals("Size should be 0", 0, cache.size());
+
+        // the producer which was in use is released to the pool replacing the removed pool
+        cache.releaseProducer(e, p1);
+        assertEquals("Size should be 1", 1, cache.size());
+        assertSame(p1, cache.acquireProducer(e));
+        assertEquals(1, stopCounter.get());
+
+        cache.stop();
+        assertEquals(2, stopCounter.get());
+    }
+
+    @Test
+    public void testCacheStatistics() throws Exception {
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 2);
+        cache.start();
+
+        Endpoint e1 = newEndpoint(true, 1);
+        Endpoint e2 = newEndpoint(false, 2);
+        Endpoint e3 = newEndpoint(true, 3);
+        for (Endpoint e : new Endpoint[]{e1, e1, e2, e2, e1, e3}) {
+            AsyncProducer p = cache.acquireProducer(e);
+            cache.releaseProducer(e, p);
+        }
+
+        assertEquals(3, cache.getHits());
+        assertEquals(3, cache.getMisses());
+        // the producer of endpoint 2 was the least recently used
+        assertEquals(1, cache.getEvicted());
+        cache.cleanUp();
+        assertEquals(1, stopCounter.get());
+        assertEquals(2, cache.size());
+
+        cache.resetCacheStatistics();
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+        assertEquals(0, cache.getEvicted());
+
+        cache.stop();
+    }
+
+    @Test
+    public void testConcurrentAcquireAndRelease() throws Exception {
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 10);
+        cache.start();
+
+        final Endpoint singleton = newEndpoint(true, 1);
+        final Endpoint pooled = newEndpoint(false, 2);
+        final CountDownLatch latch = new CountDownLatch(4);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            executor.submit(() -> {
+                try {
+                    for (int j = 0; j < 1000; j++) {
+                        Endpoint e = j % 2 == 0 ? singleton : pooled;
+                        AsyncProducer p = cache.acquireProducer(e);
+                        cache.releaseProducer(e, p);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(20, TimeUnit.SECONDS));
+        executor.shutdownNow();
+        assertEquals(0, stopCounter.get());
+
+        // one singleton producer and at most one pooled producer per thread
+        assertTrue(producerCounter.get() <= 5);
+        assertEquals(4000, cache.getHits() + cache.getMisses());
+        assertEquals(producerCounter.get(), cache.getMisses());
+        assertEquals(0, cache.getEvicted());
+
+        cache.stop();
+        assertEquals(producerCounter.get(), stopCounter.get());
+    }
+
     private class MyProducerCache extends DefaultProducerCache {
 
         private MyServicePool myServicePool;
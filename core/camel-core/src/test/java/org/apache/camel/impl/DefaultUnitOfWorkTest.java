@@ -18,6 +18,7 @@ package org.apache.camel.impl;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.impl.engine.MDCUnitOfWork;
 import org.apache.camel.support.DefaultExchange;
 import org.apache.camel.support.SimpleUuidGenerator;
 import org.junit.Assert;
@@ -42,4 +43,18 @@ public class DefaultUnitOfWorkTest extends Assert {
         assertNotNull(id);
         assertEquals(id, unitOfWork.getId());
     }
+
+    @Test
+    public void testIsBeforeAfterProcess() {
+        assertFalse(unitOfWork.isBeforeAfterProcess());
+
+        // a sub class may do work before and after processing
+        DefaultUnitOfWork sub = new DefaultUnitOfWork(new DefaultExchange(new DefaultCamelContext())) {
+        };
+        assertTrue(sub.isBeforeAfterProcess());
+
+        MDCUnitOfWork mdc = new MDCUnitOfWork(new DefaultExchange(new DefaultCamelContext()), null);
+        assertTrue(mdc.isBeforeAfterProcess());
+        mdc.clear();
+    }
 }
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.engine.FastUuidGenerator;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.StopWatch;
+import org.apache.camel.util.TimeUtils;
+import org.junit.Assert;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class FastUuidGeneratorTest extends Assert {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FastUuidGeneratorTest.class);
+
+    @Test
+    public void testGenerateUUID() {
+        FastUuidGenerator uuidGenerator = new FastUuidGenerator("ID-test", 4);
+
+        String firstUUID = uuidGenerator.generateUuid();
+        assertTrue(firstUUID.matches("^ID-test-\\d+-\\d+-1$"));
+        String seed = firstUUID.substring(0, firstUUID.length() - 1);
+        for (int i = 2; i <= 10; i++) {
+            assertEquals(seed + i, uuidGenerator.generateUuid());
+        }
+
+        long id = uuidGenerator.generateCompactUuid();
+        assertEquals(11, id);
+        assertEquals(seed + "11", uuidGenerator.formatUuid(id));
+        assertEquals(seed + Long.MAX_VALUE, uuidGenerator.formatUuid(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testGenerateUUIDDefaultPrefix() {
+        FastUuidGenerator uuidGenerator = new FastUuidGenerator();
+
+        String firstUUID = uuidGenerator.generateUuid();
+        String secondUUID = uuidGenerator.generateUuid();
+
+        assertTrue(firstUUID.matches("^ID-.*-\\d+-\\d+-1$"));
+        assertTrue(secondUUID.matches("^ID-.*-\\d+-\\d+-2$"));
+    }
+
+    @Test
+    public void testInvalidBlockSize() {
+        try {
+            new FastUuidGenerator(0);
+            fail("Should have thrown an exception");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testUniqueAcrossThreads() throws Exception {
+        final FastUuidGenerator uuidGenerator = new FastUuidGenerator("ID-", 16);
+        final Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    ids.add(uuidGenerator.generateUuid());
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(40000, ids.size());
+    }
+
+    @Test
+    public void testExchangeId() {
+        CamelContext context = new DefaultCamelContext();
+        FastUuidGenerator uuidGenerator = new FastUuidGenerator("ID-test", 10);
+        context.setUuidGenerator(uuidGenerator);
+        String seed = uuidGenerator.formatUuid(1);
+        seed = seed.substring(0, seed.length() - 1);
+
+        // the ids are reserved in the order the exchanges are created, even if they are read later
+        Exchange first = new DefaultExchange(context);
+        Exchange second = new DefaultExchange(context);
+        assertEquals(seed + "2", second.getExchangeId());
+        assertEquals(seed + "1", first.getExchangeId());
+        assertSame(first.getExchangeId(), first.getExchangeId());
+        assertEquals(seed + "3", first.copy().getExchangeId());
+
+        second.setExchangeId("foo");
+        assertEquals("foo", second.getExchangeId());
+    }
+
+    @Test
+    public void testExchangeIdAfterUuidGeneratorChanged() {
+        CamelContext context = new DefaultCamelContext();
+        FastUuidGenerator uuidGenerator = new FastUuidGenerator("ID-test", 10);
+        context.setUuidGenerator(uuidGenerator);
+
+        Exchange exchange = new DefaultExchange(context);
+        context.setUuidGenerator(new FastUuidGenerator("ID-other", 10));
+
+        // the id is formatted by the generator which reserved it
+        assertEquals(uuidGenerator.formatUuid(1), exchange.getExchangeId());
+    }
+
+    @Test
+    public void testPerformance() {
+        FastUuidGenerator uuidGenerator = new FastUuidGenerator();
+        StopWatch watch = new StopWatch();
+
+        LOG.info("First id: " + uuidGenerator.generateUuid());
+        for (int i = 0; i < 500000; i++) {
+            uuidGenerator.generateUuid();
+        }
+        LOG.info("Last id:  " + uuidGenerator.generateUuid());
+
+        LOG.info("Took " + TimeUtils.printDuration(watch.taken()));
+    }
+}
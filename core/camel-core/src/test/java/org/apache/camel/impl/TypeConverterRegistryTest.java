@@ -24,7 +24,11 @@ import org.apache.camel.LoggingLevel;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.TypeConverterExists;
 import org.apache.camel.TypeConverterExistsException;
+import org.apache.camel.impl.converter.DefaultTypeConverter;
+import org.apache.camel.impl.engine.DefaultPackageScanClassResolver;
 import org.apache.camel.support.TypeConverterSupport;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.util.ReflectionInjector;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -110,6 +114,63 @@ public class TypeConverterRegistryTest extends Assert {
         assertNull("Type converter should be removed", order);
     }
 
+    @Test
+    public void testTryConvertThenAddTypeConverter() {
+        DefaultCamelContext context = new DefaultCamelContext();
+
+        // the lookup finds no converter, which is remembered
+        assertNull(context.getTypeConverter().tryConvertTo(MyOrder.class, new StringBuilder("123")));
+        assertNull(context.getTypeConverter().tryConvertTo(MyOrder.class, new StringBuilder("123")));
+
+        // a converter from an interface of the type can be found after it has been added
+        context.getTypeConverterRegistry().addTypeConverter(MyOrder.class, CharSequence.class, new MyOrderTypeConverter());
+
+        MyOrder order = context.getTypeConverter().tryConvertTo(MyOrder.class, new StringBuilder("123"));
+        assertNotNull(order);
+        assertEquals(123, order.getId());
+    }
+
+    @Test
+    public void testAddTypeConverterWhileLookingUp() throws Exception {
+        // simulates a type converter being added by another thread while a lookup is in progress
+        DefaultTypeConverter converter = new DefaultTypeConverter(new DefaultPackageScanClassResolver(), new ReflectionInjector(), null, false) {
+            private boolean added;
+
+            @Override
+            public TypeConverter lookup(Class<?> toType, Class<?> fromType) {
+                TypeConverter answer = super.lookup(toType, fromType);
+                if (!added) {
+                    added = true;
+                    addTypeConverter(MyOrder.class, CharSequence.class, new MyOrderTypeConverter());
+                }
+                return answer;
+            }
+        };
+        ServiceHelper.startService(converter);
+
+        // the lookup found nothing, but the miss must not be remembered as a converter has been added meanwhile
+        assertNull(converter.tryConvertTo(MyOrder.class, new StringBuilder("123")));
+
+        MyOrder order = converter.tryConvertTo(MyOrder.class, new StringBuilder("123"));
+        assertNotNull(order);
+        assertEquals(123, order.getId());
+
+        ServiceHelper.stopService(converter);
+    }
+
+    @Test
+    public void testAddFallbackTypeConverterAfterConversion() {
+        DefaultCamelContext context = new DefaultCamelContext();
+
+        assertNull(context.getTypeConverter().tryConvertTo(MyOrder.class, 123));
+
+        context.getTypeConverterRegistry().addFallbackTypeConverter(new MyOrderTypeConverter(), false);
+
+        MyOrder order = context.getTypeConverter().tryConvertTo(MyOrder.class, 123);
+        assertNotNull(order);
+        assertEquals(123, order.getId());
+    }
+
     private static class MyOrder {
         private int id;
 
@@ -20,12 +20,21 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
 import org.apache.camel.Component;
+import org.apache.camel.Consumer;
 import org.apache.camel.Endpoint;
 import org.apache.camel.NoSuchEndpointException;
+import org.apache.camel.Processor;
+import org.apache.camel.Producer;
 import org.apache.camel.ResolveEndpointFailedException;
 import org.apache.camel.Route;
 import org.apache.camel.TestSupport;
@@ -36,6 +45,8 @@ import org.apache.camel.component.log.LogComponent;
 import org.apache.camel.impl.DefaultCamelContext;
 import org.apache.camel.spi.UuidGenerator;
 import org.apache.camel.support.CamelContextHelper;
+import org.apache.camel.support.DefaultComponent;
+import org.apache.camel.support.DefaultEndpoint;
 import org.apache.camel.support.service.ServiceSupport;
 import org.junit.Test;
 
@@ -416,6 +427,101 @@ public class DefaultCamelContextTest extends TestSupport {
         assertNull(ctx.hasService(MyService.class));
     }
 
+    @Test
+    public void testGetEndpointWhileAnotherEndpointIsStarting() throws Exception {
+        DefaultCamelContext ctx = new DefaultCamelContext(false);
+        ctx.disableJMX();
+        CountDownLatch starting = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger started = new AtomicInteger();
+        ctx.addComponent("slow", new DefaultComponent() {
+            @Override
+            protected Endpoint createEndpoint(String uri, String remaining, Map<String, Object> parameters) throws Exception {
+                return new DefaultEndpoint(uri, this) {
+                    @Override
+                    public Producer createProducer() throws Exception {
+                        return null;
+                    }
+
+                    @Override
+                    public Consumer createConsumer(Processor processor) throws Exception {
+                        return null;
+                    }
+
+                    @Override
+                    protected void doStart() throws Exception {
+                        if ("a".equals(remaining)) {
+                            starting.countDown();
+                            latch.await(10, TimeUnit.SECONDS);
+                            started.incrementAndGet();
+                        }
+                    }
+                };
+            }
+        });
+        ctx.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Endpoint> first = executor.submit(() -> ctx.getEndpoint("slow:a"));
+            assertTrue(starting.await(10, TimeUnit.SECONDS));
+            Future<Endpoint> second = executor.submit(() -> ctx.getEndpoint("slow:a"));
+
+            // another endpoint can be added while the endpoint is starting
+            assertNotNull(ctx.getEndpoint("slow:b"));
+            assertFalse(first.isDone());
+
+            latch.countDown();
+            assertSame(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+            assertEquals(1, started.get());
+        } finally {
+            executor.shutdownNow();
+            ctx.stop();
+        }
+    }
+
+    @Test
+    public void testGetEndpointWhileTheSameEndpointIsStarting() throws Exception {
+        DefaultCamelContext ctx = new DefaultCamelContext(false);
+        ctx.disableJMX();
+        AtomicInteger starting = new AtomicInteger();
+        ctx.addComponent("self", new DefaultComponent() {
+            @Override
+            protected Endpoint createEndpoint(String uri, String remaining, Map<String, Object> parameters) throws Exception {
+                return new DefaultEndpoint(uri, this) {
+                    @Override
+                    public Producer createProducer() throws Exception {
+                        return null;
+                    }
+
+                    @Override
+                    public Consumer createConsumer(Processor processor) throws Exception {
+                        return null;
+                    }
+
+                    @Override
+                    protected void doStart() throws Exception {
+                        // gets the same endpoint from the same thread while it is being added
+                        if (starting.incrementAndGet() == 1) {
+                            getCamelContext().getEndpoint(getEndpointUri());
+                        }
+                    }
+                };
+            }
+        });
+        ctx.start();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Endpoint> future = executor.submit(() -> ctx.getEndpoint("self:a"));
+            Endpoint endpoint = future.get(10, TimeUnit.SECONDS);
+            assertSame(endpoint, ctx.getEndpoint("self:a"));
+        } finally {
+            executor.shutdownNow();
+            ctx.stop();
+        }
+    }
+
     private static class MyService extends ServiceSupport implements CamelContextAware {
 
         private CamelContext camelContext;
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.Test;
+
+public class FastReactiveExecutorTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getGlobalOptions().put(FastReactiveExecutor.MODE_OPTION, "fast");
+        return context;
+    }
+
+    @Test
+    public void testFastReactiveExecutor() throws Exception {
+        assertIsInstanceOf(FastReactiveExecutor.class, context.getReactiveExecutor());
+
+        getMockEndpoint("mock:result").expectedBodiesReceived("Hello World", "Bye World");
+
+        template.sendBody("direct:start", "Hello World");
+        template.sendBody("direct:start", "Bye World");
+
+        assertMockEndpointsSatisfied();
+
+        FastReactiveExecutor executor = (FastReactiveExecutor) context.getReactiveExecutor();
+        assertTrue(executor.getCreatedWorkers() > 0);
+        assertEquals(0, executor.getRunningWorkers());
+        assertEquals(0, executor.getPendingTasks());
+    }
+
+    @Test
+    public void testScheduleOrder() throws Exception {
+        FastReactiveExecutor executor = (FastReactiveExecutor) context.getReactiveExecutor();
+        List<String> order = new ArrayList<>();
+
+        executor.scheduleMain(() -> {
+            order.add("main");
+            executor.schedule(() -> order.add("second"));
+            executor.schedule(() -> order.add("first"));
+            executor.scheduleMain(() -> {
+                order.add("nested");
+                executor.schedule(() -> order.add("nested-child"));
+            });
+        });
+
+        assertEquals("[main, nested, nested-child, first, second]", order.toString());
+        assertEquals(0, executor.getPendingTasks());
+    }
+
+    @Test
+    public void testPruneWorkersOfTerminatedThreads() throws Exception {
+        FastReactiveExecutor executor = new FastReactiveExecutor();
+        for (int i = 0; i < 500; i++) {
+            Thread thread = new Thread(() -> executor.schedule(() -> { }));
+            thread.start();
+            thread.join();
+        }
+        assertEquals(500, executor.getCreatedWorkers());
+        // the workers of the terminated threads are pruned while new workers are created
+        assertTrue("Should prune workers: " + executor.getWorkersSize(), executor.getWorkersSize() < 100);
+        assertEquals(0, executor.getPendingTasks());
+    }
+
+    @Test
+    public void testRunnableDequeGrows() throws Exception {
+        FastReactiveExecutor.RunnableDeque deque = new FastReactiveExecutor.RunnableDeque();
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final int n = i;
+            if (i % 2 == 0) {
+                deque.addLast(() -> order.add(n));
+            } else {
+                deque.addFirst(() -> order.add(-n));
+            }
+        }
+        assertEquals(100, deque.size());
+
+        Runnable task;
+        while ((task = deque.poll()) != null) {
+            task.run();
+        }
+        assertTrue(deque.isEmpty());
+        assertEquals(100, order.size());
+        assertEquals(Integer.valueOf(-99), order.get(0));
+        assertEquals(Integer.valueOf(98), order.get(99));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").to("log:foo").to("direct:bar");
+
+                from("direct:bar").to("log:bar").to("mock:result");
+            }
+        };
+    }
+}
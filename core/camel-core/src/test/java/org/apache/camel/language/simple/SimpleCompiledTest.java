@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.language.bean.RuntimeBeanExpressionException;
+import org.apache.camel.spi.Language;
+import org.junit.Test;
+
+/**
+ * Runs the simple language tests with the simple language in compiled mode.
+ */
+public class SimpleCompiledTest extends SimpleTest {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getGlobalOptions().put(SimpleLanguage.COMPILED_OPTION, "true");
+        return context;
+    }
+
+    @Test
+    public void testCompiled() throws Exception {
+        SimpleLanguage simple = (SimpleLanguage) context.resolveLanguage("simple");
+        assertTrue(simple.isCompiled());
+
+        Predicate predicate = simple.createPredicate("${header.foo} == 'abc' && ${header.bar} > 100");
+        assertIsInstanceOf(SimpleCompiler.CompiledPredicate.class, predicate);
+        assertTrue(predicate.matches(exchange));
+
+        Expression expression = simple.createExpression("Hello ${body.name}");
+        assertIsInstanceOf(SimpleCompiler.CompiledExpression.class, expression);
+    }
+
+    @Test
+    public void testCompiledOgnlGetters() throws Exception {
+        Pet tiger = new Pet("Tony the Tiger", 13);
+        Pet camel = new Pet("Camel", 6);
+        camel.setFriend(tiger);
+        exchange.getIn().setBody(camel);
+
+        assertExpression("${body.name}", "Camel");
+        assertExpression("${body.friend.name}", "Tony the Tiger");
+        assertExpression("${body.friend?.friend.name}", null);
+        assertExpression("${body?.friend?.dangerous}", true);
+        assertPredicate("${body.friend.age} == 13 && ${body.age} < 10");
+        assertPredicateFails("${body.friend.age} > 13 || ${body.name} != 'Camel'");
+
+        // the getter is resolved again when the type of the body changes
+        exchange.getIn().setBody(new Order(null));
+        assertExpression("${body.lines}", null);
+        exchange.getIn().setBody(camel);
+        assertExpression("${body.name}", "Camel");
+
+        // calling a method on null is reported by the interpreter
+        try {
+            assertExpression("${body.friend.friend.name}", null);
+            fail("Should have thrown an exception");
+        } catch (RuntimeBeanExpressionException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Failed to invoke method: .friend.friend.name on"));
+        }
+    }
+
+    @Test
+    public void testCompiledNumericComparison() throws Exception {
+        Language simple = context.resolveLanguage("simple");
+
+        exchange.getIn().setHeader("num", 150);
+        assertTrue(simple.createPredicate("${header.num} > 100").matches(exchange));
+        assertTrue(simple.createPredicate("${header.num} == 0150").matches(exchange));
+        assertFalse(simple.createPredicate("${header.num} <= -1").matches(exchange));
+
+        exchange.getIn().setHeader("num", 150L);
+        assertTrue(simple.createPredicate("${header.num} >= 150").matches(exchange));
+
+        exchange.getIn().setHeader("num", "150");
+        assertTrue(simple.createPredicate("${header.num} > 100").matches(exchange));
+        assertTrue(simple.createPredicate("${header.num} == 150").matches(exchange));
+
+        exchange.getIn().setHeader("num", 1.5d);
+        assertTrue(simple.createPredicate("${header.num} > 1.4").matches(exchange));
+
+        exchange.getIn().removeHeader("num");
+        assertFalse(simple.createPredicate("${header.num} > 100").matches(exchange));
+        assertTrue(simple.createPredicate("${header.num} != 100").matches(exchange));
+        assertTrue(simple.createPredicate("${header.num} == null").matches(exchange));
+    }
+
+    public static final class Pet {
+        private final String name;
+        private final int age;
+        private Pet friend;
+
+        public Pet(String name, int age) {
+            this.name = name;
+            this.age = age;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public Pet getFriend() {
+            return friend;
+        }
+
+        public void setFriend(Pet friend) {
+            this.friend = friend;
+        }
+
+        public boolean isDangerous() {
+            return name.contains("Tiger");
+        }
+    }
+
+}
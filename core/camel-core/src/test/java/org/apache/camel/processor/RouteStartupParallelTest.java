@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.Route;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.model.ModelCamelContext;
+import org.apache.camel.model.ProcessorDefinition;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.support.service.ServiceSupport;
+import org.junit.Test;
+
+public class RouteStartupParallelTest extends ContextTestSupport {
+
+    private static final int ROUTES = 20;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setParallelRouteStartup(true);
+        return context;
+    }
+
+    @Test
+    public void testParallelRouteStartup() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(ROUTES + 1);
+        getMockEndpoint("mock:error").expectedMessageCount(1);
+
+        for (int i = 0; i < ROUTES; i++) {
+            template.sendBody("direct:route" + i, "Hello " + i);
+        }
+        template.sendBody("direct:start", "Hello World");
+        template.sendBody("direct:route0", "Kaboom");
+
+        assertMockEndpointsSatisfied();
+
+        // the routes with a startup order are started first, and in that order
+        List<RouteStartupOrder> order = ((DefaultCamelContext) context).getRouteStartupOrder();
+        assertEquals(ROUTES + 2, order.size());
+        assertEquals("seda://foo", order.get(0).getRoute().getEndpoint().getEndpointUri());
+        assertEquals("direct://start", order.get(1).getRoute().getEndpoint().getEndpointUri());
+
+        // the routes have been warmed up
+        for (int i = 0; i < ROUTES; i++) {
+            Route route = context.getRoute("route" + i);
+            assertTrue("Route " + route.getId() + " should have been warmed up", route.getWarmUpDuration() >= 40);
+        }
+
+        // and the nodes have unique ids (the nodes of the onException are shared by the routes)
+        Set<ProcessorDefinition<?>> nodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (RouteDefinition route : context.adapt(ModelCamelContext.class).getRouteDefinitions()) {
+            gatherNodes(route.getOutputs(), nodes);
+        }
+        Set<String> ids = new HashSet<>();
+        for (ProcessorDefinition<?> node : nodes) {
+            assertNotNull("Node " + node + " should have an id", node.getId());
+            assertTrue("Node id " + node.getId() + " should be unique", ids.add(node.getId()));
+        }
+    }
+
+    @Test
+    public void testParallelRouteStartupDuplicateId() throws Exception {
+        try {
+            context.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:a").routeId("a").to("mock:a").id("foo");
+
+                    from("direct:b").routeId("b").to("mock:b").id("foo");
+                }
+            });
+            fail("Should have thrown an exception");
+        } catch (Exception e) {
+            assertTrue(e.getMessage().contains("duplicate id detected: foo"));
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                onException(IllegalArgumentException.class).handled(true).to("mock:error");
+
+                from("direct:start").startupOrder(2).to("seda:foo");
+
+                from("seda:foo").startupOrder(1).to("mock:result");
+
+                for (int i = 0; i < ROUTES; i++) {
+                    from("direct:route" + i).routeId("route" + i)
+                        .process(new SlowStartProcessor())
+                        .filter(body().isEqualTo("Kaboom")).throwException(new IllegalArgumentException("Forced")).end()
+                        .to("log:route" + i + "?level=OFF")
+                        .to("mock:result");
+                }
+            }
+        };
+    }
+
+    private static void gatherNodes(List<ProcessorDefinition<?>> outputs, Set<ProcessorDefinition<?>> nodes) {
+        for (ProcessorDefinition<?> output : outputs) {
+            if (nodes.add(output)) {
+                gatherNodes(output.getOutputs(), nodes);
+            }
+        }
+    }
+
+    private static class SlowStartProcessor extends ServiceSupport implements Processor {
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            // noop
+        }
+
+        @Override
+        protected void doStart() throws Exception {
+            Thread.sleep(50);
+        }
+
+        @Override
+        protected void doStop() throws Exception {
+            // noop
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.Test;
+
+public class StreamResequencerConcurrentTest extends StreamResequencerTest {
+
+    @Test
+    public void testStatistics() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("msg1", "msg2", "msg3");
+
+        sendBodyAndHeader("direct:start", "msg2", "seqnum", 2L);
+        sendBodyAndHeader("direct:start", "msg3", "seqnum", 3L);
+        sendBodyAndHeader("direct:start", "msg1", "seqnum", 1L);
+
+        assertMockEndpointsSatisfied();
+
+        StreamResequencer resequencer = context.getProcessor("resequencer", StreamResequencer.class);
+        assertTrue(resequencer.isConcurrent());
+        // the engine is chosen when started, and keeps the configured timeout
+        assertEquals(100, resequencer.getTimeout());
+        assertEquals(0, resequencer.getSize());
+        // the first message waits for its predecessor as nothing has been delivered yet
+        assertEquals(2, resequencer.getGapCount());
+        assertEquals(1, resequencer.getTimeoutCount());
+        assertEquals(0, resequencer.getCapacityReachedCount());
+
+        resequencer.reset();
+        assertEquals(0, resequencer.getGapCount());
+        assertEquals(0, resequencer.getTimeoutCount());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("direct:start").resequence(header("seqnum")).stream().timeout(100).deliveryAttemptInterval(10).concurrent().id("resequencer")
+                    .to("mock:result");
+            }
+        };
+    }
+}
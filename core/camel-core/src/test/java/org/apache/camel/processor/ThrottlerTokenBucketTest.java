@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Test;
+
+public class ThrottlerTokenBucketTest extends ContextTestSupport {
+
+    @Test
+    public void testBurstThenThrottled() throws Exception {
+        assertBurstThenThrottled("direct:start");
+    }
+
+    @Test
+    public void testAsyncDelayedBurstThenThrottled() throws Exception {
+        assertBurstThenThrottled("direct:async");
+    }
+
+    private void assertBurstThenThrottled(String uri) throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(6);
+
+        // 3 messages are allowed at once, and then a message every 200 millis
+        long start = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            template.sendBody(uri, "Hello " + i);
+        }
+        long burst = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        for (int i = 3; i < 6; i++) {
+            template.sendBody(uri, "Hello " + i);
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertMockEndpointsSatisfied();
+        assertTrue("The burst should not be throttled, was: " + burst, burst < 400);
+        assertTrue("Should take at least 550ms, was: " + elapsed, elapsed >= 550);
+    }
+
+    @Test
+    public void testRejectExecutionPerGroup() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("A1", "B1", "A2", "B2");
+
+        template.sendBodyAndHeader("direct:reject", "A1", "group", "A");
+        template.sendBodyAndHeader("direct:reject", "B1", "group", "B");
+        template.sendBodyAndHeader("direct:reject", "A2", "group", "A");
+        template.sendBodyAndHeader("direct:reject", "B2", "group", "B");
+        assertRejected("A3", "A");
+        assertRejected("B3", "B");
+
+        assertMockEndpointsSatisfied();
+        Throttler throttler = (Throttler) context.getProcessor("reject");
+        assertTrue(throttler.isTokenBucket());
+        assertEquals(2, throttler.getCurrentMaximumRequestsPerPeriod());
+    }
+
+    @Test
+    public void testChangeThrottleRate() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("A", "B", "C");
+
+        template.sendBodyAndHeader("direct:rate", "A", "max", 1);
+        try {
+            template.sendBodyAndHeader("direct:rate", "Kaboom", "max", 1);
+            fail("Should have thrown an exception");
+        } catch (CamelExecutionException e) {
+            assertIsInstanceOf(ThrottlerRejectedExecutionException.class, e.getCause());
+        }
+
+        // increasing the rate allows more messages right away
+        template.sendBodyAndHeader("direct:rate", "B", "max", 3);
+        template.sendBodyAndHeader("direct:rate", "C", "max", 3);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    private void assertRejected(String body, String group) {
+        try {
+            template.sendBodyAndHeader("direct:reject", body, "group", group);
+            fail("Should have thrown an exception");
+        } catch (CamelExecutionException e) {
+            assertIsInstanceOf(ThrottlerRejectedExecutionException.class, e.getCause());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").throttle(3).timePeriodMillis(600).tokenBucket().to("mock:result");
+
+                from("direct:async").throttle(3).timePeriodMillis(600).tokenBucket().asyncDelayed().to("mock:result");
+
+                from("direct:reject").throttle(constant(2), header("group")).timePeriodMillis(60000).tokenBucket().rejectExecution(true).id("reject")
+                    .to("mock:result");
+
+                from("direct:rate").throttle(header("max")).timePeriodMillis(60000).tokenBucket().rejectExecution(true).to("mock:result");
+            }
+        };
+    }
+}
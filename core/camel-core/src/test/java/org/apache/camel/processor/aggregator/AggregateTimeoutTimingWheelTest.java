@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.apache.camel.support.DefaultTimeoutMap;
+import org.junit.Test;
+
+public class AggregateTimeoutTimingWheelTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getGlobalOptions().put(DefaultTimeoutMap.TIMING_WHEEL_OPTION, "true");
+        return context;
+    }
+
+    @Test
+    public void testAggregateTimeoutPerGroup() throws Exception {
+        getMockEndpoint("mock:aggregated").expectedBodiesReceived("G+H+I", "D+E+F", "A+B+C");
+
+        // will use fallback timeout (1 sec)
+        template.sendBodyAndHeader("direct:start", "A", "id", 789);
+        template.sendBodyAndHeader("direct:start", "B", "id", 789);
+        template.sendBodyAndHeader("direct:start", "C", "id", 789);
+
+        // will use 0.5 sec timeout
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("id", 123);
+        headers.put("timeout", 500);
+        template.sendBodyAndHeaders("direct:start", "D", headers);
+        template.sendBodyAndHeaders("direct:start", "E", headers);
+        template.sendBodyAndHeaders("direct:start", "F", headers);
+
+        // will use 0.1 sec timeout
+        Map<String, Object> headers2 = new HashMap<>();
+        headers2.put("id", 456);
+        headers2.put("timeout", 100);
+        template.sendBodyAndHeaders("direct:start", "G", headers2);
+        template.sendBodyAndHeaders("direct:start", "H", headers2);
+        template.sendBodyAndHeaders("direct:start", "I", headers2);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testAggregateTimeoutWithSizeCompletion() throws Exception {
+        // the first group completes by size, which removes it from the timeout map
+        getMockEndpoint("mock:aggregated").expectedBodiesReceived("A+B+C+D+E", "F+G");
+
+        for (String body : new String[] {"A", "B", "C", "D", "E", "F", "G"}) {
+            template.sendBodyAndHeader("direct:start", body, "id", 123);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .aggregate(header("id"), new BodyInAggregatingStrategy())
+                        .completionSize(5).completionTimeout(header("timeout")).completionTimeout(1000).completionTimeoutCheckerInterval(10)
+                    .to("mock:aggregated");
+            }
+        };
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.resequencer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.TestSupport;
+import org.junit.Test;
+
+import static org.awaitility.Awaitility.await;
+
+public class ConcurrentResequencerEngineTest extends TestSupport {
+
+    private final List<List<Integer>> runs = Collections.synchronizedList(new ArrayList<>());
+    private final List<Integer> delivered = Collections.synchronizedList(new ArrayList<>());
+    private ConcurrentResequencerEngine<Integer> engine;
+
+    @Test
+    public void testTimeout() throws Exception {
+        initResequencer(200);
+        engine.insert(4);
+        engine.deliver();
+        assertTrue(delivered.isEmpty());
+        assertEquals(1, engine.getGapCount());
+
+        long delay = engine.getDeliveryDelay(TimeUnit.MILLISECONDS);
+        assertTrue("Delay was " + delay, delay > 0 && delay <= 200);
+        await().atMost(1, TimeUnit.SECONDS).until(() -> engine.getDeliveryDelay(TimeUnit.NANOSECONDS) == 0);
+
+        engine.deliver();
+        assertEquals(Arrays.asList(4), delivered);
+        assertEquals((Integer) 4, engine.getLastDelivered());
+        assertEquals(1, engine.getTimeoutCount());
+        assertEquals(-1, engine.getDeliveryDelay(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testSuccessorOfLastDelivered() throws Exception {
+        initResequencer(10000);
+        engine.setLastDelivered(3);
+        engine.insert(4);
+        assertEquals(0, engine.getDeliveryDelay(TimeUnit.MILLISECONDS));
+        engine.deliver();
+        assertEquals(Arrays.asList(4), delivered);
+        assertEquals(0, engine.getGapCount());
+    }
+
+    @Test
+    public void testGapClosedDeliversRun() throws Exception {
+        initResequencer(10000);
+        engine.setLastDelivered(2);
+        engine.insert(5);
+        engine.insert(4);
+        engine.deliver();
+        assertTrue(delivered.isEmpty());
+
+        engine.insert(3);
+        engine.insert(3);
+        assertEquals(3, engine.size());
+        engine.deliver();
+        assertEquals(1, runs.size());
+        assertEquals(Arrays.asList(3, 4, 5), runs.get(0));
+        assertEquals(0, engine.size());
+        assertEquals(2, engine.getGapCount());
+        assertEquals(0, engine.getTimeoutCount());
+
+        engine.resetStatistics();
+        assertEquals(0, engine.getGapCount());
+    }
+
+    @Test
+    public void testDeliverNext() throws Exception {
+        initResequencer(10000);
+        engine.setLastDelivered(0);
+        engine.insert(2);
+        engine.insert(1);
+        assertTrue(engine.deliverNext());
+        assertTrue(engine.deliverNext());
+        assertFalse(engine.deliverNext());
+        assertEquals(Arrays.asList(1, 2), delivered);
+        assertTrue(runs.isEmpty());
+    }
+
+    @Test
+    public void testRejectOld() throws Exception {
+        initResequencer(10000);
+        engine.setRejectOld(true);
+        engine.setLastDelivered(5);
+        try {
+            engine.insert(4);
+            fail("Should have thrown an exception");
+        } catch (MessageRejectedException e) {
+            // expected
+        }
+        try {
+            engine.insert(null);
+            fail("Should have thrown an exception");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertEquals(0, engine.size());
+    }
+
+    @Test
+    public void testConcurrentInsert() throws Exception {
+        final int threads = 4;
+        final int count = 20000;
+        // the timeout is long so the elements must be delivered because they are in sequence
+        initResequencer(60000);
+        engine.setLastDelivered(-1);
+
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            final int start = t;
+            new Thread(() -> {
+                for (int i = start; i < count; i += threads) {
+                    engine.insert(i);
+                }
+                latch.countDown();
+            }, "Insert-" + t).start();
+        }
+        Thread deliverer = new Thread(() -> {
+            while (delivered.size() < count) {
+                try {
+                    engine.deliver();
+                } catch (Exception e) {
+                    return;
+                }
+            }
+        }, "Deliver");
+        deliverer.start();
+
+        assertTrue(latch.await(20, TimeUnit.SECONDS));
+        await().atMost(20, TimeUnit.SECONDS).until(() -> delivered.size() == count);
+        deliverer.join();
+
+        List<Integer> expected = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, delivered);
+        assertEquals(0, engine.getTimeoutCount());
+        assertEquals(0, engine.size());
+    }
+
+    private void initResequencer(long timeout) {
+        engine = new ConcurrentResequencerEngine<>(new IntegerComparator());
+        engine.setTimeout(timeout);
+        engine.setSequenceSender(new SequenceSender<Integer>() {
+            @Override
+            public void sendElement(Integer o) {
+                delivered.add(o);
+            }
+
+            @Override
+            public void sendElements(List<Integer> elements) {
+                runs.add(elements);
+                delivered.addAll(elements);
+            }
+        });
+        engine.start();
+    }
+
+}
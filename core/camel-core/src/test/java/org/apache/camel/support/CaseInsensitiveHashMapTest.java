@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.camel.Exchange;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CaseInsensitiveHashMapTest extends Assert {
+
+    @Test
+    public void testLookupCaseAgnostic() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+        assertNull(map.get(123));
+    }
+
+    @Test
+    public void testSetWithDifferentCase() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("Foo", "cheese");
+        map.put("FOO", "cake");
+
+        assertEquals(1, map.size());
+        assertEquals("cake", map.get("foo"));
+        // the original key is kept
+        assertEquals("Foo", map.keySet().iterator().next());
+    }
+
+    @Test
+    public void testRemoveWithDifferentCase() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("foo", "cheese");
+        map.put("Bar", "cake");
+
+        assertEquals("cheese", map.remove("FOO"));
+        assertNull(map.remove("foo"));
+        assertEquals(1, map.size());
+        assertFalse(map.containsKey("foo"));
+        assertEquals("cake", map.get("BAR"));
+    }
+
+    @Test
+    public void testExchangeConstants() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put(Exchange.FILE_NAME, "hello.txt");
+        map.put(Exchange.CONTENT_TYPE, "text/plain");
+        map.put("camelhttpmethod", "GET");
+
+        assertEquals("hello.txt", map.get("camelfilename"));
+        assertEquals("hello.txt", map.get(Exchange.FILE_NAME));
+        assertEquals("text/plain", map.get("CONTENT-TYPE"));
+        assertEquals("GET", map.get(Exchange.HTTP_METHOD));
+        assertEquals(CaseInsensitiveHashMap.hash(Exchange.HTTP_METHOD), CaseInsensitiveHashMap.hash("camelhttpmethod"));
+    }
+
+    @Test
+    public void testNonAsciiKeys() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("Größe", 1);
+        map.put("ıd", 2);
+
+        assertEquals(1, map.get("GRÖSSE".replace("SS", "ß")));
+        assertEquals(1, map.get("größe"));
+        // equals ignore case considers a dotless i the same as i
+        assertEquals(2, map.get("ID"));
+    }
+
+    @Test
+    public void testManyKeys() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        Map<String, Object> expected = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 0; i < 1000; i++) {
+            map.put("key" + i, i);
+            expected.put("key" + i, i);
+        }
+        // remove every third key, and add some keys again
+        for (int i = 0; i < 1000; i += 3) {
+            assertEquals(i, map.remove("KEY" + i));
+            expected.remove("KEY" + i);
+        }
+        for (int i = 0; i < 100; i++) {
+            map.put("Key" + i, -i);
+            expected.put("Key" + i, -i);
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<String, Object> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey().toUpperCase()));
+        }
+        assertEquals(expected, new TreeMap<>(map));
+    }
+
+    @Test
+    public void testInsertionOrder() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("c", 1);
+        map.put("a", 2);
+        map.put("b", 3);
+        map.remove("a");
+        map.put("A", 4);
+
+        assertEquals("[c, b, A]", map.keySet().toString());
+        assertEquals("[1, 3, 4]", map.values().toString());
+    }
+
+    @Test
+    public void testIteratorRemoveAndSetValue() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("foo", 1);
+        map.put("bar", 2);
+        map.put("baz", 3);
+
+        Iterator<Map.Entry<String, Object>> it = map.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, Object> entry = it.next();
+            if (entry.getKey().equals("bar")) {
+                it.remove();
+            } else {
+                entry.setValue("changed");
+            }
+        }
+
+        assertEquals(2, map.size());
+        assertEquals("changed", map.get("FOO"));
+        assertEquals("changed", map.get("BAZ"));
+        assertFalse(map.containsKey("bar"));
+
+        assertTrue(map.keySet().remove("Foo"));
+        assertFalse(map.keySet().remove("Foo"));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        CaseInsensitiveHashMap map = new CaseInsensitiveHashMap();
+        map.put("foo", 1);
+        map.put("bar", 2);
+
+        Map<String, Object> copy = new CaseInsensitiveHashMap(map);
+        Map<String, Object> other = new CaseInsensitiveHashMap();
+        other.putAll(map);
+        assertEquals(map, copy);
+        assertEquals(map, other);
+
+        // changing the copy does not change the original
+        copy.put("FOO", 10);
+        copy.put("baz", 3);
+        copy.remove("bar");
+        assertEquals(1, map.get("foo"));
+        assertEquals(2, map.get("bar"));
+        assertEquals(2, map.size());
+        assertEquals(10, copy.get("foo"));
+        assertEquals(2, copy.size());
+
+        // changing the original does not change the other copy
+        map.entrySet().iterator().next().setValue(100);
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertEquals(1, other.get("foo"));
+        assertEquals(2, other.get("bar"));
+
+        // the maps can be reused
+        map.put("foo", 5);
+        other.clear();
+        assertEquals(5, map.get("foo"));
+        assertEquals(10, copy.get("foo"));
+        assertTrue(other.isEmpty());
+    }
+
+    @Test
+    public void testCopyToAnotherMapPreserveKeyCase() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("Foo", "cheese");
+        map.put("BAR", "cake");
+
+        Map<String, Object> other = new HashMap<>(map);
+        assertEquals("cheese", other.get("Foo"));
+        assertEquals("cake", other.get("BAR"));
+        assertNull(other.get("foo"));
+
+        List<String> keys = new ArrayList<>(map.keySet());
+        assertEquals("Foo", keys.get(0));
+        assertEquals("BAR", keys.get(1));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        CaseInsensitiveHashMap map = new CaseInsensitiveHashMap();
+        map.put("key", "value");
+        Map<String, Object> copy = new CaseInsensitiveHashMap(map);
+
+        ByteArrayOutputStream bStream = new ByteArrayOutputStream();
+        ObjectOutputStream objStream = new ObjectOutputStream(bStream);
+        objStream.writeObject(map);
+
+        ObjectInputStream inStream = new ObjectInputStream(new ByteArrayInputStream(bStream.toByteArray()));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> deserialized = (Map<String, Object>) inStream.readObject();
+
+        assertEquals("value", deserialized.get("KEY"));
+        deserialized.put("key", "changed");
+        assertEquals("value", copy.get("key"));
+    }
+
+}
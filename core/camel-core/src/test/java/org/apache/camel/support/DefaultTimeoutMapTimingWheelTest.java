@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import org.apache.camel.TimeoutMap;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link DefaultTimeoutMap} with the timing wheel enabled, using a manual clock.
+ */
+public class DefaultTimeoutMapTimingWheelTest extends Assert {
+
+    private ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testEvictInCorrectOrder() {
+        ManualTimeoutMap map = new ManualTimeoutMap(100, true);
+        map.put("A", 1, 550);
+        map.put("B", 2, 150);
+        map.put("C", 3, 50);
+        map.put("D", 4, 10000);
+
+        map.advance(200);
+        assertEquals("[C, B]", map.evicted.toString());
+
+        map.advance(400);
+        assertEquals("[C, B, A]", map.evicted.toString());
+        assertEquals(1, map.size());
+        assertEquals(Integer.valueOf(4), map.get("D"));
+    }
+
+    @Test
+    public void testEvictWithinSameTick() {
+        ManualTimeoutMap map = new ManualTimeoutMap(100, true);
+        map.advance(10);
+        map.put("A", 1, 20);
+
+        map.advance(20);
+        assertEquals("[]", map.evicted.toString());
+
+        // still the same tick, but expired since the last purge
+        map.advance(20);
+        assertEquals("[A]", map.evicted.toString());
+    }
+
+    @Test
+    public void testGetExtendsExpireTime() {
+        ManualTimeoutMap map = new ManualTimeoutMap(100, true);
+        map.put("A", 1, 250);
+
+        for (int i = 0; i < 10; i++) {
+            map.advance(200);
+            assertEquals(Integer.valueOf(1), map.get("A"));
+        }
+        assertTrue(map.evicted.isEmpty());
+
+        map.advance(300);
+        assertEquals("[A]", map.evicted.toString());
+        assertNull(map.get("A"));
+    }
+
+    @Test
+    public void testRemoveAndReplace() {
+        ManualTimeoutMap map = new ManualTimeoutMap(100, true);
+        map.put("A", 1, 150);
+        map.put("B", 2, 150);
+        assertEquals(Integer.valueOf(1), map.put("A", 10, 1000));
+        assertEquals(Integer.valueOf(2), map.remove("B"));
+        assertNull(map.putIfAbsent("C", 3, 150));
+        assertEquals(Integer.valueOf(3), map.putIfAbsent("C", 30, 1000));
+
+        map.advance(300);
+        assertEquals("[C]", map.evicted.toString());
+        assertEquals(1, map.size());
+
+        map.advance(1000);
+        assertEquals("[C, A]", map.evicted.toString());
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    public void testTimeoutLongerThanWheel() {
+        ManualTimeoutMap map = new ManualTimeoutMap(10, true);
+        // the wheel has 512 ticks of 10 millis
+        map.put("A", 1, 12000);
+        map.put("B", 2, Integer.MAX_VALUE);
+
+        for (int i = 0; i < 119; i++) {
+            map.advance(100);
+        }
+        assertTrue(map.evicted.isEmpty());
+
+        map.advance(200);
+        assertEquals("[A]", map.evicted.toString());
+
+        // a large jump in time visits each bucket once
+        map.advance(Integer.MAX_VALUE);
+        assertEquals("[A, B]", map.evicted.toString());
+    }
+
+    @Test
+    public void testNotValidForEviction() {
+        ManualTimeoutMap map = new ManualTimeoutMap(100, true);
+        map.put("A", 1, 50);
+        map.put("B", 2, 50);
+        map.keep.add("A");
+
+        map.advance(200);
+        assertEquals("[B]", map.evicted.toString());
+
+        map.advance(200);
+        assertEquals("[B]", map.evicted.toString());
+
+        map.keep.clear();
+        map.advance(10);
+        assertEquals("[B, A]", map.evicted.toString());
+    }
+
+    @Test
+    public void testEnableAndDisableWithEntries() {
+        ManualTimeoutMap map = new ManualTimeoutMap(100, false);
+        map.put("A", 1, 50);
+        map.put("B", 2, 500);
+
+        map.setTimingWheel(true);
+        assertTrue(map.isTimingWheel());
+        map.advance(200);
+        assertEquals("[A]", map.evicted.toString());
+
+        map.setTimingWheel(false);
+        assertFalse(map.isTimingWheel());
+        map.put("C", 3, 50);
+        map.advance(400);
+        assertEquals("[A, C, B]", map.evicted.toString());
+    }
+
+    @Test
+    public void testSameEvictionsAsFullScan() {
+        // with short ticks many entries expire in later revolutions of the wheel
+        for (long purgePollTime : new long[] {1, 10, 50}) {
+            assertSameEvictionsAsFullScan(purgePollTime);
+        }
+    }
+
+    private void assertSameEvictionsAsFullScan(long purgePollTime) {
+        Random random = new Random(42);
+        ManualTimeoutMap scan = new ManualTimeoutMap(purgePollTime, false);
+        ManualTimeoutMap wheel = new ManualTimeoutMap(purgePollTime, true);
+
+        for (int i = 0; i < 20000; i++) {
+            String key = "K" + random.nextInt(500);
+            int op = random.nextInt(10);
+            if (op < 5) {
+                long timeout = random.nextInt(5) == 0 ? random.nextInt(60000) : random.nextInt(500);
+                assertEquals(scan.put(key, i, timeout), wheel.put(key, i, timeout));
+            } else if (op < 7) {
+                assertEquals(scan.get(key), wheel.get(key));
+            } else if (op < 8) {
+                assertEquals(scan.remove(key), wheel.remove(key));
+            } else {
+                long millis = random.nextInt(10) == 0 ? random.nextInt(40000) : random.nextInt(60);
+                scan.advance(millis);
+                wheel.advance(millis);
+                // entries with the same expire time may be evicted in any order
+                assertEquals(sorted(scan.evicted), sorted(wheel.evicted));
+                scan.evicted.clear();
+                wheel.evicted.clear();
+                assertEquals(scan.size(), wheel.size());
+            }
+        }
+    }
+
+    private static List<String> sorted(List<String> list) {
+        List<String> answer = new ArrayList<>(list);
+        Collections.sort(answer);
+        return answer;
+    }
+
+    private final class ManualTimeoutMap extends DefaultTimeoutMap<String, Integer> {
+
+        private final List<String> evicted = new ArrayList<>();
+        private final Set<String> keep = new HashSet<>();
+        private long now = 1000000;
+
+        ManualTimeoutMap(long purgePollTime, boolean timingWheel) {
+            super(executor, purgePollTime);
+            setTimingWheel(timingWheel);
+            addListener((type, key, value) -> {
+                if (type == TimeoutMap.Listener.Type.Evict) {
+                    evicted.add(key);
+                }
+            });
+        }
+
+        void advance(long millis) {
+            now += millis;
+            purge();
+        }
+
+        @Override
+        protected long currentTime() {
+            return now;
+        }
+
+        @Override
+        protected boolean isValidForEviction(TimeoutMapEntry<String, Integer> entry) {
+            return !keep.contains(entry.getKey());
+        }
+    }
+}
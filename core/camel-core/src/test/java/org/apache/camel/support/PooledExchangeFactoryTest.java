@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.Test;
+
+public class PooledExchangeFactoryTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getGlobalOptions().put(PooledExchangeFactory.POOLED_OPTION, "true");
+        context.getGlobalOptions().put(PooledExchangeFactory.LEAK_DETECTION_OPTION, "true");
+        return context;
+    }
+
+    @Test
+    public void testAcquireAndRelease() throws Exception {
+        PooledExchangeFactory factory = new PooledExchangeFactory(context.getEndpoint("direct:start"), 10, false);
+
+        Exchange exchange = factory.acquire();
+        String id = exchange.getExchangeId();
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("foo", 123);
+        exchange.setProperty("bar", 456);
+        exchange.setException(new IllegalArgumentException("Forced"));
+
+        assertTrue(factory.release(exchange));
+        assertEquals(1, factory.getSize());
+
+        Exchange reused = factory.acquire();
+        assertSame(exchange, reused);
+        assertNotEquals(id, reused.getExchangeId());
+        assertNull(reused.getIn().getBody());
+        assertFalse(reused.getIn().hasHeaders());
+        assertFalse(reused.hasProperties());
+        assertFalse(reused.isFailed());
+
+        assertEquals(1, factory.getHits());
+        assertEquals(1, factory.getMisses());
+        assertEquals(0, factory.getSize());
+    }
+
+    @Test
+    public void testReleaseDoesNotClearGivenMaps() throws Exception {
+        PooledExchangeFactory factory = new PooledExchangeFactory(context.getEndpoint("direct:start"), 10, false);
+
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("foo", 123);
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("bar", 456);
+
+        Exchange exchange = factory.acquire();
+        exchange.getIn().setHeaders(headers);
+        ((DefaultExchange) exchange).setProperties(properties);
+        assertTrue(factory.release(exchange));
+
+        // the maps given by the user are kept as is
+        assertEquals(123, headers.get("foo"));
+        assertEquals(456, properties.get("bar"));
+
+        Exchange reused = factory.acquire();
+        assertSame(exchange, reused);
+        assertFalse(reused.getIn().hasHeaders());
+        assertFalse(reused.hasProperties());
+        assertNotSame(headers, reused.getIn().getHeaders());
+    }
+
+    @Test
+    public void testUseAfterRelease() throws Exception {
+        PooledExchangeFactory factory = new PooledExchangeFactory(context.getEndpoint("direct:start"), 10, true);
+
+        Exchange exchange = factory.acquire();
+        exchange.getIn().setBody("Hello World");
+        assertTrue(factory.release(exchange));
+
+        // the exchange escaped and is used after it has been released
+        try {
+            exchange.getIn();
+            fail("Should throw exception");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        try {
+            exchange.setProperty("foo", "bar");
+            fail("Should throw exception");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        // can be used again when acquired from the pool
+        Exchange reused = factory.acquire();
+        assertSame(exchange, reused);
+        reused.getIn().setBody("Bye World");
+        assertEquals("Bye World", reused.getIn().getBody());
+    }
+
+    @Test
+    public void testUseAfterReleaseWithoutLeakDetection() throws Exception {
+        PooledExchangeFactory factory = new PooledExchangeFactory(context.getEndpoint("direct:start"), 10, false);
+
+        Exchange exchange = factory.acquire();
+        assertTrue(factory.release(exchange));
+
+        // not checked when leak detection is disabled
+        assertNull(exchange.getIn().getBody());
+    }
+
+    @Test
+    public void testReleaseTwice() throws Exception {
+        PooledExchangeFactory factory = new PooledExchangeFactory(context.getEndpoint("direct:start"), 10, false);
+
+        Exchange exchange = factory.acquire();
+        assertTrue(factory.release(exchange));
+        assertFalse(factory.release(exchange));
+
+        assertEquals(1, factory.getSize());
+        assertEquals(1, factory.getDiscarded());
+    }
+
+    @Test
+    public void testReleaseInUse() throws Exception {
+        PooledExchangeFactory factory = new PooledExchangeFactory(context.getEndpoint("direct:start"), 10, false);
+
+        Exchange exchange = factory.acquire();
+        exchange.setUnitOfWork(context.adapt(ExtendedCamelContext.class).getUnitOfWorkFactory().createUnitOfWork(exchange));
+        assertFalse(factory.release(exchange));
+
+        assertEquals(0, factory.getSize());
+        assertEquals(1, factory.getDiscarded());
+    }
+
+    @Test
+    public void testReleaseWhenUnitOfWorkDone() throws Exception {
+        PooledExchangeFactory factory = new PooledExchangeFactory(context.getEndpoint("direct:start"), 10, true);
+
+        Exchange exchange = factory.acquire();
+        exchange.setUnitOfWork(context.adapt(ExtendedCamelContext.class).getUnitOfWorkFactory().createUnitOfWork(exchange));
+        assertEquals(0, factory.getSize());
+
+        UnitOfWorkHelper.doneUow(exchange.getUnitOfWork(), exchange);
+        assertEquals(1, factory.getSize());
+        assertEquals(0, factory.checkLeaks());
+
+        // already released
+        assertFalse(factory.release(exchange));
+    }
+
+    @Test
+    public void testPoolFull() throws Exception {
+        PooledExchangeFactory factory = new PooledExchangeFactory(context.getEndpoint("direct:start"), 1, false);
+
+        Exchange exchange = factory.acquire();
+        Exchange exchange2 = factory.acquire();
+        assertTrue(factory.release(exchange));
+        assertFalse(factory.release(exchange2));
+
+        assertEquals(1, factory.getSize());
+        assertEquals(2, factory.getMisses());
+        assertEquals(1, factory.getDiscarded());
+    }
+
+    @Test
+    public void testLeakDetection() throws Exception {
+        PooledExchangeFactory factory = new PooledExchangeFactory(context.getEndpoint("direct:start"), 10, true);
+
+        Exchange exchange = factory.acquire();
+        factory.acquire();
+        factory.release(exchange);
+
+        assertEquals(1, factory.checkLeaks());
+        assertEquals(1, factory.getLeaked());
+
+        // not acquired from this pool
+        assertFalse(factory.release(context.getEndpoint("direct:start").createExchange()));
+        assertEquals(1, factory.getDiscarded());
+    }
+
+    @Test
+    public void testConsumerPooled() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(5);
+        getMockEndpoint("mock:result").allMessages().header("foo").isNull();
+
+        assertMockEndpointsSatisfied();
+
+        DefaultConsumer consumer = (DefaultConsumer) context.getRoute("foo").getConsumer();
+        PooledExchangeFactory factory = consumer.getExchangeFactory();
+        assertNotNull(factory);
+        assertTrue(factory.isLeakDetection());
+        assertTrue("Should reuse exchanges", factory.getHits() > 0);
+        assertEquals(5, factory.getHits() + factory.getMisses());
+
+        context.getRouteController().stopRoute("foo");
+        assertEquals(0, factory.getLeaked());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("timer:foo?period=10&repeatCount=5").routeId("foo")
+                    .to("mock:result")
+                    .setHeader("foo", constant("bar"));
+            }
+        };
+    }
+}
@@ -39,6 +39,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private int producerTemplateCacheSize = 1000;
     private int consumerTemplateCacheSize = 1000;
     private boolean loadTypeConverters = true;
+    private boolean parallelRouteStartup;
     private int logDebugMaxChars;
     private boolean streamCachingEnabled;
     private String streamCachingSpoolDirectory;
@@ -260,6 +261,20 @@ public abstract class DefaultConfigurationProperties<T> {
         this.loadTypeConverters = loadTypeConverters;
     }
 
+    public boolean isParallelRouteStartup() {
+        return parallelRouteStartup;
+    }
+
+    /**
+     * Whether to create and warm up the routes in parallel when starting.
+     * This can speedup starting Camel with many routes.
+     * The routes which have a startup order are still warmed up in that order,
+     * and the route consumers are started one by one as usual, when all the routes have been warmed up.
+     */
+    public void setParallelRouteStartup(boolean parallelRouteStartup) {
+        this.parallelRouteStartup = parallelRouteStartup;
+    }
+
     public int getLogDebugMaxChars() {
         return logDebugMaxChars;
     }
@@ -993,6 +1008,17 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Whether to create and warm up the routes in parallel when starting.
+     * This can speedup starting Camel with many routes.
+     * The routes which have a startup order are still warmed up in that order,
+     * and the route consumers are started one by one as usual, when all the routes have been warmed up.
+     */
+    public T withParallelRouteStartup(boolean parallelRouteStartup) {
+        this.parallelRouteStartup = parallelRouteStartup;
+        return (T) this;
+    }
+
     /**
      * Is used to limit the maximum length of the logging Camel message bodies. If the message body
      * is longer than the limit, the log message is clipped. Use -1 to have unlimited length.
@@ -17,6 +17,7 @@
 package org.apache.camel.api.management.mbean;
 
 import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
 
 public interface ManagedConsumerMBean extends ManagedServiceMBean {
 
@@ -26,4 +27,28 @@ public interface ManagedConsumerMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Current number of inflight Exchanges")
     Integer getInflightExchanges();
 
+    @ManagedAttribute(description = "Whether the consumer is using a pool of exchanges")
+    boolean isExchangePooled();
+
+    @ManagedAttribute(description = "Maximum number of idle exchanges in the exchange pool")
+    int getExchangePoolCapacity();
+
+    @ManagedAttribute(description = "Number of idle exchanges in the exchange pool")
+    int getExchangePoolSize();
+
+    @ManagedAttribute(description = "Number of times an exchange was acquired from the exchange pool")
+    long getExchangePoolHits();
+
+    @ManagedAttribute(description = "Number of times the exchange pool was empty and a new exchange was created")
+    long getExchangePoolMisses();
+
+    @ManagedAttribute(description = "Number of released exchanges which were not returned to the exchange pool")
+    long getExchangePoolDiscarded();
+
+    @ManagedAttribute(description = "Number of exchanges detected as leaks (requires leak detection to be enabled)")
+    long getExchangePoolLeaked();
+
+    @ManagedOperation(description = "Reset the exchange pool statistics")
+    void resetExchangePoolStatistics();
+
 }
\ No newline at end of file
@@ -38,6 +38,18 @@ public interface ManagedEndpointRegistryMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Maximum cache size (capacity)")
     Integer getMaximumCacheSize();
 
+    @ManagedAttribute(description = "Number of endpoint uris in the resolution cache")
+    Integer getResolvedSize();
+
+    @ManagedAttribute(description = "Number of endpoint uris found in the resolution cache")
+    Long getResolvedHits();
+
+    @ManagedAttribute(description = "Number of endpoint uris not found in the resolution cache")
+    Long getResolvedMisses();
+
+    @ManagedAttribute(description = "Number of endpoint uris evicted from the resolution cache")
+    Long getResolvedEvicted();
+
     @ManagedOperation(description = "Purges the cache")
     void purge();
 
@@ -54,4 +54,25 @@ public interface ManagedProcessorMBean extends ManagedPerformanceCounterMBean {
     @ManagedOperation(description = "Dumps the processor as XML")
     String dumpProcessorAsXml() throws Exception;
 
-}
\ No newline at end of file
+    @ManagedAttribute(description = "Whether the processing time histogram is enabled")
+    boolean isProcessingTimeHistogramEnabled();
+
+    @ManagedAttribute(description = "Processing Time histogram window [milliseconds]")
+    long getProcessingTimeHistogramWindow();
+
+    @ManagedAttribute(description = "50th percentile Processing Time in the histogram window [milliseconds]")
+    long getP50ProcessingTime();
+
+    @ManagedAttribute(description = "90th percentile Processing Time in the histogram window [milliseconds]")
+    long getP90ProcessingTime();
+
+    @ManagedAttribute(description = "99th percentile Processing Time in the histogram window [milliseconds]")
+    long getP99ProcessingTime();
+
+    @ManagedAttribute(description = "99.9th percentile Processing Time in the histogram window [milliseconds]")
+    long getP999ProcessingTime();
+
+    @ManagedOperation(description = "Processing Time at the given percentile (0-100) in the histogram window [milliseconds]")
+    long processingTimePercentile(double percentile);
+
+}
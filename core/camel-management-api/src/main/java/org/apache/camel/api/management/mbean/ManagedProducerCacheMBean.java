@@ -30,6 +30,21 @@ public interface ManagedProducerCacheMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Maximum cache size (capacity)")
     Integer getMaximumCacheSize();
 
+    @ManagedAttribute(description = "Number of cache hits")
+    Long getHits();
+
+    @ManagedAttribute(description = "Number of cache misses")
+    Long getMisses();
+
+    @ManagedAttribute(description = "Number of cache evictions")
+    Long getEvicted();
+
+    @ManagedAttribute(description = "Percentage of acquired producers which were cache hits")
+    Double getHitRatio();
+
+    @ManagedOperation(description = "Reset cache statistics")
+    void resetStatistics();
+
     @ManagedOperation(description = "Purges the cache")
     void purge();
 
@@ -44,4 +44,19 @@ public interface ManagedResequencerMBean extends ManagedProcessorMBean {
     @ManagedAttribute(description = "If true, throws an exception when messages older than the last delivered message are processed")
     Boolean isRejectOld();
 
+    @ManagedAttribute(description = "Whether the stream resequencer allows messages to be inserted concurrently")
+    Boolean isConcurrent();
+
+    @ManagedAttribute(description = "Number of messages currently waiting in the stream resequencer")
+    Integer getSize();
+
+    @ManagedAttribute(description = "Number of messages which arrived without their predecessor (gaps in the stream)")
+    Long getGapCount();
+
+    @ManagedAttribute(description = "Number of messages delivered because the timeout for a gap elapsed")
+    Long getTimeoutCount();
+
+    @ManagedAttribute(description = "Number of messages which had to wait because the capacity was reached")
+    Long getCapacityReachedCount();
+
 }
\ No newline at end of file
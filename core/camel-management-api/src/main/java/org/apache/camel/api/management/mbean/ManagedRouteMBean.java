@@ -48,6 +48,12 @@ public interface ManagedRouteMBean extends ManagedPerformanceCounterMBean {
     @ManagedAttribute(description = "Route Uptime [milliseconds]")
     long getUptimeMillis();
 
+    @ManagedAttribute(description = "Time taken to create the route [milliseconds]")
+    long getCreationDuration();
+
+    @ManagedAttribute(description = "Time taken to warm up the route [milliseconds]")
+    long getWarmUpDuration();
+
     @ManagedAttribute(description = "Camel ID")
     String getCamelId();
 
@@ -133,4 +139,26 @@ public interface ManagedRouteMBean extends ManagedPerformanceCounterMBean {
     @Experimental
     @ManagedAttribute(description = "Last error")
     RouteError getLastError();
-}
\ No newline at end of file
+
+    @ManagedAttribute(description = "Whether the processing time histogram is enabled")
+    boolean isProcessingTimeHistogramEnabled();
+
+    @ManagedAttribute(description = "Processing Time histogram window [milliseconds]")
+    long getProcessingTimeHistogramWindow();
+
+    @ManagedAttribute(description = "50th percentile Processing Time in the histogram window [milliseconds]")
+    long getP50ProcessingTime();
+
+    @ManagedAttribute(description = "90th percentile Processing Time in the histogram window [milliseconds]")
+    long getP90ProcessingTime();
+
+    @ManagedAttribute(description = "99th percentile Processing Time in the histogram window [milliseconds]")
+    long getP99ProcessingTime();
+
+    @ManagedAttribute(description = "99.9th percentile Processing Time in the histogram window [milliseconds]")
+    long getP999ProcessingTime();
+
+    @ManagedOperation(description = "Processing Time at the given percentile (0-100) in the histogram window [milliseconds]")
+    long processingTimePercentile(double percentile);
+
+}
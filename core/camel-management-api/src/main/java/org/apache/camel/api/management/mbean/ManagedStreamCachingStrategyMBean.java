@@ -67,6 +67,12 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Whether to remove spool directory when stopping")
     boolean isRemoveSpoolDirectoryWhenStopping();
 
+    @ManagedAttribute(description = "Whether to spool to an off-heap arena (overflowing to memory mapped files) instead of files")
+    boolean isSpoolOffHeap();
+
+    @ManagedAttribute(description = "Size in bytes of the off-heap arena")
+    long getSpoolOffHeapArenaSize();
+
     @ManagedAttribute(description = "Whether any or all spool rules determines whether to spool")
     void setAnySpoolRules(boolean any);
 
@@ -91,6 +97,18 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Average number of bytes per cached stream for spooled (not in-memory) stream caches.")
     long getCacheSpoolAverageSize();
 
+    @ManagedAttribute(description = "Number of spooled StreamCache which has overflowed the off-heap arena to a memory mapped file")
+    long getCacheMappedCounter();
+
+    @ManagedAttribute(description = "Total accumulated number of bytes which has overflowed the off-heap arena to memory mapped files")
+    long getCacheMappedSize();
+
+    @ManagedAttribute(description = "Number of bytes of the off-heap arena currently in use by spooled StreamCache")
+    long getOffHeapArenaUsedSize();
+
+    @ManagedAttribute(description = "Highest number of bytes of the off-heap arena which has been in use by spooled StreamCache")
+    long getOffHeapArenaMaxUsedSize();
+
     @ManagedAttribute(description = "Whether utilization statistics is enabled")
     boolean isStatisticsEnabled();
 
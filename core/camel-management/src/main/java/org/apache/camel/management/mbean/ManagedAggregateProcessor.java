@@ -153,6 +153,11 @@ public class ManagedAggregateProcessor extends ManagedProcessor implements Manag
         return processor.isOptimisticLocking();
     }
 
+    @Override
+    public int getLockStripes() {
+        return processor.getLockStripesInUse();
+    }
+
     @Override
     public boolean isEagerCheckCompletion() {
         return processor.isEagerCheckCompletion();
@@ -302,6 +307,16 @@ public class ManagedAggregateProcessor extends ManagedProcessor implements Manag
         return processor.getStatistics().getDiscarded();
     }
 
+    @Override
+    public long getLockContended() {
+        return processor.getStatistics().getLockContended();
+    }
+
+    @Override
+    public long getLockWaitTime() {
+        return processor.getStatistics().getLockWaitTime();
+    }
+
     @Override
     public void resetStatistics() {
         processor.getStatistics().reset();
@@ -20,6 +20,8 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.Consumer;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedConsumerMBean;
+import org.apache.camel.support.DefaultConsumer;
+import org.apache.camel.support.PooledExchangeFactory;
 
 @ManagedResource(description = "Managed Consumer")
 public class ManagedConsumer extends ManagedService implements ManagedConsumerMBean {
@@ -48,4 +50,60 @@ public class ManagedConsumer extends ManagedService implements ManagedConsumerMB
         }
     }
 
+    @Override
+    public boolean isExchangePooled() {
+        return getExchangeFactory() != null;
+    }
+
+    @Override
+    public int getExchangePoolCapacity() {
+        PooledExchangeFactory factory = getExchangeFactory();
+        return factory != null ? factory.getCapacity() : 0;
+    }
+
+    @Override
+    public int getExchangePoolSize() {
+        PooledExchangeFactory factory = getExchangeFactory();
+        return factory != null ? factory.getSize() : 0;
+    }
+
+    @Override
+    public long getExchangePoolHits() {
+        PooledExchangeFactory factory = getExchangeFactory();
+        return factory != null ? factory.getHits() : 0;
+    }
+
+    @Override
+    public long getExchangePoolMisses() {
+        PooledExchangeFactory factory = getExchangeFactory();
+        return factory != null ? factory.getMisses() : 0;
+    }
+
+    @Override
+    public long getExchangePoolDiscarded() {
+        PooledExchangeFactory factory = getExchangeFactory();
+        return factory != null ? factory.getDiscarded() : 0;
+    }
+
+    @Override
+    public long getExchangePoolLeaked() {
+        PooledExchangeFactory factory = getExchangeFactory();
+        return factory != null ? factory.getLeaked() : 0;
+    }
+
+    @Override
+    public void resetExchangePoolStatistics() {
+        PooledExchangeFactory factory = getExchangeFactory();
+        if (factory != null) {
+            factory.resetStatistics();
+        }
+    }
+
+    private PooledExchangeFactory getExchangeFactory() {
+        if (consumer instanceof DefaultConsumer) {
+            return ((DefaultConsumer) consumer).getExchangeFactory();
+        }
+        return null;
+    }
+
 }
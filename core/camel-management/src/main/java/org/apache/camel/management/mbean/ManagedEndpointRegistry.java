@@ -79,6 +79,26 @@ public class ManagedEndpointRegistry extends ManagedService implements ManagedEn
         return endpointRegistry.getMaximumCacheSize();
     }
 
+    @Override
+    public Integer getResolvedSize() {
+        return endpointRegistry.resolvedSize();
+    }
+
+    @Override
+    public Long getResolvedHits() {
+        return endpointRegistry.getResolvedHits();
+    }
+
+    @Override
+    public Long getResolvedMisses() {
+        return endpointRegistry.getResolvedMisses();
+    }
+
+    @Override
+    public Long getResolvedEvicted() {
+        return endpointRegistry.getResolvedEvicted();
+    }
+
     @Override
     public void purge() {
         endpointRegistry.purge();
@@ -19,6 +19,7 @@ package org.apache.camel.management.mbean;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 
+import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedPerformanceCounterMBean;
@@ -31,6 +32,22 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter implement
 
     public static final String TIMESTAMP_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";
 
+    /**
+     * Global option to enable recording the processing time of routes and processors in a histogram,
+     * so the processing time at percentiles such as the 99th percentile is available.
+     */
+    public static final String PROCESSING_TIME_HISTOGRAM_OPTION = "CamelManagementProcessingTimeHistogram";
+
+    /**
+     * Global option with the window in millis of the processing time histogram (default 60000).
+     */
+    public static final String PROCESSING_TIME_HISTOGRAM_WINDOW_OPTION = "CamelManagementProcessingTimeHistogramWindow";
+
+    public static final long DEFAULT_PROCESSING_TIME_HISTOGRAM_WINDOW = 60000;
+
+    // processing time higher than 1 hour is recorded as 1 hour in the histogram
+    private static final long HISTOGRAM_HIGHEST_TRACKABLE_VALUE = 60 * 60 * 1000L;
+
     private Statistic exchangesCompleted;
     private Statistic exchangesFailed;
     private Statistic exchangesInflight;
@@ -43,6 +60,7 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter implement
     private Statistic lastProcessingTime;
     private Statistic deltaProcessingTime;
     private Statistic meanProcessingTime;
+    private StatisticHistogram processingTimeHistogram;
     private Statistic firstExchangeCompletedTimestamp;
     private String firstExchangeCompletedExchangeId;
     private Statistic firstExchangeFailureTimestamp;
@@ -77,6 +95,20 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter implement
         this.lastExchangeFailureTimestamp = new StatisticValue();
     }
 
+    /**
+     * Enables the processing time histogram if enabled by the global option {@link #PROCESSING_TIME_HISTOGRAM_OPTION}.
+     */
+    protected void initProcessingTimeHistogram(CamelContext context) {
+        if ("true".equalsIgnoreCase(context.getGlobalOption(PROCESSING_TIME_HISTOGRAM_OPTION))) {
+            long window = DEFAULT_PROCESSING_TIME_HISTOGRAM_WINDOW;
+            String value = context.getGlobalOption(PROCESSING_TIME_HISTOGRAM_WINDOW_OPTION);
+            if (value != null) {
+                window = Long.parseLong(value);
+            }
+            this.processingTimeHistogram = new StatisticHistogram(HISTOGRAM_HIGHEST_TRACKABLE_VALUE, window);
+        }
+    }
+
     @Override
     public void reset() {
         super.reset();
@@ -92,6 +124,9 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter implement
         lastProcessingTime.reset();
         deltaProcessingTime.reset();
         meanProcessingTime.reset();
+        if (processingTimeHistogram != null) {
+            processingTimeHistogram.reset();
+        }
         firstExchangeCompletedTimestamp.reset();
         firstExchangeCompletedExchangeId = null;
         firstExchangeFailureTimestamp.reset();
@@ -162,6 +197,34 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter implement
         return deltaProcessingTime.getValue();
     }
 
+    public boolean isProcessingTimeHistogramEnabled() {
+        return processingTimeHistogram != null;
+    }
+
+    public long getProcessingTimeHistogramWindow() {
+        return processingTimeHistogram != null ? processingTimeHistogram.getWindow() : 0;
+    }
+
+    public long getP50ProcessingTime() {
+        return processingTimePercentile(50);
+    }
+
+    public long getP90ProcessingTime() {
+        return processingTimePercentile(90);
+    }
+
+    public long getP99ProcessingTime() {
+        return processingTimePercentile(99);
+    }
+
+    public long getP999ProcessingTime() {
+        return processingTimePercentile(99.9);
+    }
+
+    public long processingTimePercentile(double percentile) {
+        return processingTimeHistogram != null ? processingTimeHistogram.getValueAtPercentile(percentile) : 0;
+    }
+
     @Override
     public Date getLastExchangeCompletedTimestamp() {
         long value = lastExchangeCompletedTimestamp.getValue();
@@ -242,6 +305,9 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter implement
         deltaProcessingTime.updateValue(time);
 
         long now = System.currentTimeMillis();
+        if (processingTimeHistogram != null) {
+            processingTimeHistogram.recordValue(time, now);
+        }
         if (!firstExchangeCompletedTimestamp.isUpdated()) {
             firstExchangeCompletedTimestamp.updateValue(now);
         }
@@ -302,6 +368,12 @@ public abstract class ManagedPerformanceCounter extends ManagedCounter implement
         sb.append(String.format(" lastProcessingTime=\"%s\"", lastProcessingTime.getValue()));
         sb.append(String.format(" deltaProcessingTime=\"%s\"", deltaProcessingTime.getValue()));
         sb.append(String.format(" meanProcessingTime=\"%s\"", meanProcessingTime.getValue()));
+        if (processingTimeHistogram != null) {
+            sb.append(String.format(" p50ProcessingTime=\"%s\"", getP50ProcessingTime()));
+            sb.append(String.format(" p90ProcessingTime=\"%s\"", getP90ProcessingTime()));
+            sb.append(String.format(" p99ProcessingTime=\"%s\"", getP99ProcessingTime()));
+            sb.append(String.format(" p999ProcessingTime=\"%s\"", getP999ProcessingTime()));
+        }
 
         if (fullStats) {
             sb.append(String.format(" startTimestamp=\"%s\"", dateAsString(startTimestamp.getTime())));
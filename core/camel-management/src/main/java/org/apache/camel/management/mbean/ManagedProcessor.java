@@ -62,6 +62,7 @@ public class ManagedProcessor extends ManagedPerformanceCounter implements Manag
         super.init(strategy);
         boolean enabled = context.getManagementStrategy().getManagementAgent().getStatisticsLevel().isDefaultOrExtended();
         setStatisticsEnabled(enabled);
+        initProcessingTimeHistogram(context);
     }
 
     public CamelContext getContext() {
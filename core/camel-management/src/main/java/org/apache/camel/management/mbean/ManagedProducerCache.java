@@ -52,6 +52,33 @@ public class ManagedProducerCache extends ManagedService implements ManagedProdu
         return producerCache.getCapacity();
     }
 
+    @Override
+    public Long getHits() {
+        return producerCache.getHits();
+    }
+
+    @Override
+    public Long getMisses() {
+        return producerCache.getMisses();
+    }
+
+    @Override
+    public Long getEvicted() {
+        return producerCache.getEvicted();
+    }
+
+    @Override
+    public Double getHitRatio() {
+        long hits = producerCache.getHits();
+        long total = hits + producerCache.getMisses();
+        return total > 0 ? 100.0 * hits / total : 0.0;
+    }
+
+    @Override
+    public void resetStatistics() {
+        producerCache.resetCacheStatistics();
+    }
+
     @Override
     public void purge() {
         producerCache.purge();
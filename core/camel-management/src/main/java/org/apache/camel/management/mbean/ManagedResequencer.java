@@ -43,6 +43,14 @@ public class ManagedResequencer extends ManagedProcessor implements ManagedReseq
         this.expression = streamProcessor.getExpression().toString();
     }
 
+    @Override
+    public void reset() {
+        super.reset();
+        if (streamProcessor != null) {
+            streamProcessor.reset();
+        }
+    }
+
     @Override
     public String getExpression() {
         return expression;
@@ -110,4 +118,49 @@ public class ManagedResequencer extends ManagedProcessor implements ManagedReseq
             return streamProcessor.isRejectOld();
         }
     }
+
+    @Override
+    public Boolean isConcurrent() {
+        if (processor != null) {
+            return null;
+        } else {
+            return streamProcessor.isConcurrent();
+        }
+    }
+
+    @Override
+    public Integer getSize() {
+        if (processor != null) {
+            return null;
+        } else {
+            return streamProcessor.getSize();
+        }
+    }
+
+    @Override
+    public Long getGapCount() {
+        if (processor != null) {
+            return null;
+        } else {
+            return streamProcessor.getGapCount();
+        }
+    }
+
+    @Override
+    public Long getTimeoutCount() {
+        if (processor != null) {
+            return null;
+        } else {
+            return streamProcessor.getTimeoutCount();
+        }
+    }
+
+    @Override
+    public Long getCapacityReachedCount() {
+        if (processor != null) {
+            return null;
+        } else {
+            return streamProcessor.getCapacityReachedCount();
+        }
+    }
 }
@@ -84,6 +84,7 @@ public class ManagedRoute extends ManagedPerformanceCounter implements TimerList
         super.init(strategy);
         boolean enabled = context.getManagementStrategy().getManagementAgent().getStatisticsLevel() != ManagementStatisticsLevel.Off;
         setStatisticsEnabled(enabled);
+        initProcessingTimeHistogram(context);
     }
 
     public Route getRoute() {
@@ -168,6 +169,16 @@ public class ManagedRoute extends ManagedPerformanceCounter implements TimerList
         return route.getUptimeMillis();
     }
 
+    @Override
+    public long getCreationDuration() {
+        return route.getCreationDuration();
+    }
+
+    @Override
+    public long getWarmUpDuration() {
+        return route.getWarmUpDuration();
+    }
+
     public Integer getInflightExchanges() {
         return (int) super.getExchangesInflight();
     }
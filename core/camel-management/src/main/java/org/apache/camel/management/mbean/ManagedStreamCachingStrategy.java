@@ -133,6 +133,16 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.isRemoveSpoolDirectoryWhenStopping();
     }
 
+    @Override
+    public boolean isSpoolOffHeap() {
+        return streamCachingStrategy.isSpoolOffHeap();
+    }
+
+    @Override
+    public long getSpoolOffHeapArenaSize() {
+        return streamCachingStrategy.getSpoolOffHeapArenaSize();
+    }
+
     @Override
     public void setAnySpoolRules(boolean any) {
         streamCachingStrategy.setAnySpoolRules(any);
@@ -173,6 +183,26 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         return streamCachingStrategy.getStatistics().getCacheSpoolAverageSize();
     }
 
+    @Override
+    public long getCacheMappedCounter() {
+        return streamCachingStrategy.getStatistics().getCacheMappedCounter();
+    }
+
+    @Override
+    public long getCacheMappedSize() {
+        return streamCachingStrategy.getStatistics().getCacheMappedSize();
+    }
+
+    @Override
+    public long getOffHeapArenaUsedSize() {
+        return streamCachingStrategy.getStatistics().getOffHeapArenaUsedSize();
+    }
+
+    @Override
+    public long getOffHeapArenaMaxUsedSize() {
+        return streamCachingStrategy.getStatistics().getOffHeapArenaMaxUsedSize();
+    }
+
     @Override
     public boolean isStatisticsEnabled() {
         return streamCachingStrategy.getStatistics().isStatisticsEnabled();
@@ -23,6 +23,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.api.management.mbean.ManagedThreadPoolMBean;
 import org.apache.camel.spi.ManagementStrategy;
+import org.apache.camel.util.concurrent.CamelVirtualThreadFactory;
 
 @ManagedResource(description = "Managed ThreadPool")
 public class ManagedThreadPool implements ManagedThreadPoolMBean {
@@ -169,6 +170,11 @@ public class ManagedThreadPool implements ManagedThreadPoolMBean {
         threadPool.allowCoreThreadTimeOut(allowCoreThreadTimeout);
     }
 
+    @Override
+    public boolean isVirtualThreads() {
+        return threadPool.getThreadFactory() instanceof CamelVirtualThreadFactory;
+    }
+
     @Override
     public boolean isShutdown() {
         return threadPool.isShutdown();
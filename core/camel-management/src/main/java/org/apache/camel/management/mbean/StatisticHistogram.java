@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A statistic which records values in a histogram so percentiles can be computed, such as the 99th percentile
+ * of the processing time.
+ * <p/>
+ * The histogram uses the same log-linear bucket layout as HdrHistogram, where the values are grouped in buckets
+ * of doubling size, and each bucket is divided into 64 sub buckets. This gives a precision of at least 2 significant
+ * digits (the value at a percentile is at most 1/64 higher than the recorded value), and values up to 127 are
+ * recorded exactly.
+ * <p/>
+ * Recording a value is lock-free and does not create any objects, as it only increments a counter in a pre allocated
+ * array. The values are recorded in a window which rolls over when the window time has passed, and the percentiles
+ * are computed from the current and the previous window. The histogram keeps three intervals which are rotated when
+ * the window rolls over, so no new arrays are allocated.
+ * <p/>
+ * Like the other statistics the histogram is not 100% accurate, as a value which is recorded while the window
+ * rolls over may be counted in the previous window.
+ */
+public class StatisticHistogram extends Statistic {
+
+    private static final int SUB_BUCKET_HALF_COUNT_MAGNITUDE = 6;
+    private static final int SUB_BUCKET_HALF_COUNT = 1 << SUB_BUCKET_HALF_COUNT_MAGNITUDE;
+    private static final int SUB_BUCKET_COUNT = SUB_BUCKET_HALF_COUNT * 2;
+    private static final long SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+    private static final int LEADING_ZERO_COUNT_BASE = 64 - SUB_BUCKET_HALF_COUNT_MAGNITUDE - 1;
+
+    private final long highestTrackableValue;
+    private final long window;
+    private final int countsLength;
+    private final AtomicBoolean rolling = new AtomicBoolean();
+    private volatile Interval current;
+    private volatile Interval previous;
+    private Interval spare;
+
+    /**
+     * Creates a histogram.
+     *
+     * @param highestTrackableValue the highest value which can be tracked, higher values are recorded as this value
+     * @param window                the window in millis, or 0 to never roll over
+     */
+    public StatisticHistogram(long highestTrackableValue, long window) {
+        if (highestTrackableValue < SUB_BUCKET_COUNT) {
+            throw new IllegalArgumentException("HighestTrackableValue must be " + SUB_BUCKET_COUNT + " or higher");
+        }
+        this.highestTrackableValue = highestTrackableValue;
+        this.window = window;
+
+        // number of buckets needed to cover the range, where each bucket doubles the range
+        int buckets = 1;
+        long smallestUntrackableValue = SUB_BUCKET_COUNT;
+        while (smallestUntrackableValue <= highestTrackableValue) {
+            if (smallestUntrackableValue > Long.MAX_VALUE / 2) {
+                buckets++;
+                break;
+            }
+            smallestUntrackableValue <<= 1;
+            buckets++;
+        }
+        this.countsLength = (buckets + 1) * SUB_BUCKET_HALF_COUNT;
+
+        long now = System.currentTimeMillis();
+        this.current = new Interval(countsLength, now);
+        this.previous = new Interval(countsLength, now);
+        this.spare = new Interval(countsLength, now);
+    }
+
+    @Override
+    public void updateValue(long newValue) {
+        recordValue(newValue, System.currentTimeMillis());
+    }
+
+    /**
+     * Records the value
+     *
+     * @param value the value, negative values are recorded as 0
+     * @param now   the current time in millis, used for rolling over the window
+     */
+    public void recordValue(long value, long now) {
+        Interval interval = current;
+        if (window > 0 && now - interval.start >= window) {
+            interval = rollover(interval, now);
+        }
+        interval.counts.incrementAndGet(countsIndex(value));
+    }
+
+    /**
+     * Number of values recorded in the current and the previous window.
+     */
+    @Override
+    public long getValue() {
+        long now = System.currentTimeMillis();
+        long answer = 0;
+        Interval interval = current;
+        if (isInWindow(interval, now)) {
+            answer += interval.getTotalCount();
+        }
+        interval = previous;
+        if (isInWindow(interval, now)) {
+            answer += interval.getTotalCount();
+        }
+        return answer;
+    }
+
+    @Override
+    public boolean isUpdated() {
+        return getValue() > 0;
+    }
+
+    @Override
+    public void reset() {
+        long now = System.currentTimeMillis();
+        current.reset(now);
+        previous.reset(now);
+    }
+
+    /**
+     * The window in millis, or 0 if the histogram never rolls over.
+     */
+    public long getWindow() {
+        return window;
+    }
+
+    public long getHighestTrackableValue() {
+        return highestTrackableValue;
+    }
+
+    /**
+     * Gets the value at the given percentile in the current and the previous window.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the value (the highest value which is equivalent to the recorded values), or 0 if no values has been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long now = System.currentTimeMillis();
+        Interval first = current;
+        Interval second = previous;
+        if (!isInWindow(first, now)) {
+            first = null;
+        }
+        if (!isInWindow(second, now)) {
+            second = null;
+        }
+
+        // take a snapshot of the counts, so the counts does not change while we find the percentile
+        long[] counts = new long[countsLength];
+        long total = 0;
+        for (int i = 0; i < countsLength; i++) {
+            long count = 0;
+            if (first != null) {
+                count += first.counts.get(i);
+            }
+            if (second != null) {
+                count += second.counts.get(i);
+            }
+            counts[i] = count;
+            total += count;
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        double requested = Math.min(Math.max(percentile, 0), 100);
+        long countAtPercentile = Math.max(1, (long) Math.ceil((requested / 100) * total));
+        long sum = 0;
+        for (int i = 0; i < countsLength; i++) {
+            sum += counts[i];
+            if (sum >= countAtPercentile) {
+                return highestEquivalentValue(valueFromIndex(i));
+            }
+        }
+        return 0;
+    }
+
+    private boolean isInWindow(Interval interval, long now) {
+        // an interval is only in the window if it is the current or the previous window
+        return window <= 0 || now - interval.start < 2 * window;
+    }
+
+    private Interval rollover(Interval interval, long now) {
+        // only one thread rolls over, the other threads continue recording in the current interval
+        if (rolling.compareAndSet(false, true)) {
+            try {
+                if (current == interval) {
+                    // the spare interval has not been used for a full window so it can be reused as the current
+                    Interval next = spare;
+                    next.reset(now);
+                    spare = previous;
+                    previous = interval;
+                    current = next;
+                }
+            } finally {
+                rolling.set(false);
+            }
+        }
+        return current;
+    }
+
+    int countsIndex(long value) {
+        if (value < 0) {
+            value = 0;
+        } else if (value > highestTrackableValue) {
+            value = highestTrackableValue;
+        }
+        int bucketIndex = LEADING_ZERO_COUNT_BASE - Long.numberOfLeadingZeros(value | SUB_BUCKET_MASK);
+        int subBucketIndex = (int) (value >>> bucketIndex);
+        return ((bucketIndex + 1) << SUB_BUCKET_HALF_COUNT_MAGNITUDE) + (subBucketIndex - SUB_BUCKET_HALF_COUNT);
+    }
+
+    static long valueFromIndex(int index) {
+        int bucketIndex = (index >> SUB_BUCKET_HALF_COUNT_MAGNITUDE) - 1;
+        int subBucketIndex = (index & (SUB_BUCKET_HALF_COUNT - 1)) + SUB_BUCKET_HALF_COUNT;
+        if (bucketIndex < 0) {
+            subBucketIndex -= SUB_BUCKET_HALF_COUNT;
+            bucketIndex = 0;
+        }
+        return ((long) subBucketIndex) << bucketIndex;
+    }
+
+    static long highestEquivalentValue(long value) {
+        int bucketIndex = LEADING_ZERO_COUNT_BASE - Long.numberOfLeadingZeros(value | SUB_BUCKET_MASK);
+        long size = 1L << bucketIndex;
+        return value + size - 1;
+    }
+
+    @Override
+    public String toString() {
+        return "" + getValue();
+    }
+
+    private static final class Interval {
+
+        private final AtomicLongArray counts;
+        private volatile long start;
+
+        Interval(int length, long start) {
+            this.counts = new AtomicLongArray(length);
+            this.start = start;
+        }
+
+        long getTotalCount() {
+            long answer = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                answer += counts.get(i);
+            }
+            return answer;
+        }
+
+        void reset(long now) {
+            for (int i = 0; i < counts.length(); i++) {
+                counts.set(i, 0);
+            }
+            start = now;
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.xslt;
+
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.Test;
+
+public class ManagedXsltTemplatesCacheTest extends ContextTestSupport {
+
+    @Override
+    protected boolean useJmx() {
+        return true;
+    }
+
+    protected MBeanServer getMBeanServer() {
+        return context.getManagementStrategy().getManagementAgent().getMBeanServer();
+    }
+
+    @Test
+    public void testTemplatesCache() throws Exception {
+        template.sendBody("direct:start", "<hello>world!</hello>");
+
+        MBeanServer mbeanServer = getMBeanServer();
+        Set<ObjectName> set = mbeanServer.queryNames(new ObjectName("org.apache.camel:type=services,name=XsltTemplatesCache*,*"), null);
+        assertEquals(1, set.size());
+        ObjectName on = set.iterator().next();
+
+        // both endpoints use the same stylesheet which is compiled once
+        assertEquals(1, mbeanServer.getAttribute(on, "Size"));
+        assertEquals(100, mbeanServer.getAttribute(on, "MaximumCacheSize"));
+        assertEquals(1L, mbeanServer.getAttribute(on, "Misses"));
+        assertEquals(1L, mbeanServer.getAttribute(on, "Hits"));
+        assertEquals(0L, mbeanServer.getAttribute(on, "Reloads"));
+        assertEquals(1, mbeanServer.getAttribute(on, "PooledTransformers"));
+
+        mbeanServer.invoke(on, "resetStatistics", null, null);
+        assertEquals(0L, mbeanServer.getAttribute(on, "Hits"));
+
+        mbeanServer.invoke(on, "clear", null, null);
+        assertEquals(0, mbeanServer.getAttribute(on, "Size"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .to("xslt:org/apache/camel/component/xslt/example.xsl?output=bytes&transformerCacheSize=2")
+                    .to("mock:result");
+
+                from("direct:other")
+                    .to("xslt:org/apache/camel/component/xslt/example.xsl?output=string")
+                    .to("mock:result");
+            }
+        };
+    }
+}
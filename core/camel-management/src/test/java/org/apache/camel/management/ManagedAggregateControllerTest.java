@@ -90,6 +90,13 @@ public class ManagedAggregateControllerTest extends ManagementTestSupport {
         Integer inflight = (Integer) mbeanServer.getAttribute(on, "InProgressCompleteExchanges");
         assertEquals(0, inflight.intValue());
 
+        // a single lock is in use
+        Integer stripes = (Integer) mbeanServer.getAttribute(on, "LockStripes");
+        assertEquals(1, stripes.intValue());
+
+        Long contended = (Long) mbeanServer.getAttribute(on, "LockContended");
+        assertEquals(0, contended.longValue());
+
         pending = (Integer) mbeanServer.invoke(on, "aggregationRepositoryGroups", null, null);
         assertEquals(0, pending.intValue());
     }
@@ -71,6 +71,20 @@ public class ManagedEndpointRegistryTest extends ManagementTestSupport {
         current = (Integer) mbeanServer.getAttribute(on, "DynamicSize");
         assertEquals(1, current.intValue());
 
+        // the uris of the endpoints and their normalized uris
+        current = (Integer) mbeanServer.getAttribute(on, "ResolvedSize");
+        assertEquals(6, current.intValue());
+
+        // the dynamic endpoint is resolved from the cache the second time
+        Long hits = (Long) mbeanServer.getAttribute(on, "ResolvedHits");
+        Long misses = (Long) mbeanServer.getAttribute(on, "ResolvedMisses");
+        template.sendBody("log:foo", "Hello World");
+        assertEquals(hits + 1, ((Long) mbeanServer.getAttribute(on, "ResolvedHits")).longValue());
+        assertEquals(misses, mbeanServer.getAttribute(on, "ResolvedMisses"));
+
+        Long evicted = (Long) mbeanServer.getAttribute(on, "ResolvedEvicted");
+        assertEquals(0, evicted.longValue());
+
         String source = (String) mbeanServer.getAttribute(on, "Source");
         assertTrue(source.startsWith("EndpointRegistry"));
         assertTrue(source.endsWith("capacity: 1000"));
@@ -90,6 +104,9 @@ public class ManagedEndpointRegistryTest extends ManagementTestSupport {
         current = (Integer) mbeanServer.getAttribute(on, "Size");
         assertEquals(2, current.intValue());
 
+        current = (Integer) mbeanServer.getAttribute(on, "ResolvedSize");
+        assertEquals(0, current.intValue());
+
         data = (TabularData) mbeanServer.invoke(on, "listEndpoints", null, null);
         assertEquals(2, data.size());
     }
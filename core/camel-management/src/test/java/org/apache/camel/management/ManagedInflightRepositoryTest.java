@@ -53,6 +53,9 @@ public class ManagedInflightRepositoryTest extends ManagementTestSupport {
                             Integer size = (Integer) mbeanServer.getAttribute(name, "Size");
                             assertEquals(1, size.intValue());
 
+                            Boolean browse = (Boolean) mbeanServer.getAttribute(name, "InflightBrowseEnabled");
+                            assertTrue(browse);
+
                             Integer routeSize = (Integer) mbeanServer.invoke(name, "size", new Object[]{"foo"}, new String[]{"java.lang.String"});
                             assertEquals(1, routeSize.intValue());
 
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.management.mbean.ManagedPerformanceCounter;
+import org.junit.Test;
+
+public class ManagedProcessingTimeHistogramTest extends ManagementTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getGlobalOptions().put(ManagedPerformanceCounter.PROCESSING_TIME_HISTOGRAM_OPTION, "true");
+        context.getGlobalOptions().put(ManagedPerformanceCounter.PROCESSING_TIME_HISTOGRAM_WINDOW_OPTION, "30000");
+        return context;
+    }
+
+    @Test
+    public void testProcessingTimeHistogram() throws Exception {
+        // JMX tests dont work well on AIX CI servers (hangs them)
+        if (isPlatform("aix")) {
+            return;
+        }
+
+        getMockEndpoint("mock:result").expectedMessageCount(10);
+
+        for (int i = 0; i < 9; i++) {
+            template.sendBodyAndHeader("direct:start", "Hello World", "delay", 0);
+        }
+        template.sendBodyAndHeader("direct:start", "Bye World", "delay", 300);
+
+        assertMockEndpointsSatisfied();
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName route = ObjectName.getInstance("org.apache.camel:context=camel-1,type=routes,name=\"route1\"");
+        ObjectName processor = ObjectName.getInstance("org.apache.camel:context=camel-1,type=processors,name=\"delay\"");
+
+        for (ObjectName on : new ObjectName[]{route, processor}) {
+            assertEquals(Boolean.TRUE, mbeanServer.getAttribute(on, "ProcessingTimeHistogramEnabled"));
+            assertEquals(30000L, mbeanServer.getAttribute(on, "ProcessingTimeHistogramWindow"));
+
+            Long p50 = (Long) mbeanServer.getAttribute(on, "P50ProcessingTime");
+            Long p99 = (Long) mbeanServer.getAttribute(on, "P99ProcessingTime");
+            Long max = (Long) mbeanServer.getAttribute(on, "MaxProcessingTime");
+            assertTrue("Should be fast: was " + p50, p50 < 250);
+            assertTrue("Should take around 300 millis: was " + p99, p99 >= 290);
+            // the histogram has a precision of 2 significant digits
+            assertTrue("Should be near the max: " + max + " was " + p99, p99 >= max && p99 <= max + max / 64);
+
+            Long p90 = (Long) mbeanServer.invoke(on, "processingTimePercentile", new Object[]{90.0d}, new String[]{"double"});
+            assertTrue("Should be fast: was " + p90, p90 < 250);
+
+            String xml = (String) mbeanServer.invoke(on, "dumpStatsAsXml", new Object[]{false}, new String[]{"boolean"});
+            assertTrue(xml, xml.contains("p99ProcessingTime=\"" + p99 + "\""));
+
+            mbeanServer.invoke(on, "reset", null, null);
+            p99 = (Long) mbeanServer.getAttribute(on, "P99ProcessingTime");
+            assertEquals(0, p99.longValue());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .delay(header("delay")).id("delay")
+                    .to("mock:result");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ServiceStatus;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.Test;
+
+public class ManagedRouteParallelStartupTest extends ManagementTestSupport {
+
+    private static final int ROUTES = 10;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setParallelRouteStartup(true);
+        return context;
+    }
+
+    @Test
+    public void testParallelRouteStartup() throws Exception {
+        // JMX tests dont work well on AIX CI servers (hangs them)
+        if (isPlatform("aix")) {
+            return;
+        }
+
+        getMockEndpoint("mock:result").expectedMessageCount(ROUTES);
+        for (int i = 0; i < ROUTES; i++) {
+            template.sendBody("direct:route" + i, "Hello World");
+        }
+        assertMockEndpointsSatisfied();
+
+        MBeanServer mbeanServer = getMBeanServer();
+
+        Set<ObjectName> set = mbeanServer.queryNames(new ObjectName("*:type=routes,*"), null);
+        assertEquals(ROUTES, set.size());
+
+        for (ObjectName on : set) {
+            String state = (String) mbeanServer.getAttribute(on, "State");
+            assertEquals("Should be started", ServiceStatus.Started.name(), state);
+
+            long creation = (Long) mbeanServer.getAttribute(on, "CreationDuration");
+            assertTrue(creation >= 0);
+            long warmUp = (Long) mbeanServer.getAttribute(on, "WarmUpDuration");
+            assertTrue(warmUp >= 0);
+        }
+
+        // the processors of all the routes are managed
+        set = mbeanServer.queryNames(new ObjectName("*:type=processors,*"), null);
+        assertEquals(ROUTES * 2, set.size());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                for (int i = 0; i < ROUTES; i++) {
+                    from("direct:route" + i).routeId("route" + i)
+                        .delayer(10).to("log:route" + i).to("mock:result");
+                }
+            }
+        };
+    }
+
+}
@@ -24,6 +24,7 @@ import javax.management.ObjectName;
 import org.apache.camel.StreamCache;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.util.IOHelper;
 import org.junit.Test;
 
@@ -82,6 +83,18 @@ public class ManagedStreamCachingStrategyTest extends ManagementTestSupport {
 
         Boolean remove = (Boolean) mbeanServer.getAttribute(name, "RemoveSpoolDirectoryWhenStopping");
         assertEquals(Boolean.TRUE, remove);
+
+        Boolean offHeap = (Boolean) mbeanServer.getAttribute(name, "SpoolOffHeap");
+        assertEquals(Boolean.FALSE, offHeap);
+
+        Long arenaSize = (Long) mbeanServer.getAttribute(name, "SpoolOffHeapArenaSize");
+        assertEquals(StreamCachingStrategy.DEFAULT_SPOOL_OFF_HEAP_ARENA_SIZE, arenaSize.longValue());
+
+        arenaSize = (Long) mbeanServer.getAttribute(name, "OffHeapArenaUsedSize");
+        assertEquals(0, arenaSize.longValue());
+
+        counter = (Long) mbeanServer.getAttribute(name, "CacheMappedCounter");
+        assertEquals(0, counter.longValue());
     }
 
     @Override
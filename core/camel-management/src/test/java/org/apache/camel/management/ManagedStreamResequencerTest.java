@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.Test;
+
+public class ManagedStreamResequencerTest extends ManagementTestSupport {
+
+    @Test
+    public void testManageStreamResequencer() throws Exception {
+        // JMX tests dont work well on AIX CI servers (hangs them)
+        if (isPlatform("aix")) {
+            return;
+        }
+
+        MockEndpoint foo = getMockEndpoint("mock:foo");
+        foo.expectedBodiesReceived("A", "B", "C");
+
+        template.sendBodyAndHeader("direct:start", "B", "num", 2L);
+        template.sendBodyAndHeader("direct:start", "C", "num", 3L);
+        template.sendBodyAndHeader("direct:start", "A", "num", 1L);
+
+        assertMockEndpointsSatisfied();
+
+        // get the stats for the route
+        MBeanServer mbeanServer = getMBeanServer();
+
+        ObjectName on = ObjectName.getInstance("org.apache.camel:context=camel-1,type=processors,name=\"mysend\"");
+
+        Boolean concurrent = (Boolean) mbeanServer.getAttribute(on, "Concurrent");
+        assertTrue(concurrent);
+
+        Integer capacity = (Integer) mbeanServer.getAttribute(on, "Capacity");
+        assertEquals(10, capacity.intValue());
+
+        Integer size = (Integer) mbeanServer.getAttribute(on, "Size");
+        assertEquals(0, size.intValue());
+
+        Long gaps = (Long) mbeanServer.getAttribute(on, "GapCount");
+        assertEquals(2, gaps.longValue());
+
+        Long timeouts = (Long) mbeanServer.getAttribute(on, "TimeoutCount");
+        assertEquals(1, timeouts.longValue());
+
+        Long full = (Long) mbeanServer.getAttribute(on, "CapacityReachedCount");
+        assertEquals(0, full.longValue());
+
+        mbeanServer.invoke(on, "reset", null, null);
+
+        gaps = (Long) mbeanServer.getAttribute(on, "GapCount");
+        assertEquals(0, gaps.longValue());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                    .resequence(header("num")).stream().capacity(10).timeout(100).deliveryAttemptInterval(10).concurrent().id("mysend")
+                        .to("mock:foo");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.PooledExchangeFactory;
+import org.junit.Test;
+
+public class ManagedTimerExchangePooledTest extends ManagementTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getGlobalOptions().put(PooledExchangeFactory.POOLED_OPTION, "true");
+        context.getGlobalOptions().put(PooledExchangeFactory.CAPACITY_OPTION, "5");
+        return context;
+    }
+
+    @Test
+    public void testExchangePooled() throws Exception {
+        // JMX tests dont work well on AIX CI servers (hangs them)
+        if (isPlatform("aix")) {
+            return;
+        }
+
+        getMockEndpoint("mock:result").expectedMessageCount(5);
+        assertMockEndpointsSatisfied();
+
+        MBeanServer mbeanServer = getMBeanServer();
+
+        Set<ObjectName> set = mbeanServer.queryNames(new ObjectName("*:type=consumers,*"), null);
+        assertEquals(1, set.size());
+        ObjectName on = set.iterator().next();
+
+        Boolean pooled = (Boolean) mbeanServer.getAttribute(on, "ExchangePooled");
+        assertTrue(pooled);
+
+        Integer capacity = (Integer) mbeanServer.getAttribute(on, "ExchangePoolCapacity");
+        assertEquals(5, capacity.intValue());
+
+        Long hits = (Long) mbeanServer.getAttribute(on, "ExchangePoolHits");
+        Long misses = (Long) mbeanServer.getAttribute(on, "ExchangePoolMisses");
+        assertTrue("Should reuse exchanges", hits > 0);
+        assertEquals(5, hits + misses);
+
+        mbeanServer.invoke(on, "resetExchangePoolStatistics", null, null);
+        hits = (Long) mbeanServer.getAttribute(on, "ExchangePoolHits");
+        assertEquals(0, hits.longValue());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("timer://foo?period=10&repeatCount=5").to("mock:result");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+
+import static org.apache.camel.util.BufferCaster.cast;
+
+/**
+ * A read-only message body which wraps a heap, direct or memory mapped {@link ByteBuffer}.
+ * <p/>
+ * The body shares the content of the wrapped buffer, so it can be passed between components and converted
+ * to a {@link ByteBuffer} or {@link InputStream} without copying the content. The content must not be changed
+ * while the body is in use, which also applies to the array returned by {@link #array()}, so only the readers
+ * which do not change the array should use it. The conversion to a <tt>byte[]</tt> returns a copy of the content,
+ * as the body is shared by the copies of the exchange.
+ * <p/>
+ * As the content can be read any number of times, the body is also a {@link StreamCache}.
+ */
+public final class ByteBufferBody implements StreamCache {
+
+    private static final int WRITE_BUFFER_SIZE = 8192;
+
+    private final ByteBuffer buffer;
+    private final boolean mapped;
+
+    private ByteBufferBody(ByteBuffer buffer, boolean mapped) {
+        this.buffer = buffer;
+        this.mapped = mapped;
+    }
+
+    /**
+     * Creates a body which shares the remaining content of the given buffer.
+     * <p/>
+     * The position and limit of the given buffer are not changed by the body.
+     */
+    public static ByteBufferBody wrap(ByteBuffer buffer) {
+        return new ByteBufferBody(buffer.slice(), false);
+    }
+
+    /**
+     * Creates a body which shares the given array.
+     */
+    public static ByteBufferBody wrap(byte[] data) {
+        return wrap(data, 0, data.length);
+    }
+
+    /**
+     * Creates a body which shares the given part of the array.
+     */
+    public static ByteBufferBody wrap(byte[] data, int offset, int length) {
+        return new ByteBufferBody(ByteBuffer.wrap(data, offset, length).slice(), false);
+    }
+
+    /**
+     * Creates a body which maps the content of the file read-only into memory.
+     * <p/>
+     * The content is read by the operating system when it is accessed, and the mapping is released when the body
+     * is garbage collected. On some platforms, such as Windows, a mapped file cannot be deleted or moved until then.
+     *
+     * @throws IOException is thrown if the file cannot be mapped, or is larger than 2GB
+     */
+    public static ByteBufferBody map(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File " + file + " with " + size + " bytes is too large to be memory mapped");
+            }
+            return new ByteBufferBody(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), true);
+        }
+    }
+
+    /**
+     * Gets a read-only view of the content, which has its own position and limit.
+     */
+    public ByteBuffer getBuffer() {
+        return buffer.asReadOnlyBuffer();
+    }
+
+    /**
+     * Whether the content is backed by an accessible array.
+     */
+    public boolean hasArray() {
+        return buffer.hasArray();
+    }
+
+    /**
+     * Gets the array which backs the content, starting at {@link #arrayOffset()}.
+     *
+     * @throws UnsupportedOperationException if the content is not backed by an array
+     */
+    public byte[] array() {
+        return buffer.array();
+    }
+
+    /**
+     * Gets the offset of the content in the array which backs the content.
+     *
+     * @throws UnsupportedOperationException if the content is not backed by an array
+     */
+    public int arrayOffset() {
+        return buffer.arrayOffset();
+    }
+
+    /**
+     * Whether the content is held outside of the heap.
+     */
+    public boolean isDirect() {
+        return buffer.isDirect();
+    }
+
+    /**
+     * Whether the content is a memory mapped file.
+     */
+    public boolean isMapped() {
+        return mapped;
+    }
+
+    /**
+     * Creates a new stream which reads the content from the start.
+     */
+    public InputStream newInputStream() {
+        return new ByteBufferInputStream(buffer.duplicate());
+    }
+
+    /**
+     * Gets the unread content of a stream which is created by {@link #newInputStream()}, without copying
+     * the content, so readers which are given the stream can decode the content directly.
+     * <p/>
+     * The stream is not read by this method.
+     *
+     * @param stream the stream
+     * @return a view of the unread content (which must not be changed), or <tt>null</tt> if the stream is not
+     *         created by a body
+     */
+    public static ByteBuffer remaining(InputStream stream) {
+        if (stream instanceof ByteBufferInputStream) {
+            return ((ByteBufferInputStream) stream).buffer.slice();
+        }
+        return null;
+    }
+
+    /**
+     * Gets a copy of the content as an array.
+     */
+    public byte[] toByteArray() {
+        byte[] answer = new byte[buffer.remaining()];
+        buffer.duplicate().get(answer);
+        return answer;
+    }
+
+    /**
+     * Decodes the content using the given charset.
+     */
+    public String toString(Charset charset) {
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset(), buffer.remaining(), charset);
+        }
+        return charset.decode(buffer.duplicate()).toString();
+    }
+
+    @Override
+    public void reset() {
+        // the content is never consumed
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        if (buffer.hasArray()) {
+            os.write(buffer.array(), buffer.arrayOffset(), buffer.remaining());
+            return;
+        }
+        ByteBuffer source = buffer.duplicate();
+        byte[] data = new byte[Math.min(WRITE_BUFFER_SIZE, source.remaining())];
+        while (source.hasRemaining()) {
+            int n = Math.min(data.length, source.remaining());
+            source.get(data, 0, n);
+            os.write(data, 0, n);
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) {
+        // the body is read-only so it can be shared
+        return this;
+    }
+
+    @Override
+    public boolean inMemory() {
+        return !mapped;
+    }
+
+    @Override
+    public long length() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public String toString() {
+        return "ByteBufferBody[length=" + buffer.remaining() + (isDirect() ? ", direct" : "") + (mapped ? ", mapped" : "") + "]";
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            int skip = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            cast(buffer).position(buffer.position() + skip);
+            return skip;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public synchronized void mark(int readlimit) {
+            cast(buffer).mark();
+        }
+
+        @Override
+        public synchronized void reset() {
+            cast(buffer).reset();
+        }
+    }
+
+}
@@ -25,6 +25,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.StreamCache;
 import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
 import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.util.ObjectHelper;
 
 /**
  * This output stream will store the content into a File if the stream context size is exceed the
@@ -37,6 +38,9 @@ import org.apache.camel.spi.StreamCachingStrategy;
  * You can get a cached input stream of this stream. The temp file which is created with this 
  * output stream will be deleted when you close this output stream or the cached 
  * fileInputStream(s) is/are closed after all the exchanges using the temp file are completed.
+ * <p/>
+ * If the stream caching strategy spools off-heap, then the content is stored in an {@link OffHeapSpoolArena}
+ * instead of a temp file.
  */
 public class CachedOutputStream extends OutputStream {
 
@@ -151,8 +155,14 @@ public class CachedOutputStream extends OutputStream {
         flush();
         ByteArrayOutputStream bout = (ByteArrayOutputStream)currentStream;
         try {
-            // creates an tmp file and a file output stream
-            currentStream = tempFileManager.createOutputStream(strategy);
+            OffHeapSpoolArena arena = getOffHeapSpoolArena();
+            if (arena != null) {
+                // spools to the off-heap arena
+                currentStream = tempFileManager.createOffHeapOutputStream(strategy, arena);
+            } else {
+                // creates an tmp file and a file output stream
+                currentStream = tempFileManager.createOutputStream(strategy);
+            }
             bout.writeTo(currentStream);
         } finally {
             // ensure flag is flipped to file based
@@ -160,6 +170,14 @@ public class CachedOutputStream extends OutputStream {
         }
     }
 
+    private OffHeapSpoolArena getOffHeapSpoolArena() {
+        // the content is written to a file when it should be encrypted
+        if (strategy.isSpoolOffHeap() && ObjectHelper.isEmpty(strategy.getSpoolCipher()) && strategy instanceof OffHeapSpoolArena.Provider) {
+            return ((OffHeapSpoolArena.Provider) strategy).getOffHeapSpoolArena();
+        }
+        return null;
+    }
+
     public int getStrategyBufferSize() {
         return strategy.getBufferSize();
     }
@@ -166,6 +166,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private File tempFile;
         private OutputStream outputStream; // file output stream
         private CipherPair ciphers;
+        private OffHeapSpool offHeapSpool;
         
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
         private List<FileInputStreamCache> fileInputStreamCaches;
@@ -238,7 +239,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         
         OutputStream createOutputStream(StreamCachingStrategy strategy) throws IOException {
             // should only be called once
-            if (tempFile != null) {
+            if (tempFile != null || offHeapSpool != null) {
                 throw new IllegalStateException("The method 'createOutputStream' can only be called once!");
             }
             tempFile = FileUtil.createTempFile("cos", ".tmp", strategy.getSpoolDirectory());
@@ -267,7 +268,20 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return out;
         }
         
-        FileInputStreamCache newStreamCache() throws IOException {
+        OutputStream createOffHeapOutputStream(StreamCachingStrategy strategy, OffHeapSpoolArena arena) {
+            // should only be called once
+            if (tempFile != null || offHeapSpool != null) {
+                throw new IllegalStateException("The method 'createOutputStream' can only be called once!");
+            }
+            offHeapSpool = new OffHeapSpool(arena, strategy.getSpoolDirectory(), strategy.getBufferSize());
+            outputStream = offHeapSpool.createOutputStream();
+            return outputStream;
+        }
+
+        StreamCache newStreamCache() throws IOException {
+            if (offHeapSpool != null) {
+                return new OffHeapInputStreamCache(this, offHeapSpool);
+            }
             try {
                 return new FileInputStreamCache(this);
             } catch (FileNotFoundException e) {
@@ -285,6 +299,11 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         } 
 
         void cleanUpTempFile() {
+            // release the off-heap spool
+            if (offHeapSpool != null) {
+                offHeapSpool.release();
+                offHeapSpool = null;
+            }
             // cleanup temporary file
             try {
                 if (tempFile != null) {
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.StreamCache;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * A {@link StreamCache} for content which is spooled off-heap by an {@link OffHeapSpoolArena}.
+ * <p/>
+ * The copies of the cache share the spooled content, and resetting the cache only rewinds the buffers.
+ * As with the {@link FileInputStreamCache}, the content cannot be read anymore when the exchanges are done,
+ * as the buffers are then reused for other stream caches.
+ */
+public final class OffHeapInputStreamCache extends InputStream implements StreamCache {
+
+    private final FileInputStreamCache.TempFileManager tempFileManager;
+    private final OffHeapSpool spool;
+    private final ByteBuffer[] buffers;
+    private int index;
+
+    OffHeapInputStreamCache(FileInputStreamCache.TempFileManager tempFileManager, OffHeapSpool spool) throws IOException {
+        this.tempFileManager = tempFileManager;
+        this.spool = spool;
+        ByteBuffer[] shared = spool.getBuffers();
+        this.buffers = new ByteBuffer[shared.length];
+        for (int i = 0; i < shared.length; i++) {
+            buffers[i] = shared[i].duplicate();
+        }
+    }
+
+    @Override
+    public synchronized void reset() {
+        if (spool.isReleased()) {
+            throw new RuntimeCamelException("Cannot reset the spooled stream cache as it has been released");
+        }
+        for (ByteBuffer buffer : buffers) {
+            buffer.rewind();
+        }
+        index = 0;
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        byte[] data = new byte[IOHelper.DEFAULT_BUFFER_SIZE];
+        int n;
+        while ((n = read(data, 0, data.length)) > 0) {
+            os.write(data, 0, n);
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        tempFileManager.addExchange(exchange);
+        return new OffHeapInputStreamCache(tempFileManager, spool);
+    }
+
+    @Override
+    public boolean inMemory() {
+        return false;
+    }
+
+    @Override
+    public long length() {
+        return spool.length();
+    }
+
+    @Override
+    public synchronized int available() throws IOException {
+        spool.beginRead();
+        try {
+            long answer = 0;
+            for (int i = index; i < buffers.length; i++) {
+                answer += buffers[i].remaining();
+            }
+            return (int) Math.min(answer, Integer.MAX_VALUE);
+        } finally {
+            spool.endRead();
+        }
+    }
+
+    @Override
+    public synchronized int read() throws IOException {
+        spool.beginRead();
+        try {
+            ByteBuffer buffer = nextBuffer();
+            return buffer != null ? buffer.get() & 0xff : -1;
+        } finally {
+            spool.endRead();
+        }
+    }
+
+    @Override
+    public synchronized int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        spool.beginRead();
+        try {
+            int total = 0;
+            ByteBuffer buffer;
+            while (total < len && (buffer = nextBuffer()) != null) {
+                int n = Math.min(len - total, buffer.remaining());
+                buffer.get(b, off + total, n);
+                total += n;
+            }
+            return total > 0 ? total : -1;
+        } finally {
+            spool.endRead();
+        }
+    }
+
+    @Override
+    public synchronized long skip(long n) throws IOException {
+        spool.beginRead();
+        try {
+            long total = 0;
+            ByteBuffer buffer;
+            while (total < n && (buffer = nextBuffer()) != null) {
+                int skip = (int) Math.min(n - total, buffer.remaining());
+                buffer.position(buffer.position() + skip);
+                total += skip;
+            }
+            return total;
+        } finally {
+            spool.endRead();
+        }
+    }
+
+    @Override
+    public void close() {
+        // the spooled content is released when the exchanges are done
+    }
+
+    private ByteBuffer nextBuffer() {
+        while (index < buffers.length) {
+            ByteBuffer buffer = buffers[index];
+            if (buffer.hasRemaining()) {
+                return buffer;
+            }
+            index++;
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The content of a stream cache which is spooled to buffers of an {@link OffHeapSpoolArena}, and which overflows
+ * to a memory mapped file when the arena is full.
+ * <p/>
+ * The content is written once, and is then read by the {@link OffHeapInputStreamCache}s which share the buffers
+ * (each with their own position) so the content is not copied or read from the file again.
+ * <p/>
+ * The buffers are reused by other spools once released, so the readers must read within {@link #beginRead()}
+ * and {@link #endRead()}, which fails when the spool has been released.
+ *
+ * @see FileInputStreamCache.TempFileManager
+ */
+final class OffHeapSpool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OffHeapSpool.class);
+    // the largest region of a file which can be mapped at once
+    private static final long MAX_MAPPED_REGION = Integer.MAX_VALUE;
+
+    private final OffHeapSpoolArena arena;
+    private final File spoolDirectory;
+    private final int bufferSize;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    // guards the readers of the buffers from the buffers being released (and reused) while being read
+    private final ReadWriteLock readLock = new ReentrantReadWriteLock();
+    private ByteBuffer current;
+    private File mappedFile;
+    private FileChannel channel;
+    private OutputStream mappedStream;
+    private long length;
+    private ByteBuffer[] buffers;
+    private volatile boolean released;
+
+    OffHeapSpool(OffHeapSpoolArena arena, File spoolDirectory, int bufferSize) {
+        this.arena = arena;
+        this.spoolDirectory = spoolDirectory;
+        this.bufferSize = bufferSize;
+    }
+
+    OutputStream createOutputStream() {
+        return new SpoolOutputStream();
+    }
+
+    long length() {
+        return length;
+    }
+
+    /**
+     * Gets the read only buffers of the content, which must be duplicated by the readers.
+     * <p/>
+     * The content cannot be written to anymore, once the buffers has been read.
+     */
+    synchronized ByteBuffer[] getBuffers() throws IOException {
+        if (released) {
+            throw new IOException("The spooled stream cache has been released");
+        }
+        if (buffers == null) {
+            List<ByteBuffer> answer = new ArrayList<>(chunks.size() + 1);
+            for (ByteBuffer chunk : chunks) {
+                ByteBuffer buffer = chunk.duplicate();
+                buffer.flip();
+                answer.add(buffer.asReadOnlyBuffer());
+            }
+            if (mappedStream != null) {
+                mappedStream.flush();
+                long size = channel.size();
+                for (long position = 0; position < size; position += MAX_MAPPED_REGION) {
+                    answer.add(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAX_MAPPED_REGION, size - position)));
+                }
+                // the mapped regions remain valid after the channel is closed
+                IOHelper.close(mappedStream, "mappedStream", LOG);
+                arena.onMapped(size);
+            }
+            buffers = answer.toArray(new ByteBuffer[0]);
+        }
+        return buffers;
+    }
+
+    /**
+     * Begins reading the buffers, which cannot be released until {@link #endRead()} is called.
+     *
+     * @throws IOException if the spool has been released
+     */
+    void beginRead() throws IOException {
+        Lock lock = readLock.readLock();
+        lock.lock();
+        if (released) {
+            lock.unlock();
+            throw new IOException("The spooled stream cache has been released");
+        }
+    }
+
+    /**
+     * Ends reading the buffers.
+     */
+    void endRead() {
+        readLock.readLock().unlock();
+    }
+
+    boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Releases the buffers to the arena, and deletes the memory mapped file.
+     * <p/>
+     * Waits for the readers which are reading, after which reading fails.
+     */
+    synchronized void release() {
+        if (released) {
+            return;
+        }
+        Lock lock = readLock.writeLock();
+        lock.lock();
+        try {
+            released = true;
+        } finally {
+            lock.unlock();
+        }
+        buffers = null;
+        for (ByteBuffer chunk : chunks) {
+            arena.release(chunk);
+        }
+        chunks.clear();
+        current = null;
+        if (mappedFile != null) {
+            IOHelper.close(mappedStream, "mappedStream", LOG);
+            LOG.trace("Deleting memory mapped stream cache file: {}", mappedFile);
+            FileUtil.deleteFile(mappedFile);
+            mappedFile = null;
+        }
+    }
+
+    private void write(byte[] b, int off, int len) throws IOException {
+        if (buffers != null || released) {
+            throw new IOException("Cannot write to the spooled stream cache after it has been read");
+        }
+        length += len;
+        while (len > 0) {
+            if (mappedStream != null) {
+                mappedStream.write(b, off, len);
+                return;
+            }
+            if (current == null || !current.hasRemaining()) {
+                current = arena.allocate();
+                if (current == null) {
+                    createMappedStream();
+                    continue;
+                }
+                chunks.add(current);
+            }
+            int n = Math.min(len, current.remaining());
+            current.put(b, off, n);
+            off += n;
+            len -= n;
+        }
+    }
+
+    private void createMappedStream() throws IOException {
+        mappedFile = FileUtil.createTempFile("cos", ".tmp", spoolDirectory);
+        LOG.trace("Off-heap arena is full, creating memory mapped stream cache file: {}", mappedFile);
+        channel = FileChannel.open(mappedFile.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        mappedStream = new BufferedOutputStream(Channels.newOutputStream(channel), bufferSize);
+    }
+
+    private final class SpoolOutputStream extends OutputStream {
+
+        private final byte[] single = new byte[1];
+
+        @Override
+        public void write(int b) throws IOException {
+            single[0] = (byte) b;
+            OffHeapSpool.this.write(single, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            OffHeapSpool.this.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (OffHeapSpool.this) {
+                if (mappedStream != null && buffers == null && !released) {
+                    mappedStream.flush();
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            // the content is kept until the spool is released
+            flush();
+        }
+    }
+}
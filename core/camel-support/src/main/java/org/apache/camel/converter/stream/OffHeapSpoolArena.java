@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded arena of off-heap (direct) buffers which the stream caches are spooled to, instead of temporary files.
+ * <p/>
+ * The arena hands out buffers of a fixed chunk size until its size is reached, after which the spooled
+ * stream caches overflow to memory mapped files. The buffers which are released are pooled and reused,
+ * as allocating direct buffers is expensive.
+ *
+ * @see CachedOutputStream
+ */
+public final class OffHeapSpoolArena {
+
+    public static final int DEFAULT_CHUNK_SIZE = 64 * 1024;
+
+    private final long size;
+    private final int chunkSize;
+    private final Queue<ByteBuffer> pool = new ConcurrentLinkedQueue<>();
+    private final AtomicLong usedSize = new AtomicLong();
+    private final AtomicLong maxUsedSize = new AtomicLong();
+    private final LongAdder mappedCounter = new LongAdder();
+    private final LongAdder mappedSize = new LongAdder();
+
+    /**
+     * Provides the off-heap arena which the stream caches should be spooled to.
+     */
+    public interface Provider {
+
+        /**
+         * Gets the off-heap arena, or <tt>null</tt> if the stream caches should not be spooled off-heap
+         */
+        OffHeapSpoolArena getOffHeapSpoolArena();
+    }
+
+    public OffHeapSpoolArena(long size) {
+        this(size, DEFAULT_CHUNK_SIZE);
+    }
+
+    public OffHeapSpoolArena(long size, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("ChunkSize must be positive, was: " + chunkSize);
+        }
+        this.size = size;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Allocates a buffer from the arena.
+     *
+     * @return the cleared buffer, or <tt>null</tt> if the arena is full
+     */
+    ByteBuffer allocate() {
+        long used;
+        do {
+            used = usedSize.get();
+            if (used + chunkSize > size) {
+                return null;
+            }
+        } while (!usedSize.compareAndSet(used, used + chunkSize));
+        maxUsedSize.accumulateAndGet(used + chunkSize, Math::max);
+
+        ByteBuffer buffer = pool.poll();
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(chunkSize);
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Releases a buffer which has been allocated from the arena, so it can be reused.
+     */
+    void release(ByteBuffer buffer) {
+        pool.offer(buffer);
+        usedSize.addAndGet(-chunkSize);
+    }
+
+    /**
+     * Counts a stream cache which has overflowed the arena to a memory mapped file.
+     */
+    void onMapped(long length) {
+        mappedCounter.increment();
+        mappedSize.add(length);
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public long getUsedSize() {
+        return usedSize.get();
+    }
+
+    public long getMaxUsedSize() {
+        return maxUsedSize.get();
+    }
+
+    public long getMappedCounter() {
+        return mappedCounter.sum();
+    }
+
+    public long getMappedSize() {
+        return mappedSize.sum();
+    }
+
+    /**
+     * Resets the counters, and the highest used size to the currently used size.
+     */
+    public void resetStatistics() {
+        maxUsedSize.set(usedSize.get());
+        mappedCounter.reset();
+        mappedSize.reset();
+    }
+
+    /**
+     * Releases the pooled buffers (the buffers in use are released to the pool when the stream caches are done).
+     */
+    public void clear() {
+        pool.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapSpoolArena[size=" + size + ", chunkSize=" + chunkSize + ", used=" + usedSize.get() + "]";
+    }
+}
@@ -0,0 +1,539 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.camel.Exchange;
+
+/**
+ * A map that uses case insensitive keys, but preserves the original key cases, which is a faster alternative
+ * to the {@link org.apache.camel.util.CaseInsensitiveMap}.
+ * <p/>
+ * The map uses open addressing with linear probing in an array of slots, where the hash of the keys is computed
+ * from the case folded characters. The hash is stored together with the entries so the keys are only compared
+ * when the hashes match. The hashes of the constants from {@link Exchange} are precomputed, so they are not computed
+ * when the keys are the same instances as the constants. The entries are kept in insertion order.
+ * <p/>
+ * Copying the map using {@link #CaseInsensitiveHashMap(Map)} or {@link #putAll(Map)} on an empty map does not copy
+ * the entries, instead the entries are shared until one of the maps is changed (copy on write). This makes copying
+ * the headers cheap when an exchange is copied, such as when using the multicast or wire tap EIPs.
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed
+ * by the Camel routing engine.
+ */
+public class CaseInsensitiveHashMap extends AbstractMap<String, Object> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final int INITIAL_CAPACITY = 8;
+    private static final Table EMPTY = new Table(0);
+    // the keys of the constants from Exchange with their precomputed hashes, indexed by the hash code of the keys
+    private static final String[] KNOWN_KEYS;
+    private static final int[] KNOWN_HASHES;
+
+    private Table table;
+    private transient int modCount;
+    private transient Set<Map.Entry<String, Object>> entrySet;
+    private transient Set<String> keySetView;
+
+    static {
+        EMPTY.shared = true;
+
+        List<String> known = new ArrayList<>();
+        for (Field field : Exchange.class.getFields()) {
+            if (field.getType() == String.class && Modifier.isStatic(field.getModifiers())) {
+                try {
+                    known.add((String) field.get(null));
+                } catch (IllegalAccessException e) {
+                    // ignore
+                }
+            }
+        }
+        int length = Integer.highestOneBit(Math.max(known.size(), 1) * 4);
+        KNOWN_KEYS = new String[length];
+        KNOWN_HASHES = new int[length];
+        for (String key : known) {
+            int i = key.hashCode() & (length - 1);
+            while (KNOWN_KEYS[i] != null && KNOWN_KEYS[i] != key) {
+                i = (i + 1) & (length - 1);
+            }
+            KNOWN_KEYS[i] = key;
+            KNOWN_HASHES[i] = foldedHash(key);
+        }
+    }
+
+    public CaseInsensitiveHashMap() {
+        this.table = EMPTY;
+    }
+
+    public CaseInsensitiveHashMap(Map<? extends String, ?> map) {
+        this.table = EMPTY;
+        putAll(map);
+    }
+
+    @Override
+    public int size() {
+        return table.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return table.size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int index = indexOf(key);
+        return index >= 0 ? table.values[index] : null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int hash = hash(key);
+        Table t = table;
+        int index = t.size > 0 ? t.indexOf(key, hash) : -1;
+        if (index >= 0) {
+            // keep the existing key as-is
+            t = writableTable();
+            Object answer = t.values[index];
+            t.values[index] = value;
+            return answer;
+        }
+
+        if (t.count == t.keys.length) {
+            // grow the table, or compact it if many entries have been removed
+            int capacity = t.keys.length == 0 ? INITIAL_CAPACITY : t.size >= t.keys.length / 2 ? t.keys.length * 2 : t.keys.length;
+            t = table = t.resize(capacity);
+        } else if (t.shared) {
+            t = table = t.copy();
+        }
+        t.add(key, hash, value);
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        if (map instanceof CaseInsensitiveHashMap) {
+            Table other = ((CaseInsensitiveHashMap) map).table;
+            if (table.size == 0) {
+                // share the entries with the other map until one of the maps is changed
+                other.shared = true;
+                table = other;
+                modCount++;
+                return;
+            }
+        }
+        for (Map.Entry<? extends String, ?> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        return removeAt(index);
+    }
+
+    @Override
+    public void clear() {
+        Table t = table;
+        if (t.size == 0) {
+            return;
+        }
+        if (t.shared) {
+            table = EMPTY;
+        } else {
+            // keep the arrays so the map can be reused
+            t.clear();
+        }
+        modCount++;
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        Set<Map.Entry<String, Object>> answer = entrySet;
+        if (answer == null) {
+            answer = entrySet = new EntrySet();
+        }
+        return answer;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        Set<String> answer = keySetView;
+        if (answer == null) {
+            answer = keySetView = new KeySet();
+        }
+        return answer;
+    }
+
+    private int indexOf(Object key) {
+        Table t = table;
+        if (t.size == 0 || !(key instanceof String)) {
+            return -1;
+        }
+        String name = (String) key;
+        return t.indexOf(name, hash(name));
+    }
+
+    private Object removeAt(int index) {
+        Table t = writableTable();
+        Object answer = t.values[index];
+        t.remove(index);
+        modCount++;
+        return answer;
+    }
+
+    private Table writableTable() {
+        Table t = table;
+        if (t.shared) {
+            // the copy has the same layout so the indexes of the entries are the same
+            t = table = t.copy();
+        }
+        return t;
+    }
+
+    /**
+     * Computes the case insensitive hash of the key, which is precomputed for the constants from {@link Exchange}.
+     */
+    static int hash(String key) {
+        // the hash code of a string is cached so this is cheap
+        int mask = KNOWN_KEYS.length - 1;
+        int i = key.hashCode() & mask;
+        String known;
+        while ((known = KNOWN_KEYS[i]) != null) {
+            if (known == key) {
+                return KNOWN_HASHES[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return foldedHash(key);
+    }
+
+    private static int foldedHash(String key) {
+        int h = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char ch = key.charAt(i);
+            if (ch < 128) {
+                if (ch >= 'A' && ch <= 'Z') {
+                    ch += 'a' - 'A';
+                }
+            } else {
+                // same folding as String.equalsIgnoreCase
+                ch = Character.toLowerCase(Character.toUpperCase(ch));
+            }
+            h = 31 * h + ch;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * The entries of the map, which may be shared by several maps.
+     */
+    private static final class Table implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        // the index + 1 of the entry in the slot, or 0 if the slot is empty
+        private final int[] slots;
+        // the entries in insertion order, where a removed entry has a null key
+        private final String[] keys;
+        private final int[] hashes;
+        private final Object[] values;
+        private int count;
+        private int size;
+        // a shared table must not be changed
+        private boolean shared;
+
+        Table(int capacity) {
+            this.slots = new int[capacity * 2];
+            this.keys = new String[capacity];
+            this.hashes = new int[capacity];
+            this.values = new Object[capacity];
+        }
+
+        private Table(Table table) {
+            this.slots = table.slots.clone();
+            this.keys = table.keys.clone();
+            this.hashes = table.hashes.clone();
+            this.values = table.values.clone();
+            this.count = table.count;
+            this.size = table.size;
+        }
+
+        int indexOf(String key, int hash) {
+            int mask = slots.length - 1;
+            int i = hash & mask;
+            int slot;
+            while ((slot = slots[i]) != 0) {
+                int index = slot - 1;
+                if (hashes[index] == hash) {
+                    String other = keys[index];
+                    if (other == key || other.equalsIgnoreCase(key)) {
+                        return index;
+                    }
+                }
+                i = (i + 1) & mask;
+            }
+            return -1;
+        }
+
+        void add(String key, int hash, Object value) {
+            int index = count++;
+            keys[index] = key;
+            hashes[index] = hash;
+            values[index] = value;
+            int mask = slots.length - 1;
+            int i = hash & mask;
+            while (slots[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            slots[i] = index + 1;
+            size++;
+        }
+
+        void remove(int index) {
+            int mask = slots.length - 1;
+            int i = hashes[index] & mask;
+            while (slots[i] != index + 1) {
+                i = (i + 1) & mask;
+            }
+            keys[index] = null;
+            values[index] = null;
+            size--;
+
+            // shift the following entries back so there are no gaps in the probe sequences
+            int j = i;
+            while (true) {
+                j = (j + 1) & mask;
+                int slot = slots[j];
+                if (slot == 0) {
+                    break;
+                }
+                int ideal = hashes[slot - 1] & mask;
+                boolean move = i <= j ? ideal <= i || ideal > j : ideal <= i && ideal > j;
+                if (move) {
+                    slots[i] = slot;
+                    i = j;
+                }
+            }
+            slots[i] = 0;
+        }
+
+        void clear() {
+            Arrays.fill(slots, 0);
+            Arrays.fill(keys, 0, count, null);
+            Arrays.fill(values, 0, count, null);
+            count = 0;
+            size = 0;
+        }
+
+        Table copy() {
+            return new Table(this);
+        }
+
+        Table resize(int capacity) {
+            Table answer = new Table(capacity);
+            for (int i = 0; i < count; i++) {
+                String key = keys[i];
+                if (key != null) {
+                    answer.add(key, hashes[i], values[i]);
+                }
+            }
+            return answer;
+        }
+    }
+
+    private abstract class TableIterator<T> implements Iterator<T> {
+        private int next;
+        private int current = -1;
+        private int expectedModCount = modCount;
+
+        TableIterator() {
+            next = advance(0);
+        }
+
+        private int advance(int index) {
+            Table t = table;
+            while (index < t.count && t.keys[index] == null) {
+                index++;
+            }
+            return index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < table.count;
+        }
+
+        int nextIndex() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            current = next;
+            next = advance(next + 1);
+            return current;
+        }
+
+        @Override
+        public void remove() {
+            if (current < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            // removing an entry does not change the indexes of the other entries
+            removeAt(current);
+            current = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class TableEntry implements Map.Entry<String, Object> {
+        private final int index;
+        private final String key;
+
+        TableEntry(int index) {
+            this.index = index;
+            this.key = table.keys[index];
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return table.values[index];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            Table t = writableTable();
+            Object answer = t.values[index];
+            t.values[index] = value;
+            return answer;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+            return key.equals(other.getKey()) && Objects.equals(getValue(), other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new TableIterator<Map.Entry<String, Object>>() {
+                @Override
+                public Map.Entry<String, Object> next() {
+                    return new TableEntry(nextIndex());
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return table.size;
+        }
+
+        @Override
+        public void clear() {
+            CaseInsensitiveHashMap.this.clear();
+        }
+    }
+
+    private final class KeySet extends AbstractSet<String> {
+
+        @Override
+        public Iterator<String> iterator() {
+            return new TableIterator<String>() {
+                @Override
+                public String next() {
+                    return table.keys[nextIndex()];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return table.size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            int index = indexOf(o);
+            if (index < 0) {
+                return false;
+            }
+            removeAt(index);
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            CaseInsensitiveHashMap.this.clear();
+        }
+    }
+}
@@ -43,6 +43,7 @@ public class DefaultConsumer extends ServiceSupport implements Consumer, RouteAw
     private ExceptionHandler exceptionHandler;
     private Route route;
     private String routeId;
+    private PooledExchangeFactory exchangeFactory;
 
     public DefaultConsumer(Endpoint endpoint, Processor processor) {
         this.endpoint = endpoint;
@@ -78,6 +79,46 @@ public class DefaultConsumer extends ServiceSupport implements Consumer, RouteAw
         this.routeId = routeId;
     }
 
+    /**
+     * Creates a new {@link Exchange} to be routed by this consumer.
+     * <p/>
+     * If exchange pooling is enabled then the exchange is acquired from a pool, and the exchange is released to the pool
+     * when its {@link UnitOfWork} is done, so the consumer must not use the exchange after that, such as in the callback
+     * of the processor. An exchange which is not routed can be released using {@link #releaseExchange(Exchange)}.
+     *
+     * @return the exchange
+     * @see PooledExchangeFactory
+     */
+    public Exchange createExchange() {
+        if (exchangeFactory != null) {
+            return exchangeFactory.acquire();
+        }
+        return endpoint.createExchange();
+    }
+
+    /**
+     * Releases the {@link Exchange} which was created by {@link #createExchange()}, but which has not been routed,
+     * as routed exchanges are released when their {@link UnitOfWork} is done.
+     * <p/>
+     * The exchange must no longer be in use, as the exchange is reset and reused when exchange pooling is enabled.
+     *
+     * @param exchange the exchange
+     */
+    public void releaseExchange(Exchange exchange) {
+        if (exchangeFactory != null) {
+            exchangeFactory.release(exchange);
+        }
+    }
+
+    /**
+     * Gets the pool of exchanges used by this consumer.
+     *
+     * @return the pool, or <tt>null</tt> if exchange pooling is not enabled
+     */
+    public PooledExchangeFactory getExchangeFactory() {
+        return exchangeFactory;
+    }
+
     /**
      * If the consumer needs to defer done the {@link org.apache.camel.spi.UnitOfWork} on
      * the processed {@link Exchange} then this method should be use to create and start
@@ -159,11 +200,17 @@ public class DefaultConsumer extends ServiceSupport implements Consumer, RouteAw
     protected void doStop() throws Exception {
         log.debug("Stopping consumer: {}", this);
         ServiceHelper.stopService(processor);
+        if (exchangeFactory != null) {
+            exchangeFactory.checkLeaks();
+        }
     }
 
     @Override
     protected void doStart() throws Exception {
         log.debug("Starting consumer: {}", this);
+        if (exchangeFactory == null) {
+            exchangeFactory = PooledExchangeFactory.newInstance(endpoint);
+        }
         ServiceHelper.startService(processor);
     }
 
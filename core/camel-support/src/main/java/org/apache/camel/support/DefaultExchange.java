@@ -32,8 +32,10 @@ import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePattern;
 import org.apache.camel.Message;
 import org.apache.camel.MessageHistory;
+import org.apache.camel.spi.CompactUuidGenerator;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.spi.UuidGenerator;
 import org.apache.camel.util.ObjectHelper;
 
 /**
@@ -47,11 +49,23 @@ public final class DefaultExchange implements Exchange {
     private Message out;
     private Exception exception;
     private String exchangeId;
+    // the reserved id which is formatted as the exchange id when it is read
+    private long compactExchangeId;
+    // the generator which reserved the id (null if none is reserved)
+    private CompactUuidGenerator compactGenerator;
     private UnitOfWork unitOfWork;
     private ExchangePattern pattern;
     private Endpoint fromEndpoint;
     private String fromRouteId;
     private List<Synchronization> onCompletions;
+    // the state of this exchange in the inflight repository
+    private Object inflightState;
+    // the pool to release this exchange to when its unit of work is done
+    private PooledExchangeFactory pool;
+    // whether this exchange is currently idle in a pool
+    private boolean pooled;
+    // whether this exchange has been released to a pool with leak detection, so it must not be used
+    private boolean released;
 
     public DefaultExchange(CamelContext context) {
         this(context, ExchangePattern.InOnly);
@@ -60,6 +74,7 @@ public final class DefaultExchange implements Exchange {
     public DefaultExchange(CamelContext context, ExchangePattern pattern) {
         this.context = context;
         this.pattern = pattern;
+        reserveExchangeId();
     }
 
     public DefaultExchange(Exchange parent) {
@@ -152,6 +167,7 @@ public final class DefaultExchange implements Exchange {
 
     @Override
     public Object getProperty(String name) {
+        assert checkReleased();
         if (properties != null) {
             return properties.get(name);
         }
@@ -265,6 +281,7 @@ public final class DefaultExchange implements Exchange {
 
     @Override
     public Map<String, Object> getProperties() {
+        assert checkReleased();
         if (properties == null) {
             properties = createProperties();
         }
@@ -273,6 +290,7 @@ public final class DefaultExchange implements Exchange {
 
     @Override
     public boolean hasProperties() {
+        assert checkReleased();
         return properties != null && !properties.isEmpty();
     }
 
@@ -282,6 +300,7 @@ public final class DefaultExchange implements Exchange {
 
     @Override
     public Message getIn() {
+        assert checkReleased();
         if (in == null) {
             in = new DefaultMessage(getContext());
             configureMessage(in);
@@ -305,12 +324,14 @@ public final class DefaultExchange implements Exchange {
 
     @Override
     public void setIn(Message in) {
+        assert checkReleased();
         this.in = in;
         configureMessage(in);
     }
 
     @Override
     public Message getOut() {
+        assert checkReleased();
         // lazy create
         if (out == null) {
             out = (in instanceof MessageSupport)
@@ -340,11 +361,13 @@ public final class DefaultExchange implements Exchange {
 
     @Override
     public boolean hasOut() {
+        assert checkReleased();
         return out != null;
     }
 
     @Override
     public void setOut(Message out) {
+        assert checkReleased();
         this.out = out;
         configureMessage(out);
     }
@@ -371,6 +394,7 @@ public final class DefaultExchange implements Exchange {
 
     @Override
     public Exception getException() {
+        assert checkReleased();
         return exception;
     }
 
@@ -428,7 +452,7 @@ public final class DefaultExchange implements Exchange {
     @Override
     public String getExchangeId() {
         if (exchangeId == null) {
-            exchangeId = createExchangeId();
+            exchangeId = compactGenerator != null ? compactGenerator.formatUuid(compactExchangeId) : createExchangeId();
         }
         return exchangeId;
     }
@@ -556,6 +580,98 @@ public final class DefaultExchange implements Exchange {
         return answer;
     }
 
+    /**
+     * Gets the state of this exchange in the {@link org.apache.camel.spi.InflightRepository}.
+     * <p/>
+     * This is only for use by the inflight repository.
+     */
+    public Object getInflightState() {
+        return inflightState;
+    }
+
+    /**
+     * Sets the state of this exchange in the {@link org.apache.camel.spi.InflightRepository}.
+     * <p/>
+     * This is only for use by the inflight repository.
+     */
+    public void setInflightState(Object inflightState) {
+        this.inflightState = inflightState;
+    }
+
+    /**
+     * Whether this exchange is currently idle in a {@link PooledExchangeFactory}.
+     */
+    boolean isPooled() {
+        return pooled;
+    }
+
+    void setPooled(boolean pooled) {
+        this.pooled = pooled;
+    }
+
+    /**
+     * Sets the {@link PooledExchangeFactory} to release this exchange to when its unit of work is done.
+     */
+    void setPool(PooledExchangeFactory pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Called when the unit of work of this exchange is done, which releases the exchange if it was acquired from
+     * a {@link PooledExchangeFactory}.
+     */
+    void done() {
+        PooledExchangeFactory factory = pool;
+        if (factory != null) {
+            pool = null;
+            factory.release(this);
+        }
+    }
+
+    /**
+     * Marks this exchange as released to a {@link PooledExchangeFactory} with leak detection enabled,
+     * so any use of the exchange until it is acquired again fails with an {@link IllegalStateException}.
+     * <p/>
+     * This is only checked when assertions are enabled, so the exchanges which are not pooled do not pay for it.
+     */
+    void setReleased(boolean released) {
+        this.released = released;
+    }
+
+    private boolean checkReleased() {
+        if (released) {
+            throw new IllegalStateException("Exchange has been released to the exchange pool and must not be used anymore");
+        }
+        return true;
+    }
+
+    /**
+     * Resets this exchange so it can be reused by a {@link PooledExchangeFactory}.
+     * <p/>
+     * The properties and the headers of a {@link DefaultMessage} are discarded (the maps may have been given by
+     * the user so they are not cleared), and any other kind of message is discarded.
+     *
+     * @param pattern the exchange pattern to use
+     */
+    void reset(ExchangePattern pattern) {
+        properties = null;
+        if (in != null && in.getClass() == DefaultMessage.class) {
+            ((DefaultMessage) in).reset();
+        } else {
+            in = null;
+        }
+        out = null;
+        exception = null;
+        exchangeId = null;
+        reserveExchangeId();
+        unitOfWork = null;
+        inflightState = null;
+        pool = null;
+        fromRouteId = null;
+        onCompletions = null;
+        this.pattern = pattern;
+    }
+
     /**
      * Configures the message after it has been set on the exchange
      */
@@ -571,6 +687,23 @@ public final class DefaultExchange implements Exchange {
         return context.getUuidGenerator().generateUuid();
     }
 
+    /**
+     * Reserves the exchange id in the compact form, if the uuid generator supports it, so the id
+     * is only formatted if it is read.
+     */
+    private void reserveExchangeId() {
+        compactExchangeId = 0;
+        compactGenerator = null;
+        if (context != null) {
+            UuidGenerator generator = context.getUuidGenerator();
+            if (generator instanceof CompactUuidGenerator) {
+                // the id must be formatted by the generator which reserved it, even if the uuid generator is changed
+                compactGenerator = (CompactUuidGenerator) generator;
+                compactExchangeId = compactGenerator.generateCompactUuid();
+            }
+        }
+    }
+
     protected Map<String, Object> createProperties() {
         return new ConcurrentHashMap<>();
     }
@@ -236,6 +236,13 @@ public class DefaultMessage extends MessageSupport {
         return new DefaultMessage(getCamelContext());
     }
 
+    @Override
+    void reset() {
+        super.reset();
+        // do not clear the map as it may have been given by the user with setHeaders
+        headers = null;
+    }
+
     /**
      * A factory method to lazily create the headers to make it easy to create
      * efficient Message implementations which only construct and populate the
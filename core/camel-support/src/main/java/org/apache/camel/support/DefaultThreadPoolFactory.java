@@ -46,6 +46,10 @@ public class DefaultThreadPoolFactory implements ThreadPoolFactory {
     
     @Override
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        if (profile.getVirtualThreads() != null && profile.getVirtualThreads()) {
+            return newVirtualThreadPool(profile.getRejectedExecutionHandler(), factory);
+        }
+
         // allow core thread timeout is default false if not configured
         boolean allow = profile.getAllowCoreThreadTimeOut() != null ? profile.getAllowCoreThreadTimeOut() : false;
         return newThreadPool(profile.getPoolSize(), 
@@ -96,6 +100,25 @@ public class DefaultThreadPoolFactory implements ThreadPoolFactory {
         return answer;
     }
     
+    /**
+     * Creates a thread pool which executes each task on a new thread, which is intended to be used with a thread factory
+     * that creates virtual threads.
+     * <p/>
+     * The pool is a {@link ThreadPoolExecutor} so it offers the same statistics as the regular thread pools.
+     * The pool has no upper bound, no task queue and no keep alive, so a thread terminates as soon as its task is done,
+     * as virtual threads are cheap to create and must not be pooled. Therefore tasks are only rejected when the pool
+     * has been shutdown.
+     */
+    public ExecutorService newVirtualThreadPool(RejectedExecutionHandler rejectedExecutionHandler, ThreadFactory threadFactory) {
+        ThreadPoolExecutor answer = new RejectableThreadPoolExecutor(0, Integer.MAX_VALUE, 0, TimeUnit.NANOSECONDS, new SynchronousQueue<>());
+        answer.setThreadFactory(threadFactory);
+        if (rejectedExecutionHandler == null) {
+            rejectedExecutionHandler = new ThreadPoolExecutor.CallerRunsPolicy();
+        }
+        answer.setRejectedExecutionHandler(rejectedExecutionHandler);
+        return answer;
+    }
+
     @Override
     public ScheduledExecutorService newScheduledThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
         RejectedExecutionHandler rejectedExecutionHandler = profile.getRejectedExecutionHandler();
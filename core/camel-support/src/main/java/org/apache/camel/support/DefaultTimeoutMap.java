@@ -49,9 +49,21 @@ import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
  * if its being stopped.
  * You must also invoke {@link #start()} to startup the timeout map, before its ready to be used.
  * And you must invoke {@link #stop()} to stop the map when no longer in use.
+ * <p/>
+ * By default the background task scans all the entries to find the expired entries. When the timing wheel is enabled
+ * (see {@link #setTimingWheel(boolean)}) the entries are kept in a hashed timing wheel instead, which makes the
+ * background task only visit the entries which expire in the time since the last run, which is much cheaper when
+ * the map holds many entries. The timing wheel can be enabled for the timeout maps created by Camel (such as the
+ * aggregator and the request/reply correlation in JMS, RabbitMQ and Netty) by setting the global option
+ * {@link #TIMING_WHEEL_OPTION} to <tt>true</tt>.
  */
 public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMap<K, V> {
 
+    /**
+     * Global option to enable the timing wheel in the timeout maps created by Camel.
+     */
+    public static final String TIMING_WHEEL_OPTION = "CamelTimeoutMapTimingWheel";
+
     protected final Logger log = LoggerFactory.getLogger(getClass());
 
     private final ConcurrentMap<K, TimeoutMapEntry<K, V>> map = new ConcurrentHashMap<>();
@@ -59,6 +71,7 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
     private volatile ScheduledFuture<?> future;
     private final long purgePollTime;
     private final Lock lock;
+    private volatile TimingWheel<K, V> wheel;
 
     private final List<Listener<K, V>> listeners = new ArrayList<>(2);
 
@@ -104,6 +117,12 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         try {
             updateExpireTime(entry);
             TimeoutMapEntry<K, V> result = map.put(key, entry);
+            if (wheel != null) {
+                if (result != null) {
+                    wheel.cancel(result);
+                }
+                wheel.schedule(entry);
+            }
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -120,6 +139,9 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
             updateExpireTime(entry);
             //Just make sure we don't override the old entry
             result = map.putIfAbsent(key, entry);
+            if (result == null && wheel != null) {
+                wheel.schedule(entry);
+            }
             return unwrap(result);
         } finally {
             lock.unlock();
@@ -134,7 +156,11 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         V value = null;
         lock.lock();
         try {
-            value = unwrap(map.remove(key));
+            TimeoutMapEntry<K, V> entry = map.remove(key);
+            if (entry != null && wheel != null) {
+                wheel.cancel(entry);
+            }
+            value = unwrap(entry);
             return value;
         } finally {
             lock.unlock();
@@ -176,15 +202,26 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
 
         long now = currentTime();
 
-        List<TimeoutMapEntry<K, V>> expired = new ArrayList<>(map.size());
+        // the timing wheel only visits a few of the entries so do not size the list for all of them
+        List<TimeoutMapEntry<K, V>> expired = wheel != null ? new ArrayList<>() : new ArrayList<>(map.size());
         lock.lock();
         try {
-            // need to find the expired entries and add to the expired list
-            for (Map.Entry<K, TimeoutMapEntry<K, V>> entry : map.entrySet()) {
-                if (entry.getValue().getExpireTime() < now) {
-                    if (isValidForEviction(entry.getValue())) {
-                        log.debug("Evicting inactive entry ID: {}", entry.getValue());
-                        expired.add(entry.getValue());
+            if (wheel != null) {
+                // the timing wheel knows which entries may have expired since the last time
+                wheel.expire(now, this::isValidForEviction, expired);
+                if (log.isDebugEnabled()) {
+                    for (TimeoutMapEntry<K, V> entry : expired) {
+                        log.debug("Evicting inactive entry ID: {}", entry);
+                    }
+                }
+            } else {
+                // need to find the expired entries and add to the expired list
+                for (Map.Entry<K, TimeoutMapEntry<K, V>> entry : map.entrySet()) {
+                    if (entry.getValue().getExpireTime() < now) {
+                        if (isValidForEviction(entry.getValue())) {
+                            log.debug("Evicting inactive entry ID: {}", entry.getValue());
+                            expired.add(entry.getValue());
+                        }
                     }
                 }
             }
@@ -196,7 +233,7 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
 
                 // and must remove from list after we have fired the notifications
                 for (TimeoutMapEntry<K, V> entry : expired) {
-                    map.remove(entry.getKey());
+                    map.remove(entry.getKey(), entry);
                 }
             }
         } finally {
@@ -218,6 +255,32 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
         return executor;
     }
 
+    public boolean isTimingWheel() {
+        return wheel != null;
+    }
+
+    /**
+     * Whether to keep track of the expire time of the entries using a hashed timing wheel, with ticks of the purge
+     * poll time, instead of scanning all the entries when purging.
+     */
+    public void setTimingWheel(boolean timingWheel) {
+        lock.lock();
+        try {
+            if (timingWheel && wheel == null) {
+                TimingWheel<K, V> answer = new TimingWheel<>(purgePollTime, TimingWheel.DEFAULT_TICKS_PER_WHEEL, currentTime());
+                for (TimeoutMapEntry<K, V> entry : map.values()) {
+                    answer.schedule(entry);
+                }
+                wheel = answer;
+            } else if (!timingWheel && wheel != null) {
+                wheel.clear();
+                wheel = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
     // Implementation methods
     // -------------------------------------------------------------------------
 
@@ -278,7 +341,15 @@ public class DefaultTimeoutMap<K, V> extends ServiceSupport implements TimeoutMa
             future = null;
         }
         // clear map if we stop
-        map.clear();
+        lock.lock();
+        try {
+            map.clear();
+            if (wheel != null) {
+                wheel.clear();
+            }
+        } finally {
+            lock.unlock();
+        }
     }
 
 }
@@ -39,6 +39,8 @@ public abstract class MessageSupport implements Message, CamelContextAware, Data
     private Object body;
     private String messageId;
     private DataType dataType;
+    // the body parsed by a reader (such as a json document), which is not copied and is cleared when the body is set
+    private Object parsedBody;
 
     @Override
     public String toString() {
@@ -121,6 +123,7 @@ public abstract class MessageSupport implements Message, CamelContextAware, Data
     @Override
     public void setBody(Object body) {
         this.body = body;
+        this.parsedBody = null;
         // set data type if in use
         if (body != null && camelContext != null && camelContext.isUseDataType()) {
             this.dataType = new DataType(body.getClass());
@@ -142,6 +145,7 @@ public abstract class MessageSupport implements Message, CamelContextAware, Data
     @Override
     public void setBody(Object body, DataType type) {
         this.body = body;
+        this.parsedBody = null;
         this.dataType = type;
     }
 
@@ -256,6 +260,38 @@ public abstract class MessageSupport implements Message, CamelContextAware, Data
      */
     public abstract Message newInstance();
 
+    /**
+     * Gets the body as parsed by a reader, such as a json document, which other readers of the body can reuse.
+     * <p/>
+     * The parsed body is not copied with the message, and is cleared when the body is set. As the body can also be
+     * changed without setting it (such as a stream which is read), readers must check the parsed body is parsed
+     * from the current body.
+     *
+     * @return the parsed body, or <tt>null</tt> if none
+     */
+    public Object getParsedBody() {
+        return parsedBody;
+    }
+
+    /**
+     * Sets the body as parsed by a reader.
+     *
+     * @see #getParsedBody()
+     */
+    public void setParsedBody(Object parsedBody) {
+        this.parsedBody = parsedBody;
+    }
+
+    /**
+     * Resets the message so it can be reused, such as when the exchange is returned to a {@link PooledExchangeFactory}.
+     */
+    void reset() {
+        body = null;
+        parsedBody = null;
+        messageId = null;
+        dataType = null;
+    }
+
     /**
      * A factory method to allow a provider to lazily create the message body
      * for inbound messages from other sources
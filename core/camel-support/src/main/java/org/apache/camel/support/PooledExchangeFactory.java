@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Endpoint;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A bounded pool of {@link DefaultExchange} instances which are reused by a consumer.
+ * <p/>
+ * Exchanges are acquired from the pool when the consumer creates a new exchange, and are released back
+ * to the pool when the {@link org.apache.camel.spi.UnitOfWork} of the exchange is done, so the consumer must not use
+ * the exchange after that (such as in the callback of the processor). An exchange which is not routed can be
+ * released by the consumer. When released the exchange is reset (the properties and the headers are discarded)
+ * so it is ready to be used again. If the pool is empty a new exchange is created, and if the pool is full the released
+ * exchange is discarded.
+ * <p/>
+ * An exchange which is still in use (has an unit of work) when released, or which is released more than once,
+ * is not returned to the pool. When leak detection is enabled, the pool also keeps track of the exchanges in use,
+ * so exchanges which escaped and were never released are logged when the consumer is stopped. And a released exchange
+ * is marked as released until it is acquired again, so when assertions are enabled an escaped exchange which is used
+ * after it has been released fails with an {@link IllegalStateException} instead of seeing the data of another message.
+ * <p/>
+ * Exchange pooling is disabled by default, and can be enabled by setting the global option {@link #POOLED_OPTION}
+ * to <tt>true</tt>.
+ */
+public class PooledExchangeFactory {
+
+    /**
+     * Global option to enable pooling exchanges in the consumers.
+     */
+    public static final String POOLED_OPTION = "CamelExchangePooled";
+
+    /**
+     * Global option with the maximum number of idle exchanges to keep in the pool per consumer (default 100).
+     */
+    public static final String CAPACITY_OPTION = "CamelExchangePoolCapacity";
+
+    /**
+     * Global option to enable leak detection, which tracks the exchanges in use, and detects the use of released
+     * exchanges when assertions are enabled.
+     */
+    public static final String LEAK_DETECTION_OPTION = "CamelExchangePoolLeakDetection";
+
+    public static final int DEFAULT_CAPACITY = 100;
+
+    private static final Logger LOG = LoggerFactory.getLogger(PooledExchangeFactory.class);
+
+    private final Endpoint endpoint;
+    private final int capacity;
+    private final BlockingQueue<DefaultExchange> pool;
+    // the exchanges in use with the time they were acquired, only used with leak detection
+    private final Map<Exchange, Long> inUse;
+    private volatile ExchangePattern pattern;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong released = new AtomicLong();
+    private final AtomicLong discarded = new AtomicLong();
+    private final AtomicLong leaked = new AtomicLong();
+
+    public PooledExchangeFactory(Endpoint endpoint, int capacity, boolean leakDetection) {
+        this.endpoint = endpoint;
+        this.capacity = capacity;
+        this.pool = new ArrayBlockingQueue<>(capacity);
+        this.inUse = leakDetection ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     * Creates a new {@link PooledExchangeFactory} for the given endpoint if exchange pooling has been enabled.
+     *
+     * @param endpoint the endpoint of the consumer
+     * @return the factory, or <tt>null</tt> if exchange pooling is not enabled
+     */
+    public static PooledExchangeFactory newInstance(Endpoint endpoint) {
+        CamelContext context = endpoint.getCamelContext();
+        if (!"true".equalsIgnoreCase(context.getGlobalOption(POOLED_OPTION))) {
+            return null;
+        }
+        int capacity = DEFAULT_CAPACITY;
+        String value = context.getGlobalOption(CAPACITY_OPTION);
+        if (value != null) {
+            capacity = Integer.parseInt(value);
+        }
+        boolean leakDetection = "true".equalsIgnoreCase(context.getGlobalOption(LEAK_DETECTION_OPTION));
+        return new PooledExchangeFactory(endpoint, capacity, leakDetection);
+    }
+
+    /**
+     * Acquires an exchange from the pool, or creates a new exchange if the pool is empty.
+     * <p/>
+     * The exchange is released to the pool when its unit of work is done.
+     */
+    public Exchange acquire() {
+        Exchange answer = pool.poll();
+        if (answer != null) {
+            hits.incrementAndGet();
+            ((DefaultExchange) answer).setPooled(false);
+            ((DefaultExchange) answer).setReleased(false);
+        } else {
+            misses.incrementAndGet();
+            answer = endpoint.createExchange();
+            pattern = answer.getPattern();
+        }
+        if (answer instanceof DefaultExchange) {
+            ((DefaultExchange) answer).setPool(this);
+        }
+        if (inUse != null) {
+            inUse.put(answer, System.currentTimeMillis());
+        }
+        return answer;
+    }
+
+    /**
+     * Releases the exchange back to the pool.
+     *
+     * @param exchange the exchange which the consumer is done with
+     * @return <tt>true</tt> if the exchange was returned to the pool, <tt>false</tt> if it was discarded
+     */
+    public boolean release(Exchange exchange) {
+        released.incrementAndGet();
+
+        if (inUse != null && inUse.remove(exchange) == null) {
+            LOG.warn("Exchange: {} was not acquired from the exchange pool of: {} or has already been released", exchange, endpoint);
+            discarded.incrementAndGet();
+            return false;
+        }
+        if (!(exchange instanceof DefaultExchange)) {
+            discarded.incrementAndGet();
+            return false;
+        }
+
+        DefaultExchange de = (DefaultExchange) exchange;
+        if (de.isPooled()) {
+            LOG.warn("Exchange: {} has already been released to the exchange pool of: {}", exchange, endpoint);
+            discarded.incrementAndGet();
+            return false;
+        }
+        if (de.getUnitOfWork() != null) {
+            // the exchange is still in use, such as when its unit of work has not been completed
+            LOG.debug("Exchange: {} is still in use and is not returned to the exchange pool", exchange);
+            discarded.incrementAndGet();
+            return false;
+        }
+
+        de.reset(pattern);
+        de.setPooled(true);
+        if (inUse != null) {
+            // fail fast if the exchange is used after it has been released
+            de.setReleased(true);
+        }
+        if (!pool.offer(de)) {
+            // the pool is full
+            de.setPooled(false);
+            discarded.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks for exchanges which has been acquired but not released, which are logged as leaks.
+     * This requires leak detection to be enabled.
+     *
+     * @return the number of leaked exchanges
+     */
+    public int checkLeaks() {
+        if (inUse == null || inUse.isEmpty()) {
+            return 0;
+        }
+        long now = System.currentTimeMillis();
+        int answer = 0;
+        for (Map.Entry<Exchange, Long> entry : inUse.entrySet()) {
+            if (inUse.remove(entry.getKey()) != null) {
+                answer++;
+                LOG.warn("Leak detected: Exchange: {} was acquired from the exchange pool of: {} {} millis ago but has not been released",
+                        entry.getKey(), endpoint, now - entry.getValue());
+            }
+        }
+        leaked.addAndGet(answer);
+        return answer;
+    }
+
+    /**
+     * Maximum number of idle exchanges in the pool
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Number of idle exchanges in the pool
+     */
+    public int getSize() {
+        return pool.size();
+    }
+
+    /**
+     * Whether leak detection is enabled
+     */
+    public boolean isLeakDetection() {
+        return inUse != null;
+    }
+
+    /**
+     * Number of times an exchange was acquired from the pool
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Number of times the pool was empty and a new exchange was created
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Number of exchanges which has been released
+     */
+    public long getReleased() {
+        return released.get();
+    }
+
+    /**
+     * Number of released exchanges which were not returned to the pool
+     */
+    public long getDiscarded() {
+        return discarded.get();
+    }
+
+    /**
+     * Number of exchanges which were detected as leaks
+     */
+    public long getLeaked() {
+        return leaked.get();
+    }
+
+    /**
+     * Resets the statistics
+     */
+    public void resetStatistics() {
+        hits.set(0);
+        misses.set(0);
+        released.set(0);
+        discarded.set(0);
+        leaked.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "PooledExchangeFactory[" + endpoint + "]";
+    }
+}
@@ -24,6 +24,12 @@ import org.apache.camel.TimeoutMap;
  * Represents an entry in a {@link TimeoutMap}
  */
 public class TimeoutMapEntry<K, V> implements Comparable<Object>, Map.Entry<K, V> {
+    // the links used when the entry is scheduled in a timing wheel
+    TimeoutMapEntry<K, V> wheelPrev;
+    TimeoutMapEntry<K, V> wheelNext;
+    long wheelTick;
+    int wheelBucket = -1;
+
     private K key;
     private V value;
     private long timeout;
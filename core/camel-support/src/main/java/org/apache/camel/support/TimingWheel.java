@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A hierarchical timing wheel which keeps track of when the entries of a {@link DefaultTimeoutMap} expire.
+ * <p/>
+ * The time is divided in ticks of the purge poll time, and the wheel has two levels of buckets. Entries which expire
+ * in the current revolution of the wheel are linked into the bucket of the tick they expire in, and entries which
+ * expire later are linked into the bucket of the revolution they expire in. When a new revolution begins its entries
+ * are moved to the buckets of their ticks. This makes scheduling and cancelling an entry O(1), and when the wheel is
+ * advanced only the buckets of the ticks (and revolutions) which have passed since the last time are visited.
+ * Entries which expire more revolutions ahead than there are buckets share the bucket of the revolution,
+ * and are skipped until their revolution is reached.
+ * <p/>
+ * The expire time of an entry may be extended after it has been scheduled (the timeout map does this when an entry
+ * is accessed), in which case the entry is moved to a later bucket when its old bucket is visited.
+ * <p/>
+ * This class is not thread safe, and is guarded by the lock of the timeout map.
+ */
+final class TimingWheel<K, V> {
+
+    static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    // the buckets of the ticks followed by the buckets of the revolutions
+    private final TimeoutMapEntry<K, V>[] buckets;
+    private final int size;
+    private final int mask;
+    private final int shift;
+    private final long tickDuration;
+    private final long startTime;
+    private long lastTick;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long tickDuration, int ticksPerWheel, long startTime) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be positive, was: " + tickDuration);
+        }
+        // round up to a power of two so the bucket can be found with a mask
+        this.size = Integer.highestOneBit(Math.max(1, ticksPerWheel - 1)) << 1;
+        this.buckets = new TimeoutMapEntry[size * 2];
+        this.mask = size - 1;
+        this.shift = Integer.numberOfTrailingZeros(size);
+        this.tickDuration = tickDuration;
+        this.startTime = startTime;
+    }
+
+    /**
+     * Links the entry into the bucket of the tick (or revolution) it expires in.
+     */
+    void schedule(TimeoutMapEntry<K, V> entry) {
+        link(entry, Math.max(tickOf(entry.getExpireTime()), lastTick));
+    }
+
+    /**
+     * Unlinks the entry from its bucket, if it is scheduled.
+     */
+    void cancel(TimeoutMapEntry<K, V> entry) {
+        if (entry.wheelBucket < 0) {
+            return;
+        }
+        if (entry.wheelPrev != null) {
+            entry.wheelPrev.wheelNext = entry.wheelNext;
+        } else {
+            buckets[entry.wheelBucket] = entry.wheelNext;
+        }
+        if (entry.wheelNext != null) {
+            entry.wheelNext.wheelPrev = entry.wheelPrev;
+        }
+        entry.wheelPrev = null;
+        entry.wheelNext = null;
+        entry.wheelBucket = -1;
+    }
+
+    /**
+     * Advances the wheel to the given time, and adds the entries which has expired (and which the predicate accepts)
+     * to the list. The expired entries are unlinked from the wheel.
+     *
+     * @param now      the current time
+     * @param eviction predicate which decides whether an expired entry can be evicted, if not the entry is checked again
+     *                 the next time the wheel is advanced
+     * @param expired  the list to add the expired entries to
+     */
+    void expire(long now, Predicate<TimeoutMapEntry<K, V>> eviction, List<TimeoutMapEntry<K, V>> expired) {
+        long currentTick = Math.max(tickOf(now), lastTick);
+        long lastRevolution = lastTick >> shift;
+        long currentRevolution = currentTick >> shift;
+        // the bucket of the current tick is visited again as its entries may have expired since the last time,
+        // and when more than a revolution has passed then each bucket is visited once
+        long from = Math.max(lastTick, currentTick - mask);
+        lastTick = currentTick;
+
+        // move the entries of the revolutions which have begun to the buckets of their ticks
+        for (long revolution = Math.max(lastRevolution + 1, currentRevolution - mask); revolution <= currentRevolution; revolution++) {
+            TimeoutMapEntry<K, V> entry = buckets[size + (int) (revolution & mask)];
+            while (entry != null) {
+                TimeoutMapEntry<K, V> next = entry.wheelNext;
+                if (entry.wheelTick >> shift <= currentRevolution) {
+                    cancel(entry);
+                    link(entry, entry.wheelTick);
+                }
+                entry = next;
+            }
+        }
+
+        for (long tick = from; tick <= currentTick; tick++) {
+            TimeoutMapEntry<K, V> entry = buckets[(int) (tick & mask)];
+            while (entry != null) {
+                // rescheduled entries are linked at the head, so they are not visited again
+                TimeoutMapEntry<K, V> next = entry.wheelNext;
+                if (entry.wheelTick <= currentTick) {
+                    cancel(entry);
+                    if (entry.getExpireTime() < now && eviction.test(entry)) {
+                        expired.add(entry);
+                    } else {
+                        // the expire time has been extended, or it could not be evicted yet
+                        link(entry, Math.max(tickOf(entry.getExpireTime()), currentTick));
+                    }
+                }
+                entry = next;
+            }
+        }
+    }
+
+    /**
+     * Unlinks all the entries.
+     */
+    void clear() {
+        for (int i = 0; i < buckets.length; i++) {
+            TimeoutMapEntry<K, V> entry = buckets[i];
+            while (entry != null) {
+                TimeoutMapEntry<K, V> next = entry.wheelNext;
+                entry.wheelPrev = null;
+                entry.wheelNext = null;
+                entry.wheelBucket = -1;
+                entry = next;
+            }
+            buckets[i] = null;
+        }
+    }
+
+    private long tickOf(long time) {
+        return Math.floorDiv(time - startTime, tickDuration);
+    }
+
+    private void link(TimeoutMapEntry<K, V> entry, long tick) {
+        int bucket;
+        if (tick >> shift <= lastTick >> shift) {
+            bucket = (int) (tick & mask);
+        } else {
+            bucket = size + (int) ((tick >> shift) & mask);
+        }
+        TimeoutMapEntry<K, V> head = buckets[bucket];
+        entry.wheelTick = tick;
+        entry.wheelBucket = bucket;
+        entry.wheelPrev = null;
+        entry.wheelNext = head;
+        if (head != null) {
+            head.wheelPrev = entry;
+        }
+        buckets[bucket] = entry;
+    }
+
+}
@@ -65,6 +65,11 @@ public final class UnitOfWorkHelper {
 
         // remove uow from exchange as its done
         exchange.setUnitOfWork(null);
+
+        // the exchange is done, so it is released if it was acquired from an exchange pool
+        if (exchange instanceof DefaultExchange) {
+            ((DefaultExchange) exchange).done();
+        }
     }
 
     public static void doneSynchronizations(Exchange exchange, List<Synchronization> synchronizations, Logger log) {
@@ -37,6 +37,7 @@ public class DoubleMap<K1, K2, V> {
 
     private Entry[] table;
     private int mask;
+    private int size;
 
     public DoubleMap(int size) {
         table = new Entry[closedTableSize(size)];
@@ -79,8 +80,8 @@ public class DoubleMap<K1, K2, V> {
 
     public synchronized void put(K1 k1, K2 k2, V v) {
         Entry[] table = this.table;
-        int size = size() + 1;
-        int realSize = closedTableSize(size);
+        // the size is kept up to date, instead of counting the entries on every put
+        int realSize = closedTableSize(size + 1);
         if (realSize <= table.length) {
             realSize = table.length;
             int index = smear(k1.hashCode() * 31 + k2.hashCode()) & (realSize - 1);
@@ -96,6 +97,7 @@ public class DoubleMap<K1, K2, V> {
             entry.v = v;
             entry.next = table[index];
             table[index] = entry;
+            size++;
         } else {
             Entry[] newT = new Entry[realSize];
             int index = smear(k1.hashCode() * 31 + k2.hashCode()) & (realSize - 1);
@@ -104,9 +106,12 @@ public class DoubleMap<K1, K2, V> {
             entry.k1 = k1;
             entry.k2 = k2;
             entry.v = v;
+            boolean replaced = false;
             for (Entry oldEntry : table) {
                 while (oldEntry != null) {
-                    if (k1 != oldEntry.k1 || k2 != oldEntry.k2) {
+                    if (k1 == oldEntry.k1 && k2 == oldEntry.k2) {
+                        replaced = true;
+                    } else {
                         index = smear(oldEntry.k1.hashCode() * 31 + oldEntry.k2.hashCode()) & (realSize - 1);
                         Entry newEntry = new Entry();
                         newEntry.k1 = oldEntry.k1;
@@ -120,6 +125,9 @@ public class DoubleMap<K1, K2, V> {
             }
             this.table = newT;
             this.mask = realSize - 1;
+            if (!replaced) {
+                size++;
+            }
         }
     }
 
@@ -135,6 +143,7 @@ public class DoubleMap<K1, K2, V> {
                 } else {
                     prevEntry.next = oldEntry.next;
                 }
+                size--;
                 return true;
             }
         }
@@ -154,20 +163,12 @@ public class DoubleMap<K1, K2, V> {
     }
 
     public int size() {
-        Entry[] table = this.table;
-        int n = 0;
-        if (table != null) {
-            for (Entry e : table) {
-                for (Entry c = e; c != null; c = c.next) {
-                    n++;
-                }
-            }
-        }
-        return n;
+        return size;
     }
 
     public synchronized void clear() {
         this.table = new Entry[table.length];
+        this.size = 0;
     }
 
     static int smear(int hashCode) {
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.util.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Thread factory which creates virtual threads supporting a naming pattern.
+ * <p/>
+ * Virtual threads are only available on newer JDKs, which is why the JDK thread builder is looked up
+ * reflectively. Use {@link #isSupported()} to check whether virtual threads can be created on the current JDK.
+ */
+public final class CamelVirtualThreadFactory implements ThreadFactory {
+    private static final Logger LOG = LoggerFactory.getLogger(CamelVirtualThreadFactory.class);
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+
+    private final String pattern;
+    private final String name;
+
+    public CamelVirtualThreadFactory(String pattern, String name) {
+        if (VIRTUAL_THREAD_FACTORY == null) {
+            throw new UnsupportedOperationException("Virtual threads are not supported on this JDK: " + System.getProperty("java.version"));
+        }
+        this.pattern = pattern;
+        this.name = name;
+    }
+
+    /**
+     * Whether virtual threads are supported on the current JDK.
+     */
+    public static boolean isSupported() {
+        return VIRTUAL_THREAD_FACTORY != null;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        String threadName = ThreadHelper.resolveThreadName(pattern, name);
+        Thread answer = VIRTUAL_THREAD_FACTORY.newThread(runnable);
+        // virtual threads are always daemon threads
+        answer.setName(threadName);
+
+        LOG.trace("Created virtual thread[{}] -> {}", threadName, answer);
+        return answer;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return "CamelVirtualThreadFactory[" + name + "]";
+    }
+
+    private static ThreadFactory createVirtualThreadFactory() {
+        try {
+            // Thread.ofVirtual().factory()
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Object builder = ofVirtual.invoke(null);
+            Method factory = Class.forName("java.lang.Thread$Builder").getMethod("factory");
+            ThreadFactory answer = (ThreadFactory) factory.invoke(builder);
+            // virtual threads may be a preview feature which is not enabled, so try to create a thread
+            answer.newThread(() -> { });
+            return answer;
+        } catch (Throwable e) {
+            LOG.trace("Virtual threads are not supported on this JDK due to: {}", e.getMessage());
+            return null;
+        }
+    }
+}
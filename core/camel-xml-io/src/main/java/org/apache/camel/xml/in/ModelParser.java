@@ -81,6 +81,7 @@ public class ModelParser extends BaseParser {
                 case "executorServiceRef": def.setExecutorServiceRef(val); break;
                 case "forceCompletionOnStop": def.setForceCompletionOnStop(val); break;
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); break;
+                case "lockStripes": def.setLockStripes(val); break;
                 case "optimisticLocking": def.setOptimisticLocking(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
                 case "strategyMethodAllowNull": def.setStrategyMethodAllowNull(val); break;
@@ -1182,6 +1183,7 @@ public class ModelParser extends BaseParser {
                 case "executorServiceRef": def.setExecutorServiceRef(val); break;
                 case "rejectExecution": def.setRejectExecution(Boolean.valueOf(val)); break;
                 case "timePeriodMillis": def.setTimePeriodMillis(Long.valueOf(val)); break;
+                case "tokenBucket": def.setTokenBucket(Boolean.valueOf(val)); break;
                 default: return processorDefinitionAttributeHandler().accept(def, key, val);
             }
             return true;
@@ -1607,6 +1609,7 @@ public class ModelParser extends BaseParser {
             switch (key) {
                 case "capacity": def.setCapacity(val); break;
                 case "comparatorRef": def.setComparatorRef(val); break;
+                case "concurrent": def.setConcurrent(val); break;
                 case "deliveryAttemptInterval": def.setDeliveryAttemptInterval(val); break;
                 case "ignoreInvalidExchanges": def.setIgnoreInvalidExchanges(val); break;
                 case "rejectOld": def.setRejectOld(val); break;
@@ -1697,6 +1700,7 @@ public class ModelParser extends BaseParser {
                 case "allowEmptyStream": def.setAllowEmptyStream(Boolean.valueOf(val)); break;
                 case "classType": def.setClassType(val); break;
                 case "locale": def.setLocale(val); break;
+                case "streaming": def.setStreaming(Boolean.valueOf(val)); break;
                 case "type": def.setType(BindyType.valueOf(val)); break;
                 case "unwrapSingleInstance": def.setUnwrapSingleInstance(Boolean.valueOf(val)); break;
                 default: return dataFormatDefinitionAttributeHandler().accept(def, key, val);
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.tests.performance;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.StopWatch;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.apache.camel.component.stax.StAXBuilder.staxXPath;
+
+/**
+ * Splits a large XML file in streaming mode using the StAX based XPath splitter, and reports the throughput
+ * and the heap used, which should not depend on the size of the file.
+ * <p/>
+ * The number of orders in the file can be set with the <tt>orders</tt> system property.
+ */
+public class StAXXPathSplitTest extends CamelTestSupport {
+    private static final DecimalFormat FORMAT = new DecimalFormat("#.##");
+    private static final int ORDERS = Integer.getInteger("orders", 1000000);
+
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong maxUsedMemory = new AtomicLong();
+    private final StopWatch watch = new StopWatch();
+
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        createDataFile(ORDERS);
+        super.setUp();
+    }
+
+    @Test
+    public void testSplit() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:done");
+        mock.expectedMessageCount(1);
+        mock.setResultWaitTime(TimeUnit.MINUTES.toMillis(10));
+        mock.assertIsSatisfied();
+        long taken = watch.taken();
+
+        assertEquals(ORDERS / 2, count.get());
+        log.info("Split {} orders from {} MB in {} millis: {} orders/s, max used heap {} MB",
+            count.get(), new File("target/data/orders.xml").length() / (1024 * 1024), taken, FORMAT.format(1000.0 * count.get() / taken),
+            maxUsedMemory.get() / (1024 * 1024));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("file:target/data?noop=true")
+                    .process(exchange -> watch.restart())
+                    .split(staxXPath("//o:order[@type='gold']").namespace("o", "urn:orders")).streaming()
+                        .process(exchange -> {
+                            String xml = exchange.getIn().getBody(String.class);
+                            assertTrue(xml, xml.startsWith("<o:order xmlns:o=\"urn:orders\""));
+                            if (count.incrementAndGet() % 10000 == 0) {
+                                Runtime runtime = Runtime.getRuntime();
+                                maxUsedMemory.accumulateAndGet(runtime.totalMemory() - runtime.freeMemory(), Math::max);
+                            }
+                        })
+                    .end()
+                    .to("mock:done");
+            }
+        };
+    }
+
+    private void createDataFile(int size) throws Exception {
+        deleteDirectory("target/data");
+        createDirectory("target/data");
+
+        log.info("Creating data file with {} orders ...", size);
+        OutputStream os = new FileOutputStream("target/data/orders.xml");
+        try {
+            os.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<o:orders xmlns:o=\"urn:orders\">\n".getBytes(StandardCharsets.UTF_8));
+            for (int i = 0; i < size; i++) {
+                String type = i % 2 == 0 ? "gold" : "silver";
+                String order = "  <o:order type=\"" + type + "\"><o:id>" + i + "</o:id><o:amount>" + (i % 100) + "</o:amount>"
+                    + "<o:description><![CDATA[<b>bla bla bla bla</b> & bla bla bla bla]]></o:description></o:order>\n";
+                os.write(order.getBytes(StandardCharsets.UTF_8));
+            }
+            os.write("</o:orders>".getBytes(StandardCharsets.UTF_8));
+        } finally {
+            IOHelper.close(os);
+        }
+        log.info("Creating data file done.");
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.tests.performance;
+
+import java.text.DecimalFormat;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.engine.BaseExecutorServiceManager;
+import org.apache.camel.test.junit4.CamelTestSupport;
+import org.apache.camel.util.StopWatch;
+import org.apache.camel.util.concurrent.CamelVirtualThreadFactory;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Compares the throughput of platform threads vs virtual threads when routing to a blocking endpoint.
+ */
+public class VirtualThreadsBlockingTest extends CamelTestSupport {
+    private static final DecimalFormat FORMAT = new DecimalFormat("#.##");
+    private static final int MESSAGES = 2000;
+    private static final long BLOCKING_TIME = 20;
+
+    @Test
+    public void testBlockingThroughput() throws Exception {
+        Assume.assumeTrue("Virtual threads not supported on this JDK", CamelVirtualThreadFactory.isSupported());
+
+        long platform = runTest("platform");
+        long virtual = runTest("virtual");
+
+        log.info("Platform threads: {} msg/s, {} millis", FORMAT.format(1000.0 * MESSAGES / platform), platform);
+        log.info("Virtual threads:  {} msg/s, {} millis", FORMAT.format(1000.0 * MESSAGES / virtual), virtual);
+    }
+
+    protected long runTest(String name) throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:" + name);
+        mock.expectedMessageCount(MESSAGES);
+
+        StopWatch watch = new StopWatch();
+        for (int i = 0; i < MESSAGES; i++) {
+            template.sendBody("seda:" + name, "Message " + i);
+        }
+        mock.assertIsSatisfied(60000);
+        return watch.taken();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                // a blocking call such as JDBC or HTTP
+                from("direct:blocking").delay(BLOCKING_TIME).syncDelayed();
+
+                from("seda:platform?size=" + MESSAGES).threads(20, 20)
+                    .to("direct:blocking").to("mock:platform");
+
+                if (CamelVirtualThreadFactory.isSupported()) {
+                    from("seda:virtual?size=" + MESSAGES).threads().executorServiceRef(BaseExecutorServiceManager.VIRTUAL_THREAD_POOL_PROFILE)
+                        .to("direct:blocking").to("mock:virtual");
+                }
+            }
+        };
+    }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Body;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Header;
+import org.apache.camel.Processor;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests calling a method on a bean with 0, 1 and 3 parameters, an overloaded method which is chosen
+ * by the type of the message body, and calling a getter using a simple OGNL expression.
+ */
+public class BeanMethodInvocationTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.NANOSECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(2)
+            .threads(2)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        CamelContext camel;
+        Processor zero;
+        Processor one;
+        Processor three;
+        Processor overloaded;
+        Processor ognl;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:zero").routeId("zero").bean(MyBean.class, "zero");
+                    from("direct:one").routeId("one").bean(MyBean.class, "one");
+                    from("direct:three").routeId("three").bean(MyBean.class, "three");
+                    from("direct:overloaded").routeId("overloaded").bean(MyBean.class, "overloaded");
+                    from("direct:ognl").routeId("ognl").setBody().simple("${body.name}");
+                }
+            });
+            camel.start();
+            zero = camel.getRoute("zero").getProcessor();
+            one = camel.getRoute("one").getProcessor();
+            three = camel.getRoute("three").getProcessor();
+            overloaded = camel.getRoute("overloaded").getProcessor();
+            ognl = camel.getRoute("ognl").getProcessor();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws Exception {
+            camel.stop();
+        }
+
+        Exchange createExchange(Object body) {
+            Exchange exchange = new DefaultExchange(camel);
+            exchange.getIn().setBody(body);
+            exchange.getIn().setHeader("amount", 123);
+            exchange.getIn().setHeader("country", "Denmark");
+            return exchange;
+        }
+    }
+
+    @Benchmark
+    public void zeroParameters(BenchmarkState state, Blackhole bh) throws Exception {
+        Exchange exchange = state.createExchange("Camel");
+        state.zero.process(exchange);
+        bh.consume(exchange.getMessage().getBody());
+    }
+
+    @Benchmark
+    public void oneParameter(BenchmarkState state, Blackhole bh) throws Exception {
+        Exchange exchange = state.createExchange("Camel");
+        state.one.process(exchange);
+        bh.consume(exchange.getMessage().getBody());
+    }
+
+    @Benchmark
+    public void threeParameters(BenchmarkState state, Blackhole bh) throws Exception {
+        Exchange exchange = state.createExchange("Camel");
+        state.three.process(exchange);
+        bh.consume(exchange.getMessage().getBody());
+    }
+
+    @Benchmark
+    public void overloadedMethod(BenchmarkState state, Blackhole bh) throws Exception {
+        Exchange exchange = state.createExchange(123);
+        state.overloaded.process(exchange);
+        bh.consume(exchange.getMessage().getBody());
+    }
+
+    @Benchmark
+    public void ognlGetter(BenchmarkState state, Blackhole bh) throws Exception {
+        Exchange exchange = state.createExchange(new MyBean());
+        state.ognl.process(exchange);
+        bh.consume(exchange.getMessage().getBody());
+    }
+
+    public static class MyBean {
+
+        public String getName() {
+            return "Camel";
+        }
+
+        public String zero() {
+            return "Hello World";
+        }
+
+        public String one(String body) {
+            return body;
+        }
+
+        public String three(@Body String body, @Header("amount") int amount, @Header("country") String country) {
+            return country;
+        }
+
+        public String overloaded(String body) {
+            return body;
+        }
+
+        public String overloaded(Integer body) {
+            return "Integer";
+        }
+    }
+
+}
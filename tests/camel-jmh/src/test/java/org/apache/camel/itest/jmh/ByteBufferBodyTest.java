@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.converter.stream.ByteBufferBody;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests the hops of a binary body through the type converters, as a plain {@link ByteBuffer} or {@link File}
+ * compared to a {@link ByteBufferBody}.
+ * <p/>
+ * The GC profiler is enabled, so the bytes copied per hop are reported as the allocation per operation in
+ * <tt>gc.alloc.rate.norm</tt>, which is about the size of the payload for each copy.
+ */
+public class ByteBufferBodyTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.MICROSECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(2))
+            .measurementIterations(2)
+            .threads(1)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .addProfiler(GCProfiler.class)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"65536", "1048576"})
+        int size;
+
+        CamelContext camel;
+        TypeConverter converter;
+        Exchange exchange;
+        ByteBuffer buffer;
+        ByteBufferBody body;
+        File file;
+        byte[] scratch = new byte[8192];
+
+        @Setup(Level.Trial)
+        public void initialize() throws IOException {
+            camel = new DefaultCamelContext();
+            camel.start();
+            converter = camel.getTypeConverter();
+            exchange = new DefaultExchange(camel);
+
+            byte[] data = new byte[size];
+            Arrays.fill(data, (byte) 'a');
+            buffer = ByteBuffer.wrap(data);
+            body = ByteBufferBody.wrap(data);
+
+            file = File.createTempFile("camel-jmh", ".dat");
+            file.deleteOnExit();
+            try (OutputStream os = new FileOutputStream(file)) {
+                os.write(data);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            camel.stop();
+            file.delete();
+        }
+
+        int drain(InputStream is) throws IOException {
+            int total = 0;
+            int n;
+            while ((n = is.read(scratch)) != -1) {
+                total += n;
+            }
+            return total;
+        }
+
+        int drain(ByteBuffer buffer) {
+            int total = 0;
+            while (buffer.hasRemaining()) {
+                int n = Math.min(scratch.length, buffer.remaining());
+                buffer.get(scratch, 0, n);
+                total += n;
+            }
+            return total;
+        }
+    }
+
+    @Benchmark
+    public void bufferToBytes(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.converter.convertTo(byte[].class, state.exchange, state.buffer.duplicate()));
+    }
+
+    @Benchmark
+    public void bodyToBytes(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.converter.convertTo(byte[].class, state.exchange, state.body));
+    }
+
+    @Benchmark
+    public void bufferToInputStream(BenchmarkState state, Blackhole bh) throws IOException {
+        bh.consume(state.drain(state.converter.convertTo(InputStream.class, state.exchange, state.buffer.duplicate())));
+    }
+
+    @Benchmark
+    public void bodyToInputStream(BenchmarkState state, Blackhole bh) throws IOException {
+        bh.consume(state.drain(state.converter.convertTo(InputStream.class, state.exchange, state.body)));
+    }
+
+    @Benchmark
+    public void fileToByteBuffer(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.drain(state.converter.convertTo(ByteBuffer.class, state.exchange, state.file)));
+    }
+
+    @Benchmark
+    public void fileToBody(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.drain(state.converter.convertTo(ByteBufferBody.class, state.exchange, state.file).getBuffer()));
+    }
+
+}
@@ -16,12 +16,15 @@
  */
 package org.apache.camel.itest.jmh;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import org.apache.camel.Exchange;
+import org.apache.camel.support.CaseInsensitiveHashMap;
 import org.apache.camel.util.CaseInsensitiveMap;
 import org.junit.Test;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -39,7 +42,8 @@ import org.openjdk.jmh.runner.options.TimeValue;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
 
 /**
- * Tests {@link CaseInsensitiveMap}
+ * Tests {@link CaseInsensitiveMap}, {@link CaseInsensitiveHashMap} and the cedarsoftware map used by camel-headersmap,
+ * with a {@link HashMap} as reference.
  */
 public class CaseInsensitiveMapTest {
 
@@ -71,12 +75,14 @@ public class CaseInsensitiveMapTest {
     @State(Scope.Thread)
     public static class MapsBenchmarkState {
         CaseInsensitiveMap camelMap;
+        CaseInsensitiveHashMap camelHashMap;
         com.cedarsoftware.util.CaseInsensitiveMap cedarsoftMap;
         HashMap hashMap;
 
         @Setup(Level.Trial)
         public void initialize() {
             camelMap = new CaseInsensitiveMap();
+            camelHashMap = new CaseInsensitiveHashMap();
             cedarsoftMap = new com.cedarsoftware.util.CaseInsensitiveMap();
             hashMap = new HashMap();
         }
@@ -112,6 +118,23 @@ public class CaseInsensitiveMapTest {
         bh.consume(o4);
     }
 
+    @Benchmark
+    public void camelHashMapSimpleCase(MapsBenchmarkState state, Blackhole bh) {
+        Map map = state.camelHashMap;
+
+        map.put("foo", "Hello World");
+        Object o1 = map.get("foo");
+        bh.consume(o1);
+        Object o2 = map.get("FOO");
+        bh.consume(o2);
+
+        map.put("BAR", "Bye World");
+        Object o3 = map.get("bar");
+        bh.consume(o3);
+        Object o4 = map.get("BAR");
+        bh.consume(o4);
+    }
+
     @Benchmark
     public void cedarsoftMapSimpleCase(MapsBenchmarkState state, Blackhole bh) {
         Map map = state.cedarsoftMap;
@@ -166,6 +189,25 @@ public class CaseInsensitiveMapTest {
         blackhole.consume(map);
     }
 
+    @Benchmark
+    public void camelHashMapComplexCase(MapsBenchmarkState mapsBenchmarkState, MapsSourceDataBenchmarkState sourceDataState, Blackhole blackhole) {
+        // step 1 - initialize map with existing elements
+        Map map = mapsBenchmarkState.camelHashMap;
+
+        // step 2 - add elements one by one
+        sourceDataState.map2.entrySet().forEach(entry -> blackhole.consume(map.put(entry.getKey(), entry.getValue())));
+
+        // step 3 - remove elements one by one
+        sourceDataState.map1.keySet().forEach(key -> blackhole.consume(map.get(key)));
+
+        // step 4 - remove elements one by one
+        sourceDataState.map1.keySet().forEach(key -> blackhole.consume(map.remove(key)));
+
+        // step 5 - add couple of element at once
+        map.putAll(sourceDataState.map1);
+
+        blackhole.consume(map);
+    }
 
     @Benchmark
     public void cedarsoftMapComplexCase(MapsBenchmarkState mapsBenchmarkState, MapsSourceDataBenchmarkState sourceDataState, Blackhole blackhole) {
@@ -207,4 +249,48 @@ public class CaseInsensitiveMapTest {
         blackhole.consume(map);
     }
 
+    @Benchmark
+    public void camelMapCopy(CopyBenchmarkState state, Blackhole blackhole) {
+        Map<String, Object> copy = new CaseInsensitiveMap(state.camelMap);
+        blackhole.consume(copy.get(Exchange.FILE_NAME));
+        blackhole.consume(copy.get("foo"));
+    }
+
+    @Benchmark
+    public void camelHashMapCopy(CopyBenchmarkState state, Blackhole blackhole) {
+        Map<String, Object> copy = new CaseInsensitiveHashMap(state.camelHashMap);
+        blackhole.consume(copy.get(Exchange.FILE_NAME));
+        blackhole.consume(copy.get("foo"));
+    }
+
+    @Benchmark
+    public void cedarsoftMapCopy(CopyBenchmarkState state, Blackhole blackhole) {
+        Map<String, Object> copy = new com.cedarsoftware.util.CaseInsensitiveMap<>(state.cedarsoftMap);
+        blackhole.consume(copy.get(Exchange.FILE_NAME));
+        blackhole.consume(copy.get("foo"));
+    }
+
+    /**
+     * Headers which are copied and read, such as when an exchange is copied by the multicast EIP
+     */
+    @State(Scope.Benchmark)
+    public static class CopyBenchmarkState {
+        Map<String, Object> camelMap = new CaseInsensitiveMap();
+        Map<String, Object> camelHashMap = new CaseInsensitiveHashMap();
+        Map<String, Object> cedarsoftMap = new com.cedarsoftware.util.CaseInsensitiveMap<>();
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            for (Map<String, Object> map : Arrays.asList(camelMap, camelHashMap, cedarsoftMap)) {
+                map.put(Exchange.FILE_NAME, "hello.txt");
+                map.put(Exchange.CONTENT_TYPE, "text/plain");
+                map.put(Exchange.BREADCRUMB_ID, "123");
+                map.put("foo", "bar");
+                for (int i = 0; i < 6; i++) {
+                    map.put(randomAlphabetic(10), randomAlphabetic(10));
+                }
+            }
+        }
+    }
+
 }
@@ -19,6 +19,7 @@ package org.apache.camel.itest.jmh;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.impl.engine.DefaultUuidGenerator;
+import org.apache.camel.impl.engine.FastUuidGenerator;
 import org.junit.Test;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Level;
@@ -34,7 +35,7 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openjdk.jmh.runner.options.TimeValue;
 
 /**
- * Tests the {@link DefaultUuidGenerator}.
+ * Tests the {@link DefaultUuidGenerator} and the {@link FastUuidGenerator}.
  * <p/>
  * Thanks to this SO answer: https://stackoverflow.com/questions/30485856/how-to-run-jmh-from-inside-junit-tests
  */
@@ -68,9 +69,25 @@ public class DefaultUuidGeneratorTest {
     public static class BenchmarkState {
         DefaultUuidGenerator uuid;
 
+        FastUuidGenerator fast;
+
         @Setup(Level.Trial)
         public void initialize() {
             uuid = new DefaultUuidGenerator();
+            fast = new FastUuidGenerator();
+        }
+    }
+
+    // the generators shared by the threads, as they are by the exchanges of a camel context
+    @State(Scope.Benchmark)
+    public static class SharedState {
+        DefaultUuidGenerator uuid;
+        FastUuidGenerator fast;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            uuid = new DefaultUuidGenerator();
+            fast = new FastUuidGenerator();
         }
     }
 
@@ -81,4 +98,33 @@ public class DefaultUuidGeneratorTest {
         bh.consume(id);
     }
 
+    @Benchmark
+    @Measurement(batchSize = 1000000)
+    public void benchmarkShared(SharedState state, Blackhole bh) {
+        String id = state.uuid.generateUuid();
+        bh.consume(id);
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000000)
+    public void benchmarkFast(BenchmarkState state, Blackhole bh) {
+        String id = state.fast.generateUuid();
+        bh.consume(id);
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000000)
+    public void benchmarkFastShared(SharedState state, Blackhole bh) {
+        String id = state.fast.generateUuid();
+        bh.consume(id);
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000000)
+    public void benchmarkFastSharedCompact(SharedState state, Blackhole bh) {
+        // only reserves the id, as an exchange does when its id is not read
+        long id = state.fast.generateCompactUuid();
+        bh.consume(id);
+    }
+
 }
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests resolving endpoints from the uris used by toD and other dynamic endpoints
+ */
+public class EndpointResolutionTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.NANOSECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(2))
+            .measurementIterations(3)
+            .threads(1)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        // typical shapes of the uris of dynamic endpoints
+        String[] uris = new String[]{
+            "direct:foo",
+            "log:foo?level=DEBUG&showHeaders=true&showBody=false",
+            "seda:orders?size=1000&blockWhenFull=true&timeout=5000",
+            "mock:{{name}}?retainFirst=0",
+            "log:{{name}}?groupSize=10"
+        };
+        // an uri per message, such as an order id
+        String[] orderUris = new String[100];
+        int index;
+
+        CamelContext camel;
+        ProducerTemplate producer;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+
+            Properties prop = new Properties();
+            prop.put("name", "result");
+            camel.getPropertiesComponent().setInitialProperties(prop);
+
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:start").toD("mock:order-${header.id}?retainFirst=0");
+                }
+            });
+            camel.start();
+            producer = camel.createProducerTemplate();
+
+            for (int i = 0; i < orderUris.length; i++) {
+                orderUris[i] = "seda:order-" + i + "?size=100&blockWhenFull=true";
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws Exception {
+            producer.stop();
+            camel.stop();
+        }
+
+        int next(int length) {
+            if (++index >= length) {
+                index = 0;
+            }
+            return index;
+        }
+    }
+
+    @Benchmark
+    public void getEndpoint(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.camel.getEndpoint(state.uris[state.next(state.uris.length)]));
+    }
+
+    @Benchmark
+    public void getEndpointPerMessage(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.camel.getEndpoint(state.orderUris[state.next(state.orderUris.length)]));
+    }
+
+    @Benchmark
+    public void getEndpointNotCached(BenchmarkState state, Blackhole bh) {
+        // resolving the endpoint with parameters does not use the cache of resolved endpoints
+        bh.consume(state.camel.getEndpoint(state.uris[state.next(state.uris.length)], Collections.emptyMap()));
+    }
+
+    @Benchmark
+    public void getEndpointPerMessageNotCached(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.camel.getEndpoint(state.orderUris[state.next(state.orderUris.length)], Collections.emptyMap()));
+    }
+
+    @Benchmark
+    public void toD(BenchmarkState state, Blackhole bh) {
+        state.producer.sendBodyAndHeader("direct:start", "Hello World", "id", state.next(100));
+    }
+
+}
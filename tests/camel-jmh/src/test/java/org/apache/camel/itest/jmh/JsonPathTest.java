@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Predicate;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.Language;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests evaluating a number of jsonpath predicates on the same message, such as in a content based router
+ */
+public class JsonPathTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.MICROSECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(2))
+            .measurementIterations(3)
+            .threads(1)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        @Param({"1", "4", "16"})
+        int predicates;
+
+        CamelContext camel;
+        String json;
+        Predicate[] matches;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.start();
+
+            // a document of about 100kb
+            StringBuilder sb = new StringBuilder("{\"store\": {\"book\": [");
+            for (int i = 0; i < 1000; i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append("{\"category\": \"category").append(i % 10).append("\", \"author\": \"Author ").append(i)
+                    .append("\", \"title\": \"Title ").append(i).append("\", \"price\": ").append(i % 100).append(".95}");
+            }
+            sb.append("], \"bicycle\": {\"color\": \"red\", \"price\": 19.95}}}");
+            json = sb.toString();
+
+            Language language = camel.resolveLanguage("jsonpath");
+            matches = new Predicate[predicates];
+            for (int i = 0; i < predicates; i++) {
+                matches[i] = language.createPredicate("$.store.book[?(@.price < " + (i + 1) + ")]");
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws Exception {
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    public void evaluate(BenchmarkState state, Blackhole bh) {
+        Exchange exchange = new DefaultExchange(state.camel);
+        exchange.getIn().setBody(state.json);
+        for (Predicate predicate : state.matches) {
+            bh.consume(predicate.matches(exchange));
+        }
+    }
+
+    @Benchmark
+    public void evaluateParseEachTime(BenchmarkState state, Blackhole bh) {
+        Exchange exchange = new DefaultExchange(state.camel);
+        exchange.getIn().setBody(state.json);
+        for (Predicate predicate : state.matches) {
+            // parse the json for every predicate, as done before the parsed document was reused
+            exchange.getIn().setBody(new String(state.json));
+            bh.consume(predicate.matches(exchange));
+        }
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.engine.FastReactiveExecutor;
+import org.apache.camel.processor.Pipeline;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests the {@link Pipeline} routing an exchange through a number of steps.
+ * <p/>
+ * The GC profiler is enabled, so the allocation rate per routed exchange is reported as <tt>gc.alloc.rate.norm</tt>.
+ * <p/>
+ * Thanks to this SO answer: https://stackoverflow.com/questions/30485856/how-to-run-jmh-from-inside-junit-tests
+ */
+public class PipelineTest {
+
+    private static final AsyncCallback NOOP_CALLBACK = doneSync -> {
+        // noop
+    };
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(2)
+            .threads(2)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .addProfiler(GCProfiler.class)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"20"})
+        int steps;
+        @Param({"default", "fast"})
+        String reactiveExecutor;
+
+        CamelContext camel;
+        Pipeline pipeline;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.getGlobalOptions().put(FastReactiveExecutor.MODE_OPTION, reactiveExecutor);
+            camel.start();
+
+            List<Processor> processors = new ArrayList<>(steps);
+            for (int i = 0; i < steps; i++) {
+                processors.add(exchange -> exchange.getIn().setHeader("step", exchange));
+            }
+            pipeline = new Pipeline(camel, processors);
+            pipeline.start();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws Exception {
+            pipeline.stop();
+            camel.stop();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ExchangeState {
+        Exchange exchange;
+
+        @Setup(Level.Trial)
+        public void initialize(BenchmarkState state) {
+            // reuse the same exchange so only the allocations from the pipeline are measured
+            exchange = new DefaultExchange(state.camel);
+            exchange.getIn().setBody("Hello World");
+        }
+    }
+
+    @Benchmark
+    public void pipeline(BenchmarkState state, ExchangeState exchangeState, Blackhole bh) {
+        state.pipeline.process(exchangeState.exchange, NOOP_CALLBACK);
+        bh.consume(exchangeState.exchange);
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.impl.engine.DefaultReactiveExecutor;
+import org.apache.camel.impl.engine.FastReactiveExecutor;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests the {@link DefaultReactiveExecutor} and {@link FastReactiveExecutor} by scheduling
+ * a number of routing steps (similar to a pipeline) per benchmark invocation.
+ * <p/>
+ * Thanks to this SO answer: https://stackoverflow.com/questions/30485856/how-to-run-jmh-from-inside-junit-tests
+ */
+public class ReactiveExecutorTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MILLISECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(2)
+            .threads(4)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"default", "fast"})
+        String mode;
+        @Param({"20"})
+        int steps;
+
+        ReactiveExecutor executor;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            if ("fast".equals(mode)) {
+                executor = new FastReactiveExecutor();
+            } else {
+                executor = new DefaultReactiveExecutor();
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class StepState {
+        int remaining;
+    }
+
+    @Benchmark
+    public void benchmark(BenchmarkState state, StepState step, Blackhole bh) {
+        step.remaining = state.steps;
+        state.executor.scheduleMain(new Step(state.executor, step, bh));
+    }
+
+    private static final class Step implements Runnable {
+        private final ReactiveExecutor executor;
+        private final StepState step;
+        private final Blackhole bh;
+
+        Step(ReactiveExecutor executor, StepState step, Blackhole bh) {
+            this.executor = executor;
+            this.step = step;
+            this.bh = bh;
+        }
+
+        @Override
+        public void run() {
+            bh.consume(step.remaining);
+            if (--step.remaining > 0) {
+                // continue routing on the same worker like the pipeline does
+                executor.schedule(this);
+            }
+        }
+    }
+
+}
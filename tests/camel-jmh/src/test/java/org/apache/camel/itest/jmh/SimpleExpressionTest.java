@@ -20,7 +20,10 @@ import java.util.concurrent.TimeUnit;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
 import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.language.simple.SimpleLanguage;
 import org.apache.camel.spi.Language;
 import org.apache.camel.support.DefaultExchange;
 import org.junit.Test;
@@ -28,6 +31,7 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -39,7 +43,7 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 import org.openjdk.jmh.runner.options.TimeValue;
 
 /**
- * Tests a Simple expression
+ * Tests a Simple expression and predicate, in both interpreted and compiled mode
  */
 public class SimpleExpressionTest {
 
@@ -69,20 +73,32 @@ public class SimpleExpressionTest {
     // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
     @State(Scope.Thread)
     public static class BenchmarkState {
+        @Param({"false", "true"})
+        boolean compiled;
+
         CamelContext camel;
         String expression = "Hello ${body}";
         Exchange exchange;
         Language simple;
+        Expression ognl;
+        Predicate predicate;
+        Exchange order;
 
         @Setup(Level.Trial)
         public void initialize() {
             camel = new DefaultCamelContext();
+            camel.getGlobalOptions().put(SimpleLanguage.COMPILED_OPTION, Boolean.toString(compiled));
             try {
                 camel.start();
                 exchange = new DefaultExchange(camel);
                 exchange.getIn().setBody("World");
                 simple = camel.resolveLanguage("simple");
 
+                ognl = simple.createExpression("${body.address.city}");
+                predicate = simple.createPredicate("${body.address.city} == 'Paris' && ${header.amount} > 100");
+                order = new DefaultExchange(camel);
+                order.getIn().setBody(new Customer(new Address("Paris")));
+                order.getIn().setHeader("amount", 150);
             } catch (Exception e) {
                 // ignore
             }
@@ -109,4 +125,48 @@ public class SimpleExpressionTest {
         bh.consume(out);
     }
 
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void simpleOgnlExpression(BenchmarkState state, Blackhole bh) {
+        Object out = state.ognl.evaluate(state.order, Object.class);
+        if (!"Paris".equals(out)) {
+            throw new IllegalArgumentException("Evaluation failed");
+        }
+        bh.consume(out);
+    }
+
+    @Benchmark
+    @Measurement(batchSize = 1000)
+    public void simplePredicate(BenchmarkState state, Blackhole bh) {
+        boolean out = state.predicate.matches(state.order);
+        if (!out) {
+            throw new IllegalArgumentException("Evaluation failed");
+        }
+        bh.consume(out);
+    }
+
+    public static class Customer {
+        private final Address address;
+
+        public Customer(Address address) {
+            this.address = address;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+    }
+
+    public static class Address {
+        private final String city;
+
+        public Address(String city) {
+            this.city = city;
+        }
+
+        public String getCity() {
+            return city;
+        }
+    }
+
 }
@@ -47,7 +47,7 @@ public class SlowTypeConverterTest {
         Options opt = new OptionsBuilder()
                 // Specify which benchmarks to run.
                 // You can be more specific if you'd like to run only one benchmark per test.
-                .include(this.getClass().getName() + ".*")
+                .include(this.getClass().getName() + ".typeConvert.*")
                 // Set the following options as needed
                 .mode(Mode.SampleTime)
                 .timeUnit(TimeUnit.MILLISECONDS)
@@ -65,6 +65,23 @@ public class SlowTypeConverterTest {
         new Runner(opt).run();
     }
 
+    @Test
+    public void launchColdStartBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+                // the cold start cost of loading the type converters and the first conversion
+                .include(this.getClass().getName() + ".coldStart.*")
+                .mode(Mode.SingleShotTime)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .warmupIterations(0)
+                .measurementIterations(1)
+                .threads(1)
+                .forks(10)
+                .shouldFailOnError(true)
+                .build();
+
+        new Runner(opt).run();
+    }
+
     // The JMH samples are the best documentation for how to use it
     // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
     @State(Scope.Thread)
@@ -104,4 +121,22 @@ public class SlowTypeConverterTest {
         bh.consume(arr);
     }
 
+    @Benchmark
+    public void typeConvertArrayToByteBuf(BenchmarkCamelContextState state, Blackhole bh) {
+        ByteBuf buf = state.camel.getTypeConverter().convertTo(ByteBuf.class, state.bytes);
+        bh.consume(buf);
+        buf.release();
+    }
+
+    @Benchmark
+    public void coldStartByteBufToArray(Blackhole bh) throws Exception {
+        CamelContext camel = new DefaultCamelContext();
+        camel.start();
+        ByteBuf buffer = ByteBufAllocator.DEFAULT.buffer(5);
+        buffer.writeBytes("Hello".getBytes());
+        bh.consume(camel.getTypeConverter().convertTo(byte[].class, buffer));
+        buffer.release();
+        camel.stop();
+    }
+
 }
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.management.mbean.StatisticHistogram;
+import org.apache.camel.management.mbean.StatisticMaximum;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests the record path of the {@link StatisticHistogram} used for the processing time percentiles,
+ * compared to updating the {@link StatisticMaximum} used for the max processing time.
+ * <p/>
+ * The GC profiler is enabled, so the allocation rate per recorded value is reported as <tt>gc.alloc.rate.norm</tt>.
+ * <p/>
+ * Thanks to this SO answer: https://stackoverflow.com/questions/30485856/how-to-run-jmh-from-inside-junit-tests
+ */
+public class StatisticHistogramTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.Throughput)
+            .timeUnit(TimeUnit.MICROSECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(2)
+            .threads(4)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .addProfiler(GCProfiler.class)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        StatisticHistogram histogram;
+        StatisticMaximum maximum;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            // use a short window so the benchmark also covers rolling over the window
+            histogram = new StatisticHistogram(60 * 60 * 1000L, 500);
+            maximum = new StatisticMaximum();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ValueState {
+        long[] values;
+        int index;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            // processing times with a long tail
+            values = new long[1024];
+            for (int i = 0; i < values.length; i++) {
+                double random = ThreadLocalRandom.current().nextDouble();
+                values[i] = (long) (1 / (1 - random * 0.999));
+            }
+        }
+
+        long next() {
+            return values[index++ & (values.length - 1)];
+        }
+    }
+
+    @Benchmark
+    public void histogramRecord(BenchmarkState state, ValueState values) {
+        state.histogram.recordValue(values.next(), System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public void maximumUpdate(BenchmarkState state, ValueState values) {
+        state.maximum.updateValue(values.next());
+    }
+
+}
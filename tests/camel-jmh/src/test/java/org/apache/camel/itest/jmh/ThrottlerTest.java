@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.processor.Throttler;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests the throttler with the default DelayQueue and with the token bucket, when the throttle rate is not exceeded,
+ * with a single group and with 100 correlation groups.
+ * <p/>
+ * The default throttler keeps a permit for each request per time period, so the rate is high enough to not be
+ * exceeded by the benchmark, but not more than that.
+ */
+public class ThrottlerTest {
+
+    private static final AsyncCallback NOOP_CALLBACK = doneSync -> {
+        // noop
+    };
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.NANOSECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(2)
+            .threads(2)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"false", "true"})
+        boolean tokenBucket;
+
+        CamelContext camel;
+        Throttler single;
+        Throttler grouped;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    // the rate is so high the exchanges are never throttled
+                    from("direct:single").throttle(5000000).id("single").to("log:single");
+                    from("direct:grouped").throttle(constant(50000), header("group")).id("grouped").to("log:grouped");
+                }
+            });
+            camel.start();
+            single = (Throttler) camel.getProcessor("single");
+            grouped = (Throttler) camel.getProcessor("grouped");
+            // the throttlers are started so stop them while changing the engine
+            single.stop();
+            single.setTokenBucket(tokenBucket);
+            single.start();
+            grouped.stop();
+            grouped.setTokenBucket(tokenBucket);
+            grouped.start();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws Exception {
+            camel.stop();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ExchangeState {
+        Exchange exchange;
+        int counter;
+
+        @Setup(Level.Trial)
+        public void initialize(BenchmarkState state) {
+            exchange = new DefaultExchange(state.camel);
+        }
+    }
+
+    @Benchmark
+    public void singleGroup(BenchmarkState state, ExchangeState exchangeState, Blackhole bh) {
+        bh.consume(state.single.process(exchangeState.exchange, NOOP_CALLBACK));
+    }
+
+    @Benchmark
+    public void manyGroups(BenchmarkState state, ExchangeState exchangeState, Blackhole bh) {
+        Exchange exchange = exchangeState.exchange;
+        exchange.getIn().setHeader("group", exchangeState.counter++ % 100);
+        bh.consume(state.grouped.process(exchange, NOOP_CALLBACK));
+    }
+
+}
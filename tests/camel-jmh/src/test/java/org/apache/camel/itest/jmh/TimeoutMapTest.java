@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.Random;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.support.DefaultTimeoutMap;
+import org.junit.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Tests the {@link DefaultTimeoutMap} with and without the timing wheel, when the map holds from 1000 to 500000
+ * entries with long timeouts (such as requests waiting for a reply or aggregation groups waiting to complete).
+ * <p/>
+ * The purge benchmark adds an entry which times out, moves the clock one poll interval ahead and runs the purge task,
+ * as done by the background task of the timeout map.
+ */
+public class TimeoutMapTest {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+            // Specify which benchmarks to run.
+            // You can be more specific if you'd like to run only one benchmark per test.
+            .include(this.getClass().getName() + ".*")
+            // Set the following options as needed
+            .mode(Mode.AverageTime)
+            .timeUnit(TimeUnit.NANOSECONDS)
+            .warmupTime(TimeValue.seconds(1))
+            .warmupIterations(2)
+            .measurementTime(TimeValue.seconds(1))
+            .measurementIterations(2)
+            .threads(1)
+            .forks(1)
+            .shouldFailOnError(true)
+            .shouldDoGC(true)
+            .build();
+
+        new Runner(opt).run();
+    }
+
+    // The JMH samples are the best documentation for how to use it
+    // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        @Param({"1000", "100000", "500000"})
+        int entries;
+
+        @Param({"false", "true"})
+        boolean timingWheel;
+
+        ScheduledExecutorService executor;
+        ManualTimeoutMap map;
+        long counter;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            executor = new ScheduledThreadPoolExecutor(1);
+            map = new ManualTimeoutMap(executor);
+            map.setTimingWheel(timingWheel);
+            // the entries have random timeouts which are so long they do not time out during the benchmark
+            Random random = new Random(42);
+            for (int i = 0; i < entries; i++) {
+                map.put("entry-" + i, "value", 1000000000000L + random.nextInt(Integer.MAX_VALUE));
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws Exception {
+            executor.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public void putAndRemove(BenchmarkState state, Blackhole bh) {
+        String key = "key-" + (state.counter++ & 1023);
+        state.map.put(key, "value", 20000);
+        bh.consume(state.map.remove(key));
+    }
+
+    @Benchmark
+    public void purge(BenchmarkState state, Blackhole bh) {
+        state.map.put("key", "value", 500);
+        state.map.tick();
+        bh.consume(state.map.size());
+    }
+
+    private static final class ManualTimeoutMap extends DefaultTimeoutMap<String, String> {
+
+        private long now = System.currentTimeMillis();
+
+        ManualTimeoutMap(ScheduledExecutorService executor) {
+            super(executor, 1000);
+        }
+
+        void tick() {
+            now += getPurgePollTime();
+            purge();
+        }
+
+        @Override
+        protected long currentTime() {
+            return now;
+        }
+    }
+
+}
@@ -51,7 +51,7 @@ public class TypeConverterTest {
         Options opt = new OptionsBuilder()
                 // Specify which benchmarks to run.
                 // You can be more specific if you'd like to run only one benchmark per test.
-                .include(this.getClass().getName() + ".*")
+                .include(this.getClass().getName() + ".typeConvert.*")
                 // Set the following options as needed
                 .mode(Mode.SampleTime)
                 .timeUnit(TimeUnit.MILLISECONDS)
@@ -69,12 +69,31 @@ public class TypeConverterTest {
         new Runner(opt).run();
     }
 
+    @Test
+    public void launchColdStartBenchmark() throws Exception {
+        Options opt = new OptionsBuilder()
+                // the cold start cost of loading the type converters and the first conversions
+                .include(this.getClass().getName() + ".coldStart.*")
+                .mode(Mode.SingleShotTime)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .warmupIterations(0)
+                .measurementIterations(1)
+                .threads(1)
+                .forks(10)
+                .shouldFailOnError(true)
+                .build();
+
+        new Runner(opt).run();
+    }
+
     // The JMH samples are the best documentation for how to use it
     // http://hg.openjdk.java.net/code-tools/jmh/file/tip/jmh-samples/src/main/java/org/openjdk/jmh/samples/
     @State(Scope.Thread)
     public static class BenchmarkCamelContextState {
         Integer someInteger = 12345;
         String someIntegerString = String.valueOf(someInteger);
+        StringBuilder someStringBuilder = new StringBuilder(someIntegerString);
+        MyValue someValue = new MyValue();
         String xmlAsString;
         byte[] xmlAsBytes;
 
@@ -146,9 +165,47 @@ public class TypeConverterTest {
         bh.consume(bytes);
     }
 
+    @Benchmark
+    public void typeConvertStringBuilderToInteger(BenchmarkCamelContextState state, Blackhole bh) {
+        // the converter is found from the interface of the type
+        Integer integer = state.camel.getTypeConverter().convertTo(Integer.class, state.someStringBuilder);
+        bh.consume(integer);
+    }
+
+    @Benchmark
+    public void typeConvertMiss(BenchmarkCamelContextState state, Blackhole bh) {
+        // the misses of try conversions are not remembered, so the converters are looked up every time
+        CamelContext context = state.camel.getTypeConverter().tryConvertTo(CamelContext.class, state.someStringBuilder);
+        bh.consume(context);
+    }
+
+    @Benchmark
+    public void typeConvertFallback(BenchmarkCamelContextState state, Blackhole bh) {
+        // the to string fallback converter cannot be promoted, so the fallback converters are tried every time
+        String string = state.camel.getTypeConverter().convertTo(String.class, state.someValue);
+        bh.consume(string);
+    }
+
+    @Benchmark
+    public void coldStart(Blackhole bh) throws Exception {
+        CamelContext camel = new DefaultCamelContext();
+        camel.start();
+        bh.consume(camel.getTypeConverter().convertTo(String.class, 12345));
+        bh.consume(camel.getTypeConverter().convertTo(Integer.class, "12345"));
+        bh.consume(camel.getTypeConverter().convertTo(InputStream.class, "Hello World"));
+        camel.stop();
+    }
+
     @Benchmark
     public void typeConvertByteArrayToString(BenchmarkCamelContextState state, Blackhole bh) {
         String string = state.camel.getTypeConverter().convertTo(String.class, state.xmlAsBytes);
         bh.consume(string);
     }
+
+    public static final class MyValue {
+        @Override
+        public String toString() {
+            return "MyValue";
+        }
+    }
 }
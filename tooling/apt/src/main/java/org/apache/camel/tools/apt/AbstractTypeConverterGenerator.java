@@ -39,6 +39,8 @@ import javax.tools.JavaFileObject;
 
 public abstract class AbstractTypeConverterGenerator extends AbstractCamelAnnotationProcessor {
 
+    private static final int DISPATCH_CHUNK_SIZE = 128;
+
     public static final class ClassConverters {
 
         private final Comparator<TypeMirror> comparator;
@@ -250,24 +252,27 @@ public abstract class AbstractTypeConverterGenerator extends AbstractCamelAnnota
             writer.append("\n");
 
             if (converters.size() > 0) {
+                // the converters are registered by their index, and converted by a single dispatch method
+                // (instead of a lambda per converter) which makes loading the converters faster
+                List<String> conversions = new ArrayList<>();
                 writer.append("    private void registerConverters(TypeConverterRegistry registry) {\n");
                 for (Map.Entry<String, Map<TypeMirror, ExecutableElement>> to : converters.getConverters().entrySet()) {
                     for (Map.Entry<TypeMirror, ExecutableElement> from : to.getValue().entrySet()) {
                         boolean allowNull = isAllowNull(from.getValue());
                         writer.append("        addTypeConverter(registry, ").append(to.getKey()).append(".class").append(", ").append(toString(from.getKey()))
-                                .append(".class, ").append(Boolean.toString(allowNull)).append(",\n");
-                        writer.append("            (type, exchange, value) -> ").append(toJava(from.getValue(), converterClasses)).append(");\n");
+                                .append(".class, ").append(Boolean.toString(allowNull)).append(", ").append(Integer.toString(conversions.size())).append(");\n");
+                        conversions.add(toJava(from.getValue(), converterClasses));
                     }
                 }
                 writer.append("    }\n");
                 writer.append("\n");
 
-                writer.append(
-                              "    private static void addTypeConverter(TypeConverterRegistry registry, Class<?> toType, Class<?> fromType, boolean allowNull, SimpleTypeConverter.ConversionMethod method)"
-                              + " { \n");
-                writer.append("        registry.addTypeConverter(toType, fromType, new SimpleTypeConverter(allowNull, method));\n");
+                writer.append("    private void addTypeConverter(TypeConverterRegistry registry, Class<?> toType, Class<?> fromType, boolean allowNull, int index) {\n");
+                writer.append("        registry.addTypeConverter(toType, fromType, new SimpleTypeConverter(allowNull, (type, exchange, value) -> convert(index, type, exchange, value)));\n");
                 writer.append("    }\n");
                 writer.append("\n");
+
+                writeDispatch(writer, conversions);
             }
 
             if (converters.sizeFallback() > 0) {
@@ -308,6 +313,36 @@ public abstract class AbstractTypeConverterGenerator extends AbstractCamelAnnota
         }
     }
 
+    private static void writeDispatch(Writer writer, List<String> conversions) throws Exception {
+        int chunks = (conversions.size() + DISPATCH_CHUNK_SIZE - 1) / DISPATCH_CHUNK_SIZE;
+        if (chunks > 1) {
+            // split the dispatch in chunks so the methods are not too large to be compiled by the JIT
+            writer.append("    private Object convert(int index, Class<?> type, Exchange exchange, Object value) throws Exception {\n");
+            writer.append("        switch (index / ").append(Integer.toString(DISPATCH_CHUNK_SIZE)).append(") {\n");
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                writer.append("            case ").append(Integer.toString(chunk)).append(": return convert").append(Integer.toString(chunk))
+                        .append("(index, type, exchange, value);\n");
+            }
+            writer.append("            default: return null;\n");
+            writer.append("        }\n");
+            writer.append("    }\n");
+            writer.append("\n");
+        }
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            String name = chunks > 1 ? "convert" + chunk : "convert";
+            writer.append("    private Object ").append(name).append("(int index, Class<?> type, Exchange exchange, Object value) throws Exception {\n");
+            writer.append("        switch (index) {\n");
+            int end = Math.min(conversions.size(), (chunk + 1) * DISPATCH_CHUNK_SIZE);
+            for (int i = chunk * DISPATCH_CHUNK_SIZE; i < end; i++) {
+                writer.append("            case ").append(Integer.toString(i)).append(": return ").append(conversions.get(i)).append(";\n");
+            }
+            writer.append("            default: return null;\n");
+            writer.append("        }\n");
+            writer.append("    }\n");
+            writer.append("\n");
+        }
+    }
+
     private String toString(TypeMirror type) {
         return type.toString().replaceAll("<.*>", "");
     }